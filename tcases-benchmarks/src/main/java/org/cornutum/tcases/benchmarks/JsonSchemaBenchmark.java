@@ -0,0 +1,69 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.benchmarks;
+
+import org.cornutum.tcases.*;
+import org.cornutum.tcases.io.*;
+
+import org.leadpony.justify.api.JsonValidationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of reading a system input definition from a JSON document, when the JSON schema
+ * is read again for each document ("PerDocument"), when the schema is shared by all documents ("Shared"),
+ * and when the document is not validated ("NotValidated").
+ */
+@State( Scope.Benchmark)
+@BenchmarkMode( Mode.AverageTime)
+@OutputTimeUnit( TimeUnit.MICROSECONDS)
+@Warmup( iterations = 2)
+@Measurement( iterations = 5)
+@Fork( 1)
+public class JsonSchemaBenchmark
+  {
+  @Param({ "10", "100"})
+  public int varCount;
+
+  @Param({ "PerDocument", "Shared", "NotValidated"})
+  public String schema;
+
+  @Setup( Level.Trial)
+  public void setUp()
+    {
+    SystemInputDef inputDef = SystemInputDefBuilder.with( "Synthetic").functions( Synthetic.getFunctionInputDef( varCount, 3)).build();
+
+    ByteArrayOutputStream document = new ByteArrayOutputStream();
+    try( SystemInputJsonWriter writer = new SystemInputJsonWriter( document))
+      {
+      writer.write( inputDef);
+      }
+    document_ = document.toByteArray();
+    }
+
+  @Benchmark
+  public SystemInputDef getSystemInputDef()
+    {
+    if( "PerDocument".equals( schema))
+      {
+      // Same cost as reading the schema for each document.
+      JsonValidationService.newInstance().readSchema( SystemInputJsonReader.class.getResourceAsStream( "/schema/system-input-schema.json"));
+      }
+
+    try( SystemInputJsonReader reader = new SystemInputJsonReader( new ByteArrayInputStream( document_)))
+      {
+      reader.setValidated( !"NotValidated".equals( schema));
+      return reader.getSystemInputDef();
+      }
+    }
+
+  private byte[] document_;
+  }
@@ -0,0 +1,113 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.benchmarks;
+
+import org.cornutum.tcases.openapi.test.*;
+import static org.cornutum.tcases.openapi.test.JsonUtils.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.StringReader;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of {@link ResponseValidator#assertBodyValid} for a response body with the given number of properties,
+ * when the content definition is resolved and the schema is compiled again for each response ("Uncached") and when
+ * they are reused for all responses ("Cached").
+ */
+@State( Scope.Benchmark)
+@BenchmarkMode( Mode.AverageTime)
+@OutputTimeUnit( TimeUnit.MICROSECONDS)
+@Warmup( iterations = 2)
+@Measurement( iterations = 5)
+@Fork( 1)
+public class ResponseValidatorBenchmark
+  {
+  @Param({ "10", "100"})
+  public int propertyCount;
+
+  @Param({ "Uncached", "Cached"})
+  public String validator;
+
+  @Setup( Level.Trial)
+  public void setUp()
+    {
+    ObjectNode properties = mapper().createObjectNode();
+    ObjectNode body = mapper().createObjectNode();
+    for( int i = 0; i < propertyCount; i++)
+      {
+      String property = "P" + i;
+      switch( i % 3)
+        {
+        case 0:
+          {
+          properties.set( property, mapper().createObjectNode().put( "type", "integer").put( "minimum", 0));
+          body.put( property, i);
+          break;
+          }
+        case 1:
+          {
+          properties.set( property, mapper().createObjectNode().put( "type", "string").put( "maxLength", 16));
+          body.put( property, property);
+          break;
+          }
+        default:
+          {
+          ObjectNode items = mapper().createObjectNode().put( "type", "number");
+          properties.set( property, mapper().createObjectNode().put( "type", "array").set( "items", items));
+          body.set( property, mapper().createArrayNode().add( 1.5).add( i));
+          break;
+          }
+        }
+      }
+
+    ObjectNode schema = mapper().createObjectNode().put( "type", "object");
+    schema.set( "properties", properties);
+    schema.set( "required", mapper().createArrayNode().add( "P0"));
+
+    ObjectNode root = mapper().createObjectNode();
+    root
+      .putObject( "/things").putObject( "get").putObject( "200")
+      .put( "description", "Success")
+      .putObject( "content").putObject( "application/json")
+      .set( "schema", schema);
+
+    String responses = root.toString();
+    responses_ = ResponsesDef.read( new StringReader( responses));
+    validator_ = new ResponseValidator( new StringReader( responses));
+    content_ = body.toString();
+    }
+
+  @Benchmark
+  public Object assertBodyValid() throws Exception
+    {
+    if( "Uncached".equals( validator))
+      {
+      // Same work as resolving the content definition and compiling the schema for each response.
+      JsonNode schema = responses_.bodyContentDef( OP, PATH, STATUS, CONTENT_TYPE).get().getSchema();
+      return ResponseAnalyzer.validate( schema, Collections.singletonList( readJson( content_)), true);
+      }
+    else
+      {
+      validator_.assertBodyValid( OP, PATH, STATUS, CONTENT_TYPE, content_);
+      return validator_;
+      }
+    }
+
+  private ResponsesDef responses_;
+  private ResponseValidator validator_;
+  private String content_;
+
+  private static final String OP = "GET";
+  private static final String PATH = "/things";
+  private static final int STATUS = 200;
+  private static final String CONTENT_TYPE = "application/json";
+  }
@@ -0,0 +1,88 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.benchmarks;
+
+import org.cornutum.tcases.SystemInputDef;
+import org.cornutum.tcases.openapi.TcasesOpenApi;
+import org.cornutum.tcases.openapi.reader.OpenApiReader;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of modelling API requests when a request body schema is an "anyOf" of the given number
+ * of object schemas, referenced by the given number of operations. Such schemas, common in real-world API definitions
+ * for polymorphic resources, are the worst case for the disjunctive normal form analysis of a schema.
+ */
+@State( Scope.Benchmark)
+@BenchmarkMode( Mode.AverageTime)
+@OutputTimeUnit( TimeUnit.MILLISECONDS)
+@Warmup( iterations = 2)
+@Measurement( iterations = 5)
+@Fork( 1)
+public class SchemaAnalyzerBenchmark
+  {
+  @Param({ "4", "8"})
+  public int memberCount;
+
+  @Param({ "1", "10"})
+  public int pathCount;
+
+  @Setup( Level.Trial)
+  public void setUp()
+    {
+    ObjectMapper mapper = new ObjectMapper();
+    ObjectNode api = mapper.createObjectNode().put( "openapi", "3.0.0");
+    api.putObject( "info").put( "title", "AnyOf").put( "version", "0.0.0");
+
+    ObjectNode schemas = api.putObject( "components").putObject( "schemas");
+    ArrayNode anyOf = schemas.putObject( "Choice").putArray( "anyOf");
+    for( int i = 0; i < memberCount; i++)
+      {
+      String member = "Member" + i;
+      ObjectNode memberSchema = schemas.putObject( member).put( "type", "object");
+      ObjectNode properties = memberSchema.putObject( "properties");
+      properties.putObject( "kind").put( "type", "string").putArray( "enum").add( member);
+      properties.putObject( "value" + i).put( "type", "integer").put( "minimum", i);
+      properties.putObject( "label").put( "type", "string").put( "maxLength", 8 + i);
+      memberSchema.putArray( "required").add( "kind");
+
+      anyOf.addObject().put( "$ref", "#/components/schemas/" + member);
+      }
+
+    ObjectNode paths = api.putObject( "paths");
+    for( int i = 0; i < pathCount; i++)
+      {
+      ObjectNode post = paths.putObject( "/things" + i).putObject( "post");
+      post
+        .putObject( "requestBody").put( "required", true)
+        .putObject( "content").putObject( "application/json")
+        .putObject( "schema").put( "$ref", "#/components/schemas/Choice");
+      post
+        .putObject( "responses").putObject( "200").put( "description", "Success");
+      }
+
+    api_ = api.toString();
+    }
+
+  @Benchmark
+  public SystemInputDef getRequestInputModel()
+    {
+    try( OpenApiReader reader = new OpenApiReader( new StringReader( api_)))
+      {
+      return TcasesOpenApi.getRequestInputModel( reader.read());
+      }
+    }
+
+  private String api_;
+  }
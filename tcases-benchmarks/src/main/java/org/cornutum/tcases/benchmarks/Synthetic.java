@@ -0,0 +1,46 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2012, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.benchmarks;
+
+import org.cornutum.tcases.*;
+
+/**
+ * Creates synthetic input models for benchmarks.
+ */
+public final class Synthetic
+  {
+  /**
+   * Creates a new Synthetic instance.
+   */
+  private Synthetic()
+    {
+    // Static methods only
+    }
+
+  /**
+   * Returns a function input definition with the given number of variables, each with the given
+   * number of valid values plus a single failure value.
+   */
+  public static FunctionInputDef getFunctionInputDef( int varCount, int valueCount)
+    {
+    FunctionInputDefBuilder function = FunctionInputDefBuilder.with( String.format( "Vars-%s", varCount));
+    for( int var = 0; var < varCount; var++)
+      {
+      VarDefBuilder varDef = VarDefBuilder.with( String.format( "Var-%s", var)).type( "arg");
+      for( int value = 0; value < valueCount; value++)
+        {
+        varDef.values( VarValueDefBuilder.with( String.format( "Value-%s", value)).build());
+        }
+      varDef.values( VarValueDefBuilder.with( "Failure").type( VarValueDef.Type.FAILURE).build());
+
+      function.vars( varDef.build());
+      }
+
+    return function.build();
+    }
+  }
@@ -0,0 +1,142 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.benchmarks;
+
+import org.cornutum.tcases.*;
+import org.cornutum.tcases.generator.*;
+
+import org.apache.commons.collections4.IteratorUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the compact array representation of a {@link Tuple} with the map representation it replaced,
+ * using the same access pattern as the {@link TupleGenerator}: create all 2-tuples for the input variables,
+ * then index them and look up each one.
+ * <P/>
+ * Run with <CODE>-prof gc</CODE> to compare the heap footprint of each representation, reported as the
+ * normalized allocation rate of the {@link #createTuples createTuples} benchmark.
+ */
+@State( Scope.Benchmark)
+@BenchmarkMode( Mode.AverageTime)
+@OutputTimeUnit( TimeUnit.MILLISECONDS)
+@Warmup( iterations = 2)
+@Measurement( iterations = 5)
+@Fork( 1)
+public class TupleBenchmark
+  {
+  @Param({ "20", "50", "100"})
+  public int varCount;
+
+  @Param({ "Tuple", "MapTuple"})
+  public String impl;
+
+  @Setup( Level.Trial)
+  public void setUp()
+    {
+    List<VarDef> vars = IteratorUtils.toList( new VarDefIterator( Synthetic.getFunctionInputDef( varCount, 3)));
+    bindings_ = new ArrayList<VarBindingDef[]>();
+    TupleCombiner.streamTuples( vars, 2)
+      .forEach( tuple -> bindings_.add( IteratorUtils.toArray( tuple.getBindings(), VarBindingDef.class)));
+
+    tuples_ = createTuples();
+    }
+
+  /**
+   * Creates a tuple for each set of bindings.
+   */
+  @Benchmark
+  public List<Object> createTuples()
+    {
+    boolean compact = "Tuple".equals( impl);
+    List<Object> tuples = new ArrayList<Object>( bindings_.size());
+    for( VarBindingDef[] bindings : bindings_)
+      {
+      tuples.add( compact? new Tuple( bindings) : new MapTuple( bindings));
+      }
+
+    return tuples;
+    }
+
+  /**
+   * Indexes all tuples, then looks up each one.
+   */
+  @Benchmark
+  public int indexTuples()
+    {
+    Set<Object> index = new HashSet<Object>( tuples_);
+
+    int found = 0;
+    for( Object tuple : tuples_)
+      {
+      if( index.contains( tuple))
+        {
+        found++;
+        }
+      }
+
+    return found;
+    }
+
+  /**
+   * The previous representation of a {@link Tuple}: a map of bindings plus the set of their properties,
+   * with a hash code computed on each call.
+   */
+  private static class MapTuple
+    {
+    public MapTuple( VarBindingDef... bindings)
+      {
+      for( VarBindingDef binding : bindings)
+        {
+        bindings_.put( binding.getVarDef(), binding);
+        properties_.addAll( binding.getValueDef().getProperties().iterator());
+        }
+      }
+
+    @Override
+    public boolean equals( Object object)
+      {
+      MapTuple other =
+        object != null && object.getClass().equals( getClass())
+        ? (MapTuple) object
+        : null;
+
+      return
+        other != null
+        && Objects.equals( other.bindings_, bindings_);
+      }
+
+    @Override
+    public int hashCode()
+      {
+      int bindingsHash = 0;
+      for( VarBindingDef binding : bindings_.values())
+        {
+        bindingsHash += binding.hashCode();
+        }
+
+      return
+        getClass().hashCode()
+        ^ bindingsHash;
+      }
+
+    private final Map<VarDef,VarBindingDef> bindings_ = new HashMap<VarDef,VarBindingDef>();
+    private final PropertySet properties_ = new PropertySet();
+    }
+
+  private List<VarBindingDef[]> bindings_;
+  private List<Object> tuples_;
+  }
@@ -0,0 +1,116 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2012, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.benchmarks;
+
+import org.cornutum.tcases.*;
+import org.cornutum.tcases.generator.*;
+
+import org.apache.commons.collections4.IteratorUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link VarTupleSet} and {@link IndexedVarTupleSet} implementations of {@link IVarTupleSet},
+ * using the same access pattern as the {@link TupleGenerator}: for each unused tuple, complete a new test case
+ * using tuples that bind each remaining variable, then mark all tuples used by the test case.
+ */
+@State( Scope.Benchmark)
+@BenchmarkMode( Mode.AverageTime)
+@OutputTimeUnit( TimeUnit.MILLISECONDS)
+@Warmup( iterations = 2)
+@Measurement( iterations = 5)
+@Fork( 1)
+public class VarTupleSetBenchmark
+  {
+  @Param({ "20", "50", "100"})
+  public int varCount;
+
+  @Param({ "VarTupleSet", "IndexedVarTupleSet"})
+  public String impl;
+
+  @Setup( Level.Trial)
+  public void setUp()
+    {
+    inputDef_ = Synthetic.getFunctionInputDef( varCount, 3);
+    vars_ = IteratorUtils.toList( new VarDefIterator( inputDef_));
+    tuples_ = new ArrayList<Tuple>( TupleCombiner.getTuples( vars_, 2));
+    }
+
+  @Benchmark
+  public int getTestCases()
+    {
+    IVarTupleSet tuples =
+      "VarTupleSet".equals( impl)
+      ? new VarTupleSet( tuples_)
+      : new IndexedVarTupleSet( tuples_);
+
+    int testCases;
+    Tuple nextUnused;
+    for( testCases = 0; (nextUnused = tuples.getNextUnused()) != null; testCases++)
+      {
+      TestCaseDef testCase = new TestCaseDef();
+      testCase.addCompatible( nextUnused);
+      for( VarDef var : vars_)
+        {
+        if( testCase.getValue( var) == null)
+          {
+          bindVar( testCase, tuples, var);
+          }
+        }
+      tuples.used( testCase);
+      }
+
+    return testCases;
+    }
+
+  /**
+   * Binds the given variable using the first compatible tuple, preferring unused tuples.
+   */
+  private void bindVar( TestCaseDef testCase, IVarTupleSet tuples, VarDef var)
+    {
+    Iterator<Tuple> bindingTuples =
+      IteratorUtils.chainedIterator(
+        tuples.getUnused( var),
+        tuples.getUsed( var),
+        tuples.getUsedOnce( var));
+
+    Tuple compatible;
+    for( compatible = null;
+         compatible == null && bindingTuples.hasNext();
+         compatible = Optional.of( bindingTuples.next()).filter( tuple -> isCompatible( testCase, tuple)).orElse( null));
+
+    testCase.addCompatible(
+      Optional.ofNullable( compatible)
+      .orElse( new Tuple( new VarBindingDef( var, var.getValidValues().next()))));
+    }
+
+  /**
+   * Returns if the given tuple is compatible with the current bindings of the given test case.
+   * Unlike {@link TestCaseDef#isCompatible(Tuple)}, this is a simple value comparison, so that
+   * the cost of checking conditions doesn't mask the cost of the tuple set.
+   */
+  private boolean isCompatible( TestCaseDef testCase, Tuple tuple)
+    {
+    return
+      IteratorUtils.matchesAll(
+        tuple.getBindings(),
+        binding -> {
+          VarValueDef value = testCase.getValue( binding.getVarDef());
+          return value == null || value.equals( binding.getValueDef());
+        });
+    }
+
+  private FunctionInputDef inputDef_;
+  private List<VarDef> vars_;
+  private List<Tuple> tuples_;
+  }
@@ -41,6 +41,7 @@ public class ReducerCommand extends Reducer
    * <NOBR>
    * [-f <I>function</I>]
    * [-g <I>genDef</I>]
+   * [-j <I>threads</I>]
    * [-r <I>resampleFactor</I>]
    * [-R]
    * [-s <I>sampleCount</I>]
@@ -91,6 +92,20 @@ public class ReducerCommand extends Reducer
    * &nbsp;
    * </TD>
    * <TD>
+   * <NOBR>-j <I>threads</I></NOBR>
+   * </TD>
+   * <TD>
+   * If <I>-j</I> is defined, generate the samples for each round concurrently, using at most the given number of threads.
+   * When reducing test cases for all functions, all functions are reduced concurrently. The resulting seeds are the same
+   * as when samples are generated sequentially. If omitted, samples are generated sequentially.
+   * </TD>
+   * </TR>
+   * 
+   * <TR valign="top">
+   * <TD>
+   * &nbsp;
+   * </TD>
+   * <TD>
    * <NOBR>-r <I>resampleFactor</I></NOBR>
    * </TD>
    * <TD>
@@ -238,6 +253,28 @@ public class ReducerCommand extends Reducer
         setGenDef( new File( args[i]));
         }
 
+      else if( arg.equals( "-j"))
+        {
+        i++;
+        if( i >= args.length)
+          {
+          throwMissingValue( arg);
+          }
+        try
+          {
+          int threads = Integer.parseInt( args[i]);
+          if( threads <= 0)
+            {
+            throw new IllegalArgumentException( "Thread count must be greater than 0");
+            }
+          setThreads( threads);
+          }
+        catch( Exception e)
+          {
+          throwUsageException( "Invalid thread count", e);
+          }
+        }
+
       else if( arg.equals( "-r"))
         {
         i++;
@@ -372,6 +409,11 @@ public class ReducerCommand extends Reducer
                "                     Otherwise, update the default generate definition file: the corresponding",
                "                     *-Generators.xml file in the same directory as the inputDef.",
                "",
+               "  -j threads         If -j is defined, generate the samples for each round concurrently, using at most",
+               "                     the given number of threads. When reducing test cases for all functions, all",
+               "                     functions are reduced concurrently. The resulting seeds are the same as when",
+               "                     samples are generated sequentially. If omitted, samples are generated sequentially.",
+               "",
                "  -l logFile         If -l is defined, log output is written to the given file. If omitted,",
                "                     log output is written to a file named tcases-reducer.log in the current working",
                "                     directory. If logFile is 'stdout', log output is written to standard output.",
@@ -422,6 +464,22 @@ public class ReducerCommand extends Reducer
       return getReducerOptions().getSamples();
       }
 
+    /**
+     * Changes the maximum number of threads used to generate samples concurrently.
+     */
+    public void setThreads( int threads)
+      {
+      getReducerOptions().setThreads( threads);
+      }
+
+    /**
+     * Returns the maximum number of threads used to generate samples concurrently.
+     */
+    public int getThreads()
+      {
+      return getReducerOptions().getThreads();
+      }
+
     /**
      * Changes the function for which tests cases are reduced.
      */
@@ -601,6 +659,11 @@ public class ReducerCommand extends Reducer
         builder.append( " -g ").append( getGenDef().getPath());
         }
 
+      if( getThreads() > 1)
+        {
+        builder.append( " -j ").append( getThreads());
+        }
+
       builder.append( " -r ").append( getResampleFactor());
       builder.append( " -s ").append( getSamples());
 
@@ -672,6 +735,12 @@ public class ReducerCommand extends Reducer
         return this;
         }
 
+      public Builder threads( int threads)
+        {
+        options_.setThreads( threads);
+        return this;
+        }
+
       public Builder samples( int samples)
         {
         options_.setSamples( samples);
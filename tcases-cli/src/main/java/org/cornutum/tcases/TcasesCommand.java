@@ -48,9 +48,11 @@ public class TcasesCommand
    * [-g <I>genDef</I>]
    * [-n]
    * [-I]
+   * [-j <I>threads</I>]
    * [-o <I>outDir</I>]
    * [-p <I>name</I>=<I>value</I>]
    * [-r <I>seed</I>] [-R]
+   * [-S]
    * [-t <I>testDef</I>]
    * [-T <I>contentType</I>]
    * [-v]
@@ -129,6 +131,20 @@ public class TcasesCommand
    * &nbsp;
    * </TD>
    * <TD>
+   * <NOBR>-j <I>threads</I> </NOBR>
+   * </TD>
+   * <TD>
+   * If <I>-j</I> is defined, test cases for different functions are generated concurrently, using at most the given
+   * number of <I>threads</I>. The test definitions produced are the same as when functions are generated sequentially.
+   * If omitted, functions are generated sequentially.
+   * </TD>
+   * </TR>
+   *
+   * <TR valign="top">
+   * <TD>
+   * &nbsp;
+   * </TD>
+   * <TD>
    * <NOBR>-J </NOBR>
    * </TD>
    * <TD>
@@ -256,6 +272,20 @@ public class TcasesCommand
    * &nbsp;
    * </TD>
    * <TD>
+   * <NOBR>-S </NOBR>
+   * </TD>
+   * <TD>
+   * If <I>-S</I> is defined, each test case is written as soon as it is generated, so that the complete set of test
+   * definitions is never held in memory. The test definitions produced are the same. But functions are always
+   * generated sequentially, so any <I>-j</I> option is ignored.
+   * </TD>
+   * </TR>
+   *
+   * <TR valign="top">
+   * <TD>
+   * &nbsp;
+   * </TD>
+   * <TD>
    * <NOBR>-x <I>transformDef</I> </NOBR>
    * </TD>
    * <TD>
@@ -462,6 +492,11 @@ public class TcasesCommand
         setNewSeed( true);
         }
 
+      else if( arg.equals( "-S"))
+        {
+        setStreaming( true);
+        }
+
       else if( arg.equals( "-c"))
         {
         i++;
@@ -479,6 +514,28 @@ public class TcasesCommand
           }
         }
 
+      else if( arg.equals( "-j"))
+        {
+        i++;
+        if( i >= args.length)
+          {
+          throwMissingValue( arg);
+          }
+        try
+          {
+          int threads = Integer.parseInt( args[i]);
+          if( threads < 1)
+            {
+            throw new IllegalArgumentException( "Thread count must be greater than 0");
+            }
+          setThreads( threads);
+          }
+        catch( Exception e)
+          {
+          throwUsageException( "Invalid thread count", e);
+          }
+        }
+
       else if( arg.equals( "-n"))
         {
         setExtended( false);
@@ -622,6 +679,11 @@ public class TcasesCommand
                "              is the result of normalizing all input schemas and adding any schema-derived",
                "              value definitions.",
                "",
+               "  -j threads  If -j is defined, test cases for different functions are generated concurrently,",
+               "              using at most the given number of threads. The test definitions produced are the",
+               "              same as when functions are generated sequentially. If omitted, functions are",
+               "              generated sequentially.",
+               "",
                "  -J          If -J is defined, test definition output is transformed into Java source",
                "              code for a JUnit test class. The resulting Java source file is written to",
                "              the specified outDir.",
@@ -651,6 +713,11 @@ public class TcasesCommand
                "  -R          If -R is defined, choose a new random number seed for all generators.",
                "              This updates the generator definitions specified by the genDef file.",
                "",
+               "  -S          If -S is defined, each test case is written as soon as it is generated, so that",
+               "              the complete set of test definitions is never held in memory. The test definitions",
+               "              produced are the same. But functions are always generated sequentially, so any -j",
+               "              option is ignored.",
+               "",
                "  -t testDef  If -t is defined, test definition output is written to the specified",
                "              testDef path, relative to the outDir. If omitted, the default testDef",
                "              name is derived from the inputDef name. If an output path cannot be",
@@ -857,6 +924,22 @@ public class TcasesCommand
       return newSeed_;
       }
 
+    /**
+     * Changes if each test case is written as soon as it is generated.
+     */
+    public void setStreaming( boolean streaming)
+      {
+      streaming_ = streaming;
+      }
+
+    /**
+     * Returns if each test case is written as soon as it is generated.
+     */
+    public boolean isStreaming()
+      {
+      return streaming_;
+      }
+
     /**
      * Changes the default tuple size used by generators.
      */
@@ -873,6 +956,22 @@ public class TcasesCommand
       return getGeneratorOptions().getDefaultTupleSize();
       }
 
+    /**
+     * Changes the maximum number of threads used to generate test cases for different functions concurrently.
+     */
+    public void setThreads( Integer threads)
+      {
+      getGeneratorOptions().setThreads( threads);
+      }
+
+    /**
+     * Returns the maximum number of threads used to generate test cases for different functions concurrently.
+     */
+    public Integer getThreads()
+      {
+      return getGeneratorOptions().getThreads();
+      }
+
     /**
      * Returns the options used by generators.
      */
@@ -989,6 +1088,11 @@ public class TcasesCommand
         builder.append( " -g ").append( getGenDef().getPath());
         }
 
+      if( getThreads() != null)
+        {
+        builder.append( " -j ").append( getThreads());
+        }
+
       if( !isExtended())
         {
         builder.append( " -n");
@@ -1017,6 +1121,11 @@ public class TcasesCommand
         builder.append( " -R");
         }
 
+      if( isStreaming())
+        {
+        builder.append( " -S");
+        }
+
       if( getTestDef() != null)
         {
         builder.append( " -t ").append( getTestDef().getPath());
@@ -1060,6 +1169,7 @@ public class TcasesCommand
     private TransformType transformType_;
     private boolean extended_;
     private boolean newSeed_;
+    private boolean streaming_;
     private File workingDir_;
     private boolean showVersion_;
     private GeneratorOptions generatorOptions_ = new GeneratorOptions();
@@ -1127,6 +1237,12 @@ public class TcasesCommand
         return this;
         }
 
+      public Builder streaming()
+        {
+        options_.setStreaming( true);
+        return this;
+        }
+
       public Builder extended()
         {
         options_.setExtended( true);
@@ -1145,6 +1261,12 @@ public class TcasesCommand
         return this;
         }
 
+      public Builder threads( int threads)
+        {
+        options_.setThreads( threads);
+        return this;
+        }
+
       public Builder contentType( String type)
         {
         options_.setContentType( type);
@@ -1390,8 +1512,11 @@ public class TcasesCommand
       genDef = GeneratorSet.basicGenerator();
       }
     
-    // Generate new test definitions.
-    SystemTestDef testDef = Tcases.getTests( inputDef, genDef, resolverFactory, baseDef, options.getGeneratorOptions());
+    // Generate new test definitions, unless written as each is generated.
+    SystemTestDef testDef =
+      options.isStreaming()
+      ? null
+      : Tcases.getTests( inputDef, genDef, resolverFactory, baseDef, options.getGeneratorOptions());
 
     // Identify test definition transformations.
     AbstractFilter transformer = null;
@@ -1430,25 +1555,44 @@ public class TcasesCommand
       {
       logger_.info( "Writing test definition to {}", Optional.ofNullable( outputFile).map( File::getPath).orElse( "standard output"));
 
-      OutputStream output =
-        // Transformed output?
-        transformer != null?
-        transformer.getSource() :
-
-        // Output file?
-        outputFile != null?
-        new FileOutputStream( outputFile) :
-
-        // Standard output?
-        null;
-
-      if( outputFileType == Resource.Type.JSON)
+      if( transformer != null && testDef != null)
         {
-        TcasesJson.writeTests( testDef, output);
+        // Transform test definitions using the current thread.
+        transformer.write( testDef);
         }
       else
         {
-        TcasesIO.writeTests( testDef, output);
+        OutputStream output =
+          // Transformed output?
+          transformer != null?
+          transformer.getSource() :
+
+          // Output file?
+          outputFile != null?
+          new FileOutputStream( outputFile) :
+
+          // Standard output?
+          null;
+
+        if( options.isStreaming())
+          {
+          if( outputFileType == Resource.Type.JSON)
+            {
+            TcasesJson.writeTests( inputDef, genDef, resolverFactory, baseDef, options.getGeneratorOptions(), output);
+            }
+          else
+            {
+            TcasesIO.writeTests( inputDef, genDef, resolverFactory, baseDef, options.getGeneratorOptions(), output);
+            }
+          }
+        else if( outputFileType == Resource.Type.JSON)
+          {
+          TcasesJson.writeTests( testDef, output);
+          }
+        else
+          {
+          TcasesIO.writeTests( testDef, output);
+          }
         }
       }
     catch( Exception e)
@@ -10,7 +10,6 @@ package org.cornutum.tcases.openapi;
 import org.cornutum.tcases.HelpException;
 import org.cornutum.tcases.SystemInputDef;
 import org.cornutum.tcases.Tcases;
-import org.cornutum.tcases.TcasesIO;
 import org.cornutum.tcases.io.AbstractFilter;
 import org.cornutum.tcases.io.TestDefToHtmlFilter;
 import org.cornutum.tcases.io.TestDefToJUnitFilter;
@@ -260,6 +259,19 @@ public class ApiCommand
    * &nbsp;
    * </TD>
    * <TD>
+   * <NOBR>-j <I>threads</I> </NOBR>
+   * </TD>
+   * <TD>
+   * If defined, API paths are modelled concurrently, using at most the given number of threads. Results are the same for any
+   * number of threads. If omitted, API paths are modelled sequentially.
+   * </TD>
+   * </TR>
+   *
+   * <TR valign="top">
+   * <TD>
+   * &nbsp;
+   * </TD>
+   * <TD>
    * <NOBR>-T <I>contentType</I> </NOBR>
    * </TD>
    * <TD>
@@ -532,6 +544,28 @@ public class ApiCommand
           }
         }
 
+      else if( arg.equals( "-j"))
+        {
+        i++;
+        if( i >= args.length)
+          {
+          throwMissingValue( arg);
+          }
+        try
+          {
+          int threads = Integer.parseInt( args[i]);
+          if( threads < 1)
+            {
+            throw new IllegalArgumentException( "Thread count must be greater than 0");
+            }
+          setThreads( threads);
+          }
+        catch( Exception e)
+          {
+          throwUsageException( "Invalid thread count", e);
+          }
+        }
+
       else
         {
         throwUsageException( String.format( "Unknown option: %s", arg));
@@ -640,6 +674,9 @@ public class ApiCommand
                "  -m maxTries When -D is specified, defines the maximum attempts made to resolve a request test case input",
                "              value before reporting failure. If omitted, the default value is 10000.",
                "",
+               "  -j threads  If -j is defined, API paths are modelled concurrently, using at most the given number of",
+               "              threads. If omitted, API paths are modelled sequentially.",
+               "",
                "  -T docType  Defines the content type of the OpenApi definition. The 'docType' must be one of 'json', 'yaml',",
                "              or 'yml'. If omitted, the default content type is derived from the 'apiDef' name. ",
                "              If the 'apiDef' is read from standard input or does not have a recognized extension, the default",
@@ -926,6 +963,24 @@ public class ApiCommand
       return getResolverContext().getMaxTries();
       }
 
+    /**
+     * Changes the maximum number of threads used to model API paths concurrently.
+     * If null, API paths are modelled sequentially.
+     */
+    public void setThreads( Integer threads)
+      {
+      getModelOptions().setThreads( threads);
+      }
+
+    /**
+     * Returns the maximum number of threads used to model API paths concurrently.
+     * If null, API paths are modelled sequentially.
+     */
+    public Integer getThreads()
+      {
+      return getModelOptions().getThreads();
+      }
+
     /**
      * Changes condition notifiers for input modelling and request case resolution conditions.
      */
@@ -1105,6 +1160,11 @@ public class ApiCommand
         {
         builder.append( " -W");
         }
+
+      if( getThreads() != null)
+        {
+        builder.append( " -j ").append( getThreads());
+        }
       
       if( getOutFile() != null)
         {
@@ -1308,6 +1368,12 @@ public class ApiCommand
         return this;
         }
 
+      public Builder threads( int threads)
+        {
+        options_.setThreads( threads);
+        return this;
+        }
+
       public Options build()
         {
         return options_;
@@ -1379,10 +1445,19 @@ public class ApiCommand
     // Generate requested input definition
     logger_.info( "Reading API definition from {}", apiDefFile==null? "standard input" : apiDefFile);
     logger_.info( "Generating an input model based on API {}", options.getModelOptions().getSource().equals( ModelOptions.Source.EXAMPLES)? "examples" : "schemas");
-    SystemInputDef inputDef =
-      options.isServerTest()
-      ? TcasesOpenApiIO.getRequestInputModel( apiDefFile, options.getContentType(), options.getModelOptions())
-      : TcasesOpenApiIO.getResponseInputModel( apiDefFile, options.getContentType(), options.getModelOptions());
+    SystemInputDef inputDef;
+    try
+      {
+      inputDef =
+        options.isServerTest()
+        ? TcasesOpenApiIO.getRequestInputModel( apiDefFile, options.getContentType(), options.getModelOptions())
+        : TcasesOpenApiIO.getResponseInputModel( apiDefFile, options.getContentType(), options.getModelOptions());
+      }
+    finally
+      {
+      // No other views of this API definition are needed.
+      TcasesOpenApiIO.clearCache( apiDefFile);
+      }
 
     if( inputDef == null)
       {
@@ -1465,7 +1540,7 @@ public class ApiCommand
         outputStream =
           // Transformed output?
           transformer != null?
-          transformer.getSource() :
+          null :
 
           // Output file?
           outputFile != null?
@@ -1487,7 +1562,7 @@ public class ApiCommand
         }
       else if( transformer != null)
         {
-        TcasesIO.writeTests( Tcases.getTests( inputDef, null, null), outputStream);
+        transformer.write( Tcases.getTests( inputDef, null, null));
         }
       else if( options.isRequestCases())
         {
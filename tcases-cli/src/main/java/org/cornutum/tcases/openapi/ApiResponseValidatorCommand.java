@@ -11,6 +11,7 @@ import org.slf4j.LoggerFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
@@ -23,7 +24,7 @@ import static org.cornutum.tcases.CommandUtils.throwUsageException;
 public class ApiResponseValidatorCommand {
     public static class Options
     {
-        public enum ValidationType { BODY, HEADERS }
+        public enum ValidationType { BODY, HEADERS, SERVER }
         /**
          * Creates a new Options object.
          */
@@ -182,6 +183,38 @@ public class ApiResponseValidatorCommand {
                     }
                 }
             }
+            else if(getValidationType().equals(ValidationType.SERVER))
+            {
+                if(arg.equals("-P"))
+                {
+                    i++;
+                    if( i >= args.length)
+                    {
+                        throwMissingValue( arg);
+                    }
+                    try
+                    {
+                        setPort(Integer.parseInt(args[i]));
+                    }
+                    catch( Exception e)
+                    {
+                        throwUsageException( "Invalid port", e);
+                    }
+                }
+                else if(arg.equals("-d"))
+                {
+                    i++;
+                    if( i >= args.length)
+                    {
+                        throwMissingValue( arg);
+                    }
+                    setResponsesDir(new File(args[i]));
+                }
+                else
+                {
+                    throwUsageException( String.format( "Unknown option: %s", arg));
+                }
+            }
             else
             {
                 throwUsageException( String.format( "Unknown option: %s", arg));
@@ -473,20 +506,14 @@ public class ApiResponseValidatorCommand {
             if ( this.Headers_ == null) {
                 try {
                     if (headersFile != null) {
-                        this.Headers_ = (new ObjectMapper().
-                                readValue(headersFile, new TypeReference<ArrayList<Map.Entry<String,String>>>(){}))
-                                .stream().collect(
-                                        groupingBy(Map.Entry::getKey,
-                                                mapping(Map.Entry::getValue, toList())));;
+                        try (InputStream headersFileStream = new FileInputStream(headersFile))
+                        {
+                            this.Headers_ = readHeaders(headersFileStream);
+                        }
                     }
                     else if (headersStream != null)
                     {
-
-                        this.Headers_ = (new ObjectMapper().
-                                readValue(headersStream, new TypeReference<ArrayList<Map.Entry<String,String>>>(){}))
-                                .stream().collect(
-                                        groupingBy(Map.Entry::getKey,
-                                                mapping(Map.Entry::getValue, toList())));;
+                        this.Headers_ = readHeaders(headersStream);
                     }
                 }
                 catch (Exception e)
@@ -498,6 +525,22 @@ public class ApiResponseValidatorCommand {
             return this.Headers_;
         }
 
+        /**
+         * Changes the local port used by the validator server. If 0, an ephemeral port is used.
+         */
+        public void setPort(int port)
+        {
+            this.Port_ = port;
+        }
+
+        /**
+         * Returns the local port used by the validator server. If 0, an ephemeral port is used.
+         */
+        public int getPort()
+        {
+            return Port_;
+        }
+
         private File apiResponses_;
         private File workingDir_;
         private boolean showVersion_;
@@ -512,6 +555,25 @@ public class ApiResponseValidatorCommand {
         private Map<String, List<String>> Headers_;
         private InputStream HeadersInputStream__;
         private File HeadersFile__;
+        /**
+         * Changes the directory containing the API responses definition files accepted by the validator server.
+         */
+        public void setResponsesDir(File responsesDir)
+        {
+            this.ResponsesDir_ = responsesDir;
+        }
+
+        /**
+         * Returns the directory containing the API responses definition files accepted by the validator server.
+         * If null, the directory of the API responses definition given, if any, or else the current directory.
+         */
+        public File getResponsesDir()
+        {
+            return ResponsesDir_;
+        }
+
+        private int Port_;
+        private File ResponsesDir_;
     }
 
 
@@ -560,6 +622,12 @@ public class ApiResponseValidatorCommand {
             apiResponsesFile = new File( options.getWorkingDir(), apiResponsesFile.getPath());
         }
 
+        if(options.getValidationType() == Options.ValidationType.SERVER)
+        {
+            runServer(options, apiResponsesFile);
+            return;
+        }
+
         // Generate requested input definition
         logger_.info( "Reading API responses from {}", Objects.toString( apiResponsesFile,  "standard input"));
         ResponseValidator validator = new ResponseValidator(new FileInputStream(apiResponsesFile));
@@ -598,5 +666,45 @@ public class ApiResponseValidatorCommand {
         }
     }
 
+    /**
+     * Runs a {@link ResponseValidatorServer} until it receives a shutdown request. If an API responses definition
+     * file is given, it is read before any requests are accepted. The server URI and the token required for
+     * all requests are written to standard output when the server is ready.
+     */
+    private static void runServer( ApiResponseValidatorCommand.Options options, File apiResponsesFile) throws Exception
+    {
+        File responsesDir =
+            Optional.ofNullable(options.getResponsesDir())
+            .orElse(
+                Optional.ofNullable(apiResponsesFile)
+                .map(File::getAbsoluteFile)
+                .map(File::getParentFile)
+                .orElse(new File(".")));
+
+        ResponseValidatorServer server = new ResponseValidatorServer(options.getPort(), responsesDir);
+        if(apiResponsesFile != null)
+        {
+            server.getValidator(apiResponsesFile);
+        }
+
+        server.start();
+        System.out.println(String.format("Listening on %s token=%s", server.getUri(), server.getToken()));
+        System.out.flush();
+
+        server.awaitStop();
+    }
+
+    /**
+     * Returns the response headers defined by the given JSON array of <CODE>{"<I>name</I>": "<I>value</I>"}</CODE> objects.
+     */
+    static Map<String, List<String>> readHeaders(InputStream headersStream) throws IOException
+    {
+        return (new ObjectMapper().
+                readValue(headersStream, new TypeReference<ArrayList<Map.Entry<String,String>>>(){}))
+                .stream().collect(
+                        groupingBy(Map.Entry::getKey,
+                                mapping(Map.Entry::getValue, toList())));
+    }
+
     private static final Logger logger_ = LoggerFactory.getLogger( ApiTestCommand.class);
 }
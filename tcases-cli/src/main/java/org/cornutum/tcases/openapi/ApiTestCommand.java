@@ -10,11 +10,13 @@ package org.cornutum.tcases.openapi;
 import org.cornutum.tcases.HelpException;
 import org.cornutum.tcases.SystemInputDef;
 import org.cornutum.tcases.Tcases;
+import org.cornutum.tcases.io.IndentedWriter;
 import org.cornutum.tcases.openapi.io.TcasesOpenApiIO;
 import org.cornutum.tcases.openapi.moco.MocoServerTestWriter;
 import org.cornutum.tcases.openapi.moco.MocoTestConfigReader;
 import org.cornutum.tcases.openapi.resolver.*;
 import org.cornutum.tcases.openapi.restassured.RestAssuredTestCaseWriter;
+import org.cornutum.tcases.openapi.test.ResponsesDef;
 import org.cornutum.tcases.openapi.playwright.PlaywrightTestCaseWriter;
 import org.cornutum.tcases.openapi.testwriter.*;
 import org.cornutum.tcases.resolve.ResolverContext;
@@ -29,6 +31,7 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
@@ -198,6 +201,21 @@ public class ApiTestCommand
    * &nbsp;
    * </TD>
    * <TD>
+   * <NOBR>-W</NOBR>
+   * </TD>
+   * <TD>
+   * When the <I>execType</I> is "playwright", if specified, generated tests validate responses using a long-running
+   * validator server instead of running the <CODE>tcases-response-validator</CODE> command for each response.
+   * A Playwright global setup module that starts and stops the validator server is written to
+   * <CODE>tcases-validator-setup.ts</CODE> in the test directory.
+   * </TD>
+   * </TR>
+   *
+   * <TR valign="top">
+   * <TD>
+   * &nbsp;
+   * </TD>
+   * <TD>
    * <NOBR>-u timeout </NOBR>
    * </TD>
    * <TD>
@@ -391,6 +409,20 @@ public class ApiTestCommand
    * &nbsp;
    * </TD>
    * <TD>
+   * <NOBR>-j <I>threads</I> </NOBR>
+   * </TD>
+   * <TD>
+   * If defined, API paths are modelled and request test cases are resolved concurrently, using at most the given number of threads.
+   * Each request test case is then resolved using its own random number sequence, so that the same tests are generated for any
+   * number of threads. If omitted, API paths are modelled and request test cases are resolved sequentially.
+   * </TD>
+   * </TR>
+   *
+   * <TR valign="top">
+   * <TD>
+   * &nbsp;
+   * </TD>
+   * <TD>
    * <NOBR>-v </NOBR>
    * </TD>
    * <TD>
@@ -566,6 +598,11 @@ public class ApiTestCommand
         setResourceOutDir( new File( args[i]));
       }
 
+      else if( arg.equals( "-W"))
+      {
+        setValidatorServer( true);
+      }
+
       else if( arg.equals( "-u"))
       {
         i++;
@@ -694,6 +731,28 @@ public class ApiTestCommand
         }
       }
 
+      else if( arg.equals( "-j"))
+      {
+        i++;
+        if( i >= args.length)
+        {
+          throwMissingValue( arg);
+        }
+        try
+        {
+          int threads = Integer.parseInt( args[i]);
+          if( threads < 1)
+          {
+            throw new IllegalArgumentException( "Thread count must be greater than 0");
+          }
+          setThreads( threads);
+        }
+        catch( Exception e)
+        {
+          throwUsageException( "Invalid thread count", e);
+        }
+      }
+
       else if( arg.equals( "-T"))
       {
         i++;
@@ -804,6 +863,11 @@ public class ApiTestCommand
                       "                  the default resourceDir is the same as the outDir. If resourceDir is 'no' or 'false',",
                       "                  no test resource output is produced.",
                       "",
+                      "  -W              When the execType is 'playwright', if specified, generated tests validate responses",
+                      "                  using a long-running validator server instead of running the tcases-response-validator",
+                      "                  command for each response. A Playwright global setup module that starts and stops",
+                      "                  the validator server is written to tcases-validator-setup.ts in the test directory.",
+                      "",
                       "  -u timeout      Defines the maximum time (in milliseconds) to complete an individual test method.",
                       "                  A test failure occurs if a method continues past this time limit. If omitted, no time",
                       "                  limit is enforced.",
@@ -862,6 +926,12 @@ public class ApiTestCommand
                       "  -m maxTries     Defines the maximum attempts made to resolve a request test case input value before",
                       "                  reporting failure. If omitted, the default value is 10000.",
                       "",
+                      "  -j threads      If -j is defined, API paths are modelled and request test cases are resolved",
+                      "                  concurrently, using at most the given number of threads. Each request test case is",
+                      "                  then resolved using its own random number sequence, so that the same tests are",
+                      "                  generated for any number of threads. If omitted, API paths are modelled and request",
+                      "                  test cases are resolved sequentially.",
+                      "",
                       "  -l logFile      If -l is defined, log output is written to the given file. If omitted,",
                       "                  log output is written to a file named tcases-api-test.log in the current working",
                       "                  directory. If logFile is 'stdout', log output is written to standard output.",
@@ -1140,6 +1210,22 @@ public class ApiTestCommand
       return byPath_;
     }
 
+    /**
+     * Changes if generated Playwright tests validate responses using a long-running validator server.
+     */
+    public void setValidatorServer( boolean validatorServer)
+    {
+      validatorServer_ = validatorServer;
+    }
+
+    /**
+     * Returns if generated Playwright tests validate responses using a long-running validator server.
+     */
+    public boolean isValidatorServer()
+    {
+      return validatorServer_;
+    }
+
     /**
      * Changes request path operations for which tests are generated.
      */
@@ -1324,6 +1410,25 @@ public class ApiTestCommand
       return getResolverContext().getMaxTries();
     }
 
+    /**
+     * Changes the maximum number of threads used to model API paths and to resolve request test cases concurrently.
+     * If null, API paths are modelled and request test cases are resolved sequentially.
+     */
+    public void setThreads( Integer threads)
+    {
+      threads_ = threads;
+      getModelOptions().setThreads( threads);
+    }
+
+    /**
+     * Returns the maximum number of threads used to model API paths and to resolve request test cases concurrently.
+     * If null, API paths are modelled and request test cases are resolved sequentially.
+     */
+    public Integer getThreads()
+    {
+      return threads_;
+    }
+
     /**
      * Changes condition notifiers for input modelling and request case resolution conditions.
      */
@@ -1602,7 +1707,9 @@ public class ApiTestCommand
         }
         case PLAYWRIGHT:
         {
-          testCaseWriter = new PlaywrightTestCaseWriter();
+          PlaywrightTestCaseWriter playwrightWriter = new PlaywrightTestCaseWriter();
+          playwrightWriter.setValidatorServer( isValidatorServer());
+          testCaseWriter = playwrightWriter;
           break;
         }
         default: {
@@ -1641,12 +1748,14 @@ public class ApiTestCommand
       Optional.ofNullable( getResourceOutDir()).ifPresent( dir -> builder.append( " -d ").append( dir.getPath()));
       Optional.ofNullable( getTimeout()).ifPresent( timeout -> builder.append( " -u ").append( timeout));
       Optional.ofNullable( getMocoTestConfig()).ifPresent( moco -> builder.append( " -M ").append( moco.getPath()));
+      if( isValidatorServer()) builder.append( " -W");
       if( isByPath()) builder.append( " -S");
       Optional.ofNullable( getPaths()).ifPresent( paths -> builder.append( " -P ").append( paths.stream().collect( joining( ","))));
       Optional.ofNullable( getOperations()).ifPresent( operations -> builder.append( " -O ").append( operations.stream().collect( joining( ","))));
       builder.append( " -c ").append( String.format( "%s,%s", getModelOptions().getConditionNotifier(), getResolverContext().getNotifier()));
       Optional.of( getModelOptions()).filter( ModelOptions::isReadOnlyEnforced).ifPresent( o -> builder.append( " -R"));
       builder.append( " -m ").append( getMaxTries());
+      Optional.ofNullable( getThreads()).ifPresent( threads -> builder.append( " -j ").append( threads));
       Optional.ofNullable( getRandomSeed()).ifPresent( seed -> builder.append( " -r ").append( seed));
       Optional.ofNullable( getContentType()).ifPresent( content -> builder.append( " -T ").append( content));
 
@@ -1671,6 +1780,7 @@ public class ApiTestCommand
     private Long timeout_;
     private File mocoTestConfig_;
     private boolean byPath_;
+    private boolean validatorServer_;
     private Set<String> paths_;
     private Set<String> operations_;
     private String contentType_;
@@ -1679,6 +1789,7 @@ public class ApiTestCommand
     private File workingDir_;
     private boolean showVersion_;
     private Long randomSeed_;
+    private Integer threads_;
     private boolean serverTrusted_;
     private boolean dependsServer_;
 
@@ -1780,6 +1891,17 @@ public class ApiTestCommand
         return this;
       }
 
+      public Builder validatorServer()
+      {
+        return validatorServer( true);
+      }
+
+      public Builder validatorServer( boolean validatorServer)
+      {
+        options_.setValidatorServer( validatorServer);
+        return this;
+      }
+
       public Builder operations( String... operations)
       {
         options_.setOperations( Arrays.asList( operations));
@@ -1850,6 +1972,12 @@ public class ApiTestCommand
         return this;
       }
 
+      public Builder threads( int threads)
+      {
+        options_.setThreads( threads);
+        return this;
+      }
+
       public Options build()
       {
         return options_;
@@ -1915,7 +2043,24 @@ public class ApiTestCommand
 
     // Generate requested input definition
     logger_.info( "Reading API definition from {}", Objects.toString( apiDefFile,  "standard input"));
-    SystemInputDef inputDef = TcasesOpenApiIO.getRequestInputModel( apiDefFile, options.getContentType(), options.getModelOptions());
+
+    // Get any response definitions first, while the API definition is still unmodified by input modelling.
+    ResponsesDef responses;
+    SystemInputDef inputDef;
+    try
+    {
+      responses =
+        apiDefFile != null && options.hasResources()
+        ? TcasesOpenApiIO.getResponsesDef( apiDefFile, options.getContentType())
+        : null;
+
+      inputDef = TcasesOpenApiIO.getRequestInputModel( apiDefFile, options.getContentType(), options.getModelOptions());
+    }
+    finally
+    {
+      // No other views of this API definition are needed.
+      TcasesOpenApiIO.clearCache( apiDefFile);
+    }
     if( inputDef == null)
     {
       logger_.warn( "No requests defined");
@@ -1937,13 +2082,13 @@ public class ApiTestCommand
       }
 
       // Generate API request test cases
-      RequestTestDef testDef = RequestCases.getRequestCases( Tcases.getTests( inputDef, null, null), options.getResolverContext());
+      RequestTestDef testDef = RequestCases.getRequestCases( Tcases.getTests( inputDef, null, null), options.getResolverContext(), options.getThreads());
 
       // Write API tests for realized request cases only
       TestSource testSource = options.getTestSource( RequestCases.realizeRequestCases( testDef));
-      if( apiDefFile != null && options.hasResources())
+      if( responses != null)
       {
-        testSource.setResponses( TcasesOpenApiIO.getResponsesDef( apiDefFile, options.getContentType()));
+        testSource.setResponses( responses);
       }
 
       TestCaseWriter testCaseWriter = options.getTestCaseWriter();
@@ -1993,6 +2138,11 @@ public class ApiTestCommand
         logTestResourceDir( options, testWriter, testSource, testTarget);
         writeTest( testWriter, testSource, testTarget);
       }
+
+      if( options.hasResources() && testCaseWriter instanceof PlaywrightTestCaseWriter && ((PlaywrightTestCaseWriter) testCaseWriter).isValidatorServer())
+      {
+        writeValidatorServerSetup( (PlaywrightTestCaseWriter) testCaseWriter, testWriter, testSource, testTarget);
+      }
     }
   }
 
@@ -2082,6 +2232,45 @@ public class ApiTestCommand
     }
   }
 
+  /**
+   * Writes the Playwright global setup module for the validator server to the test directory. The validator
+   * server accepts only the API responses definitions in the test resource directory.
+   */
+  private static void writeValidatorServerSetup( PlaywrightTestCaseWriter testCaseWriter, TestWriter<?,?> testWriter, TestSource testSource, TestTarget testTarget)
+  {
+    File testDir =
+      Optional.ofNullable( testTarget.getDir())
+      .orElse(
+        Optional.ofNullable( getTestFile( testWriter, testSource, testTarget))
+        .map( File::getAbsoluteFile)
+        .map( File::getParentFile)
+        .orElse( null));
+
+    if( testDir == null)
+    {
+      logger_.warn( "No validator server setup written");
+    }
+    else
+    {
+      File setupFile = new File( testDir, "tcases-validator-setup.ts");
+      logger_.info( "Writing validator server setup to {}", setupFile);
+
+      try( IndentedWriter setupWriter = new IndentedWriter( new FileOutputStream( setupFile)))
+      {
+        File responsesDir =
+          Optional.ofNullable( getTestResourceDir( testWriter, testSource, testTarget))
+          .orElse( testDir)
+          .getAbsoluteFile();
+
+        testCaseWriter.writeValidatorServerSetup( setupWriter, responsesDir);
+      }
+      catch( Exception e)
+      {
+        throw new TestWriterException( String.format( "Can't write validator server setup to %s", setupFile), e);
+      }
+    }
+  }
+
   /**
    * Returns the {@link TestWriter#getTestName test name} for the given {@link TestWriter}.
    */
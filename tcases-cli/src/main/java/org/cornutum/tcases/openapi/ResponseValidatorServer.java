@@ -0,0 +1,392 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi;
+
+import org.cornutum.tcases.openapi.test.ResponseValidationException;
+import org.cornutum.tcases.openapi.test.ResponseValidator;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A local HTTP server that validates API responses on behalf of its clients. Each API responses definition file
+ * is read only once and then shared by all requests that refer to it, and requests are handled concurrently.
+ * <P/>
+ * The server accepts the following requests.
+ * <UL>
+ * <LI> <CODE>POST /body?responses=<I>file</I>&amp;op=<I>op</I>&amp;path=<I>path</I>&amp;status=<I>code</I>[&amp;contentType=<I>type</I>]</CODE>:
+ * validates the response body given by the request content </LI>
+ * <LI> <CODE>POST /headers?responses=<I>file</I>&amp;op=<I>op</I>&amp;path=<I>path</I>&amp;status=<I>code</I></CODE>:
+ * validates the response headers given by the request content, a JSON array of <CODE>{"<I>name</I>": "<I>value</I>"}</CODE> objects </LI>
+ * <LI> <CODE>POST /shutdown</CODE>: stops the server </LI>
+ * </UL>
+ * Every request must give the {@link #getToken token} generated for this server in the {@link #TOKEN_HEADER} header,
+ * and every responses definition file must be located in the responses directory given when the server is created.
+ * Otherwise, the request is rejected with status 403.
+ * <P/>
+ * A valid response is reported with status 200. An invalid response is reported with status 422, with
+ * a description of the validation failure as the response content. Any other failure is reported with status 400.
+ */
+public class ResponseValidatorServer
+{
+    /**
+     * Creates a new ResponseValidatorServer object that listens on the given local port
+     * and reads responses definition files from the current directory.
+     * If the port is 0, an ephemeral port is used.
+     */
+    public ResponseValidatorServer( int port) throws IOException
+    {
+        this( port, new File( "."));
+    }
+
+    /**
+     * Creates a new ResponseValidatorServer object that listens on the given local port
+     * and reads responses definition files only from the given directory.
+     * If the port is 0, an ephemeral port is used.
+     */
+    public ResponseValidatorServer( int port, File responsesDir) throws IOException
+    {
+        responsesDir_ = responsesDir.getCanonicalFile();
+        token_ = createToken();
+
+        server_ = HttpServer.create( new InetSocketAddress( InetAddress.getLoopbackAddress(), port), 0);
+        server_.createContext( "/body", exchange -> handleValidation( exchange, this::validateBody));
+        server_.createContext( "/headers", exchange -> handleValidation( exchange, this::validateHeaders));
+        server_.createContext( "/shutdown", this::handleShutdown);
+
+        executor_ = Executors.newCachedThreadPool();
+        server_.setExecutor( executor_);
+    }
+
+    /**
+     * Starts accepting validation requests.
+     */
+    public void start()
+    {
+        server_.start();
+        logger_.info( "Listening on {}", getUri());
+    }
+
+    /**
+     * Stops accepting validation requests.
+     */
+    public void stop()
+    {
+        server_.stop( 0);
+        executor_.shutdown();
+        stopped_.countDown();
+    }
+
+    /**
+     * Waits until this server is stopped.
+     */
+    public void awaitStop() throws InterruptedException
+    {
+        stopped_.await();
+    }
+
+    /**
+     * Returns the base URI for requests to this server.
+     */
+    public URI getUri()
+    {
+        InetSocketAddress address = server_.getAddress();
+        return URI.create( String.format( "http://%s:%s/", address.getAddress().getHostAddress(), address.getPort()));
+    }
+
+    /**
+     * Returns the directory containing the API responses definition files accepted by this server.
+     */
+    public File getResponsesDir()
+    {
+        return responsesDir_;
+    }
+
+    /**
+     * Returns the token that must be given in the {@link #TOKEN_HEADER} header of every request to this server.
+     */
+    public String getToken()
+    {
+        return token_;
+    }
+
+    /**
+     * Returns the validator for the given API responses definition file.
+     */
+    public ResponseValidator getValidator( File responsesFile)
+    {
+        return validators_.computeIfAbsent( responsesFile.getAbsoluteFile(), this::readValidator);
+    }
+
+    /**
+     * Returns a new validator for the given API responses definition file.
+     */
+    private ResponseValidator readValidator( File responsesFile)
+    {
+        logger_.info( "Reading API responses from {}", responsesFile);
+        try( InputStream responses = new FileInputStream( responsesFile))
+        {
+            return new ResponseValidator( responses);
+        }
+        catch( IOException e)
+        {
+            throw new UncheckedIOException( String.format( "Can't read API responses from %s", responsesFile), e);
+        }
+    }
+
+    /**
+     * Handles a request to validate response data.
+     */
+    private void handleValidation( HttpExchange exchange, Validation validation) throws IOException
+    {
+        int status;
+        String message;
+        try
+        {
+            assertAuthorized( exchange);
+            if( !"POST".equals( exchange.getRequestMethod()))
+            {
+                throw new IllegalArgumentException( String.format( "Unsupported method=%s", exchange.getRequestMethod()));
+            }
+
+            Map<String,String> params = getParams( exchange.getRequestURI());
+            validation.validate( getValidator( getResponsesFile( getParam( params, "responses"))), params, exchange.getRequestBody());
+            status = 200;
+            message = "";
+        }
+        catch( ResponseValidationException e)
+        {
+            status = 422;
+            message = e.getMessage();
+        }
+        catch( SecurityException e)
+        {
+            logger_.warn( "Rejected {}: {}", exchange.getRequestURI().getPath(), e.getMessage());
+            status = 403;
+            message = e.getMessage();
+        }
+        catch( Exception e)
+        {
+            logger_.error( "Can't validate {}", exchange.getRequestURI(), e);
+            status = 400;
+            message = String.valueOf( e.getMessage());
+        }
+
+        sendResponse( exchange, status, message);
+    }
+
+    /**
+     * Validates the response body given by the request content.
+     */
+    private void validateBody( ResponseValidator validator, Map<String,String> params, InputStream content) throws IOException
+    {
+        validator.assertBodyValid(
+            getParam( params, "op"),
+            getParam( params, "path"),
+            getStatusParam( params),
+            params.get( "contentType"),
+            IOUtils.toString( content, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Validates the response headers given by the request content.
+     */
+    private void validateHeaders( ResponseValidator validator, Map<String,String> params, InputStream content) throws IOException
+    {
+        validator.assertHeadersValid(
+            getParam( params, "op"),
+            getParam( params, "path"),
+            getStatusParam( params),
+            ApiResponseValidatorCommand.readHeaders( content));
+    }
+
+    /**
+     * Handles a request to stop this server.
+     */
+    private void handleShutdown( HttpExchange exchange) throws IOException
+    {
+        try
+        {
+            assertAuthorized( exchange);
+        }
+        catch( SecurityException e)
+        {
+            logger_.warn( "Rejected {}: {}", exchange.getRequestURI().getPath(), e.getMessage());
+            sendResponse( exchange, 403, e.getMessage());
+            return;
+        }
+
+        sendResponse( exchange, 200, "");
+
+        // Stop asynchronously, so that this exchange can complete first.
+        Thread stopper = new Thread( this::stop, "tcases-validator-stop");
+        stopper.setDaemon( true);
+        stopper.start();
+    }
+
+    /**
+     * Reports a failure if the given request does not give the token for this server.
+     */
+    private void assertAuthorized( HttpExchange exchange)
+    {
+        String token = exchange.getRequestHeaders().getFirst( TOKEN_HEADER);
+        if( token == null || !MessageDigest.isEqual( token.getBytes( StandardCharsets.UTF_8), token_.getBytes( StandardCharsets.UTF_8)))
+        {
+            throw new SecurityException( String.format( "Missing or invalid %s", TOKEN_HEADER));
+        }
+    }
+
+    /**
+     * Returns the API responses definition file at the given path. Reports a failure if this file
+     * is not located in the responses directory for this server.
+     */
+    private File getResponsesFile( String path) throws IOException
+    {
+        File responsesFile = new File( path).getCanonicalFile();
+        if( !responsesFile.toPath().startsWith( responsesDir_.toPath()))
+        {
+            throw new SecurityException( String.format( "Responses=%s is not in %s", path, responsesDir_));
+        }
+
+        return responsesFile;
+    }
+
+    /**
+     * Returns a new random token for requests to this server.
+     */
+    private static String createToken()
+    {
+        byte[] bytes = new byte[16];
+        new SecureRandom().nextBytes( bytes);
+
+        StringBuilder token = new StringBuilder();
+        for( byte b : bytes)
+        {
+            token.append( String.format( "%02x", b));
+        }
+
+        return token.toString();
+    }
+
+    /**
+     * Sends a text response for the given exchange.
+     */
+    private void sendResponse( HttpExchange exchange, int status, String message) throws IOException
+    {
+        byte[] content = message.getBytes( StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set( "Content-Type", "text/plain; charset=utf-8");
+        if( content.length == 0)
+        {
+            exchange.sendResponseHeaders( status, -1);
+            exchange.close();
+        }
+        else
+        {
+            exchange.sendResponseHeaders( status, content.length);
+            try( OutputStream body = exchange.getResponseBody())
+            {
+                body.write( content);
+            }
+        }
+    }
+
+    /**
+     * Returns the query parameters of the given request URI.
+     */
+    private Map<String,String> getParams( URI uri) throws UnsupportedEncodingException
+    {
+        Map<String,String> params = new HashMap<String,String>();
+        String query = uri.getRawQuery();
+        if( query != null)
+        {
+            for( String param : query.split( "&"))
+            {
+                int eq = param.indexOf( '=');
+                params.put(
+                    URLDecoder.decode( eq < 0 ? param : param.substring( 0, eq), "UTF-8"),
+                    eq < 0 ? "" : URLDecoder.decode( param.substring( eq + 1), "UTF-8"));
+            }
+        }
+
+        return params;
+    }
+
+    /**
+     * Returns the value of the given required query parameter.
+     */
+    private String getParam( Map<String,String> params, String name)
+    {
+        return
+            Optional.ofNullable( params.get( name))
+            .orElseThrow( () -> new IllegalArgumentException( String.format( "Missing parameter=%s", name)));
+    }
+
+    /**
+     * Returns the value of the required "status" query parameter.
+     */
+    private int getStatusParam( Map<String,String> params)
+    {
+        String status = getParam( params, "status");
+        try
+        {
+            return Integer.parseInt( status);
+        }
+        catch( NumberFormatException e)
+        {
+            throw new IllegalArgumentException( String.format( "Invalid status=%s", status), e);
+        }
+    }
+
+    /**
+     * Validates response data using the given request parameters and content.
+     */
+    @FunctionalInterface
+    private interface Validation
+    {
+        public void validate( ResponseValidator validator, Map<String,String> params, InputStream content) throws IOException;
+    }
+
+    /**
+     * The request header that gives the {@link #getToken token} for this server.
+     */
+    public static final String TOKEN_HEADER = "X-Tcases-Validator-Token";
+
+    private final HttpServer server_;
+    private final ExecutorService executor_;
+    private final Map<File,ResponseValidator> validators_ = new ConcurrentHashMap<File,ResponseValidator>();
+    private final CountDownLatch stopped_ = new CountDownLatch( 1);
+    private final File responsesDir_;
+    private final String token_;
+
+    private static final Logger logger_ = LoggerFactory.getLogger( ResponseValidatorServer.class);
+}
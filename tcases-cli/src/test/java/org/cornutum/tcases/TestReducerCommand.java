@@ -10,6 +10,7 @@ package org.cornutum.tcases;
 import org.cornutum.tcases.ReducerCommand.Options;
 import org.cornutum.tcases.generator.*;
 import org.cornutum.tcases.generator.io.*;
+import org.cornutum.tcases.io.SystemInputResources;
 
 import org.apache.commons.io.FilenameUtils;
 import org.junit.Test;
@@ -18,6 +19,8 @@ import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
 import java.io.File;
+import java.util.Optional;
+import java.util.Random;
 
 /**
  * Runs tests for {@link ReducerCommand}.
@@ -794,6 +797,51 @@ public class TestReducerCommand extends CommandTest
     assertThat( "Generator file content type", generatorResources_.readJson( genFile.getName()), is( notNullValue()));
     }
 
+  @Test
+  public void whenThreads() throws Exception
+    {
+    // Given...
+    File inFile = getResourceFile( "find-Input.xml");
+    FunctionInputDef functionInputDef = inputResources_.read( inFile).getFunctionInputDefs().next();
+
+    ReducerOptions sequential = new Options( new String[]{ "-R", "-r", "0.5", "-s", "8", inFile.getPath()}).getReducerOptions();
+    ReducerOptions concurrent = new Options( new String[]{ "-R", "-r", "0.5", "-s", "8", "-j", "4", inFile.getPath()}).getReducerOptions();
+    assertThat( "Threads", concurrent.getThreads(), is( 4));
+
+    int reduced = 0;
+    for( long seed = 0; seed < 4; seed++)
+      {
+      // When...
+      Optional<ITestCaseGenerator> expected = Reducer.reduce( functionInputDef, new TupleGenerator(), null, sequential, new Random( seed));
+      Optional<ITestCaseGenerator> actual = Reducer.reduce( functionInputDef, new TupleGenerator(), null, concurrent, new Random( seed));
+
+      // Then...
+      assertThat(
+        "Reduced seed, random=" + seed,
+        actual.map( ITestCaseGenerator::getRandomSeed),
+        is( expected.map( ITestCaseGenerator::getRandomSeed)));
+
+      reduced += expected.isPresent()? 1 : 0;
+      }
+
+    assertThat( "Reduced", reduced, is( greaterThan( 0)));
+    }
+
+  @Test
+  public void whenThreadsInvalid() throws Exception
+    {
+    // Given...
+    File inFile = getResourceFile( "find-Input.xml");
+    String[] args =
+      {
+        "-j", "0",
+        inFile.getPath()
+      };
+
+    expectFailure( RuntimeException.class)
+      .when( () -> new Options( args));
+    }
+
   /**
    * Returns the TupleGenerator defined for the given function. Returns null if only the default generator
    * applies to this function.
@@ -817,4 +865,5 @@ public class TestReducerCommand extends CommandTest
     }
 
   private GeneratorSetResources generatorResources_ = new GeneratorSetResources( getClass());
+  private SystemInputResources inputResources_ = new SystemInputResources( getClass());
   }
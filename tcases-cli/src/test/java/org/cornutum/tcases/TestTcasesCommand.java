@@ -610,6 +610,81 @@ public class TestTcasesCommand extends CommandTest
     assertThat( "Test def generated", actualTestDef, matches( new SystemTestDefMatcher( expectedTestDef)));
     }
   
+  @Test
+  public void run_whenThreads() throws Exception
+    {
+    // Given...
+    File inFile = getResourceFile( "run-whenThreads-Input.json");
+    File outDir = inFile.getParentFile();
+    File sequentialFile = new File( outDir, "run-whenThreads-Sequential-Test.json");
+    File concurrentFile = new File( outDir, "run-whenThreads-Concurrent-Test.json");
+
+    sequentialFile.delete();
+    concurrentFile.delete();
+
+    // When...
+    TcasesCommand.run( new Options( new String[]{ "-n", "-f", sequentialFile.getName(), inFile.getPath()}));
+    TcasesCommand.run( new Options( new String[]{ "-n", "-j", "3", "-f", concurrentFile.getName(), inFile.getPath()}));
+
+    // Then...
+    assertThat( "Concurrent output", FileUtils.readFileToString( concurrentFile, "UTF-8"), is( FileUtils.readFileToString( sequentialFile, "UTF-8")));
+    assertThat( "Functions generated", testResources_.readJson( concurrentFile).getFunctionTestDefs().hasNext(), is( true));
+    }
+
+  @Test
+  public void run_whenStreaming() throws Exception
+    {
+    // Given...
+    File inFile = getResourceFile( "run-whenThreads-Input.json");
+    File outDir = inFile.getParentFile();
+    File genFile = new File( outDir, "run-whenThreads-Generators.json");
+
+    for( String type : new String[]{ "json", "xml"})
+      {
+      File baseFile = new File( outDir, "run-whenStreaming-Base-Test." + type);
+      File expectedFile = new File( outDir, "run-whenStreaming-Expected-Test." + type);
+      File streamedFile = new File( outDir, "run-whenStreaming-Streamed-Test." + type);
+
+      baseFile.delete();
+      expectedFile.delete();
+      streamedFile.delete();
+
+      // When...
+      TcasesCommand.run( new Options( new String[]{ "-n", "-r", "1", "-f", baseFile.getName(), inFile.getPath()}));
+      TcasesCommand.run( new Options( new String[]{ "-n", "-r", "1", "-S", "-f", streamedFile.getName(), inFile.getPath()}));
+
+      // Then...
+      assertThat( "Streamed " + type + " output", FileUtils.readFileToString( streamedFile, "UTF-8"), is( FileUtils.readFileToString( baseFile, "UTF-8")));
+
+      // When...
+      TcasesCommand.run( new Options( new String[]{ "-r", "2", "-t", baseFile.getName(), "-f", expectedFile.getName(), inFile.getPath()}));
+      TcasesCommand.run( new Options( new String[]{ "-r", "2", "-S", "-t", baseFile.getName(), "-f", streamedFile.getName(), inFile.getPath()}));
+
+      // Then...
+      assertThat( "Streamed extended " + type + " output", FileUtils.readFileToString( streamedFile, "UTF-8"), is( FileUtils.readFileToString( expectedFile, "UTF-8")));
+      }
+
+    // Remove the generator definitions updated by the -r option.
+    genFile.delete();
+    }
+
+  @Test
+  public void run_whenThreadsInvalid() throws Exception
+    {
+    // Given...
+    File inFile = getResourceFile( "run-whenThreads-Input.json");
+
+    String[] args =
+      {
+        "-n",
+        "-j", "0",
+        inFile.getPath()
+      };
+
+    expectFailure( RuntimeException.class)
+      .when( () -> TcasesCommand.run( new Options( args)));
+    }
+
   @Test
   public void run_whenShowEffectiveInput() throws Exception
     {
@@ -0,0 +1,253 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs tests for {@link ResponseValidatorServer}.
+ */
+public class ResponseValidatorServerTest
+  {
+  @Before
+  public void startServer() throws Exception
+    {
+    responsesFile_ = new File( getClass().getResource( "validator-server-responses.json").toURI());
+    server_ = new ResponseValidatorServer( 0, responsesFile_.getParentFile());
+    server_.start();
+    }
+
+  @After
+  public void stopServer()
+    {
+    server_.stop();
+    }
+
+  @Test
+  public void whenBodyValid() throws Exception
+    {
+    // When...
+    Response response = post( "body?contentType=application%2Fjson&" + params( "get", "/users", 200), "{\"id\": 123}");
+
+    // Then...
+    assertThat( "Status", response.status, is( 200));
+    assertThat( "Message", response.message, is( ""));
+    }
+
+  @Test
+  public void whenBodyInvalid() throws Exception
+    {
+    // When...
+    Response response = post( "body?contentType=application%2Fjson&" + params( "get", "/users", 200), "{\"id\": \"X\"}");
+
+    // Then...
+    assertThat( "Status", response.status, is( 422));
+    assertThat( "Message", response.message, containsString( "invalid response"));
+    }
+
+  @Test
+  public void whenHeadersValid() throws Exception
+    {
+    // When...
+    Response response = post( "headers?" + params( "get", "/users", 200), "[{\"x-rate-limit\": \"10\"}]");
+
+    // Then...
+    assertThat( "Status", response.status, is( 200));
+    }
+
+  @Test
+  public void whenHeadersInvalid() throws Exception
+    {
+    // When...
+    Response response = post( "headers?" + params( "get", "/users", 200), "[]");
+
+    // Then...
+    assertThat( "Status", response.status, is( 422));
+    assertThat( "Message", response.message, containsString( "required header not received"));
+    }
+
+  @Test
+  public void whenRequestInvalid() throws Exception
+    {
+    // When...
+    Response response = post( "body?op=get&path=%2Fusers&status=200", "{}");
+
+    // Then...
+    assertThat( "Status", response.status, is( 400));
+    assertThat( "Message", response.message, containsString( "responses"));
+    }
+
+  @Test
+  public void whenTokenMissing() throws Exception
+    {
+    // When...
+    Response response = post( "body?contentType=application%2Fjson&" + params( "get", "/users", 200), "{\"id\": 123}", null);
+
+    // Then...
+    assertThat( "Status", response.status, is( 403));
+    assertThat( "Message", response.message, containsString( ResponseValidatorServer.TOKEN_HEADER));
+    }
+
+  @Test
+  public void whenTokenInvalid() throws Exception
+    {
+    // When...
+    Response response = post( "headers?" + params( "get", "/users", 200), "[{\"x-rate-limit\": \"10\"}]", "X" + server_.getToken());
+
+    // Then...
+    assertThat( "Status", response.status, is( 403));
+    assertThat( "Message", response.message, containsString( ResponseValidatorServer.TOKEN_HEADER));
+    }
+
+  @Test
+  public void whenResponsesOutsideDir() throws Exception
+    {
+    // Given...
+    File otherFile = File.createTempFile( "validator-server-responses-", ".json");
+    otherFile.deleteOnExit();
+    Files.copy( responsesFile_.toPath(), otherFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+    // When...
+    Response response = post( "body?contentType=application%2Fjson&" + params( otherFile, "get", "/users", 200), "{\"id\": 123}");
+
+    // Then...
+    assertThat( "Status", response.status, is( 403));
+    assertThat( "Message", response.message, containsString( "is not in"));
+
+    // When...
+    File responsesDir = responsesFile_.getParentFile();
+    File siblingFile = new File( responsesDir, String.format( "../%s-other/%s", responsesDir.getName(), responsesFile_.getName()));
+    response = post( "body?contentType=application%2Fjson&" + params( siblingFile, "get", "/users", 200), "{\"id\": 123}");
+
+    // Then...
+    assertThat( "Status", response.status, is( 403));
+    }
+
+  @Test
+  public void whenShutdownUnauthorized() throws Exception
+    {
+    // When...
+    Response response = post( "shutdown", "", null);
+
+    // Then...
+    assertThat( "Status", response.status, is( 403));
+
+    // When...
+    response = post( "body?contentType=application%2Fjson&" + params( "get", "/users", 200), "{\"id\": 123}");
+
+    // Then...
+    assertThat( "Still running", response.status, is( 200));
+    }
+
+  @Test
+  public void whenShutdown() throws Exception
+    {
+    // Given...
+    Thread waiter = new Thread( () -> {
+      try
+        {
+        server_.awaitStop();
+        }
+      catch( InterruptedException e)
+        {
+        Thread.currentThread().interrupt();
+        }
+      });
+    waiter.start();
+
+    // When...
+    Response response = post( "shutdown", "");
+
+    // Then...
+    assertThat( "Status", response.status, is( 200));
+    waiter.join( TimeUnit.SECONDS.toMillis( 10));
+    assertThat( "Stopped", waiter.isAlive(), is( false));
+    }
+
+  /**
+   * Returns the query parameters for a validation request.
+   */
+  private String params( String op, String path, int status) throws Exception
+    {
+    return params( responsesFile_, op, path, status);
+    }
+
+  /**
+   * Returns the query parameters for a validation request using the given responses file.
+   */
+  private String params( File responsesFile, String op, String path, int status) throws Exception
+    {
+    return
+      String.format(
+        "responses=%s&op=%s&path=%s&status=%s",
+        URLEncoder.encode( responsesFile.getPath(), "UTF-8"),
+        op,
+        URLEncoder.encode( path, "UTF-8"),
+        status);
+    }
+
+  /**
+   * Sends a POST request to the validator server.
+   */
+  private Response post( String request, String content) throws Exception
+    {
+    return post( request, content, server_.getToken());
+    }
+
+  /**
+   * Sends a POST request to the validator server with the given token.
+   */
+  private Response post( String request, String content, String token) throws Exception
+    {
+    HttpURLConnection connection = (HttpURLConnection) server_.getUri().resolve( URI.create( request)).toURL().openConnection();
+    connection.setRequestMethod( "POST");
+    if( token != null)
+      {
+      connection.setRequestProperty( ResponseValidatorServer.TOKEN_HEADER, token);
+      }
+    connection.setDoOutput( true);
+    try( OutputStream body = connection.getOutputStream())
+      {
+      body.write( content.getBytes( StandardCharsets.UTF_8));
+      }
+
+    Response response = new Response();
+    response.status = connection.getResponseCode();
+    try( InputStream body = response.status < 400 ? connection.getInputStream() : connection.getErrorStream())
+      {
+      response.message = body == null ? "" : IOUtils.toString( body, StandardCharsets.UTF_8);
+      }
+
+    return response;
+    }
+
+  private static class Response
+    {
+    int status;
+    String message;
+    }
+
+  private File responsesFile_;
+  private ResponseValidatorServer server_;
+  }
@@ -25,7 +25,7 @@ public class OpenAPIRequestTestCasesTest extends MyBaseClass {
     @ClassRule
     public static MocoJunitRunner runner = MocoJunitRunner.jsonRestRunner( 12306, file( "/Users/kerrykimbrough/repos/tcases/tcases-cli/target/test-classes/org/cornutum/tcases/openapi/myRestServerConfig.json"));
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void headPost_UserAttributesDefined_Is_Yes() {
@@ -25,7 +25,7 @@ public class MyTestClassTest extends MyBaseClass {
     @ClassRule
     public static MocoJunitRunner runner = MocoJunitRunner.jsonRestRunner( 12306, file( "/Users/kerrykimbrough/repos/tcases/tcases-cli/target/test-classes/org/cornutum/tcases/openapi/myRestServerConfig.json"));
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void getPosts_IdsDefined_Is_Yes() {
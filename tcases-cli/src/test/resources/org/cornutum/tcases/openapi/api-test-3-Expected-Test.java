@@ -19,7 +19,7 @@ import static org.hamcrest.Matchers.*;
 
 public class OpenAPIRequestTestCasesTest extends BaseTest {
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void tracePosts_PostIdDefined_Is_Yes() {
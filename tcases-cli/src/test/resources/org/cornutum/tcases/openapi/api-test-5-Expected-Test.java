@@ -28,7 +28,7 @@ public class MyMocoTest {
     @Rule
     public MocoJunitRunner runner = MocoJunitRunner.jsonHttpsRunner( 9999, pathResource( "myMocoServerConfig"), myCertificate);
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void putPost_PostIdDefined_Is_Yes() {
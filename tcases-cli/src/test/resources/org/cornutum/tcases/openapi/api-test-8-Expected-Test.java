@@ -19,7 +19,7 @@ import static org.hamcrest.Matchers.*;
 
 public class MyTest extends MyBaseClass {
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void patchPost_PostMarksDefined_Is_Yes() {
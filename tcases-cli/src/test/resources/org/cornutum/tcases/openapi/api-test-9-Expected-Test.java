@@ -18,7 +18,7 @@ import static org.hamcrest.Matchers.*;
 
 public class ReadOnlyTest extends MyBaseClass {
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void postObject_Param0Defined_Is_Yes() {
@@ -18,7 +18,7 @@ import static org.hamcrest.Matchers.*;
 
 public class ApiTestServers_2_Test {
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void getServers_IdDefined_Is_Yes() {
@@ -18,7 +18,7 @@ import static org.hamcrest.Matchers.*;
 
 public class ApiTestServers_4_Test {
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void getServersOp_IdDefined_Is_Yes() {
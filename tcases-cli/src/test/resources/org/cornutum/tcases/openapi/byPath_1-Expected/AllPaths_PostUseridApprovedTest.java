@@ -18,7 +18,7 @@ import static org.hamcrest.Matchers.*;
 
 public class AllPaths_PostUseridApprovedTest {
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void deletePostUserIdApproved_UserIdDefined_Is_Yes() {
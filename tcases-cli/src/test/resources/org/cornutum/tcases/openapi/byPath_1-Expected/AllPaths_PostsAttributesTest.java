@@ -18,7 +18,7 @@ import static org.hamcrest.Matchers.*;
 
 public class AllPaths_PostsAttributesTest {
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void tracePostsAttributes_AttributesDefined_Is_Yes() {
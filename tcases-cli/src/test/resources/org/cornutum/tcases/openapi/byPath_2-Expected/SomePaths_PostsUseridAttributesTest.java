@@ -18,7 +18,7 @@ import static org.hamcrest.Matchers.*;
 
 public class SomePaths_PostsUseridAttributesTest {
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void deletePostsUserIdAttributes_UserIdDefined_Is_Yes() {
@@ -18,7 +18,7 @@ import static org.hamcrest.Matchers.*;
 
 public class MySimpleTest_PostTest {
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void headPost_UserAttributesDefined_Is_Yes() {
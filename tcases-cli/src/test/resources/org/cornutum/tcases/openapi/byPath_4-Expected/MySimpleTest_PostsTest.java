@@ -18,7 +18,7 @@ import static org.hamcrest.Matchers.*;
 
 public class MySimpleTest_PostsTest {
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void getPosts_IdsDefined_Is_Yes() {
@@ -18,7 +18,7 @@ import static org.hamcrest.Matchers.*;
 
 public class OpenAPIRequestTestCases_PostsTest {
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void getPosts_IdsDefined_Is_Yes() {
@@ -1722,7 +1722,7 @@ import static org.hamcrest.Matchers.*;
 
 public class OpenAPIRequestTestCases_PostsUseridAttributesTest {
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void deletePostsUserIdAttributes_UserIdDefined_Is_Yes() {
@@ -2052,7 +2052,7 @@ import static org.hamcrest.Matchers.*;
 
 public class OpenAPIRequestTestCases_PostsAttributesTest {
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void tracePostsAttributes_AttributesDefined_Is_Yes() {
@@ -2406,7 +2406,7 @@ import static org.hamcrest.Matchers.*;
 
 public class OpenAPIRequestTestCases_PostTest {
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void headPost_UserAttributesDefined_Is_Yes() {
@@ -3506,7 +3506,7 @@ import static org.hamcrest.Matchers.*;
 
 public class OpenAPIRequestTestCases_PostUseridApprovedTest {
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void deletePostUserIdApproved_UserIdDefined_Is_Yes() {
@@ -3777,7 +3777,7 @@ import static org.hamcrest.Matchers.*;
 
 public class OpenAPIRequestTestCases_UsersTest {
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void getUsers() {
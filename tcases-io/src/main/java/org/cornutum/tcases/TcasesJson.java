@@ -10,6 +10,7 @@ package org.cornutum.tcases;
 import org.cornutum.tcases.generator.*;
 import org.cornutum.tcases.generator.io.*;
 import org.cornutum.tcases.io.*;
+import org.cornutum.tcases.resolve.TestCaseResolverFactory;
 
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -72,6 +73,24 @@ public class TcasesJson
       }
     }
 
+  /**
+   * Generates test case definitions for the given system input definition, using the given generator set, resolvers, and
+   * base test definitions, and writes an {@link SystemTestJsonWriter JSON document} describing them to the given output stream. Each test case is
+   * written as soon as it is complete, so that the complete set of test case definitions is never held in memory.
+   * See {@link Tcases#getTests(SystemInputDef,IGeneratorSet,TestCaseResolverFactory,SystemTestDef,GeneratorOptions,ISystemTestSink)}.
+   */
+  public static void writeTests( SystemInputDef inputDef, IGeneratorSet genDef, TestCaseResolverFactory resolverFactory, SystemTestDef baseDef, GeneratorOptions options, OutputStream outputStream)
+    {
+    try( SystemTestJsonWriter writer = new SystemTestJsonWriter( outputStream))
+      {
+      Tcases.getTests( inputDef, genDef, resolverFactory, baseDef, options, writer);
+      }
+    catch( Exception e)
+      {
+      throw new RuntimeException( "Can't write test definitions", e);
+      }
+    }
+
   /**
    * Writes a JSON document describing the given generator definitions to the given output stream.
    */
@@ -247,7 +247,23 @@ public class GeneratorSetDocReader extends DefaultHandler implements IGeneratorS
     @Override
     public void startElement( String uri, String localName, String qName, Attributes attributes) throws SAXException
       {
-      TupleGenerator tupleGenerator = new TupleGenerator();
+      String algorithm = getAttribute( attributes, ALGORITHM_ATR);
+      TupleGenerator tupleGenerator;
+      if( algorithm == null || algorithm.equals( TUPLES_ALGORITHM))
+        {
+        tupleGenerator = new TupleGenerator();
+        }
+      else if( algorithm.equals( IPOG_ALGORITHM))
+        {
+        tupleGenerator = new CoveringArrayGenerator();
+        }
+      else
+        {
+        throw
+          new SAXParseException
+          ( "Invalid \"" + ALGORITHM_ATR + "\" attribute: \"" + algorithm + "\" is not a known algorithm",
+            getDocumentLocator()); 
+        }
       setTupleGenerator( tupleGenerator);
       tupleGenerator.setRandomSeed( getLongAttribute( attributes, SEED_ATR));
 
@@ -307,7 +323,7 @@ public class GeneratorSetDocReader extends DefaultHandler implements IGeneratorS
     @Override
     protected Set<String> addAttributes( Set<String> attributes)
       {
-      return addAttributeList( super.addAttributes( attributes), SEED_ATR, TUPLES_ATR, FUNCTION_ATR);
+      return addAttributeList( super.addAttributes( attributes), ALGORITHM_ATR, SEED_ATR, TUPLES_ATR, FUNCTION_ATR);
       }
 
     private TupleGenerator tupleGenerator_;
@@ -81,12 +81,12 @@ public class GeneratorSetDocWriter implements Closeable
    */
   protected void writeGenerator( String function, ITestCaseGenerator generator)
     {
-    if( !generator.getClass().equals( TupleGenerator.class))
+    if( !(generator.getClass().equals( TupleGenerator.class) || generator.getClass().equals( CoveringArrayGenerator.class)))
       {
       throw
         new UnsupportedOperationException
         ( "Can't write generator=" + generator
-          + ": only TupleGenerator currently supported");
+          + ": only TupleGenerator and CoveringArrayGenerator currently supported");
       }
 
     writeTupleGenerator( function, (TupleGenerator) generator);
@@ -102,6 +102,7 @@ public class GeneratorSetDocWriter implements Closeable
     writer_
       .element( TUPLEGENERATOR_TAG)
       .attribute( FUNCTION_ATR, function)
+      .attributeIf( generator instanceof CoveringArrayGenerator, ALGORITHM_ATR, IPOG_ALGORITHM)
       .attributeIf( seed != null, SEED_ATR, String.valueOf( seed))
       .attribute( TUPLES_ATR, String.valueOf( generator.getDefaultTupleSize()))
       .contentIf(
@@ -63,7 +63,20 @@ public final class GeneratorSetJson
    */
   private static TupleGenerator asGenerator( JsonObject json)
     {
-    TupleGenerator tupleGenerator = new TupleGenerator();
+    String algorithm = json.getString( ALGORITHM_KEY, TUPLES_ALGORITHM);
+    TupleGenerator tupleGenerator;
+    if( algorithm.equals( TUPLES_ALGORITHM))
+      {
+      tupleGenerator = new TupleGenerator();
+      }
+    else if( algorithm.equals( IPOG_ALGORITHM))
+      {
+      tupleGenerator = new CoveringArrayGenerator();
+      }
+    else
+      {
+      throw new GeneratorSetException( String.format( "Unknown algorithm=%s", algorithm));
+      }
 
     Optional.ofNullable( json.getJsonNumber( TUPLES_KEY))
       .ifPresent( n -> tupleGenerator.setDefaultTupleSize( n.intValue()));
@@ -238,9 +251,13 @@ public final class GeneratorSetJson
     {
     JsonObjectBuilder builder = Json.createObjectBuilder();
 
-    if( generator.getClass().equals( TupleGenerator.class))
+    if( generator.getClass().equals( TupleGenerator.class) || generator.getClass().equals( CoveringArrayGenerator.class))
       {
       TupleGenerator tupleGenerator = (TupleGenerator) generator;
+      if( tupleGenerator instanceof CoveringArrayGenerator)
+        {
+        builder.add( ALGORITHM_KEY, IPOG_ALGORITHM);
+        }
       builder.add( TUPLES_KEY, tupleGenerator.getDefaultTupleSize());
       Optional.ofNullable( tupleGenerator.getRandomSeed()).ifPresent( seed -> builder.add( SEED_KEY, seed));
       
@@ -304,10 +321,14 @@ public final class GeneratorSetJson
     return builder.build();
     }
   
+  private static final String ALGORITHM_KEY = "algorithm";
   private static final String COMBINERS_KEY = "combiners";
   private static final String EXCLUDE_KEY = "exclude";
   private static final String INCLUDE_KEY = "include";
   private static final String ONCE_KEY = "once";
   private static final String SEED_KEY = "seed";
   private static final String TUPLES_KEY = "tuples";
+
+  private static final String IPOG_ALGORITHM = "ipog";
+  private static final String TUPLES_ALGORITHM = "tuples";
   }
@@ -8,11 +8,9 @@
 package org.cornutum.tcases.generator.io;
 
 import org.cornutum.tcases.generator.IGeneratorSet;
+import org.cornutum.tcases.io.JsonSchemas;
 
 import org.apache.commons.io.IOUtils;
-import org.leadpony.justify.api.JsonSchema;
-import org.leadpony.justify.api.JsonValidationService;
-import org.leadpony.justify.api.ProblemHandler;
 
 import java.io.Closeable;
 import java.io.InputStream;
@@ -47,10 +45,7 @@ public class GeneratorSetJsonReader implements IGeneratorSetSource, Closeable
   @Override
   public IGeneratorSet getGeneratorSet()
     {
-    JsonValidationService service = JsonValidationService.newInstance();
-    JsonSchema schema = service.readSchema( getClass().getResourceAsStream( "/schema/generators-schema.json"));
-    ProblemHandler handler = ProblemHandler.throwing();
-    try( JsonReader reader = service.createReader( stream_, schema, handler))
+    try( JsonReader reader = JsonSchemas.createReader( stream_, "generators-schema.json", isValidated()))
       {
       JsonObject json;
       try
@@ -66,6 +61,23 @@ public class GeneratorSetJsonReader implements IGeneratorSetSource, Closeable
       }
     }
 
+  /**
+   * Changes if the generator set definition read is validated using the JSON schema. Validation is enabled by default. Skip
+   * validation only for trusted documents, for example, those produced by Tcases itself.
+   */
+  public void setValidated( boolean validated)
+    {
+    validated_ = validated;
+    }
+
+  /**
+   * Returns if the generator set definition read is validated using the JSON schema.
+   */
+  public boolean isValidated()
+    {
+    return validated_;
+    }
+
   /**
    * Changes the input stream for this reader.
    */
@@ -92,4 +104,5 @@ public class GeneratorSetJsonReader implements IGeneratorSetSource, Closeable
     }
 
   private InputStream stream_;
+  private boolean validated_ = true;
   }
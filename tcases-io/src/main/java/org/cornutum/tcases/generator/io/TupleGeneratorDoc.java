@@ -26,10 +26,14 @@ public final class TupleGeneratorDoc
   public static final String TUPLEGENERATOR_TAG  = "TupleGenerator";
   public static final String VAR_TAG             = "Var";
 
+  public static final String ALGORITHM_ATR       = "algorithm";
   public static final String FUNCTION_ATR        = "function";
   public static final String NAME_ATR            = "name";
   public static final String SEED_ATR            = "seed";
   public static final String TUPLES_ATR          = "tuples";
   public static final String VALUE_ATR           = "value";
   public static final String VAR_ATR             = "var";
+
+  public static final String IPOG_ALGORITHM      = "ipog";
+  public static final String TUPLES_ALGORITHM    = "tuples";
   }
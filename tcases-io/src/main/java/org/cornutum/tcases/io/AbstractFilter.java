@@ -7,10 +7,14 @@
 
 package org.cornutum.tcases.io;
 
+import org.cornutum.tcases.SystemTestDef;
+
 import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
  
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FilterOutputStream;
@@ -19,10 +23,15 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Transforms data written to a {@link #getSource source}
  * stream into results written to a {@link #getTarget target}.
+ * <P/>
+ * Alternatively, a {@link SystemTestDef} can be {@link #write(SystemTestDef) written} directly to the filter.
+ * The results are the same, but the filter is applied by the calling thread, without any piped source stream.
  *
  */
 public abstract class AbstractFilter implements Runnable
@@ -115,6 +124,61 @@ public abstract class AbstractFilter implements Runnable
       }
     }
 
+  /**
+   * Writes the result of transforming the given system test definition to the {@link #getTarget target}, using the
+   * current thread. When complete, the target is closed.
+   */
+  public void write( SystemTestDef testDef)
+    {
+    try
+      {
+      applyFilter( testDef);
+      }
+    catch( Exception e)
+      {
+      throw new RuntimeException( "Can't write filter output", e);
+      }
+    finally
+      {
+      IOUtils.closeQuietly( target_, null);
+      target_ = null;
+      }
+    }
+
+  /**
+   * Writes the result of transforming the given system test definition to the {@link #getTarget target}, using the
+   * given executor. When complete, the target is closed.
+   */
+  public CompletableFuture<Void> write( SystemTestDef testDef, Executor executor)
+    {
+    return CompletableFuture.runAsync( () -> write( testDef), executor);
+    }
+
+  /**
+   * Writes the result of transforming the given system test definition to the {@link #getFilterOutput filter output stream}.
+   * By default, applies this filter to the XML document for the given system test definition, read from an
+   * in-memory buffer.
+   */
+  protected void applyFilter( SystemTestDef testDef) throws Exception
+    {
+    ByteArrayOutputStream testDefDoc = new ByteArrayOutputStream();
+    try( SystemTestDocWriter writer = new SystemTestDocWriter( testDefDoc))
+      {
+      writer.write( testDef);
+      }
+
+    filterInput_ = new ByteArrayInputStream( testDefDoc.toByteArray());
+    try
+      {
+      initializeFilter( getFilterInput(), getFilterOutput());
+      applyFilter();
+      }
+    finally
+      {
+      filterInput_ = null;
+      }
+    }
+
   /**
    * Initializes the filter.
    */
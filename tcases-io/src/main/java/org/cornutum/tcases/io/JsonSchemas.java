@@ -0,0 +1,108 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.io;
+
+import org.leadpony.justify.api.JsonSchema;
+import org.leadpony.justify.api.JsonSchemaReader;
+import org.leadpony.justify.api.JsonSchemaResolver;
+import org.leadpony.justify.api.JsonValidationService;
+import org.leadpony.justify.api.ProblemHandler;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.json.Json;
+import javax.json.JsonReader;
+
+/**
+ * Provides the JSON schemas used to validate Tcases documents. Each schema resource is read only once
+ * and the resulting {@link JsonSchema} is shared by all readers, in all threads.
+ */
+public final class JsonSchemas
+  {
+  private JsonSchemas()
+    {
+    // Static methods only
+    }
+
+  /**
+   * Returns the shared JSON validation service.
+   */
+  public static JsonValidationService getValidationService()
+    {
+    return ServiceHolder.service_;
+    }
+
+  /**
+   * Returns the schema defined by the given resource in the <CODE>/schema</CODE> resource directory.
+   * Any references to other schema resources are resolved using the same shared schemas.
+   */
+  public static JsonSchema getSchema( String resourceName)
+    {
+    // Note: Reading a schema may resolve references to other schemas, so computeIfAbsent() can't be used here.
+    JsonSchema schema = schemas_.get( resourceName);
+    if( schema == null)
+      {
+      schema = readSchema( resourceName);
+      JsonSchema previous = schemas_.putIfAbsent( resourceName, schema);
+      if( previous != null)
+        {
+        schema = previous;
+        }
+      }
+
+    return schema;
+    }
+
+  /**
+   * Returns a reader for a JSON document from the given stream. If <CODE>validated</CODE> is true, the document is validated
+   * using the schema defined by the given resource and any schema violation causes the reader to throw an exception.
+   * Otherwise, the document is read without validation.
+   */
+  public static JsonReader createReader( InputStream stream, String resourceName, boolean validated)
+    {
+    return
+      validated
+      ? getValidationService().createReader( stream, getSchema( resourceName), ProblemHandler.throwing())
+      : Json.createReader( stream);
+    }
+
+  /**
+   * Reads the schema defined by the given resource.
+   */
+  private static JsonSchema readSchema( String resourceName)
+    {
+    InputStream schemaStream = JsonSchemas.class.getResourceAsStream( "/schema/" + resourceName);
+    if( schemaStream == null)
+      {
+      throw new IllegalArgumentException( "Can't find schema resource=" + resourceName);
+      }
+
+    try( JsonSchemaReader reader =
+           getValidationService()
+           .createSchemaReaderFactoryBuilder()
+           .withSchemaResolver( schemaResolver_)
+           .build()
+           .createSchemaReader( schemaStream))
+      {
+      return reader.read();
+      }
+    }
+
+  /**
+   * Creates the shared JSON validation service when first used.
+   */
+  private static class ServiceHolder
+    {
+    private static final JsonValidationService service_ = JsonValidationService.newInstance();
+    }
+
+  private static final Map<String,JsonSchema> schemas_ = new ConcurrentHashMap<String,JsonSchema>();
+  private static final JsonSchemaResolver schemaResolver_ = id -> getSchema( new File( id.getPath()).getName());
+  }
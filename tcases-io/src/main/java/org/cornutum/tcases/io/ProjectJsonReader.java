@@ -8,16 +8,10 @@
 package org.cornutum.tcases.io;
 
 import org.apache.commons.io.IOUtils;
-import org.leadpony.justify.api.JsonSchema;
-import org.leadpony.justify.api.JsonSchemaResolver;
-import org.leadpony.justify.api.JsonValidationService;
-import org.leadpony.justify.api.ProblemHandler;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
-import java.io.File;
 import java.io.InputStream;
-import java.net.URI;
 import javax.json.JsonObject;
 import javax.json.JsonReader;
 
@@ -49,15 +43,7 @@ public class ProjectJsonReader implements Closeable
    */
   public Project getProject()
     {
-    JsonValidationService service = JsonValidationService.newInstance();
-    
-    JsonSchema schema = 
-      service.createSchemaReaderFactoryBuilder().withSchemaResolver( new SchemaResourceResolver( service)).build()
-      .createSchemaReader( openSchemaResource( "project-schema.json"))
-      .read();
-    
-    ProblemHandler handler = ProblemHandler.throwing();
-    try( JsonReader reader = service.createReader( stream_, schema, handler))
+    try( JsonReader reader = JsonSchemas.createReader( stream_, "project-schema.json", isValidated()))
       {
       JsonObject json;
       try
@@ -73,6 +59,23 @@ public class ProjectJsonReader implements Closeable
       }
     }
 
+  /**
+   * Changes if the project definition read is validated using the JSON schema. Validation is enabled by default. Skip
+   * validation only for trusted documents, for example, those produced by Tcases itself.
+   */
+  public void setValidated( boolean validated)
+    {
+    validated_ = validated;
+    }
+
+  /**
+   * Returns if the project definition read is validated using the JSON schema.
+   */
+  public boolean isValidated()
+    {
+    return validated_;
+    }
+
   /**
    * Changes the input stream for this reader.
    */
@@ -98,36 +101,7 @@ public class ProjectJsonReader implements Closeable
     IOUtils.closeQuietly( getInputStream(), null);
     }
 
-  /**
-   * Returns an InputStream to read the given schema resource.
-   */
-  private static InputStream openSchemaResource( String resourceName)
-    {
-    return ProjectJsonReader.class.getResourceAsStream( "/schema/" + resourceName);
-    }
-
   private final ProjectJson converter_;
   private InputStream stream_;
-
-  /**
-   * Resolves references to schema resources.
-   */
-  private static class SchemaResourceResolver implements JsonSchemaResolver
-    {
-    /**
-     * Creates a new SchemaResourceResolver instance.
-     */
-    public SchemaResourceResolver( JsonValidationService service)
-      {
-      service_ = service;
-      }
-
-    @Override
-    public JsonSchema resolveSchema( URI id)
-      {
-      return service_.readSchema( openSchemaResource( new File( id.getPath()).getName()));
-      }
-    
-    private final JsonValidationService service_;
-    }
+  private boolean validated_ = true;
   }
@@ -11,9 +11,6 @@ import org.cornutum.tcases.SystemInputDef;
 import org.cornutum.tcases.util.ContextHandler;
 
 import org.apache.commons.io.IOUtils;
-import org.leadpony.justify.api.JsonSchema;
-import org.leadpony.justify.api.JsonValidationService;
-import org.leadpony.justify.api.ProblemHandler;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
@@ -50,10 +47,7 @@ public class SystemInputJsonReader extends ContextHandler<SystemInputContext> im
   @Override
   public SystemInputDef getSystemInputDef()
     {
-    JsonValidationService service = JsonValidationService.newInstance();
-    JsonSchema schema = service.readSchema( getClass().getResourceAsStream( "/schema/system-input-schema.json"));
-    ProblemHandler handler = ProblemHandler.throwing();
-    try( JsonReader reader = service.createReader( stream_, schema, handler))
+    try( JsonReader reader = JsonSchemas.createReader( stream_, "system-input-schema.json", isValidated()))
       {
       JsonObject json;
       try
@@ -77,6 +71,23 @@ public class SystemInputJsonReader extends ContextHandler<SystemInputContext> im
     return converter_;
     }
 
+  /**
+   * Changes if the system input definition read is validated using the JSON schema. Validation is enabled by default. Skip
+   * validation only for trusted documents, for example, those produced by Tcases itself.
+   */
+  public void setValidated( boolean validated)
+    {
+    validated_ = validated;
+    }
+
+  /**
+   * Returns if the system input definition read is validated using the JSON schema.
+   */
+  public boolean isValidated()
+    {
+    return validated_;
+    }
+
   /**
    * Changes the input stream for this reader.
    */
@@ -104,4 +115,5 @@ public class SystemInputJsonReader extends ContextHandler<SystemInputContext> im
 
   private final SystemInputJson converter_;
   private InputStream stream_;
+  private boolean validated_ = true;
   }
@@ -18,10 +18,11 @@ import java.util.Arrays;
 import java.util.Optional;
 
 /**
- * Writes a {@link SystemTestDef} in the form of an XML document.
+ * Writes a {@link SystemTestDef} in the form of an XML document. As an {@link ISystemTestSink}, writes
+ * each part of the document as soon as it is received, producing the same document as {@link #write write()}.
  *
  */
-public class SystemTestDocWriter extends AbstractSystemTestWriter
+public class SystemTestDocWriter extends AbstractSystemTestWriter implements ISystemTestSink
   {
   /**
    * Creates a new SystemTestDocWriter object that writes to standard output.
@@ -66,6 +67,68 @@ public class SystemTestDocWriter extends AbstractSystemTestWriter
       .write();
     }
 
+  /**
+   * Starts writing the given system test definition, which supplies the system name and annotations.
+   */
+  @Override
+  public void startSystem( SystemTestDef systemTest)
+    {
+    xmlWriter_.writeDeclaration();
+
+    systemElement_ = 
+      xmlWriter_
+      .element( TESTCASES_TAG)
+      .attribute( SYSTEM_ATR, systemTest.getName());
+
+    systemElement_.writeStart();
+    writeAnnotations( systemTest);
+    }
+
+  /**
+   * Starts writing the given function test definition, which supplies the function name and annotations.
+   */
+  @Override
+  public void startFunction( FunctionTestDef function)
+    {
+    functionElement_ =
+      xmlWriter_
+      .element( FUNCTION_TAG)
+      .attribute( NAME_ATR, function.getName());
+
+    functionElement_.writeStart();
+    writeAnnotations( function);
+    }
+
+  /**
+   * Writes the given test case definition for the current function.
+   */
+  @Override
+  public void addTestCase( TestCase testCase)
+    {
+    writeTestCase( testCase);
+    }
+
+  /**
+   * Finishes writing the current function test definition.
+   */
+  @Override
+  public void endFunction()
+    {
+    functionElement_.writeEnd();
+    functionElement_ = null;
+    }
+
+  /**
+   * Finishes writing the current system test definition.
+   */
+  @Override
+  public void endSystem()
+    {
+    systemElement_.writeEnd();
+    systemElement_ = null;
+    flush();
+    }
+
   /**
    * Writes the given function test definition.
    */
@@ -194,4 +257,6 @@ public class SystemTestDocWriter extends AbstractSystemTestWriter
     }
 
   private XmlWriter xmlWriter_;
+  private XmlWriter.ElementWriter systemElement_;
+  private XmlWriter.ElementWriter functionElement_;
   }
@@ -298,7 +298,7 @@ public final class SystemTestJson
   /**
    * Returns the JSON object that represents the given test case.
    */
-  private static JsonStructure toJson( TestCase testCase)
+  static JsonStructure toJson( TestCase testCase)
     {
     JsonObjectBuilder builder = Json.createObjectBuilder();
 
@@ -411,10 +411,7 @@ public final class SystemTestJson
    */
   private static JsonObjectBuilder addAnnotations( JsonObjectBuilder builder, IAnnotated annotated)
     {
-    JsonObjectBuilder annotations = Json.createObjectBuilder();
-    toStream( annotated.getAnnotations()).forEach( name -> annotations.add( name, annotated.getAnnotation( name)));
-    JsonObject json = annotations.build();
-
+    JsonObject json = getAnnotations( annotated);
     if( !json.isEmpty())
       {
       builder.add( HAS_KEY, json);
@@ -423,13 +420,23 @@ public final class SystemTestJson
     return builder;
     }
 
+  /**
+   * Returns the JSON object that represents the annotations of the given Annotated object.
+   */
+  static JsonObject getAnnotations( IAnnotated annotated)
+    {
+    JsonObjectBuilder annotations = Json.createObjectBuilder();
+    toStream( annotated.getAnnotations()).forEach( name -> annotations.add( name, annotated.getAnnotation( name)));
+    return annotations.build();
+    }
+
   private static final String FAILURE_KEY = "failure";
-  private static final String HAS_KEY = "has";
+  static final String HAS_KEY = "has";
   private static final String ID_KEY = "id";
   private static final String NAME_KEY = "name";
   private static final String NA_KEY = "NA";
   private static final String SOURCE_KEY = "source";
-  private static final String SYSTEM_KEY = "system";
-  private static final String TEST_CASES_KEY = "testCases";
+  static final String SYSTEM_KEY = "system";
+  static final String TEST_CASES_KEY = "testCases";
   private static final String VALUE_KEY = "value";
 }
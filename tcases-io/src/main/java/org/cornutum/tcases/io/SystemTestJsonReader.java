@@ -10,9 +10,6 @@ package org.cornutum.tcases.io;
 import org.cornutum.tcases.SystemTestDef;
 
 import org.apache.commons.io.IOUtils;
-import org.leadpony.justify.api.JsonSchema;
-import org.leadpony.justify.api.JsonValidationService;
-import org.leadpony.justify.api.ProblemHandler;
 
 import java.io.Closeable;
 import java.io.InputStream;
@@ -47,10 +44,7 @@ public class SystemTestJsonReader implements ISystemTestSource, Closeable
   @Override
   public SystemTestDef getSystemTestDef()
     {
-    JsonValidationService service = JsonValidationService.newInstance();
-    JsonSchema schema = service.readSchema( getClass().getResourceAsStream( "/schema/system-test-schema.json"));
-    ProblemHandler handler = ProblemHandler.throwing();
-    try( JsonReader reader = service.createReader( stream_, schema, handler))
+    try( JsonReader reader = JsonSchemas.createReader( stream_, "system-test-schema.json", isValidated()))
       {
       JsonObject json;
       try
@@ -66,6 +60,23 @@ public class SystemTestJsonReader implements ISystemTestSource, Closeable
       }
     }
 
+  /**
+   * Changes if the system test definition read is validated using the JSON schema. Validation is enabled by default. Skip
+   * validation only for trusted documents, for example, those produced by Tcases itself.
+   */
+  public void setValidated( boolean validated)
+    {
+    validated_ = validated;
+    }
+
+  /**
+   * Returns if the system test definition read is validated using the JSON schema.
+   */
+  public boolean isValidated()
+    {
+    return validated_;
+    }
+
   /**
    * Changes the input stream for this reader.
    */
@@ -92,4 +103,5 @@ public class SystemTestJsonReader implements ISystemTestSource, Closeable
     }
 
   private InputStream stream_;
+  private boolean validated_ = true;
   }
@@ -7,7 +7,11 @@
 
 package org.cornutum.tcases.io;
 
+import org.cornutum.tcases.FunctionTestDef;
+import org.cornutum.tcases.IAnnotated;
+import org.cornutum.tcases.ISystemTestSink;
 import org.cornutum.tcases.SystemTestDef;
+import org.cornutum.tcases.TestCase;
 import org.cornutum.tcases.util.MapBuilder;
 
 import org.apache.commons.io.IOUtils;
@@ -18,15 +22,18 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import javax.json.Json;
+import javax.json.JsonObject;
 import javax.json.JsonWriter;
 import javax.json.JsonWriterFactory;
+import javax.json.stream.JsonGenerator;
 import static javax.json.stream.JsonGenerator.PRETTY_PRINTING;
 
 /**
- * Writes a {@link SystemTestDef} in the form of a JSON document.
+ * Writes a {@link SystemTestDef} in the form of a JSON document. As an {@link ISystemTestSink}, writes
+ * each part of the document as soon as it is received, producing the same document as {@link #write write()}.
  *
  */
-public class SystemTestJsonWriter implements Closeable
+public class SystemTestJsonWriter implements Closeable, ISystemTestSink
   {
   /**
    * Creates a new SystemTestJsonWriter object that writes to standard output.
@@ -63,6 +70,79 @@ public class SystemTestJsonWriter implements Closeable
     jsonWriter.write( SystemTestJson.toJson( systemTest));
     }
 
+  /**
+   * Starts writing the given system test definition, which supplies the system name and annotations.
+   */
+  @Override
+  public void startSystem( SystemTestDef systemTest)
+    {
+    jsonGenerator_ =
+      Json.createGeneratorFactory( MapBuilder.of( PRETTY_PRINTING, true).build())
+      .createGenerator( getWriter());
+
+    jsonGenerator_
+      .writeStartObject()
+      .write( SystemTestJson.SYSTEM_KEY, systemTest.getName());
+
+    writeAnnotations( systemTest);
+    }
+
+  /**
+   * Starts writing the given function test definition, which supplies the function name and annotations.
+   */
+  @Override
+  public void startFunction( FunctionTestDef functionTest)
+    {
+    jsonGenerator_.writeStartObject( functionTest.getName());
+    writeAnnotations( functionTest);
+    jsonGenerator_.writeStartArray( SystemTestJson.TEST_CASES_KEY);
+    }
+
+  /**
+   * Writes the given test case definition for the current function.
+   */
+  @Override
+  public void addTestCase( TestCase testCase)
+    {
+    jsonGenerator_.write( SystemTestJson.toJson( testCase));
+    }
+
+  /**
+   * Finishes writing the current function test definition.
+   */
+  @Override
+  public void endFunction()
+    {
+    jsonGenerator_
+      .writeEnd()
+      .writeEnd();
+    }
+
+  /**
+   * Finishes writing the current system test definition.
+   */
+  @Override
+  public void endSystem()
+    {
+    jsonGenerator_
+      .writeEnd()
+      .flush();
+
+    jsonGenerator_ = null;
+    }
+
+  /**
+   * Writes any annotations from the given Annotated object.
+   */
+  private void writeAnnotations( IAnnotated annotated)
+    {
+    JsonObject annotations = SystemTestJson.getAnnotations( annotated);
+    if( !annotations.isEmpty())
+      {
+      jsonGenerator_.write( SystemTestJson.HAS_KEY, annotations);
+      }
+    }
+
   /**
    * Flushes the writer.
    */
@@ -124,4 +204,5 @@ public class SystemTestJsonWriter implements Closeable
     }
 
   private Writer writer_;  
+  private JsonGenerator jsonGenerator_;
   }
@@ -7,6 +7,7 @@
 
 package org.cornutum.tcases.io;
 
+import org.cornutum.tcases.SystemTestDef;
 import org.cornutum.tcases.util.ToString;
 
 import java.net.URI;
@@ -111,6 +112,17 @@ public class TestDefToHtmlFilter extends AbstractFilter
     htmlWriter.flush();
     }
 
+  /**
+   * Writes the HTML report for the given system test definition to the {@link #getFilterOutput filter output stream}.
+   */
+  @Override
+  protected void applyFilter( SystemTestDef testDef) throws Exception
+    {
+    SystemTestHtmlWriter htmlWriter = new SystemTestHtmlWriter( getFilterOutput());
+    htmlWriter.write( testDef, isDefaultStyle(), getStylesheet(), getScript());
+    htmlWriter.flush();
+    }
+
   @Override
   public String toString()
     {
@@ -7,8 +7,10 @@
 
 package org.cornutum.tcases.io;
 
-import java.io.InputStream;
+import java.net.URL;
 import java.util.Map;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
 
 /**
  * A {@link TransformFilter} that transforms a system test definition document
@@ -34,17 +36,17 @@ public class TestDefToJUnitFilter extends TransformFilter
     }
 
   /**
-   * Returns the XSLT source stream for this filter.
+   * Returns the XSLT source for this filter.
    */
-  private static InputStream getTransformDef()
+  private static Source getTransformDef()
     {
     String resource = "/testDef2Junit.xsl";
-    InputStream resourceStream = TestDefToJUnitFilter.class.getResourceAsStream( resource);
-    if( resourceStream == null)
+    URL resourceUrl = TestDefToJUnitFilter.class.getResource( resource);
+    if( resourceUrl == null)
       {
       throw new RuntimeException( "Can't locate resource=" + resource);
       }
     
-    return resourceStream;
+    return new StreamSource( resourceUrl.toExternalForm());
     }
   }
@@ -15,10 +15,14 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.URI;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.xml.transform.ErrorListener;
 import javax.xml.transform.Result;
 import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
@@ -136,10 +140,7 @@ public class TransformFilter extends AbstractFilter implements ErrorListener
         {
         throw new IllegalStateException( "No XSLT transform specified");
         }
-      TransformerFactory factory = TransformerFactory.newInstance();
-      factory.setErrorListener( this);
-      
-      transformer_ = factory.newTransformer( transform);
+      transformer_ = getTemplates( transform).newTransformer();
       transformer_.setErrorListener( this);
       if( transformParams_ != null)
         {
@@ -168,6 +169,52 @@ public class TransformFilter extends AbstractFilter implements ErrorListener
     transformer_.transform( transformSource_, transformResult_);
     }
 
+  /**
+   * Returns the compiled form of the given XSLT transform. If the transform is identified by a system id, the compiled
+   * form is shared by all filters. For a file, the compiled form is replaced whenever the file is modified.
+   */
+  private Templates getTemplates( Source transform) throws TransformerException
+    {
+    String key =
+      Optional.ofNullable( transform.getSystemId())
+      .map( systemId -> systemId + "@" + getLastModified( systemId))
+      .orElse( null);
+
+    Templates templates = key == null? null : templates_.get( key);
+    if( templates == null)
+      {
+      TransformerFactory factory = TransformerFactory.newInstance();
+      factory.setErrorListener( this);
+      templates = factory.newTemplates( transform);
+
+      if( key != null)
+        {
+        templates_.put( key, templates);
+        }
+      }
+
+    return templates;
+    }
+
+  /**
+   * If the given system id identifies a file, returns the time the file was last modified. Otherwise, returns 0.
+   */
+  private static long getLastModified( String systemId)
+    {
+    try
+      {
+      URI uri = new URI( systemId);
+      return
+        "file".equals( uri.getScheme())
+        ? new File( uri).lastModified()
+        : 0;
+      }
+    catch( Exception e)
+      {
+      return 0;
+      }
+    }
+
   @Override
   public void error( TransformerException exception) throws TransformerException
     {
@@ -203,5 +250,6 @@ public class TransformFilter extends AbstractFilter implements ErrorListener
   private Transformer transformer_;
   private Map<String,Object> transformParams_;
 
+  private static final Map<String,Templates> templates_ = new ConcurrentHashMap<String,Templates>();
   private static final Logger logger_ = LoggerFactory.getLogger( TransformFilter.class);
   }
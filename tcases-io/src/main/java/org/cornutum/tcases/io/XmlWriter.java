@@ -219,6 +219,20 @@ public class XmlWriter extends IndentedWriter
         }
       }
     
+    public void writeStart()
+      {
+      writeTagStart( tag_);
+      attributes_.forEach( (k,v) -> writeAttribute( k, v));
+      writeTagEnd();
+      indent();
+      }
+
+    public void writeEnd()
+      {
+      unindent();
+      writeElementEnd( tag_);
+      }
+    
     private String tag_;
     private Map<String,String> attributes_;
     private String content_;
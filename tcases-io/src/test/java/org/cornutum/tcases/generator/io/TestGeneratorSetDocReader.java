@@ -545,6 +545,32 @@ public class TestGeneratorSetDocReader
     assertException( "generator-set-once-size.xml", 8, "Once-only tuple=TupleRef[{}] has size=0, expected size=3");
     }
 
+  @Test
+  public void testCoveringArray()
+    {
+    // Given...
+    GeneratorSet expected =
+      new GeneratorSetBuilder()
+      .generator(
+        ALL,
+        TupleGeneratorBuilder.with( new CoveringArrayGenerator())
+        .tuples( 3)
+        .combiners(
+          new TupleCombinerBuilder()
+          .tuples( 2)
+          .include( "A.**")
+          .exclude( "A.B")
+          .build())
+        .build())
+      .build();
+
+    // When...
+    IGeneratorSet generatorSet = generatorSetResources_.read( "generator-set-ipog.xml");
+
+    // Then...
+    assertThat( "generator-set-ipog.xml", generatorSet, is( expected));
+    }
+
   /**
    * Reports a failure if reading the given resource does <U>not</U> cause the expected exception at the expected location.
    */
@@ -56,6 +56,12 @@ public class TestGeneratorSetDocWriter
     {
     testWriteResource( "generator-set-once.xml");
     }
+
+  @Test
+  public void testWrite_6()
+    {
+    testWriteResource( "generator-set-ipog.xml");
+    }
   
   public void testWriteResource( String generatorSetResource)
     {
@@ -67,6 +67,12 @@ public class TestGeneratorSetJson
     testGeneratorSetResource( "generator-set-once.xml");
     }
 
+  @Test
+  public void testGeneratorSet_6()
+    {
+    testGeneratorSetResource( "generator-set-ipog.xml");
+    }
+
   @Test
   public void testGeneratorSet_Combiner_Bindings_Missing()
     {
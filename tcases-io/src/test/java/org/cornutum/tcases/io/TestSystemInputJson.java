@@ -122,6 +122,25 @@ public class TestSystemInputJson extends SystemInputJsonTest
     assertThat( "Comparing " + jsonInputResource + " and " + xmlInputResource, systemInputAfter, matches( new SystemInputDefMatcher( systemInputXml)));
     }
 
+  @Test
+  public void testSystemInput_NotValidated()
+    {
+    // Given...
+    String jsonInputResource = "find-Input.json";
+    SystemInputDef systemInputValidated = systemInputResources_.readJson( jsonInputResource);
+
+    // When...
+    SystemInputDef systemInputNotValidated;
+    try( SystemInputJsonReader reader = new SystemInputJsonReader( getClass().getResourceAsStream( jsonInputResource)))
+      {
+      reader.setValidated( false);
+      systemInputNotValidated = reader.getSystemInputDef();
+      }    
+
+    // Then...
+    assertThat( "Definition=" + jsonInputResource, systemInputNotValidated, matches( new SystemInputDefMatcher( systemInputValidated)));
+    }
+
   @Test
   public void testSystemInput_Annotations_Missing()
     {
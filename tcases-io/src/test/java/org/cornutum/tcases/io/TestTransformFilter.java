@@ -107,6 +107,60 @@ public class TestTransformFilter
         is( true));
     }
 
+  @Test
+  public void testWriteTestDef() throws Exception
+    {
+    // Given...
+    File pipedTarget = File.createTempFile( "TestTransformFilter-Piped-", ".java");
+    pipedTarget.deleteOnExit();
+    TransformFilter pipedFilter = new TestDefToJUnitFilter();
+    pipedFilter.setTarget( pipedTarget);
+
+    IOUtils.copy
+      ( getClass().getResourceAsStream( "system-test-def-2.xml"),
+        pipedFilter.getSource());
+    pipedFilter.getSource().close();
+
+    File target = File.createTempFile( "TestTransformFilter-WriteTestDef-", ".java");
+    target.deleteOnExit();
+    TransformFilter filter = new TestDefToJUnitFilter();
+    filter.setTarget( target);
+
+    // When...
+    filter.write( systemTestResources_.read( "system-test-def-2.xml"));
+    
+    // Then...
+    assertThat( "Output written", target.length() > 0, is( true));
+    assertThat( "Output", FileUtils.readFileToString( target, "UTF-8"), is( FileUtils.readFileToString( pipedTarget, "UTF-8")));
+    }
+  
+  @Test
+  public void testWriteTestDefHtml() throws Exception
+    {
+    // Given...
+    File pipedTarget = File.createTempFile( "TestTransformFilter-Piped-", ".htm");
+    pipedTarget.deleteOnExit();
+    AbstractFilter pipedFilter = new TestDefToHtmlFilter();
+    pipedFilter.setTarget( pipedTarget);
+
+    IOUtils.copy
+      ( getClass().getResourceAsStream( "system-test-def-2.xml"),
+        pipedFilter.getSource());
+    pipedFilter.getSource().close();
+
+    File target = File.createTempFile( "TestTransformFilter-WriteTestDefHtml-", ".htm");
+    target.deleteOnExit();
+    AbstractFilter filter = new TestDefToHtmlFilter();
+    filter.setTarget( target);
+
+    // When...
+    filter.write( systemTestResources_.read( "system-test-def-2.xml"));
+    
+    // Then...
+    assertThat( "Output written", target.length() > 0, is( true));
+    assertThat( "Output", FileUtils.readFileToString( target, "UTF-8"), is( FileUtils.readFileToString( pipedTarget, "UTF-8")));
+    }
+
   /**
    * Returns true if the given transform result contains a match for the given
    * regular expression.
@@ -118,4 +172,6 @@ public class TestTransformFilter
       .matcher( result)
       .find();
     }
+  
+  private SystemTestResources systemTestResources_ = new SystemTestResources( TestTransformFilter.class);
   }
@@ -107,6 +107,16 @@ public abstract class AbstractVarDef extends Conditional implements IVarDef
     assertIdentifier( name);
     name_ = name;
     pathName_ = null;
+
+    VarSet parent = getParent();
+    if( parent != null)
+      {
+      parent.memberChanged();
+      }
+    else if( function_ != null)
+      {
+      function_.varChanged();
+      }
     }
   
   /**
@@ -179,6 +189,14 @@ public abstract class AbstractVarDef extends Conditional implements IVarDef
     position_ = null;
     }
 
+  /**
+   * Changes the function that defines this top-level variable.
+   */
+  void setFunction( FunctionInputDef function)
+    {
+    function_ = function;
+    }
+
   /**
    * If this is member of another variable, returns the parent variable. Otherwise, returns null.
    */
@@ -326,6 +344,7 @@ abstract public IVarDef find( String... path);
   private String name_;
   private String type_;
   private VarSet parent_;
+  private FunctionInputDef function_;
   private String pathName_;
   private Position position_;
   private int seqNum_;
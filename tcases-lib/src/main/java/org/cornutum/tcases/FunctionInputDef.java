@@ -14,10 +14,13 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.util.Arrays;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Defines the input space for a specific function.
@@ -66,12 +69,17 @@ public class FunctionInputDef extends Annotated
     assert varDef != null;
     assert varDef.getName() != null;
 
-    if( findVarDef( varDef.getName()) >= 0)
+    if( getVarDef( varDef.getName()) != null)
       {
       throw new IllegalStateException( "Variable=" + varDef.getName() + " already defined for function=" + getName());
       }
     
     vars_.add( varDef);
+    getVarIndex().put( varDef.getName(), varDef);
+    if( varDef instanceof AbstractVarDef)
+      {
+      ((AbstractVarDef) varDef).setFunction( this);
+      }
     return this;
     }
 
@@ -83,7 +91,13 @@ public class FunctionInputDef extends Annotated
     int i = findVarDef( name);
     if( i >= 0)
       {
-      vars_.remove(i);
+      IVarDef varDef = vars_.remove(i);
+      if( varDef instanceof AbstractVarDef)
+        {
+        ((AbstractVarDef) varDef).setFunction( null);
+        }
+      varIndex_ = null;
+      varPaths_.clear();
       }
 
     return this;
@@ -94,8 +108,7 @@ public class FunctionInputDef extends Annotated
    */
   public IVarDef getVarDef( String name)
     {
-    int i = findVarDef( name);
-    return i >= 0? vars_.get(i) : null;
+    return name == null? null : getVarIndex().get( name);
     }
 
   /**
@@ -138,17 +151,29 @@ public class FunctionInputDef extends Annotated
    */
   public IVarDef findVarPath( String pathName)
     {
-    String[] path = DefUtils.toPath( pathName);
-    IVarDef  var;
+    // Still the variable at this path?
+    IVarDef var = pathName == null? null : varPaths_.get( pathName);
+    if( var == null || !pathName.equals( var.getPathName()))
+      {
+      // No, find it again.
+      String[] path = DefUtils.toPath( pathName);
 
-    return
-      path == null?
-      null :
+      var =
+        path == null?
+        null :
+
+        (var = getVarDef( StringUtils.trimToNull( path[0]))) == null?
+        null :
 
-      (var = getVarDef( StringUtils.trimToNull( path[0]))) == null?
-      null :
+        var.find( Arrays.copyOfRange( path, 1, path.length));
 
-      var.find( Arrays.copyOfRange( path, 1, path.length));
+      if( var != null)
+        {
+        varPaths_.put( pathName, var);
+        }
+      }
+
+    return var;
     }
 
   /**
@@ -193,7 +218,36 @@ public class FunctionInputDef extends Annotated
       .toString();
     }
 
+  /**
+   * Discards the index of variable definitions by name after a top-level variable has changed.
+   */
+  void varChanged()
+    {
+    varIndex_ = null;
+    }
+
+  /**
+   * Returns the index of variable definitions by name, building it if necessary.
+   */
+  private Map<String,IVarDef> getVarIndex()
+    {
+    Map<String,IVarDef> varIndex = varIndex_;
+    if( varIndex == null)
+      {
+      varIndex = new HashMap<String,IVarDef>();
+      for( IVarDef var : vars_)
+        {
+        varIndex.putIfAbsent( var.getName(), var);
+        }
+      varIndex_ = varIndex;
+      }
+
+    return varIndex;
+    }
+
   private String name_;
   private List<IVarDef> vars_ = new ArrayList<IVarDef>();
+  private volatile Map<String,IVarDef> varIndex_;
+  private final Map<String,IVarDef> varPaths_ = new ConcurrentHashMap<String,IVarDef>();
   }
 
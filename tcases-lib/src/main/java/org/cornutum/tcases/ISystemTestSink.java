@@ -0,0 +1,44 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases;
+
+/**
+ * Receives the parts of a {@link SystemTestDef system test definition} one at a time, as each becomes complete.
+ * For each system test definition, the sink receives a call to {@link #startSystem startSystem()}, followed
+ * by a sequence of function test definitions, followed by a call to {@link #endSystem endSystem()}. For each function test
+ * definition, the sink receives a call to {@link #startFunction startFunction()}, followed by a call to
+ * {@link #addTestCase addTestCase()} for each test case, in order of increasing id, followed by a call to
+ * {@link #endFunction endFunction()}.
+ */
+public interface ISystemTestSink
+  {
+  /**
+   * Starts a new system test definition. The given definition supplies the system name and annotations but contains no function test definitions.
+   */
+  void startSystem( SystemTestDef systemTestDef);
+
+  /**
+   * Starts a new function test definition. The given definition supplies the function name and annotations but contains no test cases.
+   */
+  void startFunction( FunctionTestDef functionTestDef);
+
+  /**
+   * Adds a test case to the current function test definition.
+   */
+  void addTestCase( TestCase testCase);
+
+  /**
+   * Ends the current function test definition.
+   */
+  void endFunction();
+
+  /**
+   * Ends the current system test definition.
+   */
+  void endSystem();
+  }
@@ -8,16 +8,29 @@
 package org.cornutum.tcases;
 
 import org.cornutum.tcases.generator.*;
+import org.cornutum.tcases.util.ConcurrentUtils;
 import static org.cornutum.tcases.util.CollectionUtils.toStream;
+import static org.cornutum.tcases.util.ConcurrentUtils.getConcurrently;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.AbstractMap.SimpleEntry;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 
@@ -51,10 +64,10 @@ public class Reducer
 
     // Identify functions to reduce.
     String function = options.getFunction();
-    Stream<FunctionInputDef> functionInputDefs;
+    List<FunctionInputDef> functionInputDefs;
     if( function == null)
       {
-      functionInputDefs = toStream( inputDef.getFunctionInputDefs());
+      functionInputDefs = toStream( inputDef.getFunctionInputDefs()).collect( toList());
       }
     else if( inputDef.getFunctionInputDef( function) == null)
       {
@@ -62,23 +75,39 @@ public class Reducer
       }
     else
       {
-      functionInputDefs = Stream.of( inputDef.getFunctionInputDef( function));
+      functionInputDefs = Arrays.asList( inputDef.getFunctionInputDef( function));
       }
     
     // For each of the specified function(s), find a seed that generates minimum test cases
-    Map<String,ITestCaseGenerator> generatorsNew = 
-      functionInputDefs
-      .map( functionInputDef ->
-        new SimpleEntry<String,ITestCaseGenerator>(
-          functionInputDef.getName(),
-          reduce(
-            functionInputDef,
-            genDefNew.getGenerator( functionInputDef.getName()),
-            baseDef == null? null : baseDef.getFunctionTestDef( functionInputDef.getName()),
-            options)
-          .orElse( null)))
-      .filter( e -> e.getValue() != null)
-      .collect( toMap( SimpleEntry::getKey, SimpleEntry::getValue));
+    Map<String,ITestCaseGenerator> generatorsNew =
+      withSampler( options, sampler -> {
+        List<Supplier<SimpleEntry<String,ITestCaseGenerator>>> reducers =
+          functionInputDefs.stream()
+          .map( functionInputDef -> {
+            ITestCaseGenerator generator = genDefNew.getGenerator( functionInputDef.getName());
+            FunctionTestDef functionBase = baseDef == null? null : baseDef.getFunctionTestDef( functionInputDef.getName());
+            Random random = new Random();
+
+            return
+              (Supplier<SimpleEntry<String,ITestCaseGenerator>>)
+              () ->
+              new SimpleEntry<String,ITestCaseGenerator>(
+                functionInputDef.getName(),
+                reduce( functionInputDef, generator, functionBase, options, random, sampler).orElse( null));
+            })
+          .collect( toList());
+
+        // When sampling concurrently, reduce all functions at once, sharing the same sampling threads.
+        List<SimpleEntry<String,ITestCaseGenerator>> reduced =
+          sampler == null
+          ? reducers.stream().map( Supplier::get).collect( toList())
+          : getConcurrently( reducers, options.getThreads());
+
+        return
+          reduced.stream()
+          .filter( e -> e.getValue() != null)
+          .collect( toMap( SimpleEntry::getKey, SimpleEntry::getValue));
+        });
 
     if( generatorsNew.isEmpty())
       {
@@ -117,8 +146,34 @@ public class Reducer
    * <P/>
    * At the end of the reducing process, if test cases have been reduced, returns a updated {@link ITestCaseGenerator} with the
    * random seed value that produce the minimum test case count. Otherwise, returns <CODE>Optional.empty()</CODE>.
+   * <P/>
+   * If the given options specify multiple {@link ReducerOptions#getThreads threads}, the samples in each round are generated
+   * concurrently. The seeds for each round are chosen before any samples are generated, and the round ends with the first
+   * seed in this order that reduces the minimum test case count. So the result is the same as when samples are generated
+   * sequentially.
    */
   public static Optional<ITestCaseGenerator> reduce( FunctionInputDef inputDef, ITestCaseGenerator generator, FunctionTestDef baseDef, ReducerOptions options)
+    {
+    return reduce( inputDef, generator, baseDef, options, new Random());
+    }
+
+  /**
+   * For a {@link FunctionInputDef function input definition}, updates the given {@link ITestCaseGenerator test case generator}
+   * to reduce the number of generated test cases, using the given {@link ReducerOptions options} and choosing sample seeds
+   * with the given random number generator.
+   */
+  static Optional<ITestCaseGenerator> reduce( FunctionInputDef inputDef, ITestCaseGenerator generator, FunctionTestDef baseDef, ReducerOptions options, Random random)
+    {
+    return withSampler( options, sampler -> reduce( inputDef, generator, baseDef, options, random, sampler));
+    }
+
+  /**
+   * For a {@link FunctionInputDef function input definition}, updates the given {@link ITestCaseGenerator test case generator}
+   * to reduce the number of generated test cases, using the given {@link ReducerOptions options} and choosing sample seeds
+   * with the given random number generator. If the given <CODE>sampler</CODE> is non-null, it is used to generate the samples
+   * in each round concurrently.
+   */
+  private static Optional<ITestCaseGenerator> reduce( FunctionInputDef inputDef, ITestCaseGenerator generator, FunctionTestDef baseDef, ReducerOptions options, Random random, ExecutorService sampler)
     {
     String function = inputDef.getName();
 
@@ -140,14 +195,12 @@ public class Reducer
     long minSeed;
     long eqSeed;
     boolean reducing;
-    Random random;
     for( samples = options.getSamples(),
            round = 1,
            minCount = initialCount,
            minSeed = 0L,
            eqSeed = 0L,
-           reducing = true,
-           random = new Random();
+           reducing = true;
          
          samples > 0
            && reducing;
@@ -157,28 +210,23 @@ public class Reducer
       {
       // Perform next round of samples.
       logger_.info( "[{}] Round {}: starting next {} samples", new Object[]{ function, round, samples});
+      List<Long> roundSeeds = getSeeds( random, samples);
+      Iterator<Integer> roundCounts = getTestCaseCounts( inputDef, generatorNew, baseDef, roundSeeds, minCount, sampler);
       int roundCount;
-      long roundSeed;
       int i;
       for( i = 0,
-             roundCount = 0,
-             roundSeed = 0;
+             roundCount = 0;
            
            i < samples
-             && (roundCount =
-                 getTestCaseCount
-                 ( inputDef,
-                   generatorNew,
-                   baseDef,
-                   (roundSeed = (long) (random.nextDouble() * Long.MAX_VALUE))))
-             >= minCount;
+             && (roundCount = roundCounts.next()) >= minCount;
              
-           eqSeed = roundCount==minCount? roundSeed : eqSeed,
+           eqSeed = roundCount==minCount? roundSeeds.get( i) : eqSeed,
              i++);
 
       reducing = i < samples;
       if( reducing)
         {
+        long roundSeed = roundSeeds.get( i);
         logger_.info( "[{}] Round {}: after {} samples, reached {} test cases with seed={}", new Object[]{ function, round, i+1, roundCount, roundSeed});
         minCount = roundCount;
         minSeed = roundSeed;
@@ -217,22 +265,108 @@ public class Reducer
     return reduce( inputDef, new TupleGenerator(), null, new ReducerOptions());
     }
 
+  /**
+   * Returns the given number of random seeds.
+   */
+  private static List<Long> getSeeds( Random random, int count)
+    {
+    return
+      Stream.generate( () -> (long) (random.nextDouble() * Long.MAX_VALUE))
+      .limit( count)
+      .collect( toList());
+    }
+
+  /**
+   * Returns the total number of test cases generated for the given function using each of the given seeds, in the same order.
+   * If the given <CODE>sampler</CODE> is null, each count is generated only when requested. Otherwise, all counts are generated
+   * concurrently.
+   * <P/>
+   * Counts are requested only until a count is less than the given <CODE>minCount</CODE>. So, when generating concurrently,
+   * samples for any seeds that follow a seed that reduces the count are skipped. Also, any sample stops as soon as its
+   * count exceeds <CODE>minCount</CODE>.
+   */
+  private static Iterator<Integer> getTestCaseCounts( FunctionInputDef inputDef, ITestCaseGenerator generator, FunctionTestDef baseDef, List<Long> seeds, int minCount, ExecutorService sampler)
+    {
+    Iterator<Integer> counts;
+    if( sampler == null)
+      {
+      counts = seeds.stream().map( seed -> getTestCaseCount( inputDef, generator, baseDef, seed, minCount)).iterator();
+      }
+    else
+      {
+      AtomicInteger firstReduced = new AtomicInteger( seeds.size());
+      List<CompletableFuture<Integer>> samples =
+        IntStream.range( 0, seeds.size())
+        .mapToObj( i -> CompletableFuture.supplyAsync( () -> {
+          Integer count;
+          if( i > firstReduced.get())
+            {
+            // A preceding sample has already reduced the count, so this sample will never be requested.
+            count = null;
+            }
+          else if( (count = getTestCaseCount( inputDef, generator.cloneOf(), baseDef, seeds.get( i), minCount)) < minCount)
+            {
+            firstReduced.accumulateAndGet( i, Math::min);
+            }
+          return count;
+          },
+          sampler))
+        .collect( toList());
+
+      counts = samples.stream().map( ConcurrentUtils::resultOf).iterator();
+      }
+
+    return counts;
+    }
+
+  /**
+   * Returns the result of the given function, using a new sampler executor if the given options specify
+   * multiple {@link ReducerOptions#getThreads threads}. Otherwise, the function is given a null sampler.
+   */
+  private static <T> T withSampler( ReducerOptions options, Function<ExecutorService,T> function)
+    {
+    ExecutorService sampler = options.getThreads() > 1? Executors.newFixedThreadPool( options.getThreads()) : null;
+    try
+      {
+      return function.apply( sampler);
+      }
+    finally
+      {
+      if( sampler != null)
+        {
+        sampler.shutdownNow();
+        }
+      }
+    }
+
   /**
    * Returns the total number of test cases generated for the given function.
    */
   private static int getTestCaseCount( FunctionInputDef inputDef, ITestCaseGenerator generator, FunctionTestDef baseDef)
     {
-    return (int) toStream( Tcases.getTests( inputDef, generator, baseDef).getTestCases()).count();
+    return getTestCaseCount( inputDef, generator, baseDef, Integer.MAX_VALUE);
     }
 
+  /**
+   * Returns the total number of test cases generated for the given function. Once this number exceeds the given
+   * <CODE>maxCount</CODE>, generation may stop early, returning any number greater than <CODE>maxCount</CODE>.
+   * <P/>
+   * Only the number of test case definitions is needed, so resolving and annotating the resulting test cases
+   * is skipped.
+   */
+  private static int getTestCaseCount( FunctionInputDef inputDef, ITestCaseGenerator generator, FunctionTestDef baseDef, int maxCount)
+    {
+    return generator.getTestCount( inputDef, baseDef, maxCount);
+    }
 
   /**
-   * Returns the total number of test cases generated for the given function using the given seed.
+   * Returns the total number of test cases generated for the given function using the given seed. Once this number
+   * exceeds the given <CODE>maxCount</CODE>, generation may stop early, returning any number greater than <CODE>maxCount</CODE>.
    */
-  private static int getTestCaseCount( FunctionInputDef inputDef, ITestCaseGenerator generator, FunctionTestDef baseDef, long seed)
+  private static int getTestCaseCount( FunctionInputDef inputDef, ITestCaseGenerator generator, FunctionTestDef baseDef, long seed, int maxCount)
     {
     generator.setRandomSeed( seed);
-    return getTestCaseCount( inputDef, generator, baseDef);
+    return getTestCaseCount( inputDef, generator, baseDef, maxCount);
     }
 
   private static final Logger logger_ = LoggerFactory.getLogger( Reducer.class);
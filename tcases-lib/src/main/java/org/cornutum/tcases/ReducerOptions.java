@@ -22,6 +22,7 @@ public class ReducerOptions
     {
     setSamples( 10);
     setResampleFactor( 0.0);
+    setThreads( 1);
     }
   
   /**
@@ -99,6 +100,24 @@ public class ReducerOptions
     return newSeed_;
     }    
 
+  /**
+   * Changes the maximum number of threads used to generate samples concurrently. If less than 2,
+   * all samples are generated sequentially.
+   */
+  public void setThreads( int threads)
+    {
+    threads_ = threads;
+    }
+
+  /**
+   * Returns the maximum number of threads used to generate samples concurrently. If less than 2,
+   * all samples are generated sequentially.
+   */
+  public int getThreads()
+    {
+    return threads_;
+    }
+
   /**
    * Returns a new ReducerOptions builder.
    */
@@ -116,6 +135,7 @@ public class ReducerOptions
       .append( "samples", getSamples()) 
       .append( "resampleFactor", getResampleFactor())
       .append( "newSeed", isNewSeed())
+      .append( "threads", getThreads())
       .build();
     }
 
@@ -123,6 +143,7 @@ public class ReducerOptions
   private double resampleFactor_;
   private int samples_;
   private boolean newSeed_;    
+  private int threads_;
 
   public static class Builder
     {
@@ -155,6 +176,12 @@ public class ReducerOptions
       return this;
       } 
 
+    public Builder threads( int threads)
+      {
+      options_.setThreads( threads);
+      return this;
+      } 
+
     public ReducerOptions build()
       {
       return options_;
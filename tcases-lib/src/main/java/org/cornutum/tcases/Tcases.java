@@ -10,10 +10,18 @@ package org.cornutum.tcases;
 import org.cornutum.tcases.generator.*;
 import org.cornutum.tcases.resolve.*;
 import static org.cornutum.tcases.util.CollectionUtils.toStream;
+import static org.cornutum.tcases.util.ConcurrentUtils.getConcurrently;
 
+import org.apache.commons.collections4.IteratorUtils;
+
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Generates a set of {@link TestCase test cases} from a {@link SystemInputDef system input definition}.
@@ -35,6 +43,11 @@ public class Tcases
    * base test definitions. If <CODE>genDef</CODE> is null, the default generator is used.  If <CODE>baseDef</CODE> is
    * null, no base test definitions are used.  <P/> The <CODE>options</CODE> are optional and may be null. See also
    * {@link #getTests(SystemInputDef,IGeneratorSet,SystemTestDef)}.
+   * <P/>
+   * If the <CODE>options</CODE> specify multiple {@link GeneratorOptions#getThreads threads}, test cases for
+   * different functions are generated concurrently. Each function then uses its own copy of its generator and of
+   * the resolver context, so that the results are the same as when functions are generated sequentially. But if the
+   * resolver factory can't {@link TestCaseResolverFactory#cloneOf copy} itself, functions are generated sequentially.
    */
   public static SystemTestDef getTests( SystemInputDef inputDef, IGeneratorSet genDef, TestCaseResolverFactory resolverFactory, SystemTestDef baseDef, GeneratorOptions options)
     {
@@ -42,11 +55,17 @@ public class Tcases
       {
       resolverFactory = schemaResolverFactoryFor( inputDef);
       }
-    SystemTestDef testDef = new SystemTestDef( inputDef.getName());
-    for( Iterator<FunctionInputDef> functionDefs = inputDef.getFunctionInputDefs(); functionDefs.hasNext();)
-      {
-      FunctionInputDef functionDef = functionDefs.next();
 
+    List<FunctionInputDef> functionDefs = IteratorUtils.toList( inputDef.getFunctionInputDefs());
+    int threads =
+      Math.min(
+        functionDefs.size(),
+        Optional.ofNullable( options).map( GeneratorOptions::getThreads).orElse( 1));
+    boolean concurrent = threads > 1 && resolverFactory.cloneOf() != resolverFactory;
+
+    List<Supplier<FunctionTestDef>> functionTests = new ArrayList<Supplier<FunctionTestDef>>();
+    for( FunctionInputDef functionDef : functionDefs)
+      {
       FunctionTestDef functionBase =
         Optional.ofNullable( baseDef)
         .map( base -> base.getFunctionTestDef( functionDef.getName()))
@@ -56,14 +75,30 @@ public class Tcases
         Optional.ofNullable( genDef).orElse( GeneratorSet.basicGenerator())
         .getGenerator( functionDef.getName());
 
-      FunctionTestDef functionTestDef =
-        getTests(
-          functionDef,
-          functionGen,
-          resolverFactory,
-          functionBase,
-          options);
+      TestCaseResolverFactory functionResolverFactory = resolverFactory;
 
+      if( concurrent && functionGen != null)
+        {
+        // Generators may be shared by different functions, so update the shared generator just as when
+        // generating sequentially. But generate tests using a separate copy of the generator and resolver context.
+        applyOptions( functionGen, options);
+        functionGen = functionGen.cloneOf();
+        functionResolverFactory = resolverFactory.cloneOf();
+        }
+
+      ITestCaseGenerator generator = functionGen;
+      TestCaseResolverFactory resolvers = functionResolverFactory;
+      functionTests.add( () -> getTests( functionDef, generator, resolvers, functionBase, options));
+      }
+
+    List<FunctionTestDef> functionTestDefs =
+      concurrent
+      ? getConcurrently( functionTests, threads)
+      : functionTests.stream().map( Supplier::get).collect( toList());
+
+    SystemTestDef testDef = new SystemTestDef( inputDef.getName());
+    for( FunctionTestDef functionTestDef : functionTestDefs)
+      {
       annotateTests( inputDef, functionTestDef);
       testDef.addFunctionTestDef(functionTestDef);
       }
@@ -79,6 +114,102 @@ public class Tcases
    * {@link #getTests(FunctionInputDef,ITestCaseGenerator,FunctionTestDef)}.
    */
   public static FunctionTestDef getTests( FunctionInputDef functionDef, ITestCaseGenerator functionGen, TestCaseResolverFactory resolverFactory, FunctionTestDef functionBase, GeneratorOptions options)
+    {
+    TestCaseResolver resolver = resolverFor( functionDef, functionGen, resolverFactory, options);
+
+    FunctionTestDef functionTestDef = new FunctionTestDef( functionDef.getName());
+    resolver.resolve( f -> functionGen.getTests( f, functionBase))
+      .forEach( testCase -> functionTestDef.addTestCase( testCase));
+
+    annotateTests( resolver.getInputDef(), functionTestDef);
+
+    return functionTestDef;
+    }
+
+  /**
+   * Generates the same test cases for the given function input definition as
+   * {@link #getTests(FunctionInputDef,ITestCaseGenerator,TestCaseResolverFactory,FunctionTestDef,GeneratorOptions) getTests()},
+   * passing each one to the given consumer, in order of increasing id, as soon as it is complete. Each test case is
+   * annotated using the function input definition. But function annotations are not applied to any test definition.
+   */
+  public static void getTests( FunctionInputDef functionDef, ITestCaseGenerator functionGen, TestCaseResolverFactory resolverFactory, FunctionTestDef functionBase, GeneratorOptions options, Consumer<TestCase> testCases)
+    {
+    getTests( resolverFor( functionDef, functionGen, resolverFactory, options), functionGen, functionBase, testCases);
+    }
+
+  /**
+   * Generates the test cases resolved by the given resolver, passing each one to the given consumer as soon as it is complete.
+   */
+  private static void getTests( TestCaseResolver resolver, ITestCaseGenerator functionGen, FunctionTestDef functionBase, Consumer<TestCase> testCases)
+    {
+    FunctionInputDef functionInputDef = resolver.getInputDef();
+    resolver.resolve(
+      (f, testCaseDefs) -> functionGen.getTests( f, functionBase, testCaseDefs),
+      testCase -> {
+        annotateTest( functionInputDef, testCase);
+        testCases.accept( testCase);
+      });
+    }
+
+  /**
+   * Generates the same test definitions for the given system input definition as
+   * {@link #getTests(SystemInputDef,IGeneratorSet,TestCaseResolverFactory,SystemTestDef,GeneratorOptions) getTests()},
+   * passing them to the given {@link ISystemTestSink sink} as soon as each test case is complete. The sink receives
+   * the system test definition and each function test definition with all annotations but without any test cases,
+   * so that the complete system test definition is never held in memory.
+   * <P/>
+   * Functions are always generated sequentially, in the order defined, so any {@link GeneratorOptions#getThreads threads}
+   * option is ignored.
+   */
+  public static void getTests( SystemInputDef inputDef, IGeneratorSet genDef, TestCaseResolverFactory resolverFactory, SystemTestDef baseDef, GeneratorOptions options, ISystemTestSink testSink)
+    {
+    TestCaseResolverFactory resolvers =
+      Optional.ofNullable( resolverFactory)
+      .orElseGet( () -> schemaResolverFactoryFor( inputDef));
+
+    SystemTestDef systemTestDef = new SystemTestDef( inputDef.getName());
+    systemTestDef.addAnnotations( inputDef);
+    testSink.startSystem( systemTestDef);
+
+    for( Iterator<FunctionInputDef> functionDefs = inputDef.getFunctionInputDefs(); functionDefs.hasNext(); )
+      {
+      FunctionInputDef functionDef = functionDefs.next();
+      FunctionTestDef functionBase =
+        Optional.ofNullable( baseDef)
+        .map( base -> base.getFunctionTestDef( functionDef.getName()))
+        .orElse( null);
+
+      ITestCaseGenerator functionGen =
+        Optional.ofNullable( genDef).orElse( GeneratorSet.basicGenerator())
+        .getGenerator( functionDef.getName());
+
+      TestCaseResolver resolver = resolverFor( functionDef, functionGen, resolvers, options);
+
+      FunctionTestDef functionTestDef = new FunctionTestDef( functionDef.getName());
+      functionTestDef.addAnnotations( resolver.getInputDef());
+      functionTestDef.addAnnotations( inputDef);
+      testSink.startFunction( functionTestDef);
+
+      getTests(
+        resolver,
+        functionGen,
+        functionBase,
+        testCase -> {
+          testCase.addAnnotations( inputDef);
+          testSink.addTestCase( testCase);
+        });
+
+      testSink.endFunction();
+      }
+
+    testSink.endSystem();
+    }
+
+  /**
+   * Returns a resolver for test cases generated for the given function input definition by the given generator.
+   * The <CODE>functionGen</CODE> must be non-null. The <CODE>options</CODE> are optional and may be null.
+   */
+  private static TestCaseResolver resolverFor( FunctionInputDef functionDef, ITestCaseGenerator functionGen, TestCaseResolverFactory resolverFactory, GeneratorOptions options)
     {
     if( functionGen == null)
       {
@@ -86,15 +217,7 @@ public class Tcases
       }
 
     // If applicable, apply specified generator options.
-    if( options != null)
-      {
-      Optional.ofNullable( options.getRandomSeed())
-        .ifPresent( seed -> functionGen.setRandomSeed( seed));
-
-      Optional.ofNullable( options.getDefaultTupleSize())
-        .filter( tuples -> functionGen instanceof TupleGenerator)
-        .ifPresent( tuples -> ((TupleGenerator) functionGen).setDefaultTupleSize( tuples));
-      }
+    applyOptions( functionGen, options);
 
     // Resolve random test case values using a function-specific sequence.
     TestCaseResolver resolver =
@@ -108,13 +231,23 @@ public class Tcases
           Optional.ofNullable( functionGen.getRandomSeed())
           .orElse( (long) functionDef.getName().hashCode())));
 
-    FunctionTestDef functionTestDef = new FunctionTestDef( functionDef.getName());
-    resolver.resolve( f -> functionGen.getTests( f, functionBase))
-      .forEach( testCase -> functionTestDef.addTestCase( testCase));
+    return resolver;
+    }
 
-    annotateTests( resolver.getInputDef(), functionTestDef);
+  /**
+   * Updates the given generator with the given options. The <CODE>options</CODE> are optional and may be null.
+   */
+  private static void applyOptions( ITestCaseGenerator functionGen, GeneratorOptions options)
+    {
+    if( options != null)
+      {
+      Optional.ofNullable( options.getRandomSeed())
+        .ifPresent( seed -> functionGen.setRandomSeed( seed));
 
-    return functionTestDef;
+      Optional.ofNullable( options.getDefaultTupleSize())
+        .filter( tuples -> functionGen instanceof TupleGenerator)
+        .ifPresent( tuples -> ((TupleGenerator) functionGen).setDefaultTupleSize( tuples));
+      }
     }
 
   /**
@@ -148,30 +281,37 @@ public class Tcases
     // Add test case annotations.
     for( Iterator<TestCase> testCases = functionTestDef.getTestCases(); testCases.hasNext(); )
       {
-      TestCase testCase = testCases.next();
-      testCase.addAnnotations( functionInputDef);
+      annotateTest( functionInputDef, testCases.next());
+      }
+    }
+
+  /**
+   * Updates the given test case by adding all applicable annotations from the given input definition.
+   */
+  static void annotateTest( FunctionInputDef functionInputDef, TestCase testCase)
+    {
+    testCase.addAnnotations( functionInputDef);
+
+    // Add variable binding annotations.
+    for( Iterator<VarBinding> varBindings = testCase.getVarBindings(); varBindings.hasNext(); )
+      {
+      VarBinding binding = varBindings.next();
+      VarDef varDef = functionInputDef.findVarDefPath( binding.getVar());
+
+      // Add value annotations...
+      if( !binding.isValueNA())
+        {
+        VarValueDef valueDef = varDef.getValue( binding.getSource());
+        binding.addAnnotations( valueDef);
+        }
+
+      // ...and any other annotations for this variable...
+      binding.addAnnotations( varDef);
 
-      // Add variable binding annotations.
-      for( Iterator<VarBinding> varBindings = testCase.getVarBindings(); varBindings.hasNext(); )
+      // ...and any other annotations for variable sets that contain this variable.
+      for( VarSet ancestor = varDef.getParent(); ancestor != null; ancestor = ancestor.getParent())
         {
-        VarBinding binding = varBindings.next();
-        VarDef varDef = functionInputDef.findVarDefPath( binding.getVar());
-
-        // Add value annotations...
-        if( !binding.isValueNA())
-          {
-          VarValueDef valueDef = varDef.getValue( binding.getSource());
-          binding.addAnnotations( valueDef);
-          }
-
-        // ...and any other annotations for this variable...
-        binding.addAnnotations( varDef);
-
-        // ...and any other annotations for variable sets that contain this variable.
-        for( VarSet ancestor = varDef.getParent(); ancestor != null; ancestor = ancestor.getParent())
-          {
-          binding.addAnnotations( ancestor);
-          }
+        binding.addAnnotations( ancestor);
         }
       }
     }
@@ -12,8 +12,10 @@ import org.apache.commons.lang3.StringUtils;
 import org.cornutum.tcases.conditions.ICondition;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Defines a named set of input variables.
@@ -57,6 +59,24 @@ public class VarSet extends AbstractVarDef
     return null;
     }
 
+  /**
+   * Changes the variable name.
+   */
+  @Override
+  public void setName( String name)
+    {
+    super.setName( name);
+
+    // Reset path names for all descendants.
+    if( members_ != null)
+      {
+      for( IVarDef member : members_)
+        {
+        member.setParent( this);
+        }
+      }
+    }
+
   /**
    * Changes the parent of this variable.
    */
@@ -113,12 +133,13 @@ public class VarSet extends AbstractVarDef
     assert var != null;
     assert var.getName() != null;
 
-    if( findMember( var.getName()) >= 0)
+    if( getMember( var.getName()) != null)
       {
       throw new IllegalStateException( "Member=" + var.getName() + " already defined for varSet=" + getPathName());
       }
 
     members_.add( var);
+    getMemberIndex().put( var.getName(), var);
     var.setParent( this);
     var.setSeqNum( getNextSeqNum());
 
@@ -133,6 +154,7 @@ public class VarSet extends AbstractVarDef
     int i = findMember( name);
     if( i >= 0)
       {
+      getMemberIndex().remove( name);
       members_.remove(i).setParent( null) ;
       }
 
@@ -144,8 +166,7 @@ public class VarSet extends AbstractVarDef
    */
   public IVarDef getMember( String name)
     {
-    int i = findMember( name);
-    return i >= 0? members_.get(i) : null;
+    return name == null? null : getMemberIndex().get( name);
     }
 
   /**
@@ -195,6 +216,34 @@ public class VarSet extends AbstractVarDef
     return i < memberCount? i : -1;
     }
 
+  /**
+   * Returns the index of member variables by name, building it if necessary.
+   */
+  private Map<String,IVarDef> getMemberIndex()
+    {
+    Map<String,IVarDef> memberIndex = memberIndex_;
+    if( memberIndex == null)
+      {
+      memberIndex = new HashMap<String,IVarDef>();
+      for( IVarDef member : members_)
+        {
+        memberIndex.putIfAbsent( member.getName(), member);
+        }
+      memberIndex_ = memberIndex;
+      }
+
+    return memberIndex;
+    }
+
+  /**
+   * Discards the index of member variables by name after a member has changed.
+   */
+  void memberChanged()
+    {
+    memberIndex_ = null;
+    }
+
   private List<IVarDef> members_ = new ArrayList<IVarDef>();
+  private volatile Map<String,IVarDef> memberIndex_;
   }
 
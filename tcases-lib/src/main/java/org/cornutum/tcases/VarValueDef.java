@@ -94,6 +94,7 @@ public class VarValueDef extends Conditional
     {
     assertVarValue( name);
     name_ = name;
+    externalName_ = null;
     }
 
   /**
@@ -109,7 +110,12 @@ public class VarValueDef extends Conditional
    */
   public Object getExternalName()
     {
-    return ObjectUtils.toExternalObject( getName());
+    // Converting the name is relatively expensive, so compute it only once for use in equals() and hashCode().
+    if( externalName_ == null)
+      {
+      externalName_ = ObjectUtils.toExternalObject( getName());
+      }
+    return externalName_;
     }
 
   /**
@@ -285,6 +291,7 @@ public class VarValueDef extends Conditional
     }
 
   private Object name_;
+  private Object externalName_;
   private Type type_;
   private Set<String> properties_;
   private Schema schema_;
@@ -535,10 +535,9 @@ public class Anonymizer
    */
   private TupleGenerator anonymize( FunctionDictionary dictionary, TupleGenerator tupleGen)
     {
-    TupleGenerator anonGen = new TupleGenerator();
+    // Copy the same kind of generator.
+    TupleGenerator anonGen = (TupleGenerator) tupleGen.cloneOf();
 
-    anonGen.setDefaultTupleSize( tupleGen.getDefaultTupleSize());
-    anonGen.setRandomSeed( tupleGen.getRandomSeed());
     anonGen.setCombiners( tupleGen.getCombiners().stream().map( c -> anonymize( dictionary, c)).collect( toList()));
 
     return anonGen;
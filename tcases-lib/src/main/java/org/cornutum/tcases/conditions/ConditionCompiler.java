@@ -0,0 +1,371 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.conditions;
+
+import static org.cornutum.tcases.util.CollectionUtils.toStream;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Iterator;
+
+/**
+ * Compiles an {@link ICondition} into an equivalent {@link ICompiledCondition} that refers to
+ * properties by the ids assigned by a {@link PropertyIndex}.
+ */
+public class ConditionCompiler implements IConditionVisitor
+  {
+  /**
+   * Creates a new ConditionCompiler object.
+   */
+  public ConditionCompiler( PropertyIndex propertyIndex)
+    {
+    propertyIndex_ = propertyIndex;
+    }
+
+  /**
+   * Returns the compiled form of the given condition.
+   */
+  public ICompiledCondition compile( ICondition condition)
+    {
+    compiled_ = null;
+    if( condition != null)
+      {
+      condition.accept( this);
+      }
+    return compiled_ == null? ICompiledCondition.ALWAYS : compiled_;
+    }
+
+  @Override
+  public void visit( AllOf condition)
+    {
+    compiled_ = new AllCompiled( compileAll( condition.getConditions()));
+    }
+
+  @Override
+  public void visit( AnyOf condition)
+    {
+    compiled_ = new AnyCompiled( compileAll( condition.getConditions()));
+    }
+
+  @Override
+  public void visit( ContainsAll condition)
+    {
+    compiled_ = new ContainsAllCompiled( getIds( condition.getProperties()));
+    }
+
+  @Override
+  public void visit( ContainsAny condition)
+    {
+    compiled_ = new ContainsAnyCompiled( getIds( condition.getProperties()));
+    }
+
+  @Override
+  public void visit( IConjunct condition)
+    {
+    if( condition instanceof Assert)
+      {
+      String property = ((Assert) condition).getProperty();
+      compiled_ =
+        property == null
+        ? ICompiledCondition.ALWAYS
+        : new ContainsAllCompiled( new int[]{ propertyIndex_.getId( property)});
+      }
+    else if( condition instanceof AssertNot)
+      {
+      String property = ((AssertNot) condition).getProperty();
+      compiled_ =
+        property == null
+        ? ICompiledCondition.ALWAYS
+        : new ContainsNoneCompiled( propertyIndex_.getId( property));
+      }
+    else if( condition instanceof IAssertion)
+      {
+      throw new IllegalArgumentException( "Unsupported assertion=" + condition);
+      }
+    else if( condition instanceof IDisjunct)
+      {
+      compiled_ = new AnyCompiled( compileAll( ((IDisjunct) condition).getAssertions()));
+      }
+    else
+      {
+      compiled_ = new AllCompiled( compileAll( condition.getDisjuncts()));
+      }
+    }
+
+  @Override
+  public void visit( Not condition)
+    {
+    compiled_ = new NoneCompiled( compileAll( condition.getConditions()));
+    }
+
+  @Override
+  public void visit( AssertLess condition)
+    {
+    compiled_ = new CountCompiled( getCountId( condition), Integer.MIN_VALUE, condition.getBound() - 1, false);
+    }
+
+  @Override
+  public void visit( AssertMore condition)
+    {
+    compiled_ = new CountCompiled( getCountId( condition), condition.getBound() + 1, Integer.MAX_VALUE, true);
+    }
+
+  @Override
+  public void visit( AssertNotLess condition)
+    {
+    compiled_ = new CountCompiled( getCountId( condition), condition.getBound(), Integer.MAX_VALUE, true);
+    }
+
+  @Override
+  public void visit( AssertNotMore condition)
+    {
+    compiled_ = new CountCompiled( getCountId( condition), Integer.MIN_VALUE, condition.getBound(), false);
+    }
+
+  @Override
+  public void visit( Between condition)
+    {
+    visit( (AllOf) condition);
+    }
+
+  @Override
+  public void visit( Equals condition)
+    {
+    visit( (AllOf) condition);
+    }
+
+  /**
+   * Returns the compiled form of each of the given conditions.
+   */
+  private ICompiledCondition[] compileAll( Iterator<? extends ICondition> conditions)
+    {
+    return
+      toStream( conditions)
+      .map( this::compile)
+      .toArray( ICompiledCondition[]::new);
+    }
+
+  /**
+   * Returns the ids of the given properties, as matched by {@link org.cornutum.tcases.PropertySet#contains PropertySet.contains()}.
+   */
+  private int[] getIds( Iterator<String> properties)
+    {
+    return
+      toStream( properties)
+      .mapToInt( propertyIndex_::getId)
+      .toArray();
+    }
+
+  /**
+   * Returns the id of the property counted by the given assertion, as matched by {@link org.cornutum.tcases.PropertySet#getCount PropertySet.getCount()}.
+   */
+  private int getCountId( BoundedAssertion assertion)
+    {
+    return propertyIndex_.getId( StringUtils.trimToNull( assertion.getProperty()));
+    }
+
+  /**
+   * Satisfied if all conditions are satisfied.
+   */
+  private static class AllCompiled implements ICompiledCondition
+    {
+    public AllCompiled( ICompiledCondition[] conditions)
+      {
+      conditions_ = conditions;
+      }
+
+    @Override
+    public boolean satisfied( PropertyCounts properties)
+      {
+      boolean isSatisfied = true;
+      for( int i = 0; isSatisfied && i < conditions_.length; isSatisfied = conditions_[i++].satisfied( properties));
+      return isSatisfied;
+      }
+
+    @Override
+    public boolean compatible( PropertyCounts properties)
+      {
+      boolean isCompatible = true;
+      for( int i = 0; isCompatible && i < conditions_.length; isCompatible = conditions_[i++].compatible( properties));
+      return isCompatible;
+      }
+
+    private final ICompiledCondition[] conditions_;
+    }
+
+  /**
+   * Satisfied if any condition is satisfied.
+   */
+  private static class AnyCompiled implements ICompiledCondition
+    {
+    public AnyCompiled( ICompiledCondition[] conditions)
+      {
+      conditions_ = conditions;
+      }
+
+    @Override
+    public boolean satisfied( PropertyCounts properties)
+      {
+      boolean isSatisfied = conditions_.length == 0;
+      for( int i = 0; !isSatisfied && i < conditions_.length; isSatisfied = conditions_[i++].satisfied( properties));
+      return isSatisfied;
+      }
+
+    @Override
+    public boolean compatible( PropertyCounts properties)
+      {
+      boolean isCompatible = conditions_.length == 0;
+      for( int i = 0; !isCompatible && i < conditions_.length; isCompatible = conditions_[i++].compatible( properties));
+      return isCompatible;
+      }
+
+    private final ICompiledCondition[] conditions_;
+    }
+
+  /**
+   * Satisfied if no condition is satisfied.
+   */
+  private static class NoneCompiled implements ICompiledCondition
+    {
+    public NoneCompiled( ICompiledCondition[] conditions)
+      {
+      conditions_ = conditions;
+      }
+
+    @Override
+    public boolean satisfied( PropertyCounts properties)
+      {
+      boolean isSatisfied = true;
+      for( int i = 0; isSatisfied && i < conditions_.length; isSatisfied = !conditions_[i++].satisfied( properties));
+      return isSatisfied;
+      }
+
+    @Override
+    public boolean compatible( PropertyCounts properties)
+      {
+      return satisfied( properties);
+      }
+
+    private final ICompiledCondition[] conditions_;
+    }
+
+  /**
+   * Satisfied if all properties are present. Always compatible.
+   */
+  private static class ContainsAllCompiled implements ICompiledCondition
+    {
+    public ContainsAllCompiled( int[] ids)
+      {
+      ids_ = ids;
+      }
+
+    @Override
+    public boolean satisfied( PropertyCounts properties)
+      {
+      boolean isSatisfied = true;
+      for( int i = 0; isSatisfied && i < ids_.length; isSatisfied = properties.contains( ids_[i++]));
+      return isSatisfied;
+      }
+
+    @Override
+    public boolean compatible( PropertyCounts properties)
+      {
+      return true;
+      }
+
+    private final int[] ids_;
+    }
+
+  /**
+   * Satisfied if any property is present. Always compatible.
+   */
+  private static class ContainsAnyCompiled implements ICompiledCondition
+    {
+    public ContainsAnyCompiled( int[] ids)
+      {
+      ids_ = ids;
+      }
+
+    @Override
+    public boolean satisfied( PropertyCounts properties)
+      {
+      boolean isSatisfied = ids_.length == 0;
+      for( int i = 0; !isSatisfied && i < ids_.length; isSatisfied = properties.contains( ids_[i++]));
+      return isSatisfied;
+      }
+
+    @Override
+    public boolean compatible( PropertyCounts properties)
+      {
+      return true;
+      }
+
+    private final int[] ids_;
+    }
+
+  /**
+   * Satisfied if a property is absent. Compatible only if satisfied.
+   */
+  private static class ContainsNoneCompiled implements ICompiledCondition
+    {
+    public ContainsNoneCompiled( int id)
+      {
+      id_ = id;
+      }
+
+    @Override
+    public boolean satisfied( PropertyCounts properties)
+      {
+      return !properties.contains( id_);
+      }
+
+    @Override
+    public boolean compatible( PropertyCounts properties)
+      {
+      return satisfied( properties);
+      }
+
+    private final int id_;
+    }
+
+  /**
+   * Satisfied if the number of instances of a property is within the given (inclusive) range.
+   * If completable, compatible with any properties. Otherwise, compatible only if satisfied.
+   */
+  private static class CountCompiled implements ICompiledCondition
+    {
+    public CountCompiled( int id, int min, int max, boolean completable)
+      {
+      id_ = id;
+      min_ = min;
+      max_ = max;
+      completable_ = completable;
+      }
+
+    @Override
+    public boolean satisfied( PropertyCounts properties)
+      {
+      int count = properties.getCount( id_);
+      return count >= min_ && count <= max_;
+      }
+
+    @Override
+    public boolean compatible( PropertyCounts properties)
+      {
+      return completable_ || satisfied( properties);
+      }
+
+    private final int id_;
+    private final int min_;
+    private final int max_;
+    private final boolean completable_;
+    }
+
+  private PropertyIndex propertyIndex_;
+  private ICompiledCondition compiled_;
+  }
@@ -0,0 +1,45 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.conditions;
+
+/**
+ * An {@link ICondition} compiled by a {@link ConditionCompiler} for evaluation using {@link PropertyCounts}.
+ */
+public interface ICompiledCondition
+  {
+  /**
+   * Returns true if this condition is satisfied by the given test case properties.
+   */
+  boolean satisfied( PropertyCounts properties);
+
+  /**
+   * Returns true if this condition is compatible with the given test case properties.
+   * A condition is <em>"compatible"</em> with these properties if it is already satisfied
+   * or if it could be satisfied with the addition of more properties.
+   */
+  boolean compatible( PropertyCounts properties);
+
+  /**
+   * A condition that is always satisfied.
+   */
+  ICompiledCondition ALWAYS =
+    new ICompiledCondition()
+      {
+      @Override
+      public boolean satisfied( PropertyCounts properties)
+        {
+        return true;
+        }
+
+      @Override
+      public boolean compatible( PropertyCounts properties)
+        {
+        return true;
+        }
+      };
+  }
@@ -0,0 +1,89 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.conditions;
+
+import java.util.Arrays;
+
+/**
+ * Represents a set of test case properties as the number of instances of each property,
+ * indexed by the ids assigned by a {@link PropertyIndex}.
+ */
+public class PropertyCounts
+  {
+  /**
+   * Creates a new PropertyCounts object.
+   */
+  public PropertyCounts()
+    {
+    this( 16);
+    }
+
+  /**
+   * Creates a new PropertyCounts object.
+   */
+  public PropertyCounts( int capacity)
+    {
+    counts_ = new int[ Math.max( 1, capacity)];
+    }
+
+  /**
+   * Adds an instance of each of the given properties.
+   */
+  public PropertyCounts addAll( int[] ids)
+    {
+    for( int i = 0; i < ids.length; i++)
+      {
+      int id = ids[i];
+      if( id >= counts_.length)
+        {
+        counts_ = Arrays.copyOf( counts_, Math.max( id + 1, counts_.length * 2));
+        }
+      counts_[ id]++;
+      }
+
+    return this;
+    }
+
+  /**
+   * Removes an instance of each of the given properties.
+   */
+  public PropertyCounts removeAll( int[] ids)
+    {
+    for( int i = 0; i < ids.length; i++)
+      {
+      int id = ids[i];
+      if( getCount( id) > 0)
+        {
+        counts_[ id]--;
+        }
+      }
+
+    return this;
+    }
+
+  /**
+   * Returns the number of instances of the given property.
+   */
+  public int getCount( int id)
+    {
+    return
+      id >= 0 && id < counts_.length
+      ? counts_[ id]
+      : 0;
+    }
+
+  /**
+   * Returns true if this set contains at least one instance of the given property.
+   */
+  public boolean contains( int id)
+    {
+    return getCount( id) > 0;
+    }
+
+  private int[] counts_;
+  }
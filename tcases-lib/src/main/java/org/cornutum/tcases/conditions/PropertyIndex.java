@@ -0,0 +1,67 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.conditions;
+
+import static org.cornutum.tcases.util.CollectionUtils.toStream;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Assigns a unique integer id to each test case property name, so that a set of properties
+ * can be represented by {@link PropertyCounts property counts} indexed by id.
+ */
+public class PropertyIndex
+  {
+  /**
+   * Creates a new PropertyIndex object.
+   */
+  public PropertyIndex()
+    {
+    }
+
+  /**
+   * Returns the id for the given property name, assigning a new id if necessary.
+   * Returns -1 if the property name is null.
+   */
+  public int getId( String property)
+    {
+    return
+      property == null
+      ? -1
+      : ids_.computeIfAbsent( property, p -> ids_.size());
+    }
+
+  /**
+   * Returns the ids for the given property names. Like a {@link org.cornutum.tcases.PropertySet PropertySet},
+   * ignores any blank names and trims any leading or trailing white space.
+   */
+  public int[] getIds( Iterable<String> properties)
+    {
+    return
+      properties == null
+      ? new int[0]
+      : toStream( properties)
+        .map( StringUtils::trimToNull)
+        .filter( property -> property != null)
+        .mapToInt( this::getId)
+        .toArray();
+    }
+
+  /**
+   * Returns the number of property names indexed.
+   */
+  public int size()
+    {
+    return ids_.size();
+    }
+
+  private Map<String,Integer> ids_ = new HashMap<String,Integer>();
+  }
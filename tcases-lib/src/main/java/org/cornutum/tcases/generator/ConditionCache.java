@@ -0,0 +1,115 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.generator;
+
+import org.cornutum.tcases.*;
+import org.cornutum.tcases.conditions.*;
+import static org.cornutum.tcases.util.CollectionUtils.toStream;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Caches the conditions used during test case generation, so that each condition is converted at most once.
+ * Conditions are {@link ConditionCompiler compiled} for evaluation using the {@link PropertyCounts property counts}
+ * of a test case, which refer to properties by the ids assigned by a single {@link PropertyIndex}.
+ */
+class ConditionCache
+  {
+  /**
+   * Creates a new ConditionCache object.
+   */
+  public ConditionCache()
+    {
+    }
+
+  /**
+   * Returns the ids of the properties contributed by the given value.
+   */
+  public int[] getPropertyIds( VarValueDef value)
+    {
+    return propertyIds_.computeIfAbsent( value, v -> propertyIndex_.getIds( v.getProperties()));
+    }
+
+  /**
+   * Returns the compiled effective condition for the given variable.
+   */
+  public ICompiledCondition getCondition( VarDef var)
+    {
+    return varConditions_.computeIfAbsent( var, v -> compiler_.compile( v.getEffectiveCondition()));
+    }
+
+  /**
+   * Returns the compiled condition for the given value.
+   */
+  public ICompiledCondition getCondition( VarValueDef value)
+    {
+    return valueConditions_.computeIfAbsent( value, v -> compiler_.compile( v.getCondition()));
+    }
+
+  /**
+   * Returns the compiled form of the given disjunct.
+   */
+  public ICompiledCondition getCondition( IDisjunct disjunct)
+    {
+    return disjunctConditions_.computeIfAbsent( disjunct, d -> compiler_.compile( d));
+    }
+
+  /**
+   * Returns the disjuncts that must be satisfied by any test case that includes the given binding.
+   * Returns an empty list for a "not applicable" value.
+   */
+  public List<IDisjunct> getDisjuncts( VarDef var, VarValueDef value)
+    {
+    return
+      value.isNA()
+      ? Collections.emptyList()
+      : disjuncts_.computeIfAbsent( new VarBindingDef( var, value), binding -> toDisjuncts( var, value));
+    }
+
+  /**
+   * Returns the disjuncts that define the effective condition of the given binding.
+   */
+  private List<IDisjunct> toDisjuncts( VarDef var, VarValueDef value)
+    {
+    ICondition bindingCondition = value.getEffectiveCondition( var.getEffectiveCondition());
+
+    List<IDisjunct> disjuncts = new ArrayList<IDisjunct>();
+    Optional.of( bindingCondition)
+      .filter( c -> c instanceof AllOf)
+      .map( c -> toStream( ((AllOf) c).getConditions()))
+      .orElse( Stream.of( bindingCondition))
+      .forEach( c -> {
+        for( Iterator<IDisjunct> conditionDisjuncts = Cnf.convert( c).getDisjuncts(); conditionDisjuncts.hasNext();)
+          {
+          IDisjunct disjunct = conditionDisjuncts.next();
+          if( !Cnf.isTautology( disjunct))
+            {
+            disjuncts.add( disjunct);
+            }
+          }
+        });
+
+    return disjuncts;
+    }
+
+  private PropertyIndex propertyIndex_ = new PropertyIndex();
+  private ConditionCompiler compiler_ = new ConditionCompiler( propertyIndex_);
+  private Map<VarValueDef,int[]> propertyIds_ = new IdentityHashMap<VarValueDef,int[]>();
+  private Map<VarDef,ICompiledCondition> varConditions_ = new IdentityHashMap<VarDef,ICompiledCondition>();
+  private Map<VarValueDef,ICompiledCondition> valueConditions_ = new IdentityHashMap<VarValueDef,ICompiledCondition>();
+  private Map<IDisjunct,ICompiledCondition> disjunctConditions_ = new IdentityHashMap<IDisjunct,ICompiledCondition>();
+  private Map<VarBindingDef,List<IDisjunct>> disjuncts_ = new HashMap<VarBindingDef,List<IDisjunct>>();
+  }
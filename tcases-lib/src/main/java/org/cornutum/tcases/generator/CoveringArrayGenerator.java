@@ -0,0 +1,787 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.generator;
+
+import org.cornutum.tcases.*;
+
+import org.apache.commons.collections4.IteratorUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Generates {@link TestCase test cases} for a {@link FunctionInputDef function} that use
+ * all specified N-tuples of valid variable values, building a covering array in parameter order.
+ * <P/>
+ * Unlike the {@link TupleGenerator}, this generator never lists the N-tuples required. Instead, it uses the
+ * "in-parameter-order" (IPOG) strategy. Each variable value is identified by its index, and the values covered
+ * for each combination of N variables are tracked by a {@link BitSet}. Variables are added one at a time, first
+ * extending each existing test case with the value that covers the most combinations not yet covered ("horizontal growth"),
+ * then adding any combinations still uncovered to existing test cases that leave the required variables unbound, or else to
+ * new test cases ("vertical growth"). A change is accepted only if it satisfies all variable and value conditions and the test
+ * case can still be completed, and any variables left unbound are completed in the same way as by the {@link TupleGenerator}.
+ * <P/>
+ * All {@link TupleCombiner tuple combiners} apply in the same way, except that a once-only tuple is only avoided after it
+ * has been covered, so it may still be used by another test case when no better choice is available.
+ */
+public class CoveringArrayGenerator extends TupleGenerator
+  {
+  /**
+   * Creates a new CoveringArrayGenerator that, by default, uses all 1-tuples of valid variable values.
+   */
+  public CoveringArrayGenerator()
+    {
+    this( 1);
+    }
+
+  /**
+   * Creates a new CoveringArrayGenerator that, by default, uses all N-tuples of valid variable values.
+   */
+  public CoveringArrayGenerator( int tupleSize)
+    {
+    super( tupleSize);
+    }
+
+  /**
+   * Returns the valid input tuples used to complete generated test cases. Because the tuples required are
+   * tracked by the covering array, only 1-tuples are needed.
+   */
+  @Override
+  protected IVarTupleSet getValidTupleSet( RandSeq randSeq, FunctionInputDef inputDef)
+    {
+    List<VarDef> vars = IteratorUtils.toList( new VarDefIterator( inputDef));
+    List<Tuple> validTuples = new ArrayList<Tuple>();
+    if( !vars.isEmpty())
+      {
+      for( Tuple tuple : TupleCombiner.getTuples( vars, 1))
+        {
+        VarValueDef value = tuple.getBindings().next().getValueDef();
+        tuple.setOnce( value.getType() == VarValueDef.Type.ONCE);
+        validTuples.add( tuple);
+        }
+      }
+
+    return new IndexedVarTupleSet( RandSeq.reorderIf( randSeq, validTuples));
+    }
+
+  /**
+   * Supplies valid {@link TestCaseDef test case definitions} for the given function input definition to the given consumer.
+   * The given valid base cases, which are already complete, are not supplied again. Once the number of test cases exceeds
+   * the given <CODE>maxCases</CODE>, stops generating, leaving an incomplete set of test cases. Returns the number of test
+   * cases supplied.
+   */
+  @Override
+  protected int getValidCases( FunctionInputDef inputDef, IVarTupleSet validTuples, List<TestCaseDef> baseCases, int maxCases, Consumer<TestCaseDef> validCases)
+    {
+    logger_.debug( "{}: Creating valid test cases", inputDef);
+
+    RandSeq randSeq = getRandomSeed()==null? null : new RandSeq( getRandomSeed());
+    CoveringArray coveringArray = new CoveringArray( inputDef, validTuples, randSeq, baseCases);
+
+    int validCount = 0;
+
+    // For each new row of the covering array...
+    for( Iterator<Row> rows = coveringArray.getNewRows(); validCount <= maxCases && rows.hasNext(); )
+      {
+      // Completed bindings for all variables?
+      Row row = rows.next();
+      TestCaseDef validCase = row.getTestCase();
+      if( makeComplete( validCase, validTuples, getVarsRemaining( inputDef, validCase)))
+        {
+        // Yes, add new valid test case.
+        logger_.debug( "Completed test case={}", validCase);
+        validTuples.used( validCase);
+        validCases.accept( validCase);
+        validCount++;
+        }
+      else
+        {
+        // No, combinations covered only by this row are lost.
+        logger_.warn( "Can't create test case for tuple={}", row.getTuple());
+        }
+      }
+
+    logger_.info( "{}: Created {} valid test cases", inputDef, validCount);
+    return validCount;
+    }
+
+  /**
+   * Returns a copy of this object.
+   */
+  @Override
+  public ITestCaseGenerator cloneOf()
+    {
+    CoveringArrayGenerator other = new CoveringArrayGenerator();
+    other.setRandomSeed( getRandomSeed());
+    other.setDefaultTupleSize( getDefaultTupleSize());
+    other.setCombiners( getCombiners().stream().map( TupleCombiner::cloneOf).collect( toList()));
+    return other;
+    }
+
+  /**
+   * Builds a covering array for the valid values of all input variables.
+   */
+  private class CoveringArray
+    {
+    /**
+     * Creates a new CoveringArray instance.
+     */
+    public CoveringArray( FunctionInputDef inputDef, IVarTupleSet validTuples, RandSeq randSeq, List<TestCaseDef> baseCases)
+      {
+      inputDef_ = inputDef;
+      validTuples_ = validTuples;
+      randSeq_ = randSeq;
+
+      // Add variables in parameter order, starting with those with the most values.
+      vars_ = IteratorUtils.toList( new VarDefIterator( inputDef));
+      Collections.sort( vars_, Comparator.comparingInt( (VarDef var) -> IteratorUtils.size( var.getValidValues())).reversed());
+
+      varPositions_ = new HashMap<VarDef,Integer>();
+      values_ = new ArrayList<List<VarValueDef>>();
+      interactions_ = new ArrayList<List<Interaction>>();
+      for( int i = 0; i < vars_.size(); i++)
+        {
+        VarDef var = vars_.get(i);
+        varPositions_.put( var, i);
+        values_.add( IteratorUtils.toList( var.getValidValues()));
+        interactions_.add( new ArrayList<Interaction>());
+        }
+
+      // Get combinations required for each specified combiner...
+      for( TupleCombiner combiner : getCombiners())
+        {
+        List<VarDef> combinedVars = combiner.getCombinedVars( inputDef);
+        addInteractions( combinedVars, combiner.getTupleSize(), combiner.getOnceTupleDefs( combinedVars));
+        }
+
+      // ...and the default combinations for all input variables that do not belong to a combiner tuple set.
+      List<VarDef> uncombinedVars =
+        IteratorUtils.toList(
+          IteratorUtils.filteredIterator(
+            new VarDefIterator( inputDef),
+            var -> isUncombined( var)));
+
+      if( !uncombinedVars.isEmpty())
+        {
+        int defaultTupleSize = getDefaultTupleSize();
+        int varCount = uncombinedVars.size();
+        int tupleSize = Math.min( varCount, defaultTupleSize < 1? varCount : defaultTupleSize);
+        addInteractions( uncombinedVars, tupleSize, tupleSize == 1? getOnceValues( uncombinedVars) : Collections.<Tuple>emptyList());
+        }
+
+      // Start with any base cases...
+      rows_ = new ArrayList<Row>();
+      for( TestCaseDef baseCase : baseCases)
+        {
+        rows_.add( new Row( getValues( baseCase), baseCase, null));
+        }
+
+      // ...and then add each variable to the covering array.
+      for( int i = 0; i < vars_.size(); i++)
+        {
+        extendRows( i);
+        addUncovered( i);
+        }
+
+      logger_.debug( "{}: Created covering array with {} new rows", inputDef, rows_.size() - baseCases.size());
+      }
+
+    /**
+     * Returns the rows of this covering array that do not extend a base test case.
+     */
+    public Iterator<Row> getNewRows()
+      {
+      return IteratorUtils.filteredIterator( rows_.iterator(), row -> row.getTuple() != null);
+      }
+
+    /**
+     * Adds the interactions required for all combinations of the given variables.
+     */
+    private void addInteractions( List<VarDef> vars, int tupleSize, Collection<Tuple> onceTuples)
+      {
+      int[] positions = vars.stream().mapToInt( varPositions_::get).sorted().toArray();
+      int size = tupleSize < 1? positions.length : tupleSize;
+
+      Map<List<Integer>,Interaction> added = new HashMap<List<Integer>,Interaction>();
+
+      // For each combination of variable positions, in increasing order...
+      int[] members = size > 0? IntStream.range( 0, size).toArray() : null;
+      while( members != null)
+        {
+        int[] interactionVars = Arrays.stream( members).map( member -> positions[ member]).toArray();
+        Interaction interaction = new Interaction( interactionVars, getValueCounts( interactionVars));
+        interactions_.get( interaction.getLastVar()).add( interaction);
+
+        if( !onceTuples.isEmpty())
+          {
+          added.put( Arrays.stream( interactionVars).boxed().collect( toList()), interaction);
+          }
+
+        members = getNextMembers( members, positions.length);
+        }
+
+      // Mark any once-only combinations.
+      for( Tuple onceTuple : onceTuples)
+        {
+        int[] row = unboundRow();
+        List<Integer> onceVars = new ArrayList<Integer>();
+        for( Iterator<VarBindingDef> bindings = onceTuple.getBindings(); bindings.hasNext(); )
+          {
+          VarBindingDef binding = bindings.next();
+          int var = varPositions_.get( binding.getVarDef());
+          onceVars.add( var);
+          row[ var] = values_.get( var).indexOf( binding.getValueDef());
+          }
+        Collections.sort( onceVars);
+
+        Interaction interaction = added.get( onceVars);
+        if( interaction != null)
+          {
+          interaction.setOnce( interaction.indexOf( row));
+          }
+        }
+      }
+
+    /**
+     * Returns the next combination of members after the given one, or null if no more combinations remain.
+     */
+    private int[] getNextMembers( int[] members, int memberCount)
+      {
+      int size = members.length;
+      int i;
+      for( i = size - 1; i >= 0 && members[i] == memberCount - size + i; i--);
+
+      int[] next = null;
+      if( i >= 0)
+        {
+        next = Arrays.copyOf( members, size);
+        next[i]++;
+        for( int j = i + 1; j < size; j++)
+          {
+          next[j] = next[j-1] + 1;
+          }
+        }
+
+      return next;
+      }
+
+    /**
+     * Returns the number of valid values for each of the given variables.
+     */
+    private int[] getValueCounts( int[] vars)
+      {
+      return Arrays.stream( vars).map( var -> values_.get( var).size()).toArray();
+      }
+
+    /**
+     * Returns once-only 1-tuples for the given variables.
+     */
+    private Collection<Tuple> getOnceValues( List<VarDef> vars)
+      {
+      List<Tuple> onceValues = new ArrayList<Tuple>();
+      for( VarDef var : vars)
+        {
+        for( Iterator<VarValueDef> values = var.getValidValues(); values.hasNext(); )
+          {
+          VarValueDef value = values.next();
+          if( value.getType() == VarValueDef.Type.ONCE)
+            {
+            onceValues.add( new Tuple( new VarBindingDef( var, value)));
+            }
+          }
+        }
+
+      return onceValues;
+      }
+
+    /**
+     * Returns the row values bound by the given test case.
+     */
+    private int[] getValues( TestCaseDef testCase)
+      {
+      int[] row = unboundRow();
+      for( int i = 0; i < row.length; i++)
+        {
+        VarValueDef value = testCase.getValue( vars_.get(i));
+        if( value != null)
+          {
+          int valueIndex = values_.get(i).indexOf( value);
+          row[i] = valueIndex < 0? OTHER : valueIndex;
+          }
+        }
+
+      return row;
+      }
+
+    /**
+     * Returns row values with all variables unbound.
+     */
+    private int[] unboundRow()
+      {
+      int[] row = new int[ vars_.size()];
+      Arrays.fill( row, UNBOUND);
+      return row;
+      }
+
+    /**
+     * Extends all current rows with a value for the given variable.
+     */
+    private void extendRows( int var)
+      {
+      List<Interaction> interactions = interactions_.get( var);
+      int[] usage = new int[ values_.get( var).size()];
+
+      for( Row row : rows_)
+        {
+        int[] rowValues = row.getValues();
+        if( rowValues[ var] == UNBOUND)
+          {
+          // Order values by decreasing number of new combinations covered, preferring the least used.
+          int[] scores = new int[ usage.length];
+          for( int value = 0; value < scores.length; value++)
+            {
+            rowValues[ var] = value;
+            scores[ value] = getScore( rowValues, interactions);
+            }
+          rowValues[ var] = UNBOUND;
+
+          List<Integer> candidates = RandSeq.reorderIf( randSeq_, IntStream.range( 0, scores.length).boxed().collect( toList()));
+          Collections.sort(
+            candidates,
+            Comparator.comparingInt( (Integer value) -> -scores[ value])
+            .thenComparingInt( value -> usage[ value]));
+
+          // Bind the best value that is compatible with this row, unless all would repeat a once-only combination.
+          Iterator<Integer> values;
+          Integer value;
+          for( values = candidates.iterator(), value = null;
+
+               values.hasNext()
+                 && scores[ (value = values.next())] >= 0
+                 && !bind( row, new int[]{ var }, new int[]{ value });
+
+               value = null);
+
+          if( value != null && rowValues[ var] == value)
+            {
+            usage[ value]++;
+            }
+          }
+
+        setCovered( row, var);
+        }
+      }
+
+    /**
+     * Adds rows to cover all combinations for the given variable not covered by current rows.
+     */
+    private void addUncovered( int var)
+      {
+      for( Interaction interaction : interactions_.get( var))
+        {
+        for( int combination = interaction.getNextUncovered( 0);
+             combination >= 0;
+             combination = interaction.getNextUncovered( combination + 1))
+          {
+          int[] values = interaction.getValues( combination);
+
+          Row row = findRow( interaction.getVars(), values);
+          if( row == null)
+            {
+            row = createRow( interaction.getVars(), values);
+            }
+
+          if( row != null)
+            {
+            setCovered( row, var);
+            }
+          else
+            {
+            // This combination can't be covered by any test case.
+            Tuple tuple = getTuple( interaction.getVars(), values);
+            if( tuple.size() == 1)
+              {
+              // An infeasible single value is an input definition error.
+              throw new RuntimeException( "Can't create test case for tuple=" + tuple);
+              }
+            if( tuple.isCompatible())
+              {
+              logger_.warn( "Can't create test case for tuple={}", tuple);
+              }
+            interaction.setCovered( combination);
+            }
+          }
+        }
+      }
+
+    /**
+     * Returns a current row that can be extended with the given variable values. Returns null if no such row is found.
+     */
+    private Row findRow( int[] vars, int[] values)
+      {
+      Row found = null;
+      for( Iterator<Row> rows = rows_.iterator(); found == null && rows.hasNext(); )
+        {
+        Row row = rows.next();
+        int[] rowValues = row.getValues();
+
+        List<Integer> unboundVars = new ArrayList<Integer>();
+        List<Integer> unboundValues = new ArrayList<Integer>();
+        boolean matched;
+        int i;
+        for( i = 0, matched = true; matched && i < vars.length; i++)
+          {
+          int rowValue = rowValues[ vars[i]];
+          if( rowValue == UNBOUND)
+            {
+            unboundVars.add( vars[i]);
+            unboundValues.add( values[i]);
+            }
+          else
+            {
+            matched = rowValue == values[i];
+            }
+          }
+
+        if( matched
+            && !unboundVars.isEmpty()
+            && bind( row, unboundVars.stream().mapToInt( Integer::intValue).toArray(), unboundValues.stream().mapToInt( Integer::intValue).toArray()))
+          {
+          found = row;
+          }
+        }
+
+      return found;
+      }
+
+    /**
+     * Returns a new row that binds the given variable values. Returns null if no test case can include these values.
+     */
+    private Row createRow( int[] vars, int[] values)
+      {
+      Tuple tuple = getTuple( vars, values);
+      TestCaseDef testCase = new TestCaseDef( getConditionCache());
+      testCase.setName( tuple);
+
+      Row row = new Row( unboundRow(), testCase, tuple);
+      if( bind( row, vars, values))
+        {
+        rows_.add( row);
+        }
+      else
+        {
+        row = null;
+        }
+
+      return row;
+      }
+
+    /**
+     * If compatible with the given row, binds the given variable values. Returns true if these values are bound.
+     */
+    private boolean bind( Row row, int[] vars, int[] values)
+      {
+      TestCaseDef testCase = row.getTestCase();
+      int prevBindings = testCase.getBindingCount();
+
+      boolean bound =
+        // Compatible bindings?
+        testCase.addCompatible( getTuple( vars, values)) != null
+
+        // Still feasible?
+        && !testCase.isInfeasible()
+
+        // Can bindings for all remaining variables still be completed?
+        && isCompletable( testCase);
+
+      if( bound)
+        {
+        int[] rowValues = row.getValues();
+        for( int i = 0; i < vars.length; i++)
+          {
+          rowValues[ vars[i]] = values[i];
+          }
+        }
+      else
+        {
+        testCase.revertBindings( prevBindings);
+        }
+
+      return bound;
+      }
+
+    /**
+     * Returns if bindings for all remaining variables can be completed for the given test case.
+     */
+    private boolean isCompletable( TestCaseDef testCase)
+      {
+      int prevBindings = testCase.getBindingCount();
+      boolean completable = makeComplete( testCase, validTuples_, getVarsRemaining( inputDef_, testCase));
+      testCase.revertBindings( prevBindings);
+      return completable;
+      }
+
+    /**
+     * Marks all combinations for the given variable that are covered by the given row.
+     */
+    private void setCovered( Row row, int var)
+      {
+      for( Interaction interaction : interactions_.get( var))
+        {
+        int combination = interaction.indexOf( row.getValues());
+        if( combination >= 0)
+          {
+          interaction.setCovered( combination);
+          }
+        }
+      }
+
+    /**
+     * Returns the number of new combinations covered by the given row values, less the number of once-only
+     * combinations repeated.
+     */
+    private int getScore( int[] rowValues, List<Interaction> interactions)
+      {
+      int score = 0;
+      for( Interaction interaction : interactions)
+        {
+        int combination = interaction.indexOf( rowValues);
+        if( combination < 0)
+          {
+          // Not yet bound by this row.
+          }
+        else if( !interaction.isCovered( combination))
+          {
+          score++;
+          }
+        else if( interaction.isOnce( combination))
+          {
+          score--;
+          }
+        }
+
+      return score;
+      }
+
+    /**
+     * Returns the tuple that binds the given variable values.
+     */
+    private Tuple getTuple( int[] vars, int[] values)
+      {
+      Tuple tuple = new Tuple();
+      for( int i = 0; i < vars.length; i++)
+        {
+        tuple.add( new VarBindingDef( vars_.get( vars[i]), values_.get( vars[i]).get( values[i])));
+        }
+
+      return tuple;
+      }
+
+    private final FunctionInputDef inputDef_;
+    private final IVarTupleSet validTuples_;
+    private final RandSeq randSeq_;
+    private final List<VarDef> vars_;
+    private final Map<VarDef,Integer> varPositions_;
+    private final List<List<VarValueDef>> values_;
+    private final List<List<Interaction>> interactions_;
+    private final List<Row> rows_;
+    }
+
+  /**
+   * Tracks the coverage of all value combinations for a set of variables. Each combination is identified by
+   * an index computed from the index of each variable value.
+   */
+  private static class Interaction
+    {
+    /**
+     * Creates a new Interaction instance for the given variables, which must be in increasing order.
+     */
+    public Interaction( int[] vars, int[] valueCounts)
+      {
+      vars_ = vars;
+      valueCounts_ = valueCounts;
+
+      long combinations = 1;
+      for( int i = 0; i < valueCounts.length; i++)
+        {
+        combinations *= valueCounts[i];
+        if( combinations > Integer.MAX_VALUE)
+          {
+          throw new IllegalStateException( "Can't create " + vars.length + "-tuples: too many value combinations");
+          }
+        }
+
+      combinations_ = (int) combinations;
+      covered_ = new BitSet( combinations_);
+      }
+
+    /**
+     * Returns the variables combined.
+     */
+    public int[] getVars()
+      {
+      return vars_;
+      }
+
+    /**
+     * Returns the last variable combined.
+     */
+    public int getLastVar()
+      {
+      return vars_[ vars_.length - 1];
+      }
+
+    /**
+     * Returns the combination of values bound by the given row. Returns -1 if any of these variables is not bound
+     * to a valid value.
+     */
+    public int indexOf( int[] row)
+      {
+      int combination = 0;
+      for( int i = 0; combination >= 0 && i < vars_.length; i++)
+        {
+        int value = row[ vars_[i]];
+        combination =
+          value < 0
+          ? -1
+          : combination * valueCounts_[i] + value;
+        }
+
+      return combination;
+      }
+
+    /**
+     * Returns the value of each variable for the given combination.
+     */
+    public int[] getValues( int combination)
+      {
+      int[] values = new int[ vars_.length];
+      for( int i = vars_.length - 1; i >= 0; i--)
+        {
+        values[i] = combination % valueCounts_[i];
+        combination /= valueCounts_[i];
+        }
+
+      return values;
+      }
+
+    /**
+     * Returns the first uncovered combination at or after the given one. Returns -1 if no such combination exists.
+     */
+    public int getNextUncovered( int combination)
+      {
+      int uncovered = covered_.nextClearBit( combination);
+      return uncovered < combinations_? uncovered : -1;
+      }
+
+    /**
+     * Returns if the given combination is covered.
+     */
+    public boolean isCovered( int combination)
+      {
+      return covered_.get( combination);
+      }
+
+    /**
+     * Marks the given combination as covered.
+     */
+    public void setCovered( int combination)
+      {
+      covered_.set( combination);
+      }
+
+    /**
+     * Returns if the given combination should be covered at most once.
+     */
+    public boolean isOnce( int combination)
+      {
+      return once_ != null && once_.get( combination);
+      }
+
+    /**
+     * Marks the given combination to be covered at most once.
+     */
+    public void setOnce( int combination)
+      {
+      if( once_ == null)
+        {
+        once_ = new BitSet( combinations_);
+        }
+      once_.set( combination);
+      }
+
+    private final int[] vars_;
+    private final int[] valueCounts_;
+    private final int combinations_;
+    private final BitSet covered_;
+    private BitSet once_;
+    }
+
+  /**
+   * A row of the covering array, which defines a (possibly incomplete) test case.
+   */
+  private static class Row
+    {
+    /**
+     * Creates a new Row instance. The tuple that created a new row is null if this row extends a base test case.
+     */
+    public Row( int[] values, TestCaseDef testCase, Tuple tuple)
+      {
+      values_ = values;
+      testCase_ = testCase;
+      tuple_ = tuple;
+      }
+
+    /**
+     * Returns the index of the value bound to each variable.
+     */
+    public int[] getValues()
+      {
+      return values_;
+      }
+
+    /**
+     * Returns the test case defined by this row.
+     */
+    public TestCaseDef getTestCase()
+      {
+      return testCase_;
+      }
+
+    /**
+     * Returns the tuple that created this row.
+     */
+    public Tuple getTuple()
+      {
+      return tuple_;
+      }
+
+    private final int[] values_;
+    private final TestCaseDef testCase_;
+    private final Tuple tuple_;
+    }
+
+  private static final int UNBOUND = -1;
+  private static final int OTHER = -2;
+
+  private static final Logger logger_ = LoggerFactory.getLogger( CoveringArrayGenerator.class);
+  }
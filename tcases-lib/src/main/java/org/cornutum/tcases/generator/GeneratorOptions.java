@@ -47,6 +47,24 @@ public class GeneratorOptions
     return defaultTupleSize_;
     }    
 
+  /**
+   * Changes the maximum number of threads used to generate test cases for different functions concurrently.
+   * If null or less than 2, test cases for all functions are generated sequentially.
+   */
+  public void setThreads( Integer threads)
+    {
+    threads_ = threads;
+    }
+
+  /**
+   * Returns the maximum number of threads used to generate test cases for different functions concurrently.
+   * If null or less than 2, test cases for all functions are generated sequentially.
+   */
+  public Integer getThreads()
+    {
+    return threads_;
+    }
+
   /**
    * Returns a new GeneratorOptions builder.
    */
@@ -62,11 +80,13 @@ public class GeneratorOptions
       ToString.getBuilder( this)
       .append( "seed", getRandomSeed())
       .append( "tuples", getDefaultTupleSize())
+      .append( "threads", getThreads())
       .build();
     }
 
   private Long seed_;
   private Integer defaultTupleSize_;    
+  private Integer threads_;
 
   public static class Builder
     {
@@ -87,6 +107,12 @@ public class GeneratorOptions
       return this;
       } 
 
+    public Builder threads( int threads)
+      {
+      options_.setThreads( threads);
+      return this;
+      } 
+
     public GeneratorOptions build()
       {
       return options_;
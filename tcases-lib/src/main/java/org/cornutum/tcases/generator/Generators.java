@@ -48,6 +48,22 @@ public final class Generators
     return tuples( 1);
     }
 
+  /**
+   * Returns a new {@link TupleGeneratorBuilder} for a {@link CoveringArrayGenerator} with the given default tuple size.
+   */
+  public static TupleGeneratorBuilder coveringArray( int tupleSize)
+    {
+    return TupleGeneratorBuilder.with( new CoveringArrayGenerator()).tuples( tupleSize);
+    }
+
+  /**
+   * Returns a new {@link TupleGeneratorBuilder} for a {@link CoveringArrayGenerator} with default tuple size 1.
+   */
+  public static TupleGeneratorBuilder coveringArray()
+    {
+    return coveringArray( 1);
+    }
+
   /**
    * Returns a new {@link TupleCombinerBuilder} with the given tuple size.
    */
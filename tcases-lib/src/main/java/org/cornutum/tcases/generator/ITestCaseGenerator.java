@@ -11,6 +11,7 @@ import org.cornutum.tcases.*;
 import org.cornutum.tcases.util.CloneableType;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Generates {@link TestCase test cases} for a {@link FunctionInputDef function}.
@@ -34,4 +35,24 @@ public interface ITestCaseGenerator extends CloneableType<ITestCaseGenerator>
    * that extend the base tests.
    */
   List<ITestCaseDef> getTests( FunctionInputDef inputDef, FunctionTestDef baseTests);  
+
+  /**
+   * Supplies the same {@link ITestCaseDef test case definitions} that {@link #getTests getTests()} returns for the given
+   * function input definition and base test definition, passing each one to the given consumer in the same order.
+   * Implementations may supply each definition as soon as it is complete, without holding the complete set.
+   */
+  default void getTests( FunctionInputDef inputDef, FunctionTestDef baseTests, Consumer<ITestCaseDef> testCaseDefs)
+    {
+    getTests( inputDef, baseTests).forEach( testCaseDefs);
+    }
+
+  /**
+   * Returns the number of {@link ITestCaseDef test case definitions} that {@link #getTests getTests()} returns for
+   * the given function input definition and base test definition. Once this number exceeds the given <CODE>maxCount</CODE>,
+   * generation may stop early, returning any number greater than <CODE>maxCount</CODE>.
+   */
+  default int getTestCount( FunctionInputDef inputDef, FunctionTestDef baseTests, int maxCount)
+    {
+    return getTests( inputDef, baseTests).size();
+    }
   }
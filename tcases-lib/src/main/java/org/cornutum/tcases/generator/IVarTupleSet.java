@@ -0,0 +1,104 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2012, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.generator;
+
+import org.cornutum.tcases.VarBindingDef;
+import org.cornutum.tcases.VarDef;
+
+import java.util.Iterator;
+
+/**
+ * Defines a set of input variable combinations used for test cases.
+ *
+ */
+public interface IVarTupleSet
+  {
+  /**
+   * Returns input tuples not yet used in a test case.
+   */
+  Iterator<Tuple> getUnused();
+
+  /**
+   * Returns input tuples not yet used in a test case that bind the given variable.
+   */
+  Iterator<Tuple> getUnused( VarDef var);
+
+  /**
+   * Returns a measure of the "unused-ness" of the given binding.
+   * Returns a value between 0 and 1 (exclusive) -- a higher value means a binding is more unused.
+   */
+  double getUnusedScore( VarBindingDef binding);
+
+  /**
+   * Returns input tuples already used in a test case.
+   */
+  Iterator<Tuple> getUsed();
+
+  /**
+   * Returns input tuples already used in a test case that bind the given variable,
+   * excluding once-only tuples.
+   */
+  Iterator<Tuple> getUsed( VarDef var);
+
+  /**
+   * Returns once-only input tuples already used in a test case that bind the given variable.
+   */
+  Iterator<Tuple> getUsedOnce( VarDef var);
+
+  /**
+   * Returns input tuples already used in a test case that bind the given variable, considering
+   * only tuples that are (not) once-only
+   */
+  Iterator<Tuple> getUsed( VarDef var, boolean onceOnly);
+
+  /**
+   * Returns a measure of the "used-ness" of the given binding.
+   * Returns a value between 0 and 1 (exclusive) -- a higher value means a binding is more used.
+   */
+  double getUsedScore( VarBindingDef binding);
+
+  /**
+   * Returns a measure of the "used-ness" of the given binding among once-only tuples.
+   * Returns a value between 0 and 1 (exclusive) -- a higher value means a binding is more used among once-only tuples.
+   */
+  double getUsedOnceScore( VarBindingDef binding);
+
+  /**
+   * Returns a measure of the preference for using the given binding to complete a test case. A higher value
+   * means a binding is preferred: higher "unused-ness" and lower "used-ness", especially among once-only tuples.
+   */
+  default int getUsageScore( VarBindingDef binding)
+    {
+    int maxScore = 1000;
+    int unusedScore = (int) (getUnusedScore( binding) * maxScore);
+    int usedScore = (int) ((1.0 - getUsedScore( binding)) * (maxScore - 1));
+    int usedOnceScore = (int) ((1.0 - getUsedOnceScore( binding)) * (maxScore - 1));
+    return ((unusedScore * maxScore) + usedOnceScore) * maxScore + usedScore;
+    }
+
+  /**
+   * Asserts use of all tuples contained in the given test case.
+   */
+  void used( TestCaseDef testCase);
+
+  /**
+   * Asserts that the given tuple has been used in a test case.
+   */
+  void used( Tuple tuple);
+
+  /**
+   * Removes the given tuple from use in test cases.
+   */
+  void remove( Tuple tuple);
+
+  /**
+   * Returns the next unused tuple from this set. Returns null if all
+   * tuples have been used.
+   */
+  Tuple getNextUnused();
+  }
@@ -0,0 +1,827 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2012, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.generator;
+
+import org.cornutum.tcases.VarBindingDef;
+import org.cornutum.tcases.VarDef;
+import org.cornutum.tcases.util.ToString;
+
+import org.apache.commons.collections4.IteratorUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Defines a set of input variable combinations used for test cases.
+ * <P/>
+ * An IndexedVarTupleSet presents tuples in exactly the same order as a {@link VarTupleSet}. But, instead of
+ * scanning lists of tuples, it maintains hash indexes of tuple membership, posting lists of the tuples that bind each
+ * {@link VarDef variable} and each {@link VarBindingDef binding}, and an ordered queue of used tuples. As a result,
+ * marking tuples used and finding the tuples that bind a variable take constant or logarithmic time, even for
+ * the large tuple sets produced by higher-order {@link TupleCombiner combiners}.
+ * <P/>
+ * For each binding, an IndexedVarTupleSet also keeps a running count of unused tuples and the most recent
+ * use of the binding, which determine its {@link #getUsageScore usage score}. Each score is computed at most once
+ * between changes to this set, no matter how often the {@link TupleGenerator} compares bindings.
+ *
+ */
+public class IndexedVarTupleSet implements IVarTupleSet
+  {
+  /**
+   * Creates a new IndexedVarTupleSet object.
+   */
+  public IndexedVarTupleSet( List<Tuple> tuples)
+    {
+    unused_ = new LinkedHashSet<TupleEntry>();
+    unusedByTuple_ = new HashMap<Tuple,List<TupleEntry>>();
+    unusedByVar_ = new HashMap<VarDef,Set<TupleEntry>>();
+
+    used_ = new TreeSet<TupleEntry>( usedOrder_);
+    usedByTuple_ = new HashMap<Tuple,List<TupleEntry>>();
+    usedByVar_ = new HashMap<VarDef,Set<TupleEntry>>();
+    usedOnceByVar_ = new HashMap<VarDef,Set<TupleEntry>>();
+
+    bindingUsage_ = new HashMap<VarBindingDef,BindingUsage>();
+
+    recent_ = new LinkedHashSet<TupleEntry>();
+    recentCounts_ = new SeqCounts();
+    sortedCounts_ = new TreeMap<Integer,SeqCounts>();
+
+    if( tuples != null)
+      {
+      for( Tuple tuple : tuples)
+        {
+        addUnused( new TupleEntry( tuple, unused_.size()));
+        }
+      }
+    }
+
+  /**
+   * Returns input tuples not yet used in a test case.
+   */
+  @Override
+  public Iterator<Tuple> getUnused()
+    {
+    return tuplesOf( unused_);
+    }
+
+  /**
+   * Returns input tuples not yet used in a test case that bind the given variable.
+   */
+  @Override
+  public Iterator<Tuple> getUnused( VarDef var)
+    {
+    return tuplesOf( unusedByVar_.get( var));
+    }
+
+  /**
+   * Returns a measure of the "unused-ness" of the given binding.
+   * Returns a value between 0 and 1 (exclusive) -- a higher value means a binding is more unused.
+   */
+  @Override
+  public double getUnusedScore( VarBindingDef binding)
+    {
+    // Returns the percentage of unused tuples that include this binding.
+    BindingUsage usage = bindingUsage_.get( binding);
+    return
+      unused_.isEmpty() || usage == null
+      ? 0.0
+      : (double) usage.getUnused().size() / unused_.size();
+    }
+
+  /**
+   * Returns input tuples already used in a test case.
+   */
+  @Override
+  public Iterator<Tuple> getUsed()
+    {
+    sortUsed();
+    return tuplesOf( used_);
+    }
+
+  /**
+   * Returns input tuples already used in a test case that bind the given variable,
+   * excluding once-only tuples.
+   */
+  @Override
+  public Iterator<Tuple> getUsed( VarDef var)
+    {
+    return getUsed( var, false);
+    }
+
+  /**
+   * Returns once-only input tuples already used in a test case that bind the given variable.
+   */
+  @Override
+  public Iterator<Tuple> getUsedOnce( VarDef var)
+    {
+    return getUsed( var, true);
+    }
+
+  /**
+   * Returns input tuples already used in a test case that bind the given variable, considering
+   * only tuples that are (not) once-only
+   */
+  @Override
+  public Iterator<Tuple> getUsed( VarDef var, boolean onceOnly)
+    {
+    sortUsed();
+    return tuplesOf( (onceOnly? usedOnceByVar_ : usedByVar_).get( var));
+    }
+
+  /**
+   * Returns a measure of the "used-ness" of the given binding.
+   * Returns a value between 0 and 1 (exclusive) -- a higher value means a binding is more used.
+   */
+  @Override
+  public double getUsedScore( VarBindingDef binding)
+    {
+    return getUsedScore( binding, false);
+    }
+
+  /**
+   * Returns a measure of the "used-ness" of the given binding among once-only tuples.
+   * Returns a value between 0 and 1 (exclusive) -- a higher value means a binding is more used among once-only tuples.
+   */
+  @Override
+  public double getUsedOnceScore( VarBindingDef binding)
+    {
+    return getUsedScore( binding, true);
+    }
+
+  /**
+   * Returns a measure of the "used-ness" of the given binding. If <CODE>onceOnly</CODE> is true, consider only once-only tuples.
+   * Returns a value between 0 and 1 (exclusive) -- a higher value means a binding is more used.
+   */
+  private double getUsedScore( VarBindingDef binding, boolean onceOnly)
+    {
+    // Find the most recent use of this binding. Return the distance of this tuple from the start of
+    // the used list, as percentage of the size of the list.
+    BindingUsage usage = bindingUsage_.get( binding);
+    TupleEntry lastUsed = usage == null? null : usage.getLastUsed( onceOnly);
+    return
+      lastUsed == null
+      ? 0.0
+      : (double)(getUsedIndex( lastUsed) + 1) / (used_.size() + 1);
+    }
+
+  /**
+   * Returns a measure of the preference for using the given binding to complete a test case. A higher value
+   * means a binding is preferred: higher "unused-ness" and lower "used-ness", especially among once-only tuples.
+   */
+  @Override
+  public int getUsageScore( VarBindingDef binding)
+    {
+    // Scores change only when this set changes, so reuse the last score computed since then.
+    BindingUsage usage = bindingUsage_.get( binding);
+    if( usage == null)
+      {
+      return IVarTupleSet.super.getUsageScore( binding);
+      }
+    if( usage.getScoreChanges() != changes_)
+      {
+      usage.setScore( IVarTupleSet.super.getUsageScore( binding), changes_);
+      }
+
+    return usage.getScore();
+    }
+
+  /**
+   * Asserts use of all tuples contained in the given test case.
+   */
+  @Override
+  public void used( TestCaseDef testCase)
+    {
+    // Find all unused and used tuples contained in this test case. Each tuple is a candidate only
+    // for its "anchor" binding, so that no tuple is visited more than once.
+    List<TupleEntry> unusedTuples = new ArrayList<TupleEntry>();
+    List<TupleEntry> usedTuples = new ArrayList<TupleEntry>();
+    for( Iterator<VarDef> vars = testCase.getVars(); vars.hasNext(); )
+      {
+      VarDef var = vars.next();
+      VarBindingDef binding = new VarBindingDef( var, testCase.getValue( var));
+      BindingUsage usage = bindingUsage_.get( binding);
+      if( usage != null)
+        {
+        addUsedBy( testCase, binding, usage.getUnused(), unusedTuples);
+        addUsedBy( testCase, binding, usage.getUsed( false), usedTuples);
+        }
+      }
+
+    // Assert use in the same order as the current unused and used lists.
+    Collections.sort( unusedTuples, unusedOrder_);
+    Collections.sort( usedTuples, usedOrder_);
+
+    // Note: must accumulate tuples into a separate list to avoid ConcurrentModificationException when updating used/unused membership.
+    for( TupleEntry entry : unusedTuples)
+      {
+      used( entry.getTuple());
+      }
+    for( TupleEntry entry : usedTuples)
+      {
+      used( entry.getTuple());
+      }
+    }
+
+  /**
+   * Adds to the given list all of the given tuples anchored by the given binding that are used by the given test case.
+   */
+  private void addUsedBy( TestCaseDef testCase, VarBindingDef binding, Collection<TupleEntry> tuples, List<TupleEntry> usedBy)
+    {
+    for( TupleEntry entry : tuples)
+      {
+      if( binding.equals( entry.getAnchor()) && testCase.usesTuple( entry.getTuple()))
+        {
+        usedBy.add( entry);
+        }
+      }
+    }
+
+  /**
+   * Asserts that the given tuple has been used in a test case.
+   */
+  @Override
+  public void used( Tuple tuple)
+    {
+    // Currently unused?
+    TupleEntry entry = getUnusedEntry( tuple);
+    if( entry != null)
+      {
+      // Yes, relocate to used list.
+      removeUnused( entry);
+      addUsed( tuple);
+
+      if( tuple.size() > 1)
+        {
+        // Once used, N-tuples can be reduced to 1-tuples.  This enables different combinations
+        // that may be required to complete tests for other tuples. In particular, it allows for an
+        // NA binding of an optional variable, which will never appear in N-tuples.
+        for( Iterator<VarBindingDef> bindings = tuple.getBindings(); bindings.hasNext();)
+          {
+          Tuple tuple1 = new Tuple( bindings.next());
+          tuple1.setOnce( tuple.isOnce());
+
+          // 1-tuple already used?
+          if( (entry = getUsedEntry( tuple1)) != null)
+            {
+            // Yes, move to the end of the list. This acts to keep the used list
+            // in least-recently-used-first order.
+            removeUsed( entry);
+            }
+          addUsed( tuple1);
+          }
+        }
+      }
+
+    // No, already used?
+    else if( (entry = getUsedEntry( tuple)) != null)
+      {
+      // Yes, move to the end of the list. This acts to keep the used list
+      // in least-recently-used-first order.
+      removeUsed( entry);
+      addUsed( entry.getTuple());
+      }
+    }
+
+  /**
+   * Removes the given tuple from use in test cases.
+   */
+  @Override
+  public void remove( Tuple tuple)
+    {
+    TupleEntry entry = getUnusedEntry( tuple);
+    if( entry != null)
+      {
+      removeUnused( entry);
+      }
+    }
+
+  /**
+   * Returns the next unused tuple from this set. Returns null if all
+   * tuples have been used.
+   */
+  @Override
+  public Tuple getNextUnused()
+    {
+    Iterator<Tuple> unused = getUnused();
+    return
+      unused.hasNext()
+      ? unused.next()
+      : null;
+    }
+
+  /**
+   * Adds the given entry to the unused list.
+   */
+  private void addUnused( TupleEntry entry)
+    {
+    Tuple tuple = entry.getTuple();
+
+    unused_.add( entry);
+    unusedByTuple_.computeIfAbsent( tuple, t -> new ArrayList<TupleEntry>( 1)).add( entry);
+    for( Iterator<VarBindingDef> bindings = tuple.getBindings(); bindings.hasNext();)
+      {
+      VarBindingDef binding = bindings.next();
+      unusedByVar_.computeIfAbsent( binding.getVarDef(), v -> new LinkedHashSet<TupleEntry>()).add( entry);
+      getBindingUsage( binding).getUnused().add( entry);
+      }
+    }
+
+  /**
+   * Removes the given entry from the unused list.
+   */
+  private void removeUnused( TupleEntry entry)
+    {
+    Tuple tuple = entry.getTuple();
+
+    unused_.remove( entry);
+    removeFrom( unusedByTuple_, tuple, entry);
+    for( Iterator<VarBindingDef> bindings = tuple.getBindings(); bindings.hasNext();)
+      {
+      VarBindingDef binding = bindings.next();
+      removeFrom( unusedByVar_, binding.getVarDef(), entry);
+      bindingUsage_.get( binding).getUnused().remove( entry);
+      }
+    changes_++;
+    }
+
+  /**
+   * Returns the first unused entry for the given tuple. Returns null if the tuple is not unused.
+   */
+  private TupleEntry getUnusedEntry( Tuple tuple)
+    {
+    // Equal tuples are indexed in unused list order.
+    List<TupleEntry> entries = unusedByTuple_.get( tuple);
+    return
+      entries == null || entries.isEmpty()
+      ? null
+      : entries.get(0);
+    }
+
+  /**
+   * Add the given tuple to the end of the list of those used in a test case.
+   */
+  private void addUsed( Tuple tuple)
+    {
+    TupleEntry entry = new TupleEntry( tuple, ++usedSeq_);
+    indexUsed( entry);
+    usedByTuple_.computeIfAbsent( tuple, t -> new ArrayList<TupleEntry>( 1)).add( entry);
+
+    recent_.add( entry);
+    recentCounts_.add( entry.getSeq(), 1);
+    usedChanged_ = true;
+    }
+
+  /**
+   * Removes the given entry from the list of those used in a test case.
+   */
+  private void removeUsed( TupleEntry entry)
+    {
+    unindexUsed( entry);
+    removeFrom( usedByTuple_, entry.getTuple(), entry);
+
+    if( entry.isSorted())
+      {
+      sortedCounts_.get( entry.getSize()).add( entry.getSeq(), -1);
+      sortedCount_--;
+      }
+    else
+      {
+      recent_.remove( entry);
+      recentCounts_.add( entry.getSeq(), -1);
+      }
+    }
+
+  /**
+   * Adds the given entry to all used tuple indexes.
+   */
+  private void indexUsed( TupleEntry entry)
+    {
+    Tuple tuple = entry.getTuple();
+    boolean once = tuple.isOnce();
+
+    used_.add( entry);
+    for( Iterator<VarBindingDef> bindings = tuple.getBindings(); bindings.hasNext();)
+      {
+      VarBindingDef binding = bindings.next();
+      (once? usedOnceByVar_ : usedByVar_).computeIfAbsent( binding.getVarDef(), v -> new TreeSet<TupleEntry>( usedOrder_)).add( entry);
+
+      BindingUsage usage = getBindingUsage( binding);
+      usage.getUsed( false).add( entry);
+      if( once)
+        {
+        usage.getUsed( true).add( entry);
+        }
+      }
+    changes_++;
+    }
+
+  /**
+   * Removes the given entry from all used tuple indexes.
+   */
+  private void unindexUsed( TupleEntry entry)
+    {
+    Tuple tuple = entry.getTuple();
+    boolean once = tuple.isOnce();
+
+    used_.remove( entry);
+    for( Iterator<VarBindingDef> bindings = tuple.getBindings(); bindings.hasNext();)
+      {
+      VarBindingDef binding = bindings.next();
+      removeFrom( once? usedOnceByVar_ : usedByVar_, binding.getVarDef(), entry);
+
+      BindingUsage usage = bindingUsage_.get( binding);
+      usage.getUsed( false).remove( entry);
+      if( once)
+        {
+        usage.getUsed( true).remove( entry);
+        }
+      }
+    changes_++;
+    }
+
+  /**
+   * Returns the usage record for the given binding, creating it if necessary.
+   */
+  private BindingUsage getBindingUsage( VarBindingDef binding)
+    {
+    return bindingUsage_.computeIfAbsent( binding, b -> new BindingUsage());
+    }
+
+  /**
+   * Returns the first used entry for the given tuple. Returns null if the tuple is not used.
+   */
+  private TupleEntry getUsedEntry( Tuple tuple)
+    {
+    List<TupleEntry> entries = usedByTuple_.get( tuple);
+    return
+      entries == null || entries.isEmpty()
+      ? null
+      : Collections.min( entries, usedOrder_);
+    }
+
+  /**
+   * Returns the position of the given entry in the used list.
+   */
+  private int getUsedIndex( TupleEntry entry)
+    {
+    int index;
+    if( entry.isSorted())
+      {
+      // Sorted entries precede all recent entries, larger tuples first.
+      index = 0;
+      for( SeqCounts larger : sortedCounts_.tailMap( entry.getSize(), false).values())
+        {
+        index += larger.getTotal();
+        }
+      index += sortedCounts_.get( entry.getSize()).getCountBefore( entry.getSeq());
+      }
+    else
+      {
+      index = sortedCount_ + recentCounts_.getCountBefore( entry.getSeq());
+      }
+
+    return index;
+    }
+
+  /**
+   * Orders the used list to prefer reuse of larger tuples first.
+   */
+  private void sortUsed()
+    {
+    if( usedChanged_)
+      {
+      // Order to prefer reuse of larger tuples first. By preferring "intact" tuples over post-reduction singletons,
+      // we hope to minimize reoccurrence of once-only tuples.
+      //
+      // Because the sort is stable, tuples of the same size remain in least-recently-used-first order. So only the
+      // tuples used since the last sort need to be relocated.
+      for( TupleEntry entry : recent_)
+        {
+        unindexUsed( entry);
+        recentCounts_.add( entry.getSeq(), -1);
+
+        entry.setSorted( true);
+        indexUsed( entry);
+        sortedCounts_.computeIfAbsent( entry.getSize(), size -> new SeqCounts()).add( entry.getSeq(), 1);
+        sortedCount_++;
+        }
+
+      recent_.clear();
+      usedChanged_ = false;
+      }
+    }
+
+  /**
+   * Removes the given entry from the index for the given key.
+   */
+  private static <K> void removeFrom( Map<K,? extends Collection<TupleEntry>> index, K key, TupleEntry entry)
+    {
+    Collection<TupleEntry> entries = index.get( key);
+    if( entries != null)
+      {
+      entries.remove( entry);
+      if( entries.isEmpty())
+        {
+        index.remove( key);
+        }
+      }
+    }
+
+  /**
+   * Returns the tuples for the given entries.
+   */
+  private static Iterator<Tuple> tuplesOf( Collection<TupleEntry> entries)
+    {
+    return
+      entries == null
+      ? IteratorUtils.<Tuple>emptyIterator()
+      : IteratorUtils.transformedIterator( IteratorUtils.unmodifiableIterator( entries.iterator()), TupleEntry::getTuple);
+    }
+
+  @Override
+  public String toString()
+    {
+    return
+      ToString.getBuilder( this)
+      .append( "used", used_.size())
+      .append( "unused", unused_.size())
+      .toString();
+    }
+
+  /**
+   * Represents a member of the unused or used list.
+   */
+  private static class TupleEntry
+    {
+    /**
+     * Creates a new TupleEntry object.
+     */
+    public TupleEntry( Tuple tuple, int seq)
+      {
+      tuple_ = tuple;
+      size_ = tuple.size();
+      seq_ = seq;
+
+      Iterator<VarBindingDef> bindings = tuple.getBindings();
+      anchor_ = bindings.hasNext()? bindings.next() : null;
+      }
+
+    /**
+     * Returns the tuple for this entry.
+     */
+    public Tuple getTuple()
+      {
+      return tuple_;
+      }
+
+    /**
+     * Returns the size of the tuple for this entry.
+     */
+    public int getSize()
+      {
+      return size_;
+      }
+
+    /**
+     * Returns the binding used to find this entry when marking the tuples for a test case.
+     */
+    public VarBindingDef getAnchor()
+      {
+      return anchor_;
+      }
+
+    /**
+     * Returns the sequence number for this entry. For an unused entry, this is its position
+     * in the original list. For a used entry, this is the order in which it was last used.
+     */
+    public int getSeq()
+      {
+      return seq_;
+      }
+
+    /**
+     * Changes if this used entry has been sorted by size.
+     */
+    public void setSorted( boolean sorted)
+      {
+      sorted_ = sorted;
+      }
+
+    /**
+     * Returns if this used entry has been sorted by size.
+     */
+    public boolean isSorted()
+      {
+      return sorted_;
+      }
+
+    @Override
+    public String toString()
+      {
+      return
+        ToString.getBuilder( this)
+        .append( getSeq())
+        .append( getTuple())
+        .toString();
+      }
+
+    private final Tuple tuple_;
+    private final int size_;
+    private final VarBindingDef anchor_;
+    private final int seq_;
+    private boolean sorted_;
+    }
+
+  /**
+   * Records the use of a binding: the unused tuples that include the binding and, in used list order, the used tuples
+   * that include the binding. Also caches the current usage score for the binding.
+   */
+  private static class BindingUsage
+    {
+    /**
+     * Returns the unused tuples that include this binding.
+     */
+    public Set<TupleEntry> getUnused()
+      {
+      return unused_;
+      }
+
+    /**
+     * Returns the used tuples that include this binding. If <CODE>onceOnly</CODE> is true, returns only once-only tuples.
+     */
+    public TreeSet<TupleEntry> getUsed( boolean onceOnly)
+      {
+      return onceOnly? usedOnce_ : used_;
+      }
+
+    /**
+     * Returns the most recently used tuple that includes this binding. If <CODE>onceOnly</CODE> is true, considers only
+     * once-only tuples. Returns null if no such tuple has been used.
+     */
+    public TupleEntry getLastUsed( boolean onceOnly)
+      {
+      TreeSet<TupleEntry> used = getUsed( onceOnly);
+      return
+        used.isEmpty()
+        ? null
+        : used.last();
+      }
+
+    /**
+     * Changes the usage score for this binding, computed after the given number of changes to the tuple set.
+     */
+    public void setScore( int score, int changes)
+      {
+      score_ = score;
+      scoreChanges_ = changes;
+      }
+
+    /**
+     * Returns the usage score for this binding.
+     */
+    public int getScore()
+      {
+      return score_;
+      }
+
+    /**
+     * Returns the number of changes to the tuple set when the usage score for this binding was computed.
+     */
+    public int getScoreChanges()
+      {
+      return scoreChanges_;
+      }
+
+    private final Set<TupleEntry> unused_ = new LinkedHashSet<TupleEntry>();
+    private final TreeSet<TupleEntry> used_ = new TreeSet<TupleEntry>( usedOrder_);
+    private final TreeSet<TupleEntry> usedOnce_ = new TreeSet<TupleEntry>( usedOrder_);
+    private int score_;
+    private int scoreChanges_ = -1;
+    }
+
+  /**
+   * Counts the members of a set of sequence numbers, using a binary indexed tree that
+   * grows as larger sequence numbers are added.
+   */
+  private static class SeqCounts
+    {
+    /**
+     * Adds the given increment to the count for the given sequence number.
+     */
+    public void add( int seq, int increment)
+      {
+      if( seq >= tree_.length)
+        {
+        grow( seq);
+        }
+
+      for( int i = seq; i < tree_.length; i += (i & -i))
+        {
+        tree_[i] += increment;
+        }
+      total_ += increment;
+      }
+
+    /**
+     * Returns the number of members less than the given sequence number.
+     */
+    public int getCountBefore( int seq)
+      {
+      int count = 0;
+      for( int i = Math.min( seq - 1, tree_.length - 1); i > 0; i -= (i & -i))
+        {
+        count += tree_[i];
+        }
+      return count;
+      }
+
+    /**
+     * Returns the total number of members.
+     */
+    public int getTotal()
+      {
+      return total_;
+      }
+
+    /**
+     * Grows this tree to accommodate the given sequence number.
+     */
+    private void grow( int seq)
+      {
+      int capacity;
+      for( capacity = tree_.length - 1; capacity < seq; capacity *= 2)
+        {
+        // When capacity doubles, only the new root covers existing members.
+        tree_ = Arrays.copyOf( tree_, capacity * 2 + 1);
+        tree_[ capacity * 2] = total_;
+        }
+      }
+
+    private int[] tree_ = new int[ 64 + 1];
+    private int total_;
+    }
+
+  private Set<TupleEntry> unused_;
+  private Map<Tuple,List<TupleEntry>> unusedByTuple_;
+  private Map<VarDef,Set<TupleEntry>> unusedByVar_;
+
+  private TreeSet<TupleEntry> used_;
+  private Map<Tuple,List<TupleEntry>> usedByTuple_;
+  private Map<VarDef,Set<TupleEntry>> usedByVar_;
+  private Map<VarDef,Set<TupleEntry>> usedOnceByVar_;
+  private int usedSeq_;
+  private boolean usedChanged_;
+
+  private Set<TupleEntry> recent_;
+  private SeqCounts recentCounts_;
+  private TreeMap<Integer,SeqCounts> sortedCounts_;
+  private int sortedCount_;
+
+  private Map<VarBindingDef,BindingUsage> bindingUsage_;
+  private int changes_;
+
+  /**
+   * Orders unused entries in original list order.
+   */
+  private static final Comparator<TupleEntry> unusedOrder_ = Comparator.comparingInt( TupleEntry::getSeq);
+
+  /**
+   * Orders used entries in used list order: entries already sorted by size come first, larger tuples first,
+   * followed by entries used since the last sort. Otherwise, entries are in least-recently-used-first order.
+   */
+  private static final Comparator<TupleEntry> usedOrder_ =
+    new Comparator<TupleEntry>()
+    {
+      @Override
+      public int compare( TupleEntry entry1, TupleEntry entry2)
+        {
+        int result = Boolean.compare( entry2.isSorted(), entry1.isSorted());
+        if( result == 0 && entry1.isSorted())
+          {
+          result = entry2.getSize() - entry1.getSize();
+          }
+        if( result == 0)
+          {
+          result = entry1.getSeq() - entry2.getSeq();
+          }
+        return result;
+        }
+    };
+  }
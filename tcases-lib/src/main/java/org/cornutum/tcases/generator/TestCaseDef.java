@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -39,6 +40,15 @@ public class TestCaseDef implements ITestCaseDef
    */
   public TestCaseDef()
     {
+    this( new ConditionCache());
+    }
+
+  /**
+   * Creates a new TestCaseDef object that uses the given cache of binding conditions.
+   */
+  TestCaseDef( ConditionCache conditionCache)
+    {
+    conditionCache_ = conditionCache;
     }
 
   /**
@@ -46,7 +56,7 @@ public class TestCaseDef implements ITestCaseDef
    */
   public TestCaseDef( TestCaseDef other)
     {
-    this();
+    this( other == null? new ConditionCache() : other.conditionCache_);
     if( other != null)
       {
       for( VarDef var : other.bindings_.keySet())
@@ -214,7 +224,7 @@ public class TestCaseDef implements ITestCaseDef
    */
   public boolean isApplicable( VarDef var)
     {
-    return var.getEffectiveCondition().satisfied( properties_);
+    return conditionCache_.getCondition( var).satisfied( propertyCounts_);
     }
 
   /**
@@ -295,14 +305,13 @@ public class TestCaseDef implements ITestCaseDef
     else if( !value.isNA())
       {
       // No, is this variable inconsistent with the current test case?
-      if( !var.getEffectiveCondition().compatible( properties_))
+      if( !conditionCache_.getCondition( var).compatible( propertyCounts_))
         {
         throw new VarNotApplicableException( binding, properties_);
         }
 
       // Is this value inconsistent with the current test case?
-      boolean valueCompatible = Optional.ofNullable( value.getCondition()).map( c -> c.compatible( properties_)).orElse( true);
-      if( !valueCompatible)
+      if( !conditionCache_.getCondition( value).compatible( propertyCounts_))
         {
         throw new ValueInconsistentException( binding, properties_);
         }
@@ -322,10 +331,8 @@ public class TestCaseDef implements ITestCaseDef
    */
   private VarDef getVarInapplicable( VarValueDef value)
     {
-    PropertySet properties =
-      new PropertySet()
-      .addAll( value.getProperties().iterator())
-      .addAll( properties_);
+    int[] valueProperties = conditionCache_.getPropertyIds( value);
+    propertyCounts_.addAll( valueProperties);
     
     Iterator<VarDef> vars;
     VarDef inapplicable;
@@ -334,9 +341,11 @@ public class TestCaseDef implements ITestCaseDef
 
          vars.hasNext()
            && (isNA( (inapplicable = vars.next()))
-               || inapplicable.getEffectiveCondition().compatible( properties));
+               || conditionCache_.getCondition( inapplicable).compatible( propertyCounts_));
          
          inapplicable = null);
+
+    propertyCounts_.removeAll( valueProperties);
     
     return inapplicable;
     }
@@ -364,7 +373,8 @@ public class TestCaseDef implements ITestCaseDef
     {
     bindings_.put( var, value);
     properties_.addAll( value.getProperties().iterator());
-    required_ = null;
+    propertyCounts_.addAll( conditionCache_.getPropertyIds( value));
+    revertRequired( getBindingCount());
     }
 
   /**
@@ -380,13 +390,38 @@ public class TestCaseDef implements ITestCaseDef
    */
   private void removeBinding( VarDef var)
     {
+    int position = getPosition( var);
     VarValueDef value = bindings_.remove( var);
     logger_.trace( "Removing binding for {}={}, testCase={}", var.getName(), value.isNA()? "N/A" : value.getName(), this);
 
     if( value != null)
       {
       properties_.removeAll( value.getProperties().iterator());
-      required_ = null;
+      propertyCounts_.removeAll( conditionCache_.getPropertyIds( value));
+      revertRequired( position + 1);
+      }
+    }
+
+  /**
+   * Returns the position of the given variable in the order of binding.
+   */
+  private int getPosition( VarDef var)
+    {
+    int position = 0;
+    for( Iterator<VarDef> vars = getVars(); vars.hasNext() && !vars.next().equals( var); position++);
+    return position;
+    }
+
+  /**
+   * Discards any {@link #getRequired required conditions} computed for more than the given number of bindings.
+   * Required conditions for fewer bindings remain valid, so reverting to a previous binding count
+   * restores the previous required conditions.
+   */
+  private void revertRequired( int bindingCount)
+    {
+    if( required_.size() > bindingCount)
+      {
+      required_.subList( bindingCount, required_.size()).clear();
       }
     }
 
@@ -452,29 +487,37 @@ public class TestCaseDef implements ITestCaseDef
    */
   public IConjunct getRequired()
     {
-    if( required_ == null)
+    int bindingCount = getBindingCount();
+    IConjunct required = bindingCount < required_.size()? required_.get( bindingCount) : null;
+    if( required == null)
       {
-      AllOf conditions = new AllOf();
+      Conjunction conditions = new Conjunction();
       for( Iterator<VarDef> vars = getVars();
            vars.hasNext();)
         {
         VarDef var = vars.next();
-        VarValueDef value = getValue( var);
-        if( !value.isNA())
+        conditionCache_.getDisjuncts( var, getValue( var)).forEach( disjunct -> conditions.add( disjunct));
+        }
+
+      Conjunction unsatisfied = new Conjunction();
+      for( Iterator<IDisjunct> disjuncts = Cnf.refactor( Cnf.simplify( conditions)).getDisjuncts(); disjuncts.hasNext();)
+        {
+        IDisjunct disjunct = disjuncts.next();
+        if( !conditionCache_.getCondition( disjunct).satisfied( propertyCounts_))
           {
-          ICondition bindingCondition = value.getEffectiveCondition( var.getEffectiveCondition());
-          Optional.of( bindingCondition)
-            .filter( c -> c instanceof AllOf)
-            .map( c -> toStream( ((AllOf) c).getConditions()))
-            .orElse( Stream.of( bindingCondition))
-            .forEach( c -> conditions.add( c));
+          unsatisfied.add( disjunct);
           }
         }
+      required = unsatisfied;
 
-      required_ = Cnf.getUnsatisfied( Cnf.convert( conditions), properties_);
+      while( required_.size() <= bindingCount)
+        {
+        required_.add( null);
+        }
+      required_.set( bindingCount, required);
       }
 
-    return required_;
+    return required;
     }
 
   /**
@@ -564,7 +607,9 @@ public class TestCaseDef implements ITestCaseDef
   private String name_;
   private Map<VarDef,VarValueDef> bindings_ = new LinkedHashMap<VarDef,VarValueDef>();
   private PropertySet properties_ = new PropertySet();
-  private IConjunct required_;
+  private PropertyCounts propertyCounts_ = new PropertyCounts();
+  private List<IConjunct> required_ = new ArrayList<IConjunct>();
+  private ConditionCache conditionCache_;
 
   private static final Logger logger_ = LoggerFactory.getLogger( TestCaseDef.class);
   }
@@ -17,14 +17,14 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
-import java.util.Objects;
 
 /**
  * Represents a set of {@link VarBindingDef input variable bindings}.
- *
+ * <P/>
+ * A tuple usually contains only a few bindings, and a large input model can produce millions of tuples.
+ * So bindings are kept in a compact array that is replaced, never modified, when bindings change. Binding
+ * properties are derived only when needed, and only once after each change.
  */
 public class Tuple
   {
@@ -110,9 +110,8 @@ public class Tuple
    */
   public void setBindings( Collection<VarBindingDef> bindings)
     {
-    bindings_ = new HashMap<VarDef,VarBindingDef>();
-    properties_ = new PropertySet();
-    
+    updateBindings( NO_BINDINGS);
+
     if( bindings != null)
       {
       for( VarBindingDef binding : bindings)
@@ -127,7 +126,16 @@ public class Tuple
    */
   public Iterator< VarBindingDef> getBindings()
     {
-    return bindings_.values().iterator();
+    return Arrays.asList( bindings_).iterator();
+    }
+
+  /**
+   * Replaces the array of variable bindings for this tuple.
+   */
+  private void updateBindings( VarBindingDef[] bindings)
+    {
+    bindings_ = bindings;
+    properties_ = null;
     }
 
   /**
@@ -135,7 +143,8 @@ public class Tuple
    */
   public boolean contains( VarBindingDef binding)
     {
-    return binding.equals( bindings_.get( binding.getVarDef()));
+    int i = indexOf( binding.getVarDef());
+    return i >= 0 && binding.equals( bindings_[i]);
     }
 
   /**
@@ -143,11 +152,21 @@ public class Tuple
    */
   public VarValueDef getBinding( VarDef var)
     {
-    VarBindingDef binding = bindings_.get( var);
+    int i = indexOf( var);
     return
-      binding == null
+      i < 0
       ? null
-      : binding.getValueDef();
+      : bindings_[i].getValueDef();
+    }
+
+  /**
+   * Returns the index of the binding for the given variable, or -1 if the variable is not bound.
+   */
+  private int indexOf( VarDef var)
+    {
+    int i;
+    for( i = bindings_.length - 1; i >= 0 && !bindings_[i].getVarDef().equals( var); i--);
+    return i;
     }
 
   /**
@@ -155,7 +174,7 @@ public class Tuple
    */
   public int size()
     {
-    return bindings_.size();
+    return bindings_.length;
     }
 
   /**
@@ -163,6 +182,16 @@ public class Tuple
    */
   public PropertySet getProperties()
     {
+    if( properties_ == null)
+      {
+      PropertySet properties = new PropertySet();
+      for( VarBindingDef binding : bindings_)
+        {
+        properties.addAll( binding.getValueDef().getProperties().iterator());
+        }
+      properties_ = properties;
+      }
+
     return properties_;
     }
 
@@ -185,10 +214,10 @@ public class Tuple
         throw new IllegalArgumentException( "Invalid binding=" + binding + ": value undefined");
         }
       
-      remove( var);
-
-      bindings_.put( var, binding);
-      properties_.addAll( value.getProperties().iterator());
+      int i = indexOf( var);
+      VarBindingDef[] bindings = Arrays.copyOf( bindings_, bindings_.length + (i < 0? 1 : 0));
+      bindings[ i < 0? bindings_.length : i] = binding;
+      updateBindings( bindings);
       }
 
     return this;
@@ -215,10 +244,13 @@ public class Tuple
    */
   public Tuple remove( VarDef var)
     {
-    VarBindingDef binding = bindings_.remove( var);
-    if( binding != null)
+    int i = indexOf( var);
+    if( i >= 0)
       {
-      properties_.removeAll( binding.getValueDef().getProperties().iterator());
+      VarBindingDef[] bindings = new VarBindingDef[ bindings_.length - 1];
+      System.arraycopy( bindings_, 0, bindings, 0, i);
+      System.arraycopy( bindings_, i + 1, bindings, i, bindings.length - i);
+      updateBindings( bindings);
       }
 
     return this;
@@ -245,6 +277,7 @@ public class Tuple
    */
   public boolean isCompatible()
     {
+    PropertySet properties = getProperties();
     boolean compatible;
     Iterator<VarBindingDef> bindings;
     VarBindingDef binding = null;
@@ -258,7 +291,7 @@ public class Tuple
          compatible =
            (binding = bindings.next())
            .getEffectiveCondition()
-           .compatible( properties_));
+           .compatible( properties));
 
     if( !compatible && size() == 1)
       {
@@ -280,31 +313,48 @@ public class Tuple
       ? (Tuple) object
       : null;
 
-    return
+    boolean equals =
       other != null
-      && Objects.equals( other.bindings_, bindings_);
+      && other.size() == size()
+      && other.hashCode() == hashCode();
+
+    for( int i = 0; equals && i < bindings_.length; i++)
+      {
+      equals = other.contains( bindings_[i]);
+      }
+
+    return equals;
     }
 
   @Override
   public int hashCode()
     {
+    // Combine the bindings in any order.
+    int bindingsHash = 0;
+    for( VarBindingDef binding : bindings_)
+      {
+      bindingsHash += binding.hashCode();
+      }
+
     return
       getClass().hashCode()
-      ^ bindings_.hashCode();
+      ^ bindingsHash;
     }
 
   @Override
   public String toString()
     {
     ToStringBuilder builder = ToString.getBuilder( this);
-    if( !bindings_.isEmpty())
+    if( bindings_.length > 0)
       {
-      builder.append( bindings_.values());
+      builder.append( Arrays.asList( bindings_));
       }
     return builder.toString();
     }
 
-  private Map<VarDef,VarBindingDef> bindings_;
+  private VarBindingDef[] bindings_;
   private PropertySet properties_;
   private boolean once_;
+
+  private static final VarBindingDef[] NO_BINDINGS = new VarBindingDef[0];
   }
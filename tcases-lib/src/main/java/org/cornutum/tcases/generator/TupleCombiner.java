@@ -18,6 +18,9 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Generates a combination of values for a specific set of input variables.
@@ -239,9 +242,17 @@ public class TupleCombiner implements CloneableType<TupleCombiner>
    * Returns all valid N-tuples of values for the included input variables.
    */
   public Collection<Tuple> getTuples( FunctionInputDef inputDef)
+    {
+    return streamTuples( inputDef).collect( toList());
+    }
+
+  /**
+   * Returns a stream of all valid N-tuples of values for the included input variables.
+   */
+  public Stream<Tuple> streamTuples( FunctionInputDef inputDef)
     {
     List<VarDef> combinedVars = getCombinedVars( inputDef);
-    return getCombinedTuples( combinedVars, getTuples( combinedVars, getTupleSize()));
+    return getCombinedTuples( combinedVars, streamTuples( combinedVars, getTupleSize()));
     }
 
   /**
@@ -249,6 +260,16 @@ public class TupleCombiner implements CloneableType<TupleCombiner>
    * all permutations.
    */
   public static Collection<Tuple> getTuples( List<VarDef> varDefs, int tupleSize)
+    {
+    return streamTuples( varDefs, tupleSize).collect( toList());
+    }
+
+  /**
+   * Returns a stream of all valid N-tuples of values for the given input variables. A non-positive tupleSize specifies
+   * all permutations. Tuples are enumerated lazily, but {@link #getTuples(List,int) getTuples} collects all of them,
+   * because a {@link TupleGenerator} orders and indexes its tuple set as a whole.
+   */
+  public static Stream<Tuple> streamTuples( List<VarDef> varDefs, int tupleSize)
     {
     if( tupleSize < 1)
       {
@@ -259,87 +280,29 @@ public class TupleCombiner implements CloneableType<TupleCombiner>
       {
       throw new IllegalArgumentException( "Can't create " + tupleSize + "-tuples for " + varDefs.size() + " combined variables");
       }
-    return getTuples( varDefs, 0, varEnd, tupleSize);
-    }
-
-  /**
-   * Returns all valid tuples of values for the given input variables.
-   */
-  private static Collection<Tuple> getTuples( List<VarDef> varDefs, int varStart, int varEnd, int tupleSize)
-    {
-    Collection<Tuple> tuples = new ArrayList<Tuple>();
-
-    // For each variable up to the last included...
-    for( int i = varStart; i < varEnd; i++)
-      {
-      // Combine each valid value...
-      VarDef                nextVar   = varDefs.get(i);
-      Iterator<VarValueDef> values    = nextVar.getValidValues();
-      if( !values.hasNext())
-        {
-        throw new IllegalStateException( "Can't complete tuples -- no valid values defined for var=" + nextVar);
-        }
-
-      // With all subtuples from the remaining variables.
-      Collection<Tuple> subTuples =
-        tupleSize==1
-        ? null
-        : getTuples( varDefs, i + 1, varEnd + 1, tupleSize - 1);
-
-      // Only one variable to combine?
-      if( subTuples == null)
-        {
-        // Yes, return list of 1-tuples for this variable.
-        while( values.hasNext())
-          {
-          tuples.add( new Tuple( new VarBindingDef( nextVar, values.next())));
-          }
-        }
-
-      // Any compatible subtuples for remaining variables?
-      else if( !subTuples.isEmpty())
-        {
-        // Yes, add all compatible combinations with values for this variable.
-        while( values.hasNext())
-          {
-          VarBindingDef nextBinding = new VarBindingDef( nextVar, values.next());
-          for( Tuple subTuple : subTuples)
-            {
-            Tuple nextTuple = new Tuple( nextBinding).addAll( subTuple);
-            if( nextTuple.isCompatible())
-              {
-              tuples.add( nextTuple);
-              }
-            }
-          }
-        }
-      }
-    
-    return tuples;
+    return StreamSupport.stream( new TupleSpliterator( tupleSize, varDefs), false);
     }
 
   /**
    * Returns all fully-combined N-tuples of values for the included input variables.
    */
-  private Collection<Tuple> getCombinedTuples( List<VarDef> combinedVars, Collection<Tuple> tuples)
+  private Stream<Tuple> getCombinedTuples( List<VarDef> combinedVars, Stream<Tuple> tuples)
     {
     // Apply any once-only constraints.
     Set<Tuple> onceTuples = getOnceTupleDefs( combinedVars);
-    if( !onceTuples.isEmpty())
-      {
-      for( Tuple tuple : tuples)
-        {
+    return
+      onceTuples.isEmpty()
+      ? tuples
+      : tuples.map( tuple -> {
         tuple.setOnce( onceTuples.contains( tuple));
-        }
-      }
-    
-    return tuples;
+        return tuple;
+        });
     }
 
   /**
    * Returns the set of once-only tuple definitions for this combiner.
    */
-  private Set<Tuple> getOnceTupleDefs( final List<VarDef> combinedVars)
+  Set<Tuple> getOnceTupleDefs( final List<VarDef> combinedVars)
     {
     try
       {
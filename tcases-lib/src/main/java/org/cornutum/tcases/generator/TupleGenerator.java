@@ -24,14 +24,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.function.Consumer;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -129,35 +128,93 @@ public class TupleGenerator implements ITestCaseGenerator
    */
   @Override
   public List<ITestCaseDef> getTests( FunctionInputDef inputDef, FunctionTestDef baseTests)
+    {
+    List<ITestCaseDef> testCaseDefs = new ArrayList<ITestCaseDef>();
+    getTests( inputDef, baseTests, Integer.MAX_VALUE, testCaseDefs::add);
+    return testCaseDefs;
+    }
+
+  /**
+   * Supplies the same {@link ITestCaseDef test case definitions} that {@link #getTests getTests()} returns for the given
+   * function input definition and base test definition, passing each one to the given consumer in the same order.
+   * <P/>
+   * Unless the base test definition is non-empty, each test case definition is supplied as soon as it is complete.
+   * Otherwise, new valid test cases are held until all test cases that extend the base tests are complete.
+   */
+  @Override
+  public void getTests( FunctionInputDef inputDef, FunctionTestDef baseTests, Consumer<ITestCaseDef> testCaseDefs)
+    {
+    getTests( inputDef, baseTests, Integer.MAX_VALUE, testCaseDefs);
+    }
+
+  /**
+   * Returns the number of {@link ITestCaseDef test case definitions} that {@link #getTests getTests()} returns for
+   * the given function input definition and base test definition. Once this number exceeds the given <CODE>maxCount</CODE>,
+   * generation stops early, returning a number greater than <CODE>maxCount</CODE>.
+   */
+  @Override
+  public int getTestCount( FunctionInputDef inputDef, FunctionTestDef baseTests, int maxCount)
+    {
+    return getTests( inputDef, baseTests, maxCount, testCaseDef -> {});
+    }
+
+  /**
+   * Supplies {@link ITestCaseDef test case definitions} for the given function input definition to the given consumer,
+   * in order of increasing id. If the given base test definition is non-null, supplies new test cases that extend the
+   * base tests. Once the number of test cases exceeds the given <CODE>maxCount</CODE>, stops generating, leaving an
+   * incomplete set of test cases. Returns the number of test cases supplied.
+   */
+  private int getTests( FunctionInputDef inputDef, FunctionTestDef baseTests, int maxCount, Consumer<ITestCaseDef> testCaseDefs)
     {
     try
       {
       logger_.info( "{}: Preparing constraint info", inputDef);
       createPropertyProviders( inputDef);
+      conditionCache_ = new ConditionCache();
       
       logger_.info( "{}: Generating test cases", inputDef);
 
       List<TestCaseDef> baseCases = getBaseCases( inputDef, baseTests);
       RandSeq randSeq = getRandomSeed()==null? null : new RandSeq( getRandomSeed());
 
+      // Base cases, which have ids, precede all new cases. But base failure cases depend on the new valid cases,
+      // so new valid cases must be held until all base cases are complete.
+      List<TestCaseDef> heldCases = new ArrayList<TestCaseDef>();
+      Consumer<TestCaseDef> newValidCases = baseCases.isEmpty()? testCaseDefs::accept : heldCases::add;
+
       // Get all valid cases.
-      VarTupleSet validTuples = getValidTupleSet( randSeq, inputDef);
-      List<TestCaseDef> validCases = getBaseValidCases( inputDef, validTuples, baseCases);
-      validCases.addAll( getValidCases( inputDef, validTuples));
+      IVarTupleSet validTuples = getValidTupleSet( randSeq, inputDef);
+      List<TestCaseDef> completedBaseCases = getBaseValidCases( inputDef, validTuples, baseCases);
+      int validCount = completedBaseCases.size();
+      validCount += getValidCases( inputDef, validTuples, completedBaseCases, maxCount - validCount, newValidCases);
 
       // Get all failure cases.
-      VarTupleSet failureTuples = getFailureTupleSet( randSeq, inputDef);
-      List<TestCaseDef> failureCases = getBaseFailureCases( inputDef, validTuples, failureTuples, baseCases);
-      failureCases.addAll( getFailureCases( inputDef, failureTuples, validTuples));
-
-      // Create test cases, in order of increasing id.
-      List<ITestCaseDef> testCaseDefs = new ArrayList<ITestCaseDef>();
-      testCaseDefs.addAll( validCases);
-      testCaseDefs.addAll( failureCases);
-      Collections.sort( testCaseDefs);
-    
-      logger_.info( "{}: Completed {} test cases", inputDef, testCaseDefs.size());
-      return testCaseDefs;
+      int failureCount = 0;
+      if( validCount <= maxCount)
+        {
+        IVarTupleSet failureTuples = getFailureTupleSet( randSeq, inputDef);
+        List<TestCaseDef> baseFailureCases = getBaseFailureCases( inputDef, validTuples, failureTuples, baseCases);
+        completedBaseCases.addAll( baseFailureCases);
+        failureCount += baseFailureCases.size();
+
+        supplyHeldCases( completedBaseCases, heldCases, testCaseDefs);
+        failureCount += getFailureCases( inputDef, failureTuples, validTuples, maxCount - validCount - failureCount, testCaseDefs::accept);
+        }
+      else
+        {
+        supplyHeldCases( completedBaseCases, heldCases, testCaseDefs);
+        }
+
+      int testCaseCount = validCount + failureCount;
+      if( testCaseCount > maxCount)
+        {
+        logger_.info( "{}: Stopped after {} test cases, more than maximum={}", new Object[]{ inputDef, testCaseCount, maxCount});
+        }
+      else
+        {
+        logger_.info( "{}: Completed {} test cases", inputDef, testCaseCount);
+        }
+      return testCaseCount;
       }
     catch( Exception e)
       {
@@ -184,7 +241,7 @@ public class TupleGenerator implements ITestCaseGenerator
         {
         // Create the corresponding test case definition...
         TestCase baseTest = baseCases.next();
-        TestCaseDef testCase = new TestCaseDef();
+        TestCaseDef testCase = new TestCaseDef( conditionCache_);
         testCase.setId( baseTest.getId());
         testCase.setName( baseTest.getName());
         
@@ -239,7 +296,7 @@ public class TupleGenerator implements ITestCaseGenerator
   /**
    * Returns a set of valid {@link TestCaseDef test case definitions} that extend the given base test cases.
    */
-  private List<TestCaseDef> extendBaseCases( FunctionInputDef inputDef, VarTupleSet validTuples, Iterator<TestCaseDef> baseCases)
+  private List<TestCaseDef> extendBaseCases( FunctionInputDef inputDef, IVarTupleSet validTuples, Iterator<TestCaseDef> baseCases)
     {
     List<TestCaseDef> testCases = new ArrayList<TestCaseDef>();
     
@@ -268,7 +325,7 @@ public class TupleGenerator implements ITestCaseGenerator
   /**
    * Returns a set of valid {@link TestCaseDef test case definitions} that extend the given base test cases.
    */
-  private List<TestCaseDef> getBaseValidCases( FunctionInputDef inputDef, VarTupleSet validTuples, List<TestCaseDef> baseCases)
+  private List<TestCaseDef> getBaseValidCases( FunctionInputDef inputDef, IVarTupleSet validTuples, List<TestCaseDef> baseCases)
     {
     logger_.debug( "{}: Extending valid base test cases", inputDef);
 
@@ -286,7 +343,7 @@ public class TupleGenerator implements ITestCaseGenerator
   /**
    * Returns a set of failure {@link TestCaseDef test case definitions} that extend the given base test cases.
    */
-  private List<TestCaseDef> getBaseFailureCases( FunctionInputDef inputDef, VarTupleSet validTuples, VarTupleSet failureTuples, List<TestCaseDef> baseCases)
+  private List<TestCaseDef> getBaseFailureCases( FunctionInputDef inputDef, IVarTupleSet validTuples, IVarTupleSet failureTuples, List<TestCaseDef> baseCases)
     {
     logger_.debug( "{}: Extending base failure test cases", inputDef);
 
@@ -309,17 +366,20 @@ public class TupleGenerator implements ITestCaseGenerator
    }
 
   /**
-   * Returns a set of valid {@link TestCaseDef test case definitions} for the given function input definition.
+   * Supplies valid {@link TestCaseDef test case definitions} for the given function input definition to the given consumer.
+   * The given valid base cases, which are already complete, are not supplied again. Once the number of test cases exceeds
+   * the given <CODE>maxCases</CODE>, stops generating, leaving an incomplete set of test cases. Returns the number of test
+   * cases supplied.
    */
-  private List<TestCaseDef> getValidCases( FunctionInputDef inputDef, VarTupleSet validTuples)
+  protected int getValidCases( FunctionInputDef inputDef, IVarTupleSet validTuples, List<TestCaseDef> baseCases, int maxCases, Consumer<TestCaseDef> validCases)
     {
     logger_.debug( "{}: Creating valid test cases", inputDef);
     
-    List<TestCaseDef> validCases = new ArrayList<TestCaseDef>();
+    int validCount = 0;
 
     // For each valid input tuple not yet used in a test case...
     Tuple nextUnused;
-    while( (nextUnused = validTuples.getNextUnused()) != null)
+    while( validCount <= maxCases && (nextUnused = validTuples.getNextUnused()) != null)
       {
       // Completed bindings for all variables?
       TestCaseDef validCase = createTestCase( nextUnused, inputDef, validTuples);
@@ -327,7 +387,8 @@ public class TupleGenerator implements ITestCaseGenerator
         {
         // Yes, add new valid test case.
         validTuples.used( validCase);
-        validCases.add( validCase);
+        validCases.accept( validCase);
+        validCount++;
         }
 
       else
@@ -337,19 +398,19 @@ public class TupleGenerator implements ITestCaseGenerator
         }
       }
 
-    logger_.info( "{}: Created {} valid test cases", inputDef, validCases.size());
-    return validCases;
+    logger_.info( "{}: Created {} valid test cases", inputDef, validCount);
+    return validCount;
     }
 
   /**
    * Creates a new {@link TestCaseDef test case} uses the given tuple. 
    */
-  private TestCaseDef createTestCase( Tuple tuple, FunctionInputDef inputDef, VarTupleSet validTuples)
+  private TestCaseDef createTestCase( Tuple tuple, FunctionInputDef inputDef, IVarTupleSet validTuples)
     {
     logger_.debug( "Creating new test case for tuple={}", tuple);
 
     // Create a new test case for this tuple.
-    TestCaseDef newCase = new TestCaseDef();
+    TestCaseDef newCase = new TestCaseDef( conditionCache_);
     try
       {
       newCase.setName( tuple);
@@ -388,7 +449,7 @@ public class TupleGenerator implements ITestCaseGenerator
    * Using selections from the given set of tuples, completes binding for all remaining variables.
    * Returns true if all variables have been bound.
    */
-  private boolean makeComplete( TestCaseDef testCase, VarTupleSet tuples, List<VarDef> vars)
+  protected boolean makeComplete( TestCaseDef testCase, IVarTupleSet tuples, List<VarDef> vars)
     {
     boolean complete;
 
@@ -424,7 +485,7 @@ public class TupleGenerator implements ITestCaseGenerator
    * Using selections from the given set of tuples, completes binding for all remaining variables.
    * Returns true if all variables have been bound.
    */
-  private boolean completeSatisfied( TestCaseDef testCase, VarTupleSet tuples, List<VarDef> vars)
+  private boolean completeSatisfied( TestCaseDef testCase, IVarTupleSet tuples, List<VarDef> vars)
     {
     List<VarDef> varsRemaining = getVarsRemaining( vars, testCase);
     VarDef varApplicable;
@@ -475,7 +536,7 @@ public class TupleGenerator implements ITestCaseGenerator
    * Using selections from the given set of tuples, completes bindings to satisfy all current test case conditions.
    * Returns true if and only if all conditions satisfied.
    */
-  private boolean makeSatisfied( TestCaseDef testCase, VarTupleSet tuples)
+  private boolean makeSatisfied( TestCaseDef testCase, IVarTupleSet tuples)
     {
     // Test case still missing a required property?
     boolean satisfied = testCase.isSatisfied();
@@ -501,7 +562,7 @@ public class TupleGenerator implements ITestCaseGenerator
    * using additional selections from the given set of tuples if necessary.
    * Returns true if and only if all conditions satisfied.
    */
-  private boolean makeSatisfied( TestCaseDef testCase, VarTupleSet tuples, Tuple satisfyingTuple)
+  private boolean makeSatisfied( TestCaseDef testCase, IVarTupleSet tuples, Tuple satisfyingTuple)
     {
     return
       // Compatible tuple found?
@@ -517,7 +578,7 @@ public class TupleGenerator implements ITestCaseGenerator
   /**
    * Returns tuples that contain a binding for the given variable.
    */
-  private Iterator<Tuple> getBindingsFor( VarTupleSet tuples, VarDef var)
+  private Iterator<Tuple> getBindingsFor( IVarTupleSet tuples, VarDef var)
     {
     return
       IteratorUtils.chainedIterator(
@@ -551,7 +612,7 @@ public class TupleGenerator implements ITestCaseGenerator
   /**
    * Returns the set of tuples that could satisfy conditions required by the given test case.
    */
-  private Iterator<Tuple> getSatisfyingTuples( final TestCaseDef testCase, VarTupleSet varTupleSet)
+  private Iterator<Tuple> getSatisfyingTuples( final TestCaseDef testCase, IVarTupleSet varTupleSet)
     {
     final Comparator<VarBindingDef> byUsage = byUsage( varTupleSet);
 
@@ -601,7 +662,7 @@ public class TupleGenerator implements ITestCaseGenerator
   /**
    * Returns the set of input variables not yet bound by the given test case.
    */
-  private List<VarDef> getVarsRemaining( FunctionInputDef inputDef, TestCaseDef testCase)
+  protected List<VarDef> getVarsRemaining( FunctionInputDef inputDef, TestCaseDef testCase)
     {
     return getVarsRemaining( new VarDefIterator( inputDef), testCase);
     }
@@ -629,7 +690,7 @@ public class TupleGenerator implements ITestCaseGenerator
   /**
    * Returns the all valid input tuples required for generated test cases.
    */
-  private VarTupleSet getValidTupleSet( RandSeq randSeq, FunctionInputDef inputDef)
+  protected IVarTupleSet getValidTupleSet( RandSeq randSeq, FunctionInputDef inputDef)
     {
     List<Tuple> validTuples = new ArrayList<Tuple>();
 
@@ -662,13 +723,13 @@ public class TupleGenerator implements ITestCaseGenerator
               defaultTupleSize < 1? varCount : defaultTupleSize))));
       }
     
-    return new VarTupleSet( validTuples);
+    return new IndexedVarTupleSet( validTuples);
     }
 
   /**
    * Returns if the given variable does not belong to any combiner tuple set.
    */
-  private boolean isUncombined( VarDef var)
+  protected boolean isUncombined( VarDef var)
     {
     return combiners_.stream().noneMatch( combiner -> combiner.isEligible( var));
     }
@@ -691,17 +752,19 @@ public class TupleGenerator implements ITestCaseGenerator
     }
 
   /**
-   * Returns a set of failure {@link TestCaseDef test case definitions} for the given function input definition.
+   * Supplies failure {@link TestCaseDef test case definitions} for the given function input definition to the given consumer.
+   * Once the number of test cases exceeds the given <CODE>maxCases</CODE>, stops generating, leaving an
+   * incomplete set of test cases. Returns the number of test cases supplied.
    */
-  private List<TestCaseDef> getFailureCases( FunctionInputDef inputDef, VarTupleSet failureTuples, VarTupleSet validTuples)
+  private int getFailureCases( FunctionInputDef inputDef, IVarTupleSet failureTuples, IVarTupleSet validTuples, int maxCases, Consumer<TestCaseDef> failureCases)
     {
     logger_.debug( "{}: Creating failure test cases", inputDef);
     
-    List<TestCaseDef> failureCases = new ArrayList<TestCaseDef>();
+    int failureCount = 0;
 
     // For each failure input tuple not yet used in a test case...
     Tuple nextUnused;
-    while( (nextUnused = failureTuples.getNextUnused()) != null)
+    while( failureCount <= maxCases && (nextUnused = failureTuples.getNextUnused()) != null)
       {
       // Completed bindings for all variables?
       TestCaseDef failureCase = createTestCase( nextUnused, inputDef, validTuples);
@@ -709,18 +772,29 @@ public class TupleGenerator implements ITestCaseGenerator
         {
         // Yes, add new failure test case.
         failureTuples.used( nextUnused);
-        failureCases.add( failureCase);
+        failureCases.accept( failureCase);
+        failureCount++;
         }
       }
 
-    logger_.info( "{}: Created {} failure test cases", inputDef, failureCases.size());
-    return failureCases;
+    logger_.info( "{}: Created {} failure test cases", inputDef, failureCount);
+    return failureCount;
+    }
+
+  /**
+   * Supplies all completed base cases, in order of increasing id, followed by any new cases held until the base cases were complete.
+   */
+  private void supplyHeldCases( List<TestCaseDef> baseCases, List<TestCaseDef> heldCases, Consumer<ITestCaseDef> testCaseDefs)
+    {
+    Collections.sort( baseCases);
+    baseCases.forEach( testCaseDefs);
+    heldCases.forEach( testCaseDefs);
     }
 
   /**
    * Returns the all failure input tuples required for generated test cases.
    */
-  private VarTupleSet getFailureTupleSet( RandSeq randSeq, FunctionInputDef inputDef)
+  private IVarTupleSet getFailureTupleSet( RandSeq randSeq, FunctionInputDef inputDef)
     {
     List<Tuple> failureTuples = new ArrayList<Tuple>();
 
@@ -733,7 +807,15 @@ public class TupleGenerator implements ITestCaseGenerator
         }
       }
     
-    return new VarTupleSet( RandSeq.reorderIf( randSeq, failureTuples));
+    return new IndexedVarTupleSet( RandSeq.reorderIf( randSeq, failureTuples));
+    }
+
+  /**
+   * Returns the cache of binding conditions shared by all test cases for the current function.
+   */
+  ConditionCache getConditionCache()
+    {
+    return conditionCache_;
     }
 
   /**
@@ -790,7 +872,7 @@ public class TupleGenerator implements ITestCaseGenerator
    * Returns a comparator that orders bindings by decreasing preference, preferring bindings that are
    * less used.
    */
-  private Comparator<VarBindingDef> byUsage( final VarTupleSet varTupleSet)
+  private Comparator<VarBindingDef> byUsage( final IVarTupleSet varTupleSet)
     {
     return
       new Comparator<VarBindingDef>()
@@ -799,7 +881,7 @@ public class TupleGenerator implements ITestCaseGenerator
         public int compare( VarBindingDef binding1, VarBindingDef binding2)
           {
           // Compare by usage score: higher score is preferred.
-          int resultScore = getScore( binding2).compareTo( getScore( binding1));
+          int resultScore = Integer.compare( varTupleSet.getUsageScore( binding2), varTupleSet.getUsageScore( binding1));
           return
             // If equal usage score...
             resultScore == 0
@@ -807,24 +889,6 @@ public class TupleGenerator implements ITestCaseGenerator
             ? varBindingDefSorter_.compare( binding1, binding2)
             : resultScore;
           }
-
-        private Integer getScore( VarBindingDef binding)
-          {
-          Integer score = bindingScores_.get( binding);
-          if( score == null)
-            {
-            // Preferred higher "unused-ness" and lower "used-ness" (especially among once-only tuples)
-            int maxScore = 1000;
-            int unusedScore = (int) (varTupleSet.getUnusedScore( binding) * maxScore);
-            int usedScore = (int) ((1.0 - varTupleSet.getUsedScore( binding)) * (maxScore - 1));
-            int usedOnceScore = (int) ((1.0 - varTupleSet.getUsedOnceScore( binding)) * (maxScore - 1));
-            score = ((unusedScore * maxScore) + usedOnceScore) * maxScore + usedScore;
-            bindingScores_.put( binding, score);
-            }
-          
-          return score;
-          }
-        private Map<VarBindingDef,Integer> bindingScores_ = new HashMap<VarBindingDef,Integer>();
       };
     }
   
@@ -870,6 +934,7 @@ public class TupleGenerator implements ITestCaseGenerator
   private int defaultTupleSize_;
   private List<TupleCombiner> combiners_;
   private MultiValuedMap<String,VarBindingDef> propertyProviders_;
+  private ConditionCache conditionCache_;
 
   private static final Logger logger_ = LoggerFactory.getLogger( TupleGenerator.class);
 
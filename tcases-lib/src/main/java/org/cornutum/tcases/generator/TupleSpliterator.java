@@ -0,0 +1,468 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.generator;
+
+import org.cornutum.tcases.PropertySet;
+import org.cornutum.tcases.VarBindingDef;
+import org.cornutum.tcases.VarDef;
+import org.cornutum.tcases.conditions.*;
+import org.cornutum.tcases.util.ToString;
+import static org.cornutum.tcases.util.CollectionUtils.toStream;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Enumerates all N-tuples of compatible values for a given list of input variables.
+ * <P/>
+ * Tuples are produced by a depth-first traversal that binds one variable at a time. A complete tuple is
+ * produced only if every tuple suffix of two or more members is compatible, the same tuples that were produced by
+ * combining each binding with the compatible tuples for the remaining variables.
+ * Tuples are produced in variable order, with the values for each variable in definition order.
+ * <P/>
+ * A partial tuple is pruned only if it contains a binding whose condition can't become compatible again when more
+ * properties are added. That is true of most conditions, but not of a {@link Not} condition that is satisfied only
+ * while some property count remains small, like <CODE>Not( AssertLess( "p", 1))</CODE>, which
+ * is incompatible with a partial tuple but can be satisfied by properties from a later binding.
+ * <P/>
+ * A TupleSpliterator can be split before traversal begins, dividing the bindings for the first tuple
+ * member among separate spliterators that can be traversed in parallel.
+ */
+public class TupleSpliterator implements Spliterator<Tuple>
+  {
+  /**
+   * Creates a new TupleSpliterator object.
+   */
+  public TupleSpliterator( int tupleSize, List<VarDef> varDefs)
+    {
+    int varCount = varDefs.size();
+    int varEnd = varCount - tupleSize + 1;
+    if( tupleSize < 1 || varEnd <= 0)
+      {
+      throw new IllegalArgumentException( "Can't create " + tupleSize + "-tuples for a list of size=" + varCount);
+      }
+
+    // Create the bindings for each variable once, to be shared by all tuples.
+    bindings_ = new VarBindingDef[ varCount][];
+    prunable_ = new boolean[ varCount][];
+    for( int i = 0; i < varCount; i++)
+      {
+      VarDef varDef = varDefs.get(i);
+      bindings_[i] =
+        toStream( varDef.getValidValues())
+        .map( value -> new VarBindingDef( varDef, value))
+        .toArray( VarBindingDef[]::new);
+
+      if( bindings_[i].length == 0)
+        {
+        throw new IllegalStateException( "Can't complete tuples -- no valid values defined for var=" + varDef);
+        }
+
+      // Resolve effective conditions now, since bindings may be shared by concurrent traversals.
+      prunable_[i] = new boolean[ bindings_[i].length];
+      for( int j = 0; j < bindings_[i].length; j++)
+        {
+        prunable_[i][j] = PrunableVisitor.isPrunable( bindings_[i][j].getEffectiveCondition());
+        }
+      }
+
+    // Each binding for the variables that can start a tuple is the root of a separate traversal.
+    rootVars_ = new int[ varEnd + 1];
+    for( int i = 0; i < varEnd; i++)
+      {
+      rootVars_[i + 1] = rootVars_[i] + bindings_[i].length;
+      }
+
+    tupleSize_ = tupleSize;
+    varEnd_ = varEnd;
+    rootNext_ = 0;
+    rootEnd_ = rootVars_[ varEnd];
+    initTraversal();
+    }
+
+  /**
+   * Creates a new TupleSpliterator object that traverses the given range of root bindings.
+   */
+  private TupleSpliterator( TupleSpliterator other, int rootStart, int rootEnd)
+    {
+    bindings_ = other.bindings_;
+    prunable_ = other.prunable_;
+    rootVars_ = other.rootVars_;
+    tupleSize_ = other.tupleSize_;
+    varEnd_ = other.varEnd_;
+    rootNext_ = rootStart;
+    rootEnd_ = rootEnd;
+    initTraversal();
+    }
+
+  /**
+   * Initializes the state of the depth-first traversal.
+   */
+  private void initTraversal()
+    {
+    vars_ = new int[ tupleSize_];
+    values_ = new int[ tupleSize_];
+    tuple_ = new VarBindingDef[ tupleSize_];
+    properties_ = new PropertySet();
+    suffixProperties_ = new PropertySet();
+    depth_ = 0;
+    }
+
+  /**
+   * Returns the size of tuples returned.
+   */
+  public int getTupleSize()
+    {
+    return tupleSize_;
+    }
+
+  @Override
+  public boolean tryAdvance( Consumer<? super Tuple> action)
+    {
+    Tuple nextTuple = getNextTuple();
+    if( nextTuple != null)
+      {
+      action.accept( nextTuple);
+      }
+
+    return nextTuple != null;
+    }
+
+  @Override
+  public Spliterator<Tuple> trySplit()
+    {
+    // Split only before traversal begins, so that the prefix returned precedes all remaining tuples.
+    int rootMid = (rootNext_ + rootEnd_) >>> 1;
+    TupleSpliterator prefix = null;
+    if( depth_ == 0 && rootNext_ < rootMid)
+      {
+      prefix = new TupleSpliterator( this, rootNext_, rootMid);
+      rootNext_ = rootMid;
+      }
+
+    return prefix;
+    }
+
+  @Override
+  public long estimateSize()
+    {
+    return Long.MAX_VALUE;
+    }
+
+  @Override
+  public int characteristics()
+    {
+    return ORDERED | DISTINCT | NONNULL;
+    }
+
+  /**
+   * Returns the next N-tuple of compatible values, or null if no more tuples remain.
+   */
+  private Tuple getNextTuple()
+    {
+    Tuple nextTuple = null;
+    while( nextTuple == null && !(depth_ == 0 && rootNext_ >= rootEnd_))
+      {
+      // Start the next root binding?
+      if( depth_ == 0)
+        {
+        int var = Arrays.binarySearch( rootVars_, rootNext_);
+        if( var < 0)
+          {
+          var = -var - 2;
+          }
+
+        vars_[0] = var;
+        values_[0] = rootNext_ - rootVars_[ var];
+        rootNext_++;
+        }
+
+      // Otherwise, continue to the next binding for the current tuple member.
+      else if( !nextMember( depth_))
+        {
+        // No more bindings for this member. Backtrack to the previous member.
+        unbind( --depth_);
+        continue;
+        }
+
+      bind( depth_);
+      if( !isPrefixCompatible())
+        {
+        // No tuple with this prefix can be compatible. Continue with the next binding for this member.
+        unbind( depth_);
+        }
+      else if( depth_ + 1 < tupleSize_)
+        {
+        // Continue with the next tuple member.
+        vars_[ ++depth_] = -1;
+        }
+      else
+        {
+        if( isCompatible())
+          {
+          nextTuple = new Tuple( tuple_);
+          }
+        unbind( depth_);
+        }
+      }
+
+    return nextTuple;
+    }
+
+  /**
+   * Advances to the next binding for the given tuple member. Returns false if no more bindings remain.
+   */
+  private boolean nextMember( int member)
+    {
+    if( vars_[ member] < 0)
+      {
+      vars_[ member] = vars_[ member - 1] + 1;
+      values_[ member] = 0;
+      }
+    else if( ++values_[ member] == bindings_[ vars_[ member]].length)
+      {
+      vars_[ member]++;
+      values_[ member] = 0;
+      }
+
+    return vars_[ member] < varEnd_ + member;
+    }
+
+  /**
+   * Adds the current binding for the given tuple member.
+   */
+  private void bind( int member)
+    {
+    VarBindingDef binding = bindings_[ vars_[ member]][ values_[ member]];
+    tuple_[ member] = binding;
+    properties_.addAll( binding.getValueDef().getProperties().iterator());
+    }
+
+  /**
+   * Returns false if no tuple that starts with the current partial tuple can be compatible.
+   */
+  private boolean isPrefixCompatible()
+    {
+    // A 1-tuple is always included, even if its binding is incompatible with its own properties.
+    boolean compatible = true;
+    if( tupleSize_ > 1)
+      {
+      // Any complete tuple will have at least the current properties. So a binding condition that remains
+      // incompatible when properties are added is incompatible with any tuple with this prefix.
+      for( int i = 0; compatible && i <= depth_; i++)
+        {
+        compatible =
+          !prunable_[ vars_[i]][ values_[i]]
+          || tuple_[i].getEffectiveCondition().compatible( properties_);
+        }
+      }
+
+    return compatible;
+    }
+
+  /**
+   * Returns true if the current complete tuple is compatible.
+   */
+  private boolean isCompatible()
+    {
+    // A 1-tuple is always included, even if its binding is incompatible with its own properties.
+    boolean compatible = true;
+    if( tupleSize_ > 1)
+      {
+      compatible = isCompatible( 0, properties_);
+
+      // Every suffix of two or more members must also be compatible.
+      int last = tupleSize_ - 1;
+      if( compatible && last > 1)
+        {
+        suffixProperties_.addAll( tuple_[ last].getValueDef().getProperties().iterator());
+        for( int start = last - 1; compatible && start > 0; start--)
+          {
+          suffixProperties_.addAll( tuple_[ start].getValueDef().getProperties().iterator());
+          compatible = isCompatible( start, suffixProperties_);
+          }
+        suffixProperties_.clear();
+        }
+      }
+
+    return compatible;
+    }
+
+  /**
+   * Returns true if all members of the current tuple starting with the given member are compatible with the given properties.
+   */
+  private boolean isCompatible( int start, PropertySet properties)
+    {
+    boolean compatible = true;
+    for( int i = start; compatible && i < tupleSize_; i++)
+      {
+      compatible = tuple_[i].getEffectiveCondition().compatible( properties);
+      }
+
+    return compatible;
+    }
+
+  /**
+   * Removes the current binding for the given tuple member.
+   */
+  private void unbind( int member)
+    {
+    properties_.removeAll( tuple_[ member].getValueDef().getProperties().iterator());
+    tuple_[ member] = null;
+    }
+
+  @Override
+  public String toString()
+    {
+    return
+      ToString.getBuilder( this)
+      .append( "size", getTupleSize())
+      .append( "roots", String.valueOf( rootNext_) + ".." + rootEnd_)
+      .toString();
+    }
+
+  /**
+   * An {@link IConditionVisitor} that determines if a condition that is incompatible with some properties
+   * remains incompatible when more properties are added.
+   */
+  private static class PrunableVisitor implements IConditionVisitor
+    {
+    /**
+     * Returns true if the given condition remains incompatible when more properties are added.
+     */
+    public static boolean isPrunable( ICondition condition)
+      {
+      PrunableVisitor visitor = new PrunableVisitor();
+      condition.accept( visitor);
+      return visitor.prunable_;
+      }
+
+    /**
+     * Returns true if the given condition remains satisfied when more properties are added.
+     */
+    private static boolean isIncreasing( ICondition condition)
+      {
+      return
+        condition instanceof ContainsAll
+        || condition instanceof ContainsAny
+        || condition instanceof AssertMore
+        || condition instanceof AssertNotLess
+        || ((condition instanceof AllOf || condition instanceof AnyOf) && allIncreasing( ((ConditionSet) condition).getConditions()));
+      }
+
+    /**
+     * Returns true if all of the given conditions remain satisfied when more properties are added.
+     */
+    private static boolean allIncreasing( Iterator<ICondition> conditions)
+      {
+      return toStream( conditions).allMatch( PrunableVisitor::isIncreasing);
+      }
+
+    /**
+     * Returns true if all of the given conditions remain incompatible when more properties are added.
+     */
+    private static boolean allPrunable( Iterator<ICondition> conditions)
+      {
+      return toStream( conditions).allMatch( PrunableVisitor::isPrunable);
+      }
+
+    @Override
+    public void visit( AllOf condition)
+      {
+      prunable_ = allPrunable( condition.getConditions());
+      }
+
+    @Override
+    public void visit( AnyOf condition)
+      {
+      prunable_ = allPrunable( condition.getConditions());
+      }
+
+    @Override
+    public void visit( ContainsAll condition)
+      {
+      prunable_ = true;
+      }
+
+    @Override
+    public void visit( ContainsAny condition)
+      {
+      prunable_ = true;
+      }
+
+    @Override
+    public void visit( IConjunct condition)
+      {
+      prunable_ = false;
+      }
+
+    @Override
+    public void visit( Not condition)
+      {
+      // A Not condition is compatible only if satisfied, so it remains incompatible only if
+      // every negated condition remains satisfied.
+      prunable_ = allIncreasing( condition.getConditions());
+      }
+
+    @Override
+    public void visit( AssertLess condition)
+      {
+      prunable_ = true;
+      }
+
+    @Override
+    public void visit( AssertMore condition)
+      {
+      prunable_ = true;
+      }
+
+    @Override
+    public void visit( AssertNotLess condition)
+      {
+      prunable_ = true;
+      }
+
+    @Override
+    public void visit( AssertNotMore condition)
+      {
+      prunable_ = true;
+      }
+
+    @Override
+    public void visit( Between condition)
+      {
+      prunable_ = true;
+      }
+
+    @Override
+    public void visit( Equals condition)
+      {
+      prunable_ = true;
+      }
+
+    private boolean prunable_;
+    }
+
+  private final VarBindingDef[][] bindings_;
+  private final boolean[][]       prunable_;
+  private final int[]             rootVars_;
+  private final int               tupleSize_;
+  private final int               varEnd_;
+  private int                     rootNext_;
+  private int                     rootEnd_;
+
+  private int[]                   vars_;
+  private int[]                   values_;
+  private VarBindingDef[]         tuple_;
+  private PropertySet             properties_;
+  private PropertySet             suffixProperties_;
+  private int                     depth_;
+  }
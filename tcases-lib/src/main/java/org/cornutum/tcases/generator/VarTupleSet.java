@@ -24,7 +24,7 @@ import java.util.List;
  * Defines a set of input variable combinations used for test cases.
  *
  */
-public class VarTupleSet
+public class VarTupleSet implements IVarTupleSet
   {
   /**
    * Creates a new VarTupleSet object.
@@ -43,6 +43,7 @@ public class VarTupleSet
   /**
    * Returns input tuples not yet used in a test case.
    */
+  @Override
   public Iterator<Tuple> getUnused()
     {
     return unused_.iterator();
@@ -51,6 +52,7 @@ public class VarTupleSet
   /**
    * Returns input tuples not yet used in a test case that bind the given variable.
    */
+  @Override
   public Iterator<Tuple> getUnused( VarDef var)
     {
     return getBinds( unused_.iterator(), var);
@@ -60,6 +62,7 @@ public class VarTupleSet
    * Returns a measure of the "unused-ness" of the given binding.
    * Returns a value between 0 and 1 (exclusive) -- a higher value means a binding is more unused.
    */
+  @Override
   public double getUnusedScore( final VarBindingDef binding)
     {
     // Returns the percentage of unused tuples that include this binding.
@@ -77,6 +80,7 @@ public class VarTupleSet
   /**
    * Returns input tuples already used in a test case.
    */
+  @Override
   public Iterator<Tuple> getUsed()
     {
     if( usedChanged_)
@@ -94,6 +98,7 @@ public class VarTupleSet
    * Returns input tuples already used in a test case that bind the given variable,
    * excluding once-only tuples.
    */
+  @Override
   public Iterator<Tuple> getUsed( VarDef var)
     {
     return getUsed( var, false);
@@ -102,6 +107,7 @@ public class VarTupleSet
   /**
    * Returns once-only input tuples already used in a test case that bind the given variable.
    */
+  @Override
   public Iterator<Tuple> getUsedOnce( VarDef var)
     {
     return getUsed( var, true);
@@ -111,6 +117,7 @@ public class VarTupleSet
    * Returns input tuples already used in a test case that bind the given variable, considering
    * only tuples that are (not) once-only
    */
+  @Override
   public Iterator<Tuple> getUsed( VarDef var, final boolean onceOnly)
     {
     return
@@ -125,6 +132,7 @@ public class VarTupleSet
    * Returns a measure of the "used-ness" of the given binding.
    * Returns a value between 0 and 1 (exclusive) -- a higher value means a binding is more used.
    */
+  @Override
   public double getUsedScore( VarBindingDef binding)
     {
     return getUsedScore( binding, false);
@@ -134,6 +142,7 @@ public class VarTupleSet
    * Returns a measure of the "used-ness" of the given binding among once-only tuples.
    * Returns a value between 0 and 1 (exclusive) -- a higher value means a binding is more used among once-only tuples.
    */
+  @Override
   public double getUsedOnceScore( VarBindingDef binding)
     {
     return getUsedScore( binding, true);
@@ -181,6 +190,7 @@ public class VarTupleSet
   /**
    * Asserts use of all tuples contained in the given test case.
    */
+  @Override
   public void used( final TestCaseDef testCase)
     {
     // Note: must accumulate tuples into a separate list to avoid ConcurrentModificationException when updating used/unused membership.
@@ -201,6 +211,7 @@ public class VarTupleSet
   /**
    * Asserts that the given tuple has been used in a test case.
    */
+  @Override
   public void used( Tuple tuple)
     {
     // Currently unused?
@@ -254,6 +265,7 @@ public class VarTupleSet
   /**
    * Removes the given tuple from use in test cases.
    */
+  @Override
   public void remove( Tuple tuple)
     {
     int i = unused_.indexOf( tuple);
@@ -267,6 +279,7 @@ public class VarTupleSet
    * Returns the next unused tuple from this set. Returns null if all
    * tuples have been used.
    */
+  @Override
   public Tuple getNextUnused()
     {
     Iterator<Tuple> unused = getUnused();
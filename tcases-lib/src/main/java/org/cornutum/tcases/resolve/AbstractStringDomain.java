@@ -75,6 +75,7 @@ public abstract class AbstractStringDomain extends SequenceDomain<String>
   public void setMatching( List<String> patterns)
     {
     matching_ = patterns;
+    matchesResolver_ = null;
     }
 
   /**
@@ -99,6 +100,7 @@ public abstract class AbstractStringDomain extends SequenceDomain<String>
   public void setNotMatching( List<String> patterns)
     {
     notMatching_ = patterns;
+    matchesResolver_ = null;
     }
 
   /**
@@ -205,12 +207,27 @@ public abstract class AbstractStringDomain extends SequenceDomain<String>
    */
   protected boolean matchesPatterns( String value)
     {
-    return new PatternResolver().matchesAll( value);
+    return getMatchesResolver().matchesAll( value);
+    }
+
+  /**
+   * Returns the {@link PatternResolver} used to check if values match the pattern requirements for this domain.
+   */
+  private PatternResolver getMatchesResolver()
+    {
+    PatternResolver resolver = matchesResolver_;
+    if( resolver == null)
+      {
+      matchesResolver_ = resolver = new PatternResolver();
+      }
+
+    return resolver;
     }
   
   private final Characters chars_;
   private List<String> matching_ = emptyList();
   private List<String> notMatching_ = emptyList();
+  private volatile PatternResolver matchesResolver_;
 
   /**
    * Resolves string data values by matching regular expressions.
@@ -310,7 +327,7 @@ public abstract class AbstractStringDomain extends SequenceDomain<String>
         .map( regexp -> {
           try
             {
-            return Pattern.compile( regexp);
+            return RegExpCache.patternFor( regexp);
             }
           catch( PatternSyntaxException e)
             {
@@ -334,6 +351,7 @@ public abstract class AbstractStringDomain extends SequenceDomain<String>
         {
         try
           {
+          // Options are changed for this domain, so don't use a shared instance from the RegExpCache.
           generator_ = Provider.forEcmaScript().matching( generatedBy_);
           generator_.getOptions().setAnyPrintableChars( getCharacters().filtered( Characters.Ascii.chars()).get());
           random_ = new RandomBoundsGen( context_.getRandom());
@@ -380,14 +398,7 @@ public abstract class AbstractStringDomain extends SequenceDomain<String>
      */
     private RegExpGen generatorFor( String regexp)
       {
-      try
-        {
-        return Provider.forEcmaScript().matching( regexp);
-        }
-      catch( IllegalArgumentException e)
-        {
-        return null;
-        }
+      return RegExpCache.generatorFor( regexp).orElse( null);
       }
 
     private final ResolverContext context_;
@@ -0,0 +1,130 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.resolve;
+
+import org.cornutum.regexpgen.RegExpGen;
+import org.cornutum.regexpgen.js.Provider;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Caches the {@link Pattern} and {@link RegExpGen} instances compiled for regular expressions, so that
+ * the same pattern requirements can be matched by different string domains without compiling them again.
+ * <P/>
+ * Cached instances are shared by all threads and must only be used in ways that don't change them.
+ */
+class RegExpCache
+  {
+  /**
+   * Creates a new RegExpCache instance.
+   */
+  private RegExpCache()
+    {
+    // Static methods only
+    }
+
+  /**
+   * Returns the {@link Pattern} for the given regular expression.
+   *
+   * @throws PatternSyntaxException if the regular expression is invalid.
+   */
+  public static Pattern patternFor( String regexp)
+    {
+    Pattern pattern = patterns_.get( regexp);
+    if( pattern == null)
+      {
+      // Invalid expressions are not cached, so the same syntax error is reported by each caller.
+      pattern = Pattern.compile( regexp);
+      patterns_.put( regexp, pattern);
+      }
+
+    return pattern;
+    }
+
+  /**
+   * Returns the {@link RegExpGen} for the given ECMAScript regular expression. Returns
+   * <CODE>Optional.empty()</CODE> if no generator can be created for this expression.
+   */
+  public static Optional<RegExpGen> generatorFor( String regexp)
+    {
+    return generators_.computeIfAbsent( regexp, RegExpCache::createGenerator);
+    }
+
+  /**
+   * Returns a new {@link RegExpGen} for the given ECMAScript regular expression.
+   */
+  private static Optional<RegExpGen> createGenerator( String regexp)
+    {
+    try
+      {
+      return Optional.of( Provider.forEcmaScript().matching( regexp));
+      }
+    catch( IllegalArgumentException e)
+      {
+      return Optional.empty();
+      }
+    }
+
+  /**
+   * A bounded, thread-safe map that discards the least recently used entries.
+   */
+  private static class LruMap<V>
+    {
+    public LruMap( int maxEntries)
+      {
+      entries_ =
+        new LinkedHashMap<String,V>( 16, 0.75f, true)
+        {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry( Map.Entry<String,V> eldest)
+          {
+          return size() > maxEntries;
+          }
+        };
+      }
+
+    public synchronized V get( String key)
+      {
+      return entries_.get( key);
+      }
+
+    public synchronized void put( String key, V value)
+      {
+      entries_.put( key, value);
+      }
+
+    /**
+     * Returns the value for the given key, computing and caching it if necessary. The value is computed
+     * outside of any lock, so concurrent callers may compute the same value more than once.
+     */
+    public V computeIfAbsent( String key, Function<String,V> valueFor)
+      {
+      V value = get( key);
+      if( value == null)
+        {
+        value = valueFor.apply( key);
+        put( key, value);
+        }
+
+      return value;
+      }
+
+    private final Map<String,V> entries_;
+    }
+
+  private static final int MAX_ENTRIES = 1024;
+  private static final LruMap<Pattern> patterns_ = new LruMap<Pattern>( MAX_ENTRIES);
+  private static final LruMap<Optional<RegExpGen>> generators_ = new LruMap<Optional<RegExpGen>>( MAX_ENTRIES);
+  }
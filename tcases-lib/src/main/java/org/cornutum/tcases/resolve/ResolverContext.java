@@ -78,6 +78,19 @@ public class ResolverContext extends ExecutionNotifier<ResolverException>
     return maxTries_;
     }
 
+  /**
+   * Returns a copy of this context, starting at the current location.
+   */
+  public ResolverContext cloneOf()
+    {
+    return
+      builder( getLocation())
+      .random( getRandom())
+      .notifier( getNotifier())
+      .maxTries( getMaxTries())
+      .build();
+    }
+
   /**
    * Repeats evaluation of the given <CODE>valueSupplier</CODE> until a result is present or until
    * the {@link #getMaxTries maximum tries} have been attempted. If the no more attempts are possible,
@@ -14,6 +14,9 @@ import static org.cornutum.tcases.util.CollectionUtils.toStream;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import static java.util.stream.Collectors.toList;
 
@@ -67,6 +70,24 @@ public abstract class TestCaseResolver extends ContextHandler<ResolverContext>
         .collect( toList()));
     }
 
+  /**
+   * Resolves each of the {@link ITestCaseDef test case definitions} supplied for the {@link #getInputDef input definition}
+   * and passes each new {@link TestCase} to the given consumer as soon as it is resolved.
+   */
+  public void resolve( BiConsumer<FunctionInputDef,Consumer<ITestCaseDef>> testCaseDefSource, Consumer<TestCase> testCases)
+    {
+    FunctionInputDef inputDef = getInputDef();
+    nextId_ = -1;
+    
+    doFor(
+      inputDef.getName(),
+
+      () ->
+      testCaseDefSource.accept(
+        inputDef,
+        testCaseDef -> Optional.ofNullable( resolveTestDef( testCaseDef)).ifPresent( testCases)));
+    }
+
   /**
    * Resolves a {@link ITestCaseDef test case definition} to create a new {@link TestCase}.
    */
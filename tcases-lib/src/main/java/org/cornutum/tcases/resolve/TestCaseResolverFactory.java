@@ -25,6 +25,19 @@ public interface TestCaseResolverFactory
    */
   public ResolverContext getResolverContext();
 
+  /**
+   * Returns a {@link TestCaseResolverFactory} that creates the same resolvers as this factory, but using a separate
+   * copy of its {@link ResolverContext}. Resolvers from different copies can run concurrently.
+   * <P/>
+   * By default, returns this factory. A factory must not be used by different threads at the same time, so when
+   * this returns the same factory, {@link org.cornutum.tcases.Tcases#getTests Tcases.getTests()} resolves the test
+   * cases for all functions sequentially.
+   */
+  public default TestCaseResolverFactory cloneOf()
+    {
+    return this;
+    }
+
   /**
    * Returns a {@link TestCaseResolver} uses only the basic input model without schemas.
    */
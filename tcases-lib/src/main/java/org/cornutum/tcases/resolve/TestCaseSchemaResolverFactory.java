@@ -40,5 +40,15 @@ public class TestCaseSchemaResolverFactory implements TestCaseResolverFactory
     return context_;
     }
 
+  /**
+   * Returns a {@link TestCaseResolverFactory} that creates the same resolvers as this factory, but using a separate
+   * copy of its {@link ResolverContext}. Resolvers from different copies can run concurrently.
+   */
+  @Override
+  public TestCaseResolverFactory cloneOf()
+    {
+    return new TestCaseSchemaResolverFactory( getResolverContext().cloneOf());
+    }
+
   private final ResolverContext context_;
   }
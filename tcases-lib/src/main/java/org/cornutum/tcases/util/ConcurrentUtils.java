@@ -0,0 +1,83 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.util;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Defines utility methods for running tasks concurrently.
+ *
+ */
+public final class ConcurrentUtils
+  {
+  private ConcurrentUtils()
+    {
+    // Static methods only
+    }
+
+  /**
+   * Returns the results of the given suppliers, evaluated concurrently using at most the given number of threads.
+   * Results are returned in the same order as the suppliers.
+   */
+  public static <T> List<T> getConcurrently( List<Supplier<T>> suppliers, int threads)
+    {
+    ExecutorService executor = Executors.newFixedThreadPool( Math.max( 1, Math.min( threads, suppliers.size())));
+    try
+      {
+      return getConcurrently( suppliers, executor);
+      }
+    finally
+      {
+      executor.shutdownNow();
+      }
+    }
+
+  /**
+   * Returns the results of the given suppliers, evaluated concurrently using the given executor.
+   * Results are returned in the same order as the suppliers.
+   */
+  public static <T> List<T> getConcurrently( List<Supplier<T>> suppliers, ExecutorService executor)
+    {
+    List<CompletableFuture<T>> results =
+      suppliers.stream()
+      .map( supplier -> CompletableFuture.supplyAsync( supplier, executor))
+      .collect( toList());
+
+    return results.stream().map( ConcurrentUtils::resultOf).collect( toList());
+    }
+
+  /**
+   * Waits for the result of the given computation, reporting any failure as if computed by the current thread.
+   */
+  public static <T> T resultOf( CompletableFuture<T> result)
+    {
+    try
+      {
+      return result.join();
+      }
+    catch( CompletionException e)
+      {
+      Throwable cause = e.getCause();
+      if( cause instanceof RuntimeException)
+        {
+        throw (RuntimeException) cause;
+        }
+      if( cause instanceof Error)
+        {
+        throw (Error) cause;
+        }
+      throw e;
+      }
+    }
+  }
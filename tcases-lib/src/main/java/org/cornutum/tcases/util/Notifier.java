@@ -62,6 +62,41 @@ public interface Notifier
         };
     }
 
+  /**
+   * Returns a {@link Notifier} that reports all conditions to the given notifier, one at a time,
+   * even when conditions are reported by different threads.
+   */
+  public static Notifier synchronizedNotifier( final Notifier notifier)
+    {
+    return
+      new Notifier()
+        {
+        @Override
+        public void warn( String[] location, String reason)
+          {
+          synchronized( notifier)
+            {
+            notifier.warn( location, reason);
+            }
+          }
+        
+        @Override
+        public void error( String[] location, String reason, String resolution)
+          {
+          synchronized( notifier)
+            {
+            notifier.error( location, reason, resolution);
+            }
+          }
+
+        @Override
+        public String toString()
+          {
+          return notifier.toString();
+          }
+        };
+    }
+
   /**
    * Returns a {@link Notifier} that logs all conditions, using the given {@link Logger}.
    */
@@ -8,6 +8,7 @@
 package org.cornutum.tcases;
 
 import org.junit.Test;
+import static org.cornutum.hamcrest.ExpectedFailure.expectFailure;
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
@@ -137,6 +138,99 @@ public class TestFunctionInputDef
     assertThat( "Top-level", var.getPathName(), is( "A"));
     }
   
+  @Test
+  public void findVarPath_Changed()
+    {
+    // Given...
+    FunctionInputDef functionInputDef =
+      new FunctionInputDefBuilder()
+      .vars(
+        VarSetBuilder.with( "A")
+        .members(
+          VarSetBuilder.with( "B")
+          .members(
+            VarSetBuilder.with( "C")
+            .members(
+              VarDefBuilder.with( "D")
+              .build())
+            .build())
+          .build())
+        .build())
+      .build();
+
+    IVarDef var = functionInputDef.findVarPath( "A.B.C.D");
+    VarSet parent = (VarSet) functionInputDef.findVarPath( "A.B.C");
+
+    // When...
+    parent.removeMember( "D");
+    
+    // Then...
+    assertThat( "Removed member", functionInputDef.findVarPath( "A.B.C.D"), is( nullValue()));
+
+    // When...
+    IVarDef replaced = VarDefBuilder.with( "D").build();
+    parent.addMember( replaced);
+    
+    // Then...
+    assertThat( "Replaced member", functionInputDef.findVarPath( "A.B.C.D"), is( sameInstance( replaced)));
+    assertThat( "Replaced member", functionInputDef.findVarPath( "A.B.C.D"), is( not( sameInstance( var))));
+
+    // When...
+    functionInputDef.removeVarDef( "A");
+    
+    // Then...
+    assertThat( "Removed variable", functionInputDef.findVarPath( "A.B.C.D"), is( nullValue()));
+    assertThat( "Removed variable", functionInputDef.findVarPath( "A"), is( nullValue()));
+    }
+
+  @Test
+  public void findVarPath_Renamed()
+    {
+    // Given...
+    FunctionInputDef functionInputDef =
+      FunctionInputDefBuilder.with( "F")
+      .vars(
+        VarSetBuilder.with( "A")
+        .members(
+          VarDefBuilder.with( "B")
+          .build())
+        .build(),
+        VarDefBuilder.with( "C")
+        .build())
+      .build();
+
+    IVarDef varA = functionInputDef.findVarPath( "A");
+    IVarDef varB = functionInputDef.findVarPath( "A.B");
+
+    // When...
+    ((VarSet) varA).setName( "Z");
+
+    // Then...
+    assertThat( "Renamed variable", functionInputDef.getVarDef( "Z"), is( sameInstance( varA)));
+    assertThat( "Renamed variable", functionInputDef.getVarDef( "A"), is( nullValue()));
+    assertThat( "Renamed path", functionInputDef.findVarPath( "Z.B"), is( sameInstance( varB)));
+    assertThat( "Renamed path", functionInputDef.findVarPath( "A.B"), is( nullValue()));
+    assertThat( "Other variable", functionInputDef.getVarDef( "C"), is( notNullValue()));
+
+    expectFailure( IllegalStateException.class)
+      .when( () -> functionInputDef.addVarDef( VarDefBuilder.with( "Z").build()))
+      .then( failure -> {
+        assertThat( "Failure message", failure.getMessage(), is( "Variable=Z already defined for function=F"));
+        });
+
+    // Given...
+    IVarDef varC = functionInputDef.getVarDef( "C");
+    functionInputDef.removeVarDef( "C");
+
+    // When...
+    ((VarDef) varC).setName( "Y");
+
+    // Then...
+    assertThat( "Removed variable", functionInputDef.getVarDef( "Y"), is( nullValue()));
+    assertThat( "Removed variable", functionInputDef.getVarDef( "C"), is( nullValue()));
+    assertThat( "Renamed variable", functionInputDef.getVarDef( "Z"), is( sameInstance( varA)));
+    }
+
   @Test
   public void findVarDefPath_Unknown()
     {
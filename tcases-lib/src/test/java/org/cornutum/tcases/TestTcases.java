@@ -0,0 +1,99 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases;
+
+import org.cornutum.tcases.generator.GeneratorOptions;
+import org.cornutum.tcases.resolve.*;
+
+import org.junit.Test;
+import static org.cornutum.hamcrest.Composites.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs tests for {@link Tcases#getTests(SystemInputDef,IGeneratorSet,TestCaseResolverFactory,SystemTestDef,GeneratorOptions)}.
+ */
+public class TestTcases
+  {
+  @Test
+  public void whenThreadsResolverFactoryShared()
+    {
+    // Given...
+    SystemInputDef inputDef = getSystemInputDef();
+    TestCaseResolverFactory schemaResolverFactory = Tcases.schemaResolverFactoryFor( inputDef);
+    Set<Thread> resolverThreads = ConcurrentHashMap.newKeySet();
+
+    TestCaseResolverFactory sharedResolverFactory =
+      new TestCaseResolverFactory()
+        {
+        @Override
+        public TestCaseResolver resolverFor( FunctionInputDef functionInputDef)
+          {
+          resolverThreads.add( Thread.currentThread());
+          return schemaResolverFactory.resolverFor( functionInputDef);
+          }
+
+        @Override
+        public ResolverContext getResolverContext()
+          {
+          return schemaResolverFactory.getResolverContext();
+          }
+        };
+
+    // When...
+    SystemTestDef testDef = Tcases.getTests( inputDef, null, sharedResolverFactory, null, GeneratorOptions.builder().threads( 4).build());
+
+    // Then...
+    assertThat( "Resolver threads", resolverThreads, containsInAnyOrder( Thread.currentThread()));
+
+    SystemTestDef expectedTestDef = Tcases.getTests( inputDef, null, Tcases.schemaResolverFactoryFor( inputDef), null, null);
+    assertThat( "Test def", testDef, matches( new SystemTestDefMatcher( expectedTestDef)));
+    }
+
+  @Test
+  public void whenThreadsResolverFactoryCloned()
+    {
+    // Given...
+    SystemInputDef inputDef = getSystemInputDef();
+
+    // When...
+    SystemTestDef testDef = Tcases.getTests( inputDef, null, null, null, GeneratorOptions.builder().threads( 4).build());
+
+    // Then...
+    SystemTestDef expectedTestDef = Tcases.getTests( inputDef, null, null, null, null);
+    assertThat( "Test def", testDef, matches( new SystemTestDefMatcher( expectedTestDef)));
+    }
+
+  /**
+   * Returns a system input definition with several functions.
+   */
+  private SystemInputDef getSystemInputDef()
+    {
+    SystemInputDefBuilder inputDef = SystemInputDefBuilder.with( "System");
+    for( int f = 0; f < 4; f++)
+      {
+      FunctionInputDefBuilder functionDef = FunctionInputDefBuilder.with( "F" + f);
+      for( int v = 0; v < 3; v++)
+        {
+        functionDef.vars(
+          VarDefBuilder.with( "V" + v)
+          .values(
+            VarValueDefBuilder.with( "A").build(),
+            VarValueDefBuilder.with( "B").build(),
+            VarValueDefBuilder.with( "C").build())
+          .build());
+        }
+      inputDef.functions( functionDef.build());
+      }
+
+    return inputDef.build();
+    }
+  }
@@ -0,0 +1,130 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.conditions;
+
+import org.cornutum.tcases.PropertySet;
+
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs tests for {@link ConditionCompiler}.
+ *
+ */
+public class TestConditionCompiler
+  {
+  @Test
+  public void whenPropertyExpr()
+    {
+    assertCompiledEquivalent( new ContainsAll( "A", "B"));
+    assertCompiledEquivalent( new ContainsAll());
+    assertCompiledEquivalent( new ContainsAny( "A", "C"));
+    assertCompiledEquivalent( new ContainsAny());
+    }
+
+  @Test
+  public void whenConditionSet()
+    {
+    assertCompiledEquivalent(
+      new AllOf()
+      .add( new ContainsAny( "A", "B"))
+      .add( new Not().add( new ContainsAll( "C"))));
+
+    assertCompiledEquivalent(
+      new AnyOf()
+      .add( new AllOf().add( new ContainsAll( "A")).add( new ContainsAll( "B")))
+      .add( new ContainsAll( "C")));
+
+    assertCompiledEquivalent(
+      new Not()
+      .add( new AnyOf().add( new ContainsAny( "A", "B")).add( new ContainsAny( "C"))));
+
+    assertCompiledEquivalent( new AllOf());
+    assertCompiledEquivalent( new AnyOf());
+    assertCompiledEquivalent( new Not());
+    }
+
+  @Test
+  public void whenBounded()
+    {
+    assertCompiledEquivalent( new AssertLess( "A", 2));
+    assertCompiledEquivalent( new AssertLess( "A", 0));
+    assertCompiledEquivalent( new AssertMore( "B", 1));
+    assertCompiledEquivalent( new AssertNotLess( "C", 2));
+    assertCompiledEquivalent( new AssertNotMore( "A", 1));
+    assertCompiledEquivalent( new AssertNotMore( " A ", 1));
+    assertCompiledEquivalent( new Between( new AssertMore( "A", 0), new AssertLess( "A", 2)));
+    assertCompiledEquivalent( new Equals( "B", 1));
+    assertCompiledEquivalent( new Not().add( new Equals( "C", 1)));
+    }
+
+  @Test
+  public void whenCnf()
+    {
+    assertCompiledEquivalent( new Assert( "A"));
+    assertCompiledEquivalent( new Assert());
+    assertCompiledEquivalent( new AssertNot( "B"));
+    assertCompiledEquivalent( new AssertNot());
+    assertCompiledEquivalent( new Disjunction( new Assert( "A"), new AssertNot( "B"), new AssertLess( "C", 1)));
+    assertCompiledEquivalent( new Disjunction( new AssertNot( "A"), new AssertNotMore( "C", 0)));
+    assertCompiledEquivalent( new Conjunction());
+
+    assertCompiledEquivalent(
+      Cnf.convert(
+        new AnyOf()
+        .add( new AllOf().add( new ContainsAll( "A")).add( new Not().add( new ContainsAll( "B"))))
+        .add( new Between( new AssertNotLess( "C", 1), new AssertNotMore( "C", 2)))));
+    }
+
+  /**
+   * Reports a failure if the compiled form of the given condition is not equivalent for all property sets.
+   */
+  private void assertCompiledEquivalent( ICondition condition)
+    {
+    PropertyIndex propertyIndex = new PropertyIndex();
+    ICompiledCondition compiled = new ConditionCompiler( propertyIndex).compile( condition);
+
+    for( List<String> properties : getPropertySets())
+      {
+      PropertySet propertySet = new PropertySet( properties);
+      PropertyCounts propertyCounts = new PropertyCounts( 1).addAll( propertyIndex.getIds( properties));
+
+      assertThat( condition + ": satisfied by " + propertySet, compiled.satisfied( propertyCounts), is( condition.satisfied( propertySet)));
+      assertThat( condition + ": compatible with " + propertySet, compiled.compatible( propertyCounts), is( condition.compatible( propertySet)));
+      }
+    }
+
+  /**
+   * Returns all property sets with up to 2 instances of each of the properties "A", "B", and "C".
+   */
+  private List<List<String>> getPropertySets()
+    {
+    List<List<String>> propertySets = new ArrayList<List<String>>();
+    for( int a = 0; a < 3; a++)
+      {
+      for( int b = 0; b < 3; b++)
+        {
+        for( int c = 0; c < 3; c++)
+          {
+          List<String> properties = new ArrayList<String>();
+          properties.addAll( Arrays.asList( "A", "A").subList( 0, a));
+          properties.addAll( Arrays.asList( "B", "B").subList( 0, b));
+          properties.addAll( Arrays.asList( "C", "C").subList( 0, c));
+          propertySets.add( properties);
+          }
+        }
+      }
+
+    return propertySets;
+    }
+  }
@@ -0,0 +1,445 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.generator;
+
+import org.cornutum.tcases.*;
+import static org.cornutum.tcases.AssertTestDef.*;
+import static org.cornutum.tcases.VarValueDef.Type.*;
+import static org.cornutum.tcases.conditions.Conditions.*;
+
+import org.apache.commons.collections4.IteratorUtils;
+import org.junit.Test;
+import static org.cornutum.hamcrest.Composites.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Runs tests for {@link CoveringArrayGenerator}
+ *
+ */
+public class TestCoveringArrayGenerator
+  {
+  @Test
+  public void getTests_Basic()
+    {
+    // Given...
+    FunctionInputDef functionInputDef = getFunctionInputDefBasic();
+    CoveringArrayGenerator generator = new CoveringArrayGenerator( 2);
+
+    // When...
+    FunctionTestDef functionTestDef = Tcases.getTests( functionInputDef, generator, null);
+
+    // Expect...
+    assertTestCasesComplete( functionInputDef, functionTestDef);
+
+    TupleCombiner combiner = new TupleCombiner( 2);
+    Collection<Tuple> tuplesExpected = combiner.getTuples( functionInputDef);
+    assertThat
+      ( "Tuples included",
+        getTuplesIncluded( tuplesExpected, functionTestDef),
+        containsMembers( tuplesExpected));
+    }
+
+  @Test
+  public void getTests_Combined()
+    {
+    // Given...
+    FunctionInputDef functionInputDef = getFunctionInputDefBasic();
+    CoveringArrayGenerator generator = new CoveringArrayGenerator();
+
+    TupleCombiner combiner1 = new TupleCombiner(3).addIncludedVar( "Color.**");
+    generator.addCombiner( combiner1);
+
+    TupleCombiner combiner2 = new TupleCombiner(2).addIncludedVar( "Color.Hue").addIncludedVar( "Size");
+    generator.addCombiner( combiner2);
+
+    // When...
+    FunctionTestDef functionTestDef = Tcases.getTests( functionInputDef, generator, null);
+
+    // Expect...
+    assertTestCasesComplete( functionInputDef, functionTestDef);
+
+    Collection<Tuple> tuplesExpected;
+
+    tuplesExpected = combiner1.getTuples( functionInputDef);
+    assertThat
+      ( "Tuples included, combiner=" + combiner1,
+        getTuplesIncluded( tuplesExpected, functionTestDef),
+        containsMembers( tuplesExpected));
+
+    tuplesExpected = combiner2.getTuples( functionInputDef);
+    assertThat
+      ( "Tuples included, combiner=" + combiner2,
+        getTuplesIncluded( tuplesExpected, functionTestDef),
+        containsMembers( tuplesExpected));
+
+    tuplesExpected = new TupleCombiner( 1).addIncludedVar( "Shape").getTuples( functionInputDef);
+    assertThat
+      ( "Uncombined tuples included",
+        getTuplesIncluded( tuplesExpected, functionTestDef),
+        containsMembers( tuplesExpected));
+    }
+
+  @Test
+  public void getTests_Constrained()
+    {
+    // Given...
+    FunctionInputDef functionInputDef = getFunctionInputDefConstrained();
+    CoveringArrayGenerator generator = new CoveringArrayGenerator( 2);
+    TupleGenerator tupleGenerator = new TupleGenerator( 2);
+
+    // When...
+    FunctionTestDef functionTestDef = Tcases.getTests( functionInputDef, generator, null);
+
+    // Expect...
+    assertTestCasesComplete( functionInputDef, functionTestDef);
+
+    // All feasible tuples are included
+    Collection<Tuple> tuplesExpected =
+      getTuplesIncluded(
+        new TupleCombiner( 2).getTuples( functionInputDef),
+        Tcases.getTests( functionInputDef, tupleGenerator, null));
+
+    assertThat
+      ( "Tuples included",
+        getTuplesIncluded( tuplesExpected, functionTestDef),
+        containsMembers( tuplesExpected));
+
+    assertIncluded( functionTestDef, 0, tupleFor( functionInputDef).bind( "Color.Lightness", "Dark").bind( "Shape", "Circle").build());
+    assertIncluded( functionTestDef, 0, tupleFor( functionInputDef).bind( "Color.Lightness", "Bright").bind( "Shape", "Heart").build());
+    assertIncluded( functionTestDef, 0, tupleFor( functionInputDef).bind( "Size", "Medium").bind( "Shape", "Circle").build());
+    assertIncluded( functionTestDef, 0, tupleFor( functionInputDef).bind( "Size", "Large").bind( "Shape", "Square").build());
+    }
+
+  @Test
+  public void getTests_Once()
+    {
+    // Given...
+    FunctionInputDef functionInputDef = getFunctionInputDefOnce();
+    CoveringArrayGenerator generator = new CoveringArrayGenerator();
+
+    // When...
+    FunctionTestDef functionTestDef = Tcases.getTests( functionInputDef, generator, null);
+
+    // Expect...
+    assertTestCasesComplete( functionInputDef, functionTestDef);
+
+    Collection<Tuple> tuplesExpected = new TupleCombiner().getTuples( functionInputDef);
+    assertThat
+      ( "Tuples included",
+        getTuplesIncluded( tuplesExpected, functionTestDef),
+        containsMembers( tuplesExpected));
+
+    assertIncluded( functionTestDef, 1, "Size", "Small");
+    }
+
+  @Test
+  public void getTests_Failures()
+    {
+    // Given...
+    FunctionInputDef functionInputDef = getFunctionInputDefFailures();
+    CoveringArrayGenerator generator = new CoveringArrayGenerator();
+
+    // When...
+    FunctionTestDef functionTestDef = Tcases.getTests( functionInputDef, generator, null);
+
+    // Expect...
+    assertTestCasesComplete( functionInputDef, functionTestDef);
+
+    TupleCombiner combiner = new TupleCombiner();
+    Collection<Tuple> tuplesExpected = combiner.getTuples( functionInputDef);
+    assertThat
+      ( "Tuples included",
+        getTuplesIncluded( tuplesExpected, functionTestDef),
+        containsMembers( tuplesExpected));
+
+    assertIncluded( functionTestDef, 1, "Size", "Ginormous", false);
+    assertIncluded( functionTestDef, 1, "Shape", "Undefined", false);
+    }
+
+  @Test
+  public void getTests_FromBaseTests_Same()
+    {
+    // Given...
+    FunctionInputDef functionInputDef = getFunctionInputDefFailures();
+    CoveringArrayGenerator generator = new CoveringArrayGenerator( 2);
+
+    // When...
+    FunctionTestDef baseTestDef = Tcases.getTests( functionInputDef, generator, null);
+    FunctionTestDef functionTestDef = Tcases.getTests( functionInputDef, generator, baseTestDef);
+
+    // Expect...
+    List<TestCase> expectedTestCases = IteratorUtils.toList( baseTestDef.getTestCases());
+    List<TestCase> actualTestCases = IteratorUtils.toList( functionTestDef.getTestCases());
+    assertThat( "When base tests same", actualTestCases, containsMembers( expectedTestCases));
+    }
+
+  @Test
+  public void getTests_ManyVars()
+    {
+    // Given...
+    FunctionInputDef functionInputDef =
+      FunctionInputDefBuilder.with( "Many")
+      .vars(
+        IntStream.range( 0, 12)
+        .mapToObj( i ->
+          (IVarDef)
+          VarDefBuilder.with( "V" + i)
+          .values(
+            VarValueDefBuilder.with( "A").build(),
+            VarValueDefBuilder.with( "B").build(),
+            VarValueDefBuilder.with( "C").build())
+          .build()))
+      .build();
+
+    CoveringArrayGenerator generator = new CoveringArrayGenerator( 3);
+    generator.setRandomSeed( 12345L);
+
+    // When...
+    FunctionTestDef functionTestDef = Tcases.getTests( functionInputDef, generator, null);
+
+    // Expect...
+    assertTestCasesComplete( functionInputDef, functionTestDef);
+
+    Collection<Tuple> tuplesExpected = new TupleCombiner( 3).getTuples( functionInputDef);
+    assertThat
+      ( "Tuples included",
+        getTuplesIncluded( tuplesExpected, functionTestDef),
+        containsMembers( tuplesExpected));
+
+    assertThat( "Test cases", IteratorUtils.size( functionTestDef.getTestCases()), is( lessThan( tuplesExpected.size() / 50)));
+    }
+
+  private FunctionInputDef getFunctionInputDefBasic()
+    {
+    return
+      FunctionInputDefBuilder.with( "Make")
+      .vars(
+        "arg",
+
+        VarSetBuilder.with( "Color")
+        .members(
+          VarDefBuilder.with( "Hue")
+          .values(
+            VarValueDefBuilder.with( "Red")
+            .build(),
+            VarValueDefBuilder.with( "Green")
+            .build(),
+            VarValueDefBuilder.with( "Blue")
+            .build())
+          .build(),
+
+          VarDefBuilder.with( "Lightness")
+          .values(
+            VarValueDefBuilder.with( "Bright")
+            .build(),
+            VarValueDefBuilder.with( "Normal")
+            .build(),
+            VarValueDefBuilder.with( "Dark")
+            .build())
+          .build(),
+
+          VarDefBuilder.with( "Saturation")
+          .values(
+            VarValueDefBuilder.with( "Pale")
+            .build(),
+            VarValueDefBuilder.with( "Even")
+            .build(),
+            VarValueDefBuilder.with( "Intense")
+            .build())
+          .build())
+        .build(),
+
+        VarDefBuilder.with( "Size")
+        .values(
+          VarValueDefBuilder.with( "Small")
+          .build(),
+          VarValueDefBuilder.with( "Medium")
+          .build(),
+          VarValueDefBuilder.with( "Large")
+          .build())
+        .build(),
+
+        VarDefBuilder.with( "Shape")
+        .values(
+          VarValueDefBuilder.with( "Square")
+          .build(),
+          VarValueDefBuilder.with( "Circle")
+          .build(),
+          VarValueDefBuilder.with( "Heart")
+          .build())
+        .build())
+      .build();
+    }
+
+  private FunctionInputDef getFunctionInputDefConstrained()
+    {
+    return
+      FunctionInputDefBuilder.with( "Make")
+      .vars(
+        "arg",
+
+        VarSetBuilder.with( "Color")
+        .when( allOf( has( "small"), not( "polygon")))
+        .members(
+          VarDefBuilder.with( "Hue")
+          .values(
+            VarValueDefBuilder.with( "Red")
+            .build(),
+            VarValueDefBuilder.with( "Green")
+            .build(),
+            VarValueDefBuilder.with( "Blue")
+            .build())
+          .build(),
+
+          VarDefBuilder.with( "Lightness")
+          .values(
+            VarValueDefBuilder.with( "Bright")
+            .when( has( "round"))
+            .build(),
+            VarValueDefBuilder.with( "Normal")
+            .build(),
+            VarValueDefBuilder.with( "Dark")
+            .when( not( "round"))
+            .build())
+          .build(),
+
+          VarDefBuilder.with( "Saturation")
+          .values(
+            VarValueDefBuilder.with( "Pale")
+            .build(),
+            VarValueDefBuilder.with( "Even")
+            .build(),
+            VarValueDefBuilder.with( "Intense")
+            .build())
+          .build())
+        .build(),
+
+        VarDefBuilder.with( "Size")
+        .values(
+          VarValueDefBuilder.with( "Small")
+          .properties( "small")
+          .build(),
+          VarValueDefBuilder.with( "Medium")
+          .when( has( "polygon"))
+          .build(),
+          VarValueDefBuilder.with( "Large")
+          .when( not( "polygon"))
+          .build())
+        .build(),
+
+        VarDefBuilder.with( "Shape")
+        .values(
+          VarValueDefBuilder.with( "Square")
+          .properties( "polygon")
+          .build(),
+          VarValueDefBuilder.with( "Circle")
+          .properties( "round")
+          .build(),
+          VarValueDefBuilder.with( "Heart")
+          .build())
+        .build())
+      .build();
+    }
+
+  private FunctionInputDef getFunctionInputDefOnce()
+    {
+    return
+      FunctionInputDefBuilder.with( "Make")
+      .vars(
+        "arg",
+
+        VarDefBuilder.with( "Color")
+        .values(
+          VarValueDefBuilder.with( "Red")
+          .build(),
+          VarValueDefBuilder.with( "Green")
+          .build(),
+          VarValueDefBuilder.with( "Blue")
+          .build(),
+          VarValueDefBuilder.with( "Cyan")
+          .build(),
+          VarValueDefBuilder.with( "Magenta")
+          .build(),
+          VarValueDefBuilder.with( "Yellow")
+          .build())
+        .build(),
+
+        VarDefBuilder.with( "Size")
+        .values(
+          VarValueDefBuilder.with( "Small")
+          .type( ONCE)
+          .build(),
+          VarValueDefBuilder.with( "Medium")
+          .build(),
+          VarValueDefBuilder.with( "Large")
+          .build())
+        .build(),
+
+        VarDefBuilder.with( "Shape")
+        .values(
+          VarValueDefBuilder.with( "Square")
+          .build(),
+          VarValueDefBuilder.with( "Circle")
+          .build(),
+          VarValueDefBuilder.with( "Heart")
+          .build())
+        .build())
+      .build();
+    }
+
+  private FunctionInputDef getFunctionInputDefFailures()
+    {
+    return
+      FunctionInputDefBuilder.with( "Make")
+      .vars(
+        "arg",
+
+        VarDefBuilder.with( "Color")
+        .values(
+          VarValueDefBuilder.with( "Red")
+          .build(),
+          VarValueDefBuilder.with( "Green")
+          .build(),
+          VarValueDefBuilder.with( "Blue")
+          .build())
+        .build(),
+
+        VarDefBuilder.with( "Size")
+        .values(
+          VarValueDefBuilder.with( "Ginormous")
+          .type( FAILURE)
+          .build(),
+          VarValueDefBuilder.with( "Small")
+          .build(),
+          VarValueDefBuilder.with( "Medium")
+          .build(),
+          VarValueDefBuilder.with( "Large")
+          .build())
+        .build(),
+
+        VarDefBuilder.with( "Shape")
+        .values(
+          VarValueDefBuilder.with( "Square")
+          .build(),
+          VarValueDefBuilder.with( "Circle")
+          .build(),
+          VarValueDefBuilder.with( "Heart")
+          .build(),
+          VarValueDefBuilder.with( "Undefined")
+          .type( FAILURE)
+          .build())
+        .build())
+      .build();
+    }
+  }
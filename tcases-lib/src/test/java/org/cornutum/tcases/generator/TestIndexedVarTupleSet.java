@@ -0,0 +1,227 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2012, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.generator;
+
+import org.cornutum.tcases.*;
+
+import org.apache.commons.collections4.IteratorUtils;
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Runs tests for {@link IndexedVarTupleSet}
+ *
+ */
+public class TestIndexedVarTupleSet
+  {
+  @Test
+  public void whenTestCasesUsed()
+    {
+    for( long seed = 0; seed < 10; seed++)
+      {
+      // Given...
+      FunctionInputDef inputDef = getFunctionInputDef();
+      List<Tuple> tuples = getTuples( inputDef);
+      VarTupleSet expected = new VarTupleSet( tuples);
+      IndexedVarTupleSet indexed = new IndexedVarTupleSet( tuples);
+      Random random = new Random( seed);
+
+      Tuple nextUnused;
+      for( int step = 0; (nextUnused = expected.getNextUnused()) != null; step++)
+        {
+        // When...
+        TestCaseDef testCase = createTestCase( inputDef, nextUnused, random);
+        expected.used( testCase);
+        indexed.used( testCase);
+
+        // Then...
+        assertSame( "seed=" + seed + ", step=" + step, inputDef, expected, indexed, step % 3 == 0);
+        }
+      }
+    }
+
+  @Test
+  public void whenTuplesUsedAndRemoved()
+    {
+    for( long seed = 0; seed < 10; seed++)
+      {
+      // Given...
+      FunctionInputDef inputDef = getFunctionInputDef();
+      List<Tuple> tuples = getTuples( inputDef);
+      VarTupleSet expected = new VarTupleSet( tuples);
+      IndexedVarTupleSet indexed = new IndexedVarTupleSet( tuples);
+      Random random = new Random( seed);
+
+      for( int step = 0; expected.getNextUnused() != null; step++)
+        {
+        // When...
+        List<Tuple> unused = IteratorUtils.toList( expected.getUnused());
+        Tuple tuple = unused.get( random.nextInt( unused.size()));
+        int op = random.nextInt( 4);
+        if( op == 0)
+          {
+          expected.remove( tuple);
+          indexed.remove( tuple);
+          }
+        else if( op == 1)
+          {
+          Tuple tuple1 = new Tuple( tuple.getBindings().next());
+          expected.used( tuple1);
+          indexed.used( tuple1);
+          }
+        else
+          {
+          expected.used( tuple);
+          indexed.used( tuple);
+          }
+
+        // Then...
+        assertSame( "seed=" + seed + ", step=" + step, inputDef, expected, indexed, random.nextBoolean());
+        }
+      }
+    }
+
+  /**
+   * Reports a failure if the given tuple sets are not in the same state.
+   */
+  private void assertSame( String label, FunctionInputDef inputDef, VarTupleSet expected, IndexedVarTupleSet indexed, boolean sorted)
+    {
+    // Scores depend on the current order of the used list, so check them before sorting.
+    for( Iterator<VarDef> vars = new VarDefIterator( inputDef); vars.hasNext(); )
+      {
+      VarDef var = vars.next();
+      for( Iterator<VarValueDef> values = var.getValues(); values.hasNext(); )
+        {
+        VarBindingDef binding = new VarBindingDef( var, values.next());
+        assertThat( label + ", unused score for " + binding, indexed.getUnusedScore( binding), is( expected.getUnusedScore( binding)));
+        assertThat( label + ", used score for " + binding, indexed.getUsedScore( binding), is( expected.getUsedScore( binding)));
+        assertThat( label + ", used once score for " + binding, indexed.getUsedOnceScore( binding), is( expected.getUsedOnceScore( binding)));
+        assertThat( label + ", usage score for " + binding, indexed.getUsageScore( binding), is( expected.getUsageScore( binding)));
+        assertThat( label + ", usage score for " + binding + " (cached)", indexed.getUsageScore( binding), is( expected.getUsageScore( binding)));
+        }
+      }
+
+    assertThat( label + ", unused", membersOf( indexed.getUnused()), is( membersOf( expected.getUnused())));
+    assertThat( label + ", next unused", indexed.getNextUnused(), is( expected.getNextUnused()));
+
+    if( sorted)
+      {
+      assertThat( label + ", used", membersOf( indexed.getUsed()), is( membersOf( expected.getUsed())));
+      for( Iterator<VarDef> vars = new VarDefIterator( inputDef); vars.hasNext(); )
+        {
+        VarDef var = vars.next();
+        assertThat( label + ", unused for " + var, membersOf( indexed.getUnused( var)), is( membersOf( expected.getUnused( var))));
+        assertThat( label + ", used for " + var, membersOf( indexed.getUsed( var)), is( membersOf( expected.getUsed( var))));
+        assertThat( label + ", used once for " + var, membersOf( indexed.getUsedOnce( var)), is( membersOf( expected.getUsedOnce( var))));
+        }
+      }
+    }
+
+  /**
+   * Returns a description of each of the given tuples, including its once-only status.
+   */
+  private List<String> membersOf( Iterator<Tuple> tuples)
+    {
+    return
+      IteratorUtils.toList( tuples).stream()
+      .map( tuple -> String.format( "%s%s", tuple, tuple.isOnce()? "(once)" : ""))
+      .collect( toList());
+    }
+
+  /**
+   * Returns a complete test case that uses the given tuple.
+   */
+  private TestCaseDef createTestCase( FunctionInputDef inputDef, Tuple tuple, Random random)
+    {
+    TestCaseDef testCase = new TestCaseDef();
+    testCase.addCompatible( tuple);
+    for( Iterator<VarDef> vars = new VarDefIterator( inputDef); vars.hasNext(); )
+      {
+      VarDef var = vars.next();
+      if( testCase.getValue( var) == null)
+        {
+        List<VarValueDef> values = IteratorUtils.toList( var.getValidValues());
+        testCase.addCompatible( new Tuple( new VarBindingDef( var, values.get( random.nextInt( values.size())))));
+        }
+      }
+
+    return testCase;
+    }
+
+  /**
+   * Returns a mix of 3-tuples, 2-tuples, and (possibly duplicate) 1-tuples for the given function.
+   */
+  private List<Tuple> getTuples( FunctionInputDef inputDef)
+    {
+    List<VarDef> vars = IteratorUtils.toList( new VarDefIterator( inputDef));
+    List<Tuple> tuples = new ArrayList<Tuple>();
+    tuples.addAll( TupleCombiner.getTuples( vars.subList( 0, 3), 3));
+    tuples.addAll( TupleCombiner.getTuples( vars.subList( 2, 5), 2));
+
+    for( Tuple tuple : TupleCombiner.getTuples( vars, 1))
+      {
+      VarValueDef value = tuple.getBindings().next().getValueDef();
+      tuple.setOnce( value.getType() == VarValueDef.Type.ONCE);
+      tuples.add( tuple);
+      }
+
+    return tuples;
+    }
+
+  /**
+   * Returns the input definition for a test function.
+   */
+  private FunctionInputDef getFunctionInputDef()
+    {
+    return
+      FunctionInputDefBuilder.with( "Make")
+      .vars(
+        "arg",
+
+        VarDefBuilder.with( "Color")
+        .values(
+          VarValueDefBuilder.with( "Red").build(),
+          VarValueDefBuilder.with( "Green").build(),
+          VarValueDefBuilder.with( "Blue").type( VarValueDef.Type.ONCE).build())
+        .build(),
+
+        VarDefBuilder.with( "Size")
+        .values(
+          VarValueDefBuilder.with( "Small").build(),
+          VarValueDefBuilder.with( "Medium").build(),
+          VarValueDefBuilder.with( "Large").build())
+        .build(),
+
+        VarDefBuilder.with( "Shape")
+        .values(
+          VarValueDefBuilder.with( "Square").build(),
+          VarValueDefBuilder.with( "Circle").type( VarValueDef.Type.ONCE).build(),
+          VarValueDefBuilder.with( "Heart").build())
+        .build(),
+
+        VarDefBuilder.with( "Texture")
+        .values(
+          VarValueDefBuilder.with( "Smooth").build(),
+          VarValueDefBuilder.with( "Rough").build())
+        .build(),
+
+        VarDefBuilder.with( "Weight")
+        .values(
+          VarValueDefBuilder.with( "Light").build(),
+          VarValueDefBuilder.with( "Heavy").type( VarValueDef.Type.ONCE).build())
+        .build())
+      .build();
+    }
+  }
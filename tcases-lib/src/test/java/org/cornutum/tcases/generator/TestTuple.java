@@ -0,0 +1,167 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.generator;
+
+import org.cornutum.tcases.*;
+import org.cornutum.tcases.conditions.*;
+
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Runs tests for {@link Tuple}
+ *
+ */
+public class TestTuple
+  {
+  @Test
+  public void whenBindingsAddedInAnyOrder()
+    {
+    // Given...
+    VarValueDef value11 = new VarValueDef( "value-1-1");
+    VarDef      var1    = new VarDef( "var-1").addValue( value11);
+
+    VarValueDef value21 = new VarValueDef( "value-2-1");
+    VarDef      var2    = new VarDef( "var-2").addValue( value21);
+
+    VarValueDef value31 = new VarValueDef( "value-3-1");
+    VarDef      var3    = new VarDef( "var-3").addValue( value31);
+
+    // When...
+    Tuple tuple1 = new Tuple( new VarBindingDef( var1, value11), new VarBindingDef( var2, value21), new VarBindingDef( var3, value31));
+    Tuple tuple2 = new Tuple( new VarBindingDef( var3, value31), new VarBindingDef( var1, value11), new VarBindingDef( var2, value21));
+    Tuple tuple3 = new Tuple( new VarBindingDef( var3, value31), new VarBindingDef( var1, value11));
+
+    // Then...
+    assertThat( "Same bindings", tuple2, is( tuple1));
+    assertThat( "Same bindings", tuple2.hashCode(), is( tuple1.hashCode()));
+    assertThat( "Fewer bindings", tuple3, is( not( tuple1)));
+
+    // When...
+    tuple3.add( new VarBindingDef( var2, value21));
+
+    // Then...
+    assertThat( "Binding added", tuple3, is( tuple1));
+    assertThat( "Binding added", tuple3.hashCode(), is( tuple1.hashCode()));
+
+    Set<Tuple> tuples = new HashSet<Tuple>();
+    tuples.add( tuple1);
+    assertThat( "Indexed", tuples.contains( tuple3), is( true));
+
+    // When...
+    tuple3.remove( var1);
+
+    // Then...
+    assertThat( "Binding removed", tuple3.size(), is( 2));
+    assertThat( "Binding removed", tuple3.getBinding( var1), is( nullValue()));
+    assertThat( "Binding removed", tuple3.getBinding( var2), is( value21));
+    assertThat( "Binding removed", tuple3.getBinding( var3), is( value31));
+    assertThat( "Binding removed", tuple3, is( not( tuple1)));
+    assertThat( "Indexed", tuples.contains( tuple3), is( false));
+    }
+
+  @Test
+  public void whenBindingReplaced()
+    {
+    // Given...
+    VarValueDef value11 = new VarValueDef( "value-1-1").addProperties( "A");
+    VarValueDef value12 = new VarValueDef( "value-1-2").addProperties( "B");
+    VarDef      var1    = new VarDef( "var-1").addValue( value11).addValue( value12);
+
+    VarValueDef value21 = new VarValueDef( "value-2-1").addProperties( "A");
+    VarDef      var2    = new VarDef( "var-2").addValue( value21);
+
+    value21.setCondition( new Not( new ContainsAny( "B")));
+
+    Tuple tuple = new Tuple( new VarBindingDef( var1, value11), new VarBindingDef( var2, value21));
+    int hashCode = tuple.hashCode();
+
+    // Then...
+    assertThat( "Properties", tuple.getProperties().getCount( "A"), is( 2));
+    assertThat( "Compatible", tuple.isCompatible(), is( true));
+
+    // When...
+    tuple.add( new VarBindingDef( var1, value12));
+
+    // Then...
+    assertThat( "Size", tuple.size(), is( 2));
+    assertThat( "Binding", tuple.getBinding( var1), is( value12));
+    assertThat( "Contains", tuple.contains( new VarBindingDef( var1, value11)), is( false));
+    assertThat( "Contains", tuple.contains( new VarBindingDef( var1, value12)), is( true));
+    assertThat( "Properties", tuple.getProperties().getCount( "A"), is( 1));
+    assertThat( "Properties", tuple.getProperties().getCount( "B"), is( 1));
+    assertThat( "Compatible", tuple.isCompatible(), is( false));
+    assertThat( "Hash code", tuple.hashCode(), is( not( hashCode)));
+    }
+  
+  @Test
+  public void whenVarRenamed()
+    {
+    // Given...
+    VarValueDef value11 = new VarValueDef( "value-1-1");
+    VarDef      var1    = new VarDef( "var-1").addValue( value11);
+
+    VarValueDef value21 = new VarValueDef( "value-2-1");
+    VarDef      var2    = new VarDef( "var-2").addValue( value21);
+
+    VarBindingDef binding = new VarBindingDef( var1, value11);
+    Tuple tuple = new Tuple( binding, new VarBindingDef( var2, value21));
+    int bindingHashCode = binding.hashCode();
+    int tupleHashCode = tuple.hashCode();
+
+    // When...
+    var1.setName( "var-1-renamed");
+
+    // Then...
+    assertThat( "Binding hash code", binding.hashCode(), is( new VarBindingDef( var1, value11).hashCode()));
+    assertThat( "Binding hash code", binding.hashCode(), is( not( bindingHashCode)));
+    assertThat( "Tuple hash code", tuple.hashCode(), is( new Tuple( new VarBindingDef( var1, value11), new VarBindingDef( var2, value21)).hashCode()));
+    assertThat( "Tuple hash code", tuple.hashCode(), is( not( tupleHashCode)));
+    }
+
+  @Test
+  public void whenPropertiesCached()
+    {
+    // Given...
+    VarValueDef value11 = new VarValueDef( "value-1-1").addProperties( "A");
+    VarDef      var1    = new VarDef( "var-1").addValue( value11);
+
+    VarValueDef value21 = new VarValueDef( "value-2-1").addProperties( "B");
+    VarDef      var2    = new VarDef( "var-2").addValue( value21);
+
+    Tuple tuple = new Tuple( new VarBindingDef( var1, value11));
+
+    // When...
+    PropertySet properties = tuple.getProperties();
+
+    // Then...
+    assertThat( "Properties", tuple.getProperties(), is( sameInstance( properties)));
+    assertThat( "Properties", properties.contains( "A"), is( true));
+
+    // When...
+    tuple.add( new VarBindingDef( var2, value21));
+
+    // Then...
+    assertThat( "Binding added", tuple.getProperties(), is( not( sameInstance( properties))));
+    assertThat( "Binding added", tuple.getProperties().contains( "A"), is( true));
+    assertThat( "Binding added", tuple.getProperties().contains( "B"), is( true));
+
+    // When...
+    properties = tuple.getProperties();
+    tuple.remove( var1);
+
+    // Then...
+    assertThat( "Binding removed", tuple.getProperties(), is( not( sameInstance( properties))));
+    assertThat( "Binding removed", tuple.getProperties().contains( "A"), is( false));
+    assertThat( "Binding removed", tuple.getProperties().contains( "B"), is( true));
+    }
+  }
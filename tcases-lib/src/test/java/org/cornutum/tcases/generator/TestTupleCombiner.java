@@ -20,6 +20,7 @@ import static org.hamcrest.Matchers.*;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Runs tests for {@link TupleCombiner}
@@ -325,6 +326,186 @@ public class TestTupleCombiner
         assertThat( "Failure message", failure.getMessage(), is( "Can't complete tuples -- no valid values defined for var=VarDef[var-2]"));
         });
     }
+
+  @Test
+  public void streamTuples_Ordered()
+    {
+    // Given...
+    VarValueDef value11 = new VarValueDef( "value-1-1").addProperties( "V11");
+    VarValueDef value12 = new VarValueDef( "value-1-2");
+    VarDef      var1    = new VarDef( "var-1").addValue( value11).addValue( value12);
+
+    VarValueDef value21 = new VarValueDef( "value-2-1");
+    VarValueDef value22 = new VarValueDef( "value-2-2", VarValueDef.Type.FAILURE);
+    VarValueDef value23 = new VarValueDef( "value-2-3");
+    VarDef      var2    = new VarDef( "var-2").addValue( value21).addValue( value22).addValue( value23);
+
+    VarValueDef value31 = new VarValueDef( "value-3-1");
+    VarValueDef value32 = new VarValueDef( "value-3-2");
+    VarDef      var3    = new VarDef( "var-3").addValue( value31).addValue( value32);
+
+    value32.setCondition( new Not( new ContainsAny( "V11")));
+
+    List<VarDef> varDefs = new ArrayList<VarDef>();
+    varDefs.add( var1);
+    varDefs.add( var2);
+    varDefs.add( var3);
+
+    // When...
+    List<Tuple> tuples = TupleCombiner.streamTuples( varDefs, 2).collect( toList());
+
+    // Then...
+    List<Tuple> expectedTuples = new ArrayList<Tuple>();
+    expectedTuples.add( new Tuple( new VarBindingDef( var1, value11), new VarBindingDef( var2, value21)));
+    expectedTuples.add( new Tuple( new VarBindingDef( var1, value11), new VarBindingDef( var2, value23)));
+    expectedTuples.add( new Tuple( new VarBindingDef( var1, value11), new VarBindingDef( var3, value31)));
+    expectedTuples.add( new Tuple( new VarBindingDef( var1, value12), new VarBindingDef( var2, value21)));
+    expectedTuples.add( new Tuple( new VarBindingDef( var1, value12), new VarBindingDef( var2, value23)));
+    expectedTuples.add( new Tuple( new VarBindingDef( var1, value12), new VarBindingDef( var3, value31)));
+    expectedTuples.add( new Tuple( new VarBindingDef( var1, value12), new VarBindingDef( var3, value32)));
+    expectedTuples.add( new Tuple( new VarBindingDef( var2, value21), new VarBindingDef( var3, value31)));
+    expectedTuples.add( new Tuple( new VarBindingDef( var2, value21), new VarBindingDef( var3, value32)));
+    expectedTuples.add( new Tuple( new VarBindingDef( var2, value23), new VarBindingDef( var3, value31)));
+    expectedTuples.add( new Tuple( new VarBindingDef( var2, value23), new VarBindingDef( var3, value32)));
+
+    assertThat( "Tuples", tuples, listsMembers( expectedTuples));
+    }
+
+  @Test
+  public void streamTuples_SatisfiedByLaterVar()
+    {
+    // Given...
+    VarValueDef valueA1 = new VarValueDef( "a1");
+    VarValueDef valueA2 = new VarValueDef( "a2");
+    VarDef      varA    = new VarDef( "A").addValue( valueA1).addValue( valueA2);
+
+    VarValueDef valueB1 = new VarValueDef( "b1").addProperties( "p");
+    VarValueDef valueB2 = new VarValueDef( "b2");
+    VarDef      varB    = new VarDef( "B").addValue( valueB1).addValue( valueB2);
+
+    valueA1.setCondition( new Not( new AssertLess( "p", 1)));
+
+    List<VarDef> varDefs = new ArrayList<VarDef>();
+    varDefs.add( varA);
+    varDefs.add( varB);
+
+    // When...
+    List<Tuple> tuples = TupleCombiner.streamTuples( varDefs, 2).collect( toList());
+
+    // Then...
+    List<Tuple> expectedTuples = new ArrayList<Tuple>();
+    expectedTuples.add( new Tuple( new VarBindingDef( varA, valueA1), new VarBindingDef( varB, valueB1)));
+    expectedTuples.add( new Tuple( new VarBindingDef( varA, valueA2), new VarBindingDef( varB, valueB1)));
+    expectedTuples.add( new Tuple( new VarBindingDef( varA, valueA2), new VarBindingDef( varB, valueB2)));
+
+    assertThat( "Tuples", tuples, listsMembers( expectedTuples));
+    assertThat( "Tuples", TupleCombiner.getTuples( varDefs, 2), containsMembers( expectedTuples));
+    }
+
+  @Test
+  public void streamTuples_SuffixIncompatible()
+    {
+    // Given...
+    VarValueDef valueA1 = new VarValueDef( "a1").addProperties( "p");
+    VarValueDef valueA2 = new VarValueDef( "a2");
+    VarDef      varA    = new VarDef( "A").addValue( valueA1).addValue( valueA2);
+
+    VarValueDef valueB1 = new VarValueDef( "b1");
+    VarValueDef valueB2 = new VarValueDef( "b2");
+    VarDef      varB    = new VarDef( "B").addValue( valueB1).addValue( valueB2);
+
+    VarValueDef valueC1 = new VarValueDef( "c1");
+    VarValueDef valueC2 = new VarValueDef( "c2");
+    VarDef      varC    = new VarDef( "C").addValue( valueC1).addValue( valueC2);
+
+    valueB1.setCondition( new Not( new AssertLess( "p", 1)));
+
+    List<VarDef> varDefs = new ArrayList<VarDef>();
+    varDefs.add( varA);
+    varDefs.add( varB);
+    varDefs.add( varC);
+
+    // When...
+    List<Tuple> tuples = TupleCombiner.streamTuples( varDefs, 3).collect( toList());
+
+    // Then...
+    List<Tuple> expectedTuples = new ArrayList<Tuple>();
+    expectedTuples.add( new Tuple( new VarBindingDef( varA, valueA1), new VarBindingDef( varB, valueB2), new VarBindingDef( varC, valueC1)));
+    expectedTuples.add( new Tuple( new VarBindingDef( varA, valueA1), new VarBindingDef( varB, valueB2), new VarBindingDef( varC, valueC2)));
+    expectedTuples.add( new Tuple( new VarBindingDef( varA, valueA2), new VarBindingDef( varB, valueB2), new VarBindingDef( varC, valueC1)));
+    expectedTuples.add( new Tuple( new VarBindingDef( varA, valueA2), new VarBindingDef( varB, valueB2), new VarBindingDef( varC, valueC2)));
+
+    assertThat( "Tuples", tuples, listsMembers( expectedTuples));
+    }
+
+  @Test
+  public void streamTuples_PrefixIncompatible()
+    {
+    // Given...
+    VarValueDef valueA1 = new VarValueDef( "a1").addProperties( "p");
+    VarValueDef valueA2 = new VarValueDef( "a2");
+    VarDef      varA    = new VarDef( "A").addValue( valueA1).addValue( valueA2);
+
+    VarValueDef valueB1 = new VarValueDef( "b1").addProperties( "p");
+    VarValueDef valueB2 = new VarValueDef( "b2");
+    VarDef      varB    = new VarDef( "B").addValue( valueB1).addValue( valueB2);
+
+    VarValueDef valueC1 = new VarValueDef( "c1");
+    VarValueDef valueC2 = new VarValueDef( "c2").addProperties( "q");
+    VarDef      varC    = new VarDef( "C").addValue( valueC1).addValue( valueC2);
+
+    valueB1.setCondition( new AllOf( new AssertNotMore( "p", 1), new Not( new ContainsAny( "q"))));
+    valueC2.setCondition( new AnyOf( new Not( new AssertMore( "p", 1)), new ContainsAll( "q")));
+
+    List<VarDef> varDefs = new ArrayList<VarDef>();
+    varDefs.add( varA);
+    varDefs.add( varB);
+    varDefs.add( varC);
+
+    // When...
+    List<Tuple> tuples = TupleCombiner.streamTuples( varDefs, 3).collect( toList());
+
+    // Then...
+    List<Tuple> expectedTuples = new ArrayList<Tuple>();
+    expectedTuples.add( new Tuple( new VarBindingDef( varA, valueA1), new VarBindingDef( varB, valueB2), new VarBindingDef( varC, valueC1)));
+    expectedTuples.add( new Tuple( new VarBindingDef( varA, valueA1), new VarBindingDef( varB, valueB2), new VarBindingDef( varC, valueC2)));
+    expectedTuples.add( new Tuple( new VarBindingDef( varA, valueA2), new VarBindingDef( varB, valueB1), new VarBindingDef( varC, valueC1)));
+    expectedTuples.add( new Tuple( new VarBindingDef( varA, valueA2), new VarBindingDef( varB, valueB2), new VarBindingDef( varC, valueC1)));
+    expectedTuples.add( new Tuple( new VarBindingDef( varA, valueA2), new VarBindingDef( varB, valueB2), new VarBindingDef( varC, valueC2)));
+
+    assertThat( "Tuples", tuples, listsMembers( expectedTuples));
+    }
+
+  @Test
+  public void streamTuples_Parallel()
+    {
+    // Given...
+    List<VarDef> varDefs = new ArrayList<VarDef>();
+    for( int i = 0; i < 8; i++)
+      {
+      VarDef var = new VarDef( "var-" + i);
+      for( int j = 0; j < 3; j++)
+        {
+        VarValueDef value = new VarValueDef( "value-" + i + "-" + j).addProperties( "P" + i + j);
+        if( j == 2 && i > 0)
+          {
+          value.setCondition( new Not( new ContainsAny( "P" + (i - 1) + "0")));
+          }
+        var.addValue( value);
+        }
+      varDefs.add( var);
+      }
+
+    // When...
+    List<Tuple> sequential = TupleCombiner.streamTuples( varDefs, 3).collect( toList());
+    List<Tuple> parallel = TupleCombiner.streamTuples( varDefs, 3).parallel().collect( toList());
+
+    // Then...
+    assertThat( "Tuples", parallel, listsMembers( sequential));
+    assertThat( "Tuples", sequential, containsMembers( TupleCombiner.getTuples( varDefs, 3)));
+    assertThat( "Tuples", sequential.stream().allMatch( Tuple::isCompatible), is( true));
+    assertThat( "Tuples", sequential.size(), is( lessThan( 56 * 27)));
+    }
   
   @Test
   public void getCombinedVars_All()
@@ -11,14 +11,18 @@ import org.cornutum.tcases.*;
 import static org.cornutum.tcases.AssertTestDef.*;
 import static org.cornutum.tcases.VarValueDef.Type.*;
 import static org.cornutum.tcases.conditions.Conditions.*;
+import static org.cornutum.tcases.util.CollectionUtils.toStream;
 
 import org.apache.commons.collections4.IteratorUtils;
 import org.junit.Test;
 import static org.cornutum.hamcrest.Composites.*;
 import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.is;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Runs tests for {@link TupleGenerator}
@@ -170,6 +174,29 @@ public class TestTupleGenerator
     assertIncluded( functionTestDef, 1, "Size", "Ginormous", false);
     }
   
+  @Test
+  public void getTestCount()
+    {
+    // Given...
+    SystemInputDef systemInputDef = getSystemInputDefFailures();
+    FunctionInputDef functionInputDef = systemInputDef.getFunctionInputDef( "Make");
+    TupleGenerator generator = new TupleGenerator();
+    generator.setRandomSeed( 12345L);
+    int testCount = generator.getTests( functionInputDef, null).size();
+
+    // When...
+    int countUnlimited = generator.getTestCount( functionInputDef, null, Integer.MAX_VALUE);
+    int countAtMax = generator.getTestCount( functionInputDef, null, testCount);
+    int countOverMax = generator.getTestCount( functionInputDef, null, testCount - 1);
+    int countValidOverMax = generator.getTestCount( functionInputDef, null, 1);
+
+    // Expect...
+    assertThat( "Count unlimited", countUnlimited, is( testCount));
+    assertThat( "Count at maximum", countAtMax, is( testCount));
+    assertThat( "Count over maximum", countOverMax, is( testCount));
+    assertThat( "Count of valid cases over maximum", countValidOverMax, is( 2));
+    }
+  
   @Test
   public void getTests_FromBaseTests_Same()
     {
@@ -193,6 +220,40 @@ public class TestTupleGenerator
     assertThat( "When base tests same", actualTestCases, containsMembers( expectedTestCases));
     }
   
+  @Test
+  public void getTests_Streamed()
+    {
+    // Given...
+    SystemInputDef systemInputDef = getSystemInputDefBase();
+    FunctionInputDef functionInputDef = systemInputDef.getFunctionInputDef( "Make");
+    TupleGenerator generator = new TupleGenerator();
+    generator.setRandomSeed( 12345L);
+    FunctionTestDef baseTestDef = Tcases.getTests( functionInputDef, generator, null);
+
+    generator.setRandomSeed( 54321L);
+    generator.addCombiner
+      ( new TupleCombiner(2)
+        .addIncludedVar( "Shape")
+        .addIncludedVar( "Size"));
+
+    for( FunctionTestDef functionBase : Arrays.asList( null, baseTestDef))
+      {
+      // When...
+      FunctionTestDef expectedTestDef = Tcases.getTests( functionInputDef, generator, functionBase);
+
+      FunctionTestDef streamedTestDef = new FunctionTestDef( functionInputDef.getName());
+      Tcases.getTests( functionInputDef, generator, null, functionBase, null, testCase -> streamedTestDef.addTestCase( testCase));
+
+      List<Integer> expectedIds = toStream( expectedTestDef.getTestCases()).map( TestCase::getId).collect( toList());
+      List<Integer> streamedIds = toStream( streamedTestDef.getTestCases()).map( TestCase::getId).collect( toList());
+
+      // Then...
+      String baseTests = functionBase == null? "without base tests" : "with base tests";
+      assertThat( "Streamed " + baseTests, streamedTestDef, matches( new FunctionTestDefMatcher( expectedTestDef)));
+      assertThat( "Streamed order " + baseTests, streamedIds, listsMembers( expectedIds));
+      }
+    }
+  
   @Test
   public void getTests_FromBaseTests_Changed()
     {
@@ -71,6 +71,26 @@ public class AsciiStringDomainTest extends ValueDomainTest
     assertThat( "Value", value, matches( dataValueMatcher( value.getValue(), Type.STRING, null)));
     }
 
+  @Test
+  public void whenPatternsChanged()
+    {
+    // Given...
+    AsciiStringDomain domain = new AsciiStringDomain( 32);
+    domain.setMatching( "ABC");
+    assertThat( "Contains", domain.contains( "ABC-123"), is( true));
+    assertThat( "Contains", domain.contains( "XYZ-123"), is( false));
+
+    // When...
+    domain.setMatching( "XYZ");
+    domain.setNotMatching( "\\d$");
+
+    // Then...
+    assertThat( "Contains", domain.contains( "ABC-123"), is( false));
+    assertThat( "Contains", domain.contains( "XYZ-123"), is( false));
+    assertThat( "Contains", domain.contains( "XYZ-abc"), is( true));
+    verifyContainsValues( domain, 100);
+    }
+
   @Test
   public void whenLengthBelowMax()
     {
@@ -3,6 +3,7 @@ package org.cornutum.tcases.maven;
 import org.cornutum.tcases.openapi.ApiCommand.Options;
 import org.cornutum.tcases.openapi.ApiCommand.Options.TransformType;
 import org.cornutum.tcases.openapi.ApiCommand;
+import org.cornutum.tcases.openapi.io.TcasesOpenApiIO;
 import static org.cornutum.tcases.maven.MojoUtils.*;
 
 import org.apache.commons.lang3.StringUtils;
@@ -67,10 +68,8 @@ public class ApiMojo extends AbstractMojo
 
       // Generate requested models for each API definition
       String[] apiDefs = inputScanner.getIncludedFiles();
-      for( int i = 0; i < apiDefs.length; i++)
-        {
+      forEachInput( apiDefs, getFileThreads(), inputFile -> {
         // Define input path for this API definition.
-        String inputFile = apiDefs[i];
         File apiDef = new File( inputRootDir, inputFile);
 
         // Set generator options for this API definition.
@@ -96,6 +95,7 @@ public class ApiMojo extends AbstractMojo
         options.setOnModellingCondition( "log".equals( getOnModellingCondition())? getOnCondition() : getOnModellingCondition());
         options.setReadOnlyEnforced( isReadOnlyEnforced());
         options.setWriteOnlyEnforced( isWriteOnlyEnforced());
+        options.setThreads( getModelThreads());
         
         // Generate requested request test models for this API definition
         if( isRequestCases())
@@ -118,12 +118,17 @@ public class ApiMojo extends AbstractMojo
         options.setTransformDef( resolveTransformDefFile( apiDef, options.isServerTest()));
         options.setOutFile( resolveTransformOutFile( apiDef, options.isServerTest()));
         ApiCommand.run( options);
-        }
+        });
       }
     catch( Exception e)
       {
       throw new MojoExecutionException( "Can't generate requested models", e);
       }
+    finally
+      {
+      // Don't retain API definitions after this build step.
+      TcasesOpenApiIO.clearCache();
+      }
     }
 
   /**
@@ -503,6 +508,38 @@ public class ApiMojo extends AbstractMojo
     return maxTries;
     }
 
+  /**
+   * Changes the maximum number of threads used to model API paths concurrently.
+   */
+  public void setModelThreads( Integer modelThreads)
+    {
+    this.modelThreads = modelThreads;
+    }
+
+  /**
+   * Returns the maximum number of threads used to model API paths concurrently.
+   */
+  public Integer getModelThreads()
+    {
+    return modelThreads;
+    }
+
+  /**
+   * Changes the maximum number of threads used to process different API definition files concurrently.
+   */
+  public void setFileThreads( Integer fileThreads)
+    {
+    this.fileThreads = fileThreads;
+    }
+
+  /**
+   * Returns the maximum number of threads used to process different API definition files concurrently.
+   */
+  public Integer getFileThreads()
+    {
+    return fileThreads;
+    }
+
   /**
    * Changes the random number generator seed for request case resolution.
    */
@@ -680,6 +717,21 @@ public class ApiMojo extends AbstractMojo
   @Parameter(property="maxTries",defaultValue="10000")
   private int maxTries;
 
+  /**
+   * If defined, API paths are modelled concurrently, using at most the given number of threads. Results are the
+   * same for any number of threads. If omitted, API paths are modelled sequentially.
+   */
+  @Parameter(property="modelThreads")
+  private Integer modelThreads;
+
+  /**
+   * If defined, different API definition files are processed concurrently, using at most the given number of threads.
+   * All API definition files are then processed, even if some fail, and all failures are reported when every file is complete.
+   * If omitted, API definition files are processed sequentially.
+   */
+  @Parameter(property="fileThreads")
+  private Integer fileThreads;
+
   /**
    * Defines the random number generator seed for request case resolution.
    */
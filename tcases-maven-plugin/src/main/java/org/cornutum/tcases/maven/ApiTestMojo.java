@@ -9,6 +9,7 @@ package org.cornutum.tcases.maven;
 
 import org.cornutum.tcases.openapi.ApiTestCommand.Options;
 import org.cornutum.tcases.openapi.ApiTestCommand;
+import org.cornutum.tcases.openapi.io.TcasesOpenApiIO;
 import static org.cornutum.tcases.maven.MojoUtils.*;
 
 import org.apache.commons.lang3.StringUtils;
@@ -71,10 +72,8 @@ public class ApiTestMojo extends AbstractMojo
 
       // Generate a test for each API definition
       String[] apiDefs = inputScanner.getIncludedFiles();
-      for( int i = 0; i < apiDefs.length; i++)
-        {
+      forEachInput( apiDefs, getFileThreads(), inputFile -> {
         // Define input path for this API definition.
-        String inputFile = apiDefs[i];
         File apiDef = new File( inputRootDir, inputFile);
 
         // Set generator options for this API definition.
@@ -101,14 +100,20 @@ public class ApiTestMojo extends AbstractMojo
         options.setReadOnlyEnforced( isReadOnlyEnforced());
         options.setMaxTries( getMaxTries());
         options.setRandomSeed( getRandom());
+        options.setThreads( getResolverThreads());
 
         ApiTestCommand.run( options);
-        }
+        });
       }
     catch( Exception e)
       {
       throw new MojoExecutionException( "Can't generate requested tests", e);
       }
+    finally
+      {
+      // Don't retain API definitions after this build step.
+      TcasesOpenApiIO.clearCache();
+      }
     }
 
   /**
@@ -340,6 +345,38 @@ public class ApiTestMojo extends AbstractMojo
     return maxTries;
     }
 
+  /**
+   * Changes the maximum number of threads used to model API paths and to resolve request test cases concurrently.
+   */
+  public void setResolverThreads( Integer resolverThreads)
+    {
+    this.resolverThreads = resolverThreads;
+    }
+
+  /**
+   * Returns the maximum number of threads used to model API paths and to resolve request test cases concurrently.
+   */
+  public Integer getResolverThreads()
+    {
+    return resolverThreads;
+    }
+
+  /**
+   * Changes the maximum number of threads used to process different API definition files concurrently.
+   */
+  public void setFileThreads( Integer fileThreads)
+    {
+    this.fileThreads = fileThreads;
+    }
+
+  /**
+   * Returns the maximum number of threads used to process different API definition files concurrently.
+   */
+  public Integer getFileThreads()
+    {
+    return fileThreads;
+    }
+
   /**
    * Changes the random number generator seed for request case resolution.
    */
@@ -669,6 +706,22 @@ public class ApiTestMojo extends AbstractMojo
   @Parameter(property="maxTries",defaultValue="10000")
   private int maxTries;
 
+  /**
+   * If defined, API paths are modelled and request test cases are resolved concurrently, using at most the given number of
+   * threads. Each request test case is then resolved using its own random number sequence, so that the same tests are generated
+   * for any number of threads. If omitted, API paths are modelled and request test cases are resolved sequentially.
+   */
+  @Parameter(property="resolverThreads")
+  private Integer resolverThreads;
+
+  /**
+   * If defined, different API definition files are processed concurrently, using at most the given number of threads.
+   * All API definition files are then processed, even if some fail, and all failures are reported when every file is complete.
+   * If omitted, API definition files are processed sequentially.
+   */
+  @Parameter(property="fileThreads")
+  private Integer fileThreads;
+
   /**
    * Defines the random number generator seed for request case resolution.
    */
@@ -10,8 +10,16 @@ package org.cornutum.tcases.maven;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Defines common methods for Mojo implementations
@@ -64,5 +72,78 @@ public final class MojoUtils
       new File( baseDir, dirPath.getPath());
     }
 
+  /**
+   * Performs the given action for each of the given inputs.
+   * <P/>
+   * If <CODE>threads</CODE> is null, inputs are processed sequentially, stopping at the first failure. Otherwise, inputs
+   * are processed concurrently, using at most the given number of threads. All inputs are then processed, even if some
+   * fail, and all failures are reported together, in input order, when every input is complete.
+   */
+  public static <T> void forEachInput( T[] inputs, Integer threads, InputAction<T> action) throws Exception
+    {
+    if( threads == null)
+      {
+      for( T input : inputs)
+        {
+        action.accept( input);
+        }
+      }
+    else
+      {
+      ExecutorService executor = Executors.newFixedThreadPool( Math.max( 1, threads));
+      try
+        {
+        List<Future<Object>> results =
+          Arrays.stream( inputs)
+          .map( input -> executor.submit( () -> { action.accept( input); return null; }))
+          .collect( toList());
+
+        List<T> failed = new ArrayList<T>();
+        Exception failure = null;
+        for( int i = 0; i < inputs.length; i++)
+          {
+          try
+            {
+            results.get(i).get();
+            }
+          catch( ExecutionException e)
+            {
+            failed.add( inputs[i]);
+            Exception inputFailure = new IllegalStateException( String.format( "Can't process input=%s", inputs[i]), e.getCause());
+            if( failure == null)
+              {
+              failure = inputFailure;
+              }
+            else
+              {
+              failure.addSuppressed( inputFailure);
+              }
+            }
+          }
+
+        if( failure != null)
+          {
+          throw
+            failed.size() == 1
+            ? failure
+            : new IllegalStateException( String.format( "Can't process %s of %s inputs: %s", failed.size(), inputs.length, failed), failure);
+          }
+        }
+      finally
+        {
+        executor.shutdownNow();
+        }
+      }
+    }
+
+  /**
+   * An action performed for an input.
+   */
+  @FunctionalInterface
+  public interface InputAction<T>
+    {
+    public void accept( T input) throws Exception;
+    }
+
   private static final Pattern projectFilePattern_ = Pattern.compile( "([^\\*]*)(\\*?)([^\\*]*)");
   }
@@ -95,6 +95,7 @@ public class ReducerMojo extends AbstractMojo
         options.setSamples( getSamples());
         options.setResampleFactor( getResampleFactor());
         options.setNewSeed( isNewSeed());
+        options.setThreads( getThreads());
         options.setContentType( getContentType());
 
         // Reduce test cases for this Tcases project.
@@ -292,6 +293,22 @@ public class ReducerMojo extends AbstractMojo
     return samples;
     }
 
+  /**
+   * Changes the maximum number of threads used to generate samples concurrently.
+   */
+  public void setThreads( int threads)
+    {
+    this.threads = threads;
+    }
+
+  /**
+   * Returns the maximum number of threads used to generate samples concurrently.
+   */
+  public int getThreads()
+    {
+    return threads;
+    }
+
   /**
    * Changes if ignoring current random seed used by generators.
    */
@@ -408,6 +425,14 @@ public class ReducerMojo extends AbstractMojo
   @Parameter(property="samples",defaultValue="10")
   private int samples;
 
+  /**
+   * Defines the maximum number of threads used to generate the samples for each round concurrently. When reducing test cases
+   * for all functions, all functions are reduced concurrently. The resulting seeds are the same as when samples are
+   * generated sequentially. By default, samples are generated sequentially.
+   */
+  @Parameter(property="threads",defaultValue="1")
+  private int threads;
+
   @Parameter(readonly=true,defaultValue="${basedir}")
   private File baseDir_;
   }
@@ -19,6 +19,7 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Runs Tcases to generate test cases from one or more system input definition documents.
@@ -76,10 +77,9 @@ public class TcasesMojo extends AbstractMojo
         // Generate test cases for each input definition file.
         File outRootDir = getOutDirFile();
         String[] inputDefs = inputScanner.getIncludedFiles();
-        for( int i = 0; i < inputDefs.length; i++)
-          {
+        Map<File,Object> genDefLocks = new ConcurrentHashMap<File,Object>();
+        forEachInput( inputDefs, getFileThreads(), inputFile -> {
           // Define input and output paths for this Tcases project.
-          String inputFile = inputDefs[i];
           String inputPath = FileUtils.dirname( inputFile);
           File inputDef = new File( inputRootDir, inputFile);
           File inputDir = new File( inputRootDir, inputPath);
@@ -116,6 +116,7 @@ public class TcasesMojo extends AbstractMojo
           options.setRandomSeed( getSeed());
           options.setNewSeed( isNewSeed());
           options.setDefaultTupleSize( getTuples());
+          options.setThreads( getGeneratorThreads());
           options.setContentType( getContentType());
           options.setShowEffectiveInput( isShowEffectiveInput());
 
@@ -144,9 +145,21 @@ public class TcasesMojo extends AbstractMojo
           
           options.setTransformParams( getTransformParams());
 
-          // Generate test cases for this Tcases project.
-          TcasesCommand.run( options);
-          }
+          // Generate test cases for this Tcases project. When generator definitions are updated, projects
+          // that share the same generator definition file must be run one at a time.
+          if( isGenDefUpdated())
+            {
+            File genDefFile = new File( inputDir, genDef==null? projectName + "-Generators" : genDef).getCanonicalFile();
+            synchronized( genDefLocks.computeIfAbsent( genDefFile, file -> new Object()))
+              {
+              TcasesCommand.run( options);
+              }
+            }
+          else
+            {
+            TcasesCommand.run( options);
+            }
+          });
         }
       }
     catch( Exception e)
@@ -155,6 +168,14 @@ public class TcasesMojo extends AbstractMojo
       }
     }
 
+  /**
+   * Returns true if generating test cases will update the generator definition.
+   */
+  private boolean isGenDefUpdated()
+    {
+    return getSeed() != null || isNewSeed() || getTuples() != null;
+    }
+
   /**
    * If the given path is not absolute, returns it as an absolute path relative to the
    * project base directory. Otherwise, returns the given absolute path.
@@ -261,6 +282,38 @@ public class TcasesMojo extends AbstractMojo
     return defaultTupleSize;
     }
 
+  /**
+   * Changes the maximum number of threads used to generate test cases for different functions concurrently.
+   */
+  public void setGeneratorThreads( Integer generatorThreads)
+    {
+    this.generatorThreads = generatorThreads;
+    }
+
+  /**
+   * Returns the maximum number of threads used to generate test cases for different functions concurrently.
+   */
+  public Integer getGeneratorThreads()
+    {
+    return generatorThreads;
+    }
+
+  /**
+   * Changes the maximum number of threads used to process different input definition files concurrently.
+   */
+  public void setFileThreads( Integer fileThreads)
+    {
+    this.fileThreads = fileThreads;
+    }
+
+  /**
+   * Returns the maximum number of threads used to process different input definition files concurrently.
+   */
+  public Integer getFileThreads()
+    {
+    return fileThreads;
+    }
+
   /**
    * Changes the test definition output file pattern.
    */
@@ -644,6 +697,24 @@ public class TcasesMojo extends AbstractMojo
   @Parameter(property="defaultTupleSize")
   private Integer defaultTupleSize;
 
+  /**
+   * If defined, test cases for different functions are generated concurrently, using at most the given number of threads.
+   * The test definitions produced are the same as when functions are generated sequentially. If omitted, functions are
+   * generated sequentially.
+   */
+  @Parameter(property="generatorThreads")
+  private Integer generatorThreads;
+
+  /**
+   * If defined, different input definition files are processed concurrently, using at most the given number of threads.
+   * All input definition files are then processed, even if some fail, and all failures are reported when every file is complete.
+   * If omitted, input definition files are processed sequentially. When the generator definitions are updated, because
+   * <B><CODE>seed</CODE></B>, <B><CODE>newSeed</CODE></B>, or <B><CODE>defaultTupleSize</CODE></B> is defined, input
+   * definition files that share the same generator definition file are processed one at a time.
+   */
+  @Parameter(property="fileThreads")
+  private Integer fileThreads;
+
   @Parameter(readonly=true,defaultValue="${basedir}")
   private File baseDir_;
 
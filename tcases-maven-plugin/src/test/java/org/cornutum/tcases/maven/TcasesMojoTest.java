@@ -1,6 +1,9 @@
 package org.cornutum.tcases.maven;
 
 import org.apache.maven.plugin.MojoExecutionException;
+import org.cornutum.tcases.generator.IGeneratorSet;
+import org.cornutum.tcases.generator.TupleGenerator;
+import org.cornutum.tcases.generator.io.GeneratorSetDocReader;
 import static org.cornutum.tcases.CommandUtils.*;
 
 import org.junit.Test;
@@ -9,6 +12,7 @@ import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.util.Arrays;
 
 /**
@@ -121,6 +125,56 @@ public class TcasesMojoTest extends AbstractMojoTest
     assertThat( "Test defs", expectedTestDefs.length, is( 2));
     }
   
+  @Test
+  public void withFileThreads() throws Exception
+    {
+    // Given...
+    File baseDirTest = getBaseDirTest( "tcases-project-custom");
+
+    // When...
+    TcasesMojo tcasesMojo = (TcasesMojo) mojoHelper.lookupConfiguredMojo( baseDirTest, "tcases");
+    tcasesMojo.setFileThreads( 2);
+    clean( tcasesMojo.getOutDirFile());
+    tcasesMojo.execute();
+
+    // Then...
+    File expectedInputDir = new File( baseDirTest, "custom");
+    String[] expectedInputDefs = findPathsMatching( expectedInputDir, "**/Input.xml", "**/InputModel");
+    assertThat( "Input defs", expectedInputDefs.length, is( 2));
+
+    String[] expectedTestDefs = findPathsMatching( tcasesMojo.getOutDirFile(), "**/*");
+    assertThat( "Test defs", expectedTestDefs.length, is( 2));
+    }
+
+  @Test
+  public void withFileThreadsSharedGenDef() throws Exception
+    {
+    // Given...
+    File baseDirTest = getBaseDirTest( "tcases-project-shared");
+
+    // When...
+    TcasesMojo tcasesMojo = (TcasesMojo) mojoHelper.lookupConfiguredMojo( baseDirTest, "tcases");
+    tcasesMojo.setFileThreads( 4);
+    clean( tcasesMojo.getOutDirFile());
+    tcasesMojo.execute();
+
+    // Then...
+    File expectedInputDir = new File( baseDirTest, "src/test/tcases");
+    String[] expectedInputDefs = findPathsMatching( expectedInputDir, "*-Input.xml");
+    assertThat( "Input defs", expectedInputDefs.length, is( 4));
+
+    String[] expectedTestDefs = findPathsMatching( tcasesMojo.getOutDirFile(), "*-Test.xml");
+    assertThat( "Test defs", expectedTestDefs.length, is( 4));
+
+    IGeneratorSet genDef;
+    try( GeneratorSetDocReader reader = new GeneratorSetDocReader( new FileInputStream( new File( expectedInputDir, "Generators.xml"))))
+      {
+      genDef = reader.getGeneratorSet();
+      }
+    TupleGenerator generator = (TupleGenerator) genDef.getGenerator( "Function-0");
+    assertThat( "Updated seed", generator.getRandomSeed(), is( 123456789L));
+    }
+
   /**
    * Tests {@link TcasesMojo#execute execute()} using the following inputs.
    * <P>
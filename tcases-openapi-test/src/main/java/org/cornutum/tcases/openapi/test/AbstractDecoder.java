@@ -7,6 +7,9 @@
 
 package org.cornutum.tcases.openapi.test;
 
+import static org.cornutum.tcases.openapi.test.CollectionUtils.*;
+import static org.cornutum.tcases.openapi.test.JsonUtils.*;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.BigIntegerNode;
 import com.fasterxml.jackson.databind.node.BooleanNode;
@@ -17,10 +20,15 @@ import com.fasterxml.jackson.databind.node.TextNode;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.URLDecoder;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -65,34 +73,100 @@ public abstract class AbstractDecoder
    */
   public List<JsonNode> decode( String content)
     {
+    return decode( content, null).collect( toList());
+    }
+
+  /**
+   * Returns the possible JSON representations of the given content, generated lazily in order of likelihood.
+   * If the given schema is not null, alternatives that don't match the type expected by the schema are
+   * pruned, unless no alternative of the expected type is possible.
+   */
+  public Stream<JsonNode> decode( String content, JsonNode schema)
+    {
+    String type = schemaType( schema).orElse( null);
+
+    Supplier<Stream<JsonNode>> alternatives =
+      () -> concatStream( decodeObject( content, schema), decodeArray( content, schema), decodeValue( content, schema));
+
+    Stream<JsonNode> typed =
+      type == null?
+      null :
+
+      "object".equals( type)?
+      decodeObject( content, schema) :
+
+      "array".equals( type)?
+      decodeArray( content, schema) :
+
+      decodeValue( content, schema).filter( json -> matchesType( json, schema));
+
     return
-      Arrays.asList( decodeObject( content), decodeArray( content), decodeValue( content))
-      .stream()
-      .flatMap( jsons -> jsons.stream())
-      .collect( toList());
+      Optional.ofNullable( typed)
+      .map( Stream::iterator)
+      .filter( Iterator::hasNext)
+      .map( CollectionUtils::toStream)
+      .orElseGet( alternatives);
     }
 
   /**
    * Returns the possible JSON object representations of the given content.
    */
-  public abstract List<JsonNode> decodeObject( String content);
+  public List<JsonNode> decodeObject( String content)
+    {
+    return decodeObject( content, null).collect( toList());
+    }
+
+  /**
+   * Returns the possible JSON object representations of the given content, generated lazily. If the given
+   * schema is not null, property value alternatives are pruned using the property schemas.
+   */
+  public abstract Stream<JsonNode> decodeObject( String content, JsonNode schema);
 
   /**
    * Returns the possible JSON array representations of the given content.
    */
-  public abstract List<JsonNode> decodeArray( String content);
+  public List<JsonNode> decodeArray( String content)
+    {
+    return decodeArray( content, null).collect( toList());
+    }
+
+  /**
+   * Returns the possible JSON array representations of the given content, generated lazily. If the given
+   * schema is not null, item alternatives are pruned using the items schema.
+   */
+  public abstract Stream<JsonNode> decodeArray( String content, JsonNode schema);
 
   /**
    * Returns the possible JSON value representations of the given content.
    */
   public List<JsonNode> decodeValue( String content)
     {
-    return
+    return decodeValue( content, null).collect( toList());
+    }
+
+  /**
+   * Returns the possible JSON value representations of the given content. If the given schema is not null,
+   * values that don't match the type expected by the schema are pruned, unless no value of the expected
+   * type is possible.
+   */
+  public Stream<JsonNode> decodeValue( String content, JsonNode schema)
+    {
+    List<JsonNode> values =
       Arrays.asList( decodeNumber( content), decodeBoolean( content), decodeString( content), decodeNull( content))
       .stream()
       .filter( Optional::isPresent)
       .map( Optional::get)
       .collect( toList());
+
+    List<JsonNode> typed =
+      values.stream()
+      .filter( json -> matchesType( json, schema))
+      .collect( toList());
+
+    return
+      typed.isEmpty()
+      ? values.stream()
+      : typed.stream();
     }
 
   /**
@@ -182,5 +256,161 @@ public abstract class AbstractDecoder
       }
     }
 
+  /**
+   * Returns a lazy stream of all combinations of the given member alternatives. Each combination lists one
+   * alternative for each member, in member order. The last member varies fastest.
+   */
+  protected static Stream<List<JsonNode>> combinationsOf( List<Supplier<Stream<JsonNode>>> members)
+    {
+    return toStream( new Combinations( members));
+    }
+
+  /**
+   * Returns the schema for the value of the given property of an object described by the given schema.
+   * Returns null if no property schema is defined.
+   */
+  protected static JsonNode propertySchema( JsonNode schema, String property)
+    {
+    return
+      Optional.ofNullable( schema)
+      .flatMap( object -> asObject( object.get( "properties")))
+      .map( properties -> properties.get( property))
+      .filter( JsonNode::isObject)
+      .orElseGet( () -> {
+        return
+          Optional.ofNullable( schema)
+          .map( object -> object.get( "additionalProperties"))
+          .filter( JsonNode::isObject)
+          .orElse( null);
+        });
+    }
+
+  /**
+   * Returns the schema for the items of an array described by the given schema. Returns null if no items
+   * schema is defined.
+   */
+  protected static JsonNode itemsSchema( JsonNode schema)
+    {
+    return
+      Optional.ofNullable( schema)
+      .map( array -> array.get( "items"))
+      .filter( JsonNode::isObject)
+      .orElse( null);
+    }
+
+  /**
+   * Returns the type expected by the given schema.
+   */
+  private static Optional<String> schemaType( JsonNode schema)
+    {
+    return
+      Optional.ofNullable( schema)
+      .map( s -> s.get( "type"))
+      .filter( JsonNode::isTextual)
+      .map( JsonNode::asText);
+    }
+
+  /**
+   * Returns true if the given JSON value could match the type expected by the given schema.
+   */
+  private static boolean matchesType( JsonNode json, JsonNode schema)
+    {
+    return
+      schemaType( schema)
+      .map( type -> {
+        return
+          json.isNull()?
+          Optional.ofNullable( schema.get( "nullable")).map( JsonNode::asBoolean).orElse( false) :
+
+          "integer".equals( type) || "number".equals( type)?
+          json.isNumber() :
+
+          "boolean".equals( type)?
+          json.isBoolean() :
+
+          "string".equals( type)?
+          json.isTextual() :
+
+          "object".equals( type)?
+          json.isObject() :
+
+          "array".equals( type)?
+          json.isArray() :
+
+          true;
+        })
+      .orElse( true);
+    }
+
   private final EncodingDef encodingDef_;
+
+  /**
+   * Iterates over all combinations of member alternatives. Member alternatives are generated again as needed,
+   * so that only a single combination is held at any time.
+   */
+  private static class Combinations implements Iterator<List<JsonNode>>
+    {
+    /**
+     * Creates a new Combinations instance.
+     */
+    public Combinations( List<Supplier<Stream<JsonNode>>> members)
+      {
+      members_ = members;
+      alternatives_ = new ArrayList<Iterator<JsonNode>>( members.size());
+      current_ = new ArrayList<JsonNode>( members.size());
+
+      hasNext_ = true;
+      for( int i = 0; hasNext_ && i < members.size(); i++)
+        {
+        Iterator<JsonNode> alternatives = members.get(i).get().iterator();
+        hasNext_ = alternatives.hasNext();
+        if( hasNext_)
+          {
+          alternatives_.add( alternatives);
+          current_.add( alternatives.next());
+          }
+        }
+      }
+
+    @Override
+    public boolean hasNext()
+      {
+      return hasNext_;
+      }
+
+    @Override
+    public List<JsonNode> next()
+      {
+      if( !hasNext_)
+        {
+        throw new NoSuchElementException();
+        }
+
+      List<JsonNode> next = new ArrayList<JsonNode>( current_);
+
+      // Advance the last member that has more alternatives...
+      int advanced;
+      for( advanced = members_.size() - 1; advanced >= 0 && !alternatives_.get( advanced).hasNext(); advanced--);
+      hasNext_ = advanced >= 0;
+      if( hasNext_)
+        {
+        current_.set( advanced, alternatives_.get( advanced).next());
+
+        // ...and restart the alternatives for all following members.
+        for( int i = advanced + 1; i < members_.size(); i++)
+          {
+          Iterator<JsonNode> alternatives = members_.get(i).get().iterator();
+          alternatives_.set( i, alternatives);
+          current_.set( i, alternatives.next());
+          }
+        }
+
+      return next;
+      }
+
+    private final List<Supplier<Stream<JsonNode>>> members_;
+    private final List<Iterator<JsonNode>> alternatives_;
+    private final List<JsonNode> current_;
+    private boolean hasNext_;
+    }
   }
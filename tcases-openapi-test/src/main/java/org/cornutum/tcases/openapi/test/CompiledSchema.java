@@ -0,0 +1,58 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import com.fasterxml.jackson.core.JsonPointer;
+
+import org.openapi4j.schema.validator.v3.SchemaValidator;
+
+import java.util.List;
+
+/**
+ * Represents a response content schema prepared for {@link ResponseAnalyzer#validate(CompiledSchema,List) validation}.
+ * A CompiledSchema can be reused to validate any number of responses, from any number of threads.
+ */
+public class CompiledSchema
+  {
+  /**
+   * Creates a new CompiledSchema instance.
+   */
+  CompiledSchema( List<JsonPointer> schemaWriteOnly, SchemaValidator validator)
+    {
+    schemaWriteOnly_ = schemaWriteOnly;
+    validator_ = validator;
+    }
+
+  /**
+   * Returns the location of each "writeOnly" object property that is invalid in response content.
+   */
+  public List<JsonPointer> getSchemaWriteOnly()
+    {
+    return schemaWriteOnly_;
+    }
+
+  /**
+   * Returns the validator for response content.
+   */
+  SchemaValidator getValidator()
+    {
+    return validator_;
+    }
+
+  @Override
+  public String toString()
+    {
+    return
+      ToString.builder( getClass())
+      .add( "writeOnly", schemaWriteOnly_.size())
+      .toString();
+    }
+
+  private final List<JsonPointer> schemaWriteOnly_;
+  private final SchemaValidator validator_;
+  }
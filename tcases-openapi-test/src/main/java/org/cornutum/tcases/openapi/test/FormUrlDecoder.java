@@ -16,15 +16,17 @@ import static org.cornutum.tcases.openapi.test.JsonUtils.createObjectNode;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import static java.util.Collections.emptyList;
-import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
@@ -47,9 +49,9 @@ public class FormUrlDecoder extends AbstractDecoder
    * Returns the possible JSON array representations of the given content.
    */
   @Override
-  public List<JsonNode> decodeArray( String content)
+  public Stream<JsonNode> decodeArray( String content, JsonNode schema)
     {
-    return emptyList();
+    return Stream.empty();
     }
 
   /**
@@ -80,10 +82,11 @@ public class FormUrlDecoder extends AbstractDecoder
     }
 
   /**
-   * Returns the possible JSON object representations of the given content.
+   * Returns the possible JSON object representations of the given content, generated lazily. If the given
+   * schema is not null, property value alternatives are pruned using the property schemas.
    */
   @Override
-  public List<JsonNode> decodeObject( String content)
+  public Stream<JsonNode> decodeObject( String content, JsonNode schema)
     {
     return
       // Is this a (possibly empty) list of property mappings?...
@@ -112,57 +115,59 @@ public class FormUrlDecoder extends AbstractDecoder
           .collect( toList());
 
         // Return JSON representations for these form bindings.
-        return decodeObject( bindings);
+        return decodeObject( bindings, schema);
         })
 
       // No, not recognizable as an object
-      .orElse( emptyList());
+      .orElse( Stream.empty());
     }
 
   /**
    * Returns the possible JSON object representations of the given form bindings.
    */
-  private List<JsonNode> decodeObject( List<Map.Entry<Key,String>> bindings)
+  private Stream<JsonNode> decodeObject( List<Map.Entry<Key,String>> bindings, JsonNode schema)
     {
-    List<JsonNode> decoded;
-
-    if( bindings.isEmpty())
+    // Group bindings by form property...
+    List<List<Map.Entry<Key,String>>> propertyBindings = new ArrayList<List<Map.Entry<Key,String>>>();
+    for( int start = 0, end; start < bindings.size(); start = end)
       {
-      decoded = singletonList( createObjectNode());
+      Key key = bindings.get( start).getKey();
+      for( end = start + 1; end < bindings.size() && bindings.get( end).getKey().equalsFormProperty( key); end++);
+      propertyBindings.add( bindings.subList( start, end));
       }
-    else
-      {
-      Key key = bindings.get(0).getKey();
 
-      List<Map.Entry<Key,String>> bindingsForProperty =
-        bindings.subList(
-          0,
-          IntStream.range( 1, bindings.size())
-          .filter( i -> !bindings.get(i).getKey().equalsFormProperty( key))
-          .findFirst()
-          .orElse( bindings.size()));
-
-      String formProperty = key.getFormProperty();
-
-      decoded =
-        decodeProperty( formProperty, bindingsForProperty).stream()
-        .map( propertyValue -> newObject( formProperty, propertyValue))
-        .flatMap( firstProperty -> {
-            return
-              decodeObject( bindings.subList( bindingsForProperty.size(), bindings.size())).stream()
-              .map( JsonUtils::expectObject)
-              .map( otherProperties -> appendObject( firstProperty, otherProperties));
-          })
-        .collect( toList());
-      }
+    // ...and decode each property value.
+    List<String> formProperties =
+      propertyBindings.stream()
+      .map( propertyBinding -> propertyBinding.get(0).getKey().getFormProperty())
+      .collect( toList());
+
+    List<Supplier<Stream<JsonNode>>> propertyValues =
+      IntStream.range( 0, propertyBindings.size())
+      .mapToObj( i -> {
+        String formProperty = formProperties.get(i);
+        List<Map.Entry<Key,String>> bindingsForProperty = propertyBindings.get(i);
+        JsonNode valueSchema = propertySchema( schema, formProperty);
+        return (Supplier<Stream<JsonNode>>) () -> decodeProperty( formProperty, bindingsForProperty, valueSchema);
+        })
+      .collect( toList());
 
-    return decoded;
+    return
+      combinationsOf( propertyValues)
+      .map( values -> {
+        ObjectNode object = createObjectNode();
+        for( int i = 0; i < values.size(); i++)
+          {
+          object.set( formProperties.get(i), values.get(i));
+          }
+        return object;
+        });
     }
 
   /**
    * Returns the possible JSON object representations for values of the given form property.
    */
-  private List<JsonNode> decodeProperty( String formProperty, List<Map.Entry<Key,String>> bindings)
+  private Stream<JsonNode> decodeProperty( String formProperty, List<Map.Entry<Key,String>> bindings, JsonNode schema)
     {
     EncodingDef encoding = getPropertyEncoding( formProperty);
 
@@ -174,7 +179,7 @@ public class FormUrlDecoder extends AbstractDecoder
       .map( binding -> {
         return
           forFormProperty( binding)
-          .map( property -> decodeValue( encoding.getStyle(), property.getValue()))
+          .map( property -> decodeValue( encoding.getStyle(), property.getValue(), schema))
           .orElseThrow( () -> new IllegalStateException( String.format( "Unexpected value for %s", binding.getKey())));
         })
       .orElseThrow( () -> new IllegalStateException( String.format( "Expected explode=false for property='%s' but found %s bindings", formProperty, bindings.size()))) :
@@ -183,41 +188,34 @@ public class FormUrlDecoder extends AbstractDecoder
       decodeExplodedObject(
         Optional.of( bindings)
         .filter( deepBindings -> isExplodedObject( "deepObject", deepBindings))
-        .orElseThrow( () -> new IllegalStateException( String.format( "Expected style=deepObject for property='%s' not found", formProperty)))) :
+        .orElseThrow( () -> new IllegalStateException( String.format( "Expected style=deepObject for property='%s' not found", formProperty))),
+        schema) :
 
-      decodeExploded( encoding.getStyle(), bindings);
+      decodeExploded( encoding.getStyle(), bindings, schema);
     }
 
   /**
    * Returns the possible JSON object representations of the given exploded object value.
    */
-  private List<JsonNode> decodeExplodedObject( List<Map.Entry<Key,String>> bindings)
+  private Stream<JsonNode> decodeExplodedObject( List<Map.Entry<Key,String>> bindings, JsonNode schema)
     {
-    List<JsonNode> decoded;
-    
-    if( bindings.isEmpty())
-      {
-      decoded = singletonList( createObjectNode());
-      }
-    else
-      {
-      Key key = bindings.get(0).getKey();
-      String valueProperty = key.getValueProperty();
-      String valuePropertyContent = bindings.get(0).getValue();
-
-      decoded = 
-        decodeValue( "simple", valuePropertyContent).stream()
-        .map( json -> newObject( valueProperty, json))
-        .flatMap( firstProperty -> {
-          return
-            decodeExplodedObject( bindings.subList( 1, bindings.size())).stream()
-            .map( json -> expectObject( json))
-            .map( otherProperties -> appendObject( firstProperty, otherProperties));
+    return
+      combinationsOf(
+        bindings.stream()
+        .map( binding -> {
+          JsonNode valueSchema = propertySchema( schema, binding.getKey().getValueProperty());
+          return (Supplier<Stream<JsonNode>>) () -> decodeValue( "simple", binding.getValue(), valueSchema);
           })
-        .collect( toList());
-      }
-
-    return decoded;
+        .collect( toList()))
+
+      .map( values -> {
+        ObjectNode object = createObjectNode();
+        for( int i = 0; i < values.size(); i++)
+          {
+          object.set( bindings.get(i).getKey().getValueProperty(), values.get(i));
+          }
+        return object;
+        });
     }
 
   /**
@@ -282,57 +280,43 @@ public class FormUrlDecoder extends AbstractDecoder
   /**
    * Returns the possible JSON object representations of the given exploded property value.
    */
-  private List<JsonNode> decodeExploded( String style, List<Map.Entry<Key,String>> bindings)
+  private Stream<JsonNode> decodeExploded( String style, List<Map.Entry<Key,String>> bindings, JsonNode schema)
     {
     return
       bindings.isEmpty()?
-      emptyList() :
+      Stream.empty() :
 
       isExplodedObject( style, bindings)?
-      decodeExplodedObject( bindings) :
+      decodeExplodedObject( bindings, schema) :
 
       bindings.size() == 1?
-      decodeValue( style, bindings.get(0).getValue()) :
+      decodeValue( style, bindings.get(0).getValue(), schema) :
 
-      decodeExplodedArray( bindings);
+      decodeExplodedArray( bindings, schema);
     }
 
   /**
    * Returns the possible JSON object representations of the given exploded array value.
    */
-  private List<JsonNode> decodeExplodedArray( List<Map.Entry<Key,String>> bindings)
+  private Stream<JsonNode> decodeExplodedArray( List<Map.Entry<Key,String>> bindings, JsonNode schema)
     {
-    List<JsonNode> decoded;
-    if( bindings.isEmpty())
-      {
-      decoded = singletonList( createArrayNode());
-      }
-    else
-      {
-      String element = bindings.get(0).getValue();
-      List<JsonNode> decodedRest = decodeExplodedArray( bindings.subList( 1, bindings.size()));
+    JsonNode itemsSchema = itemsSchema( schema);
 
-      decoded = 
-        decodeValue( "simple", element).stream()
-        .map( json -> newArray( json))
-        .flatMap( firstElement -> {
-          return
-            decodedRest.stream()
-            .map( json -> expectArray( json))
-            .map( otherElements -> appendArray( firstElement, otherElements));
-          })
-        .collect( toList());
-      }
+    return
+      combinationsOf(
+        bindings.stream()
+        .map( binding -> (Supplier<Stream<JsonNode>>) () -> decodeValue( "simple", binding.getValue(), itemsSchema))
+        .collect( toList()))
 
-    return decoded;
+      .map( elements -> createArrayNode().addAll( elements));
     }
 
   /**
    * Returns the possible JSON object representations of the given property value.
    */
-  private List<JsonNode> decodeValue( String style, String content)
+  private Stream<JsonNode> decodeValue( String style, String content, JsonNode schema)
     {
-    return getValueDecoder( EncodingDef.forSimpleValue( style, false)).decode( content);
+    return getValueDecoder( EncodingDef.forSimpleValue( style, false)).decode( content, schema);
     }
 
   /**
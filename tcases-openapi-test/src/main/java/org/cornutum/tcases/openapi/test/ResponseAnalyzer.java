@@ -18,6 +18,7 @@ import org.openapi4j.core.validation.ValidationSeverity;
 import org.openapi4j.schema.validator.ValidationData;
 import org.openapi4j.schema.validator.v3.SchemaValidator;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -188,6 +189,15 @@ public final class ResponseAnalyzer
    * error for each occurrence of a "writeOnly" property.
    */
   public static Optional<List<SchemaValidationError>> validate( JsonNode schema, List<JsonNode> contentAlternatives, boolean writeOnlyInvalid) throws Exception
+    {
+    return validate( compile( schema, writeOnlyInvalid), contentAlternatives);
+    }
+
+  /**
+   * Returns the given schema prepared for validating response content. If <CODE>writeOnlyInvalid</CODE> is true,
+   * each occurrence of a "writeOnly" property will be reported as a validation error. The given schema is not changed.
+   */
+  public static CompiledSchema compile( JsonNode schema, boolean writeOnlyInvalid) throws Exception
     {
     // Given a schema that may define "writeOnly" properties...
     List<JsonPointer> schemaWriteOnly =
@@ -195,87 +205,108 @@ public final class ResponseAnalyzer
       ? schemaWriteOnly( schema)
       : emptyList();
 
-    // ...apply a schema without "writeOnly" properties...
-    JsonNode schemaWithoutWriteOnly = schemaWithoutWriteOnly( schema, schemaWriteOnly);
-
-    // ... to content alternatives without "writeOnly" properties
-    Map<JsonNode,List<JsonPointer>> content =
-      contentAlternatives.stream()
-      .collect(
-        toOrderedMap(
-          json -> json,
-          json -> contentWriteOnly( json, schemaWriteOnly)))
-      .entrySet().stream()
-      .collect(
-        toOrderedMap(
-          e -> contentWithoutWriteOnly( e.getKey(), e.getValue()),
-          e -> e.getValue()));
-
-    // ... collecting any validation errors
-    SchemaValidator schemaValidator = new SchemaValidator( null, schemaWithoutWriteOnly);
-    Map<JsonNode,List<SchemaValidationError>> contentErrors =
-      content
-      .entrySet().stream()
-      .collect(
-        toOrderedMap(
-          e -> e.getKey(),
-          e -> {
-          ValidationData<Void> validation = new ValidationData<>();
-          schemaValidator.validate( e.getKey(), validation);
-          return validationErrors( validation);
-        }));
+    // ...apply a schema without "writeOnly" properties.
+    JsonNode schemaWithoutWriteOnly =
+      schemaWriteOnly.isEmpty()
+      ? schema
+      : schemaWithoutWriteOnly( schema.deepCopy(), schemaWriteOnly);
 
-    // Select the content alternative that best represents validation results from among...
-    // ...those with only "writeOnly" errors...
-    List<JsonNode> contentWriteOnly =
-      contentErrors
-      .keySet().stream()
-      .filter( json -> contentErrors.get( json).isEmpty())
-      .collect( toList());
+    return new CompiledSchema( schemaWriteOnly, new SchemaValidator( null, schemaWithoutWriteOnly));
+    }
 
-    // ...those with no errors of any type...
-    Optional<JsonNode> contentValid =
-      contentWriteOnly.stream()
-      .filter( json -> content.get( json).isEmpty())
-      .findFirst();
+  /**
+   * If any content alternative satisfies the given compiled schema, returns {@link Optional#empty}. Otherwise, returns
+   * a list of validation errors.
+   */
+  public static Optional<List<SchemaValidationError>> validate( CompiledSchema schema, List<JsonNode> contentAlternatives)
+    {
+    return validate( schema, contentAlternatives.iterator(), Integer.MAX_VALUE);
+    }
 
-    // ...and those with some errors of some type (fewest errors first)...
-    List<JsonNode> contentInvalid =
-      contentValid.isPresent()?
-      emptyList() :
+  /**
+   * If any content alternative satisfies the given compiled schema, returns {@link Optional#empty}. Otherwise, returns
+   * a list of validation errors.
+   * <P/>
+   * Content alternatives are examined in order, stopping at the first alternative that satisfies the schema. At most
+   * <CODE>maxAlternatives</CODE> are examined, so if validation errors are returned while the given iterator has more
+   * alternatives, the content was not completely validated.
+   */
+  public static Optional<List<SchemaValidationError>> validate( CompiledSchema schema, Iterator<JsonNode> contentAlternatives, int maxAlternatives)
+    {
+    List<JsonPointer> schemaWriteOnly = schema.getSchemaWriteOnly();
+    SchemaValidator schemaValidator = schema.getValidator();
 
-      contentErrors.keySet().stream()
-      .sorted( (json1, json2) -> Integer.compare( contentErrors.get( json1).size(), contentErrors.get( json2).size()))
-      .collect( toList());
-    
-    JsonNode withErrors =
-      // Is there a content alternative with no errors?
-      contentInvalid.isEmpty()?
-      null :
+    // Select the content alternative that best represents validation results from among...
+    // ...those with only "writeOnly" errors...
+    ValidatedContent withWriteOnly = null;
+
+    // ...those with some errors that have the expected type (fewest errors first)...
+    ValidatedContent withTypeErrors = null;
+
+    // ...and those with some errors of any type (fewest errors first)...
+    ValidatedContent withErrors = null;
+
+    boolean valid = false;
+    for( int examined = 0; !valid && examined < maxAlternatives && contentAlternatives.hasNext(); examined++)
+      {
+      // Given a schema without "writeOnly" properties, apply it to a content alternative without "writeOnly" properties...
+      JsonNode json = contentAlternatives.next();
+      List<JsonPointer> contentWriteOnly = contentWriteOnly( json, schemaWriteOnly);
+      JsonNode content =
+        contentWriteOnly.isEmpty()
+        ? json
+        : contentWithoutWriteOnly( json.deepCopy(), contentWriteOnly);
+
+      // ... collecting any validation errors
+      ValidationData<Void> validation = new ValidationData<>();
+      schemaValidator.validate( content, validation);
+      ValidatedContent validated = new ValidatedContent( validationErrors( validation), contentWriteOnly);
+
+      // Is this content alternative free of errors?
+      valid = validated.getErrors().isEmpty() && contentWriteOnly.isEmpty();
+
+      if( validated.getErrors().isEmpty())
+        {
+        if( withWriteOnly == null)
+          {
+          withWriteOnly = validated;
+          }
+        }
+      else
+        {
+        if( withErrors == null || validated.getErrors().size() < withErrors.getErrors().size())
+          {
+          withErrors = validated;
+          }
+        if( validated.getErrors().stream().noneMatch( error -> "#type".equals( error.getLocation()))
+            && (withTypeErrors == null || validated.getErrors().size() < withTypeErrors.getErrors().size()))
+          {
+          withTypeErrors = validated;
+          }
+        }
+      }
 
-      // Is there a content alternative with only "writeOnly" errors?
-      !contentWriteOnly.isEmpty()?
-      contentWriteOnly.get(0) :
+    // Return all errors reported for the selected content alternative
+    return
+      valid?
+      Optional.empty() :
 
-      // Is there an invalid content alternative that has the expected type?
-      contentInvalid.stream()
-      .filter( json -> contentErrors.get( json).stream().noneMatch( error -> "#type".equals( error.getLocation())))
-      .findFirst()
+      Optional.ofNullable(
+        withWriteOnly != null?
+        withWriteOnly :
 
-      // Otherwise, report errors for the first invalid alternative
-      .orElse( contentInvalid.get(0));
+        withTypeErrors != null?
+        withTypeErrors :
 
-    // Return all errors reported for the selected content alternative
-    return
-      Optional.ofNullable( withErrors)
-      .map( json -> {
+        withErrors)
+
+      .map( validated -> {
         return
           Stream.concat(
-            contentErrors.get( json).stream(),
-            writeOnlyErrors( content.get( json)).stream())
+            validated.getErrors().stream(),
+            writeOnlyErrors( validated.getContentWriteOnly()).stream())
           .collect( toList());
         });
-      
     }
 
   /**
@@ -440,4 +471,38 @@ public final class ResponseAnalyzer
       .map( dataLocation -> new SchemaValidationError( dataLocation, "writeOnly", "'writeOnly' property not allowed in response"))
       .collect( toList());
     }    
+
+  /**
+   * Describes the validation results for a content alternative.
+   */
+  private static class ValidatedContent
+    {
+    /**
+     * Creates a new ValidatedContent instance.
+     */
+    public ValidatedContent( List<SchemaValidationError> errors, List<JsonPointer> contentWriteOnly)
+      {
+      errors_ = errors;
+      contentWriteOnly_ = contentWriteOnly;
+      }
+
+    /**
+     * Returns the schema validation errors for this content.
+     */
+    public List<SchemaValidationError> getErrors()
+      {
+      return errors_;
+      }
+
+    /**
+     * Returns the location of each "writeOnly" object property in this content.
+     */
+    public List<JsonPointer> getContentWriteOnly()
+      {
+      return contentWriteOnly_;
+      }
+
+    private final List<SchemaValidationError> errors_;
+    private final List<JsonPointer> contentWriteOnly_;
+    }
   }
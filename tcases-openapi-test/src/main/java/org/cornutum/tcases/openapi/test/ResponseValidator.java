@@ -7,6 +7,7 @@
 
 package org.cornutum.tcases.openapi.test;
 
+import static org.cornutum.tcases.openapi.test.CollectionUtils.*;
 import static org.cornutum.tcases.openapi.test.JsonUtils.*;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -18,12 +19,13 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.lang.reflect.Constructor;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import static java.util.Collections.emptyList;
-import static java.util.Collections.singletonList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 import static java.util.stream.Collectors.joining;
 
 /**
@@ -31,12 +33,37 @@ import static java.util.stream.Collectors.joining;
  */
 public class ResponseValidator
   {
+  /**
+   * Returns a ResponseValidator using the default {@link ResponsesDef} resource for the given test class.
+   * <P/>
+   * The resource is read only once for each class. All validators returned for the same class and resource share the
+   * same {@link ResponsesDef} and compiled schemas, but each can be configured separately.
+   */
+  public static ResponseValidator forClass( Class<?> testClass)
+    {
+    return forClass( testClass, defaultResourceFor( testClass));
+    }
+
+  /**
+   * Returns a ResponseValidator using the given {@link ResponsesDef} resource for the given test class.
+   * <P/>
+   * The resource is read only once for each class. All validators returned for the same class and resource share the
+   * same {@link ResponsesDef} and compiled schemas, but each can be configured separately.
+   */
+  public static ResponseValidator forClass( Class<?> testClass, String resourceName)
+    {
+    return
+      new ResponseValidator(
+        sharedValidators_.get( testClass)
+        .computeIfAbsent( resourceName, resource -> new ResponseValidator( testClass, resource)));
+    }
+
   /**
    * Creates a new ResponseValidator using the default {@link ResponsesDef} resource for the given test class.
    */
   public ResponseValidator( Class<?> testClass)
     {
-    this( testClass, String.format( "%s-Responses.json", testClass.getSimpleName()));
+    this( testClass, defaultResourceFor( testClass));
     }
   
   /**
@@ -62,6 +89,8 @@ public class ResponseValidator
   public ResponseValidator( Reader responses)
     {
     writeOnlyInvalid( writeOnlyInvalid().orElse( true));
+    bodyContentDefs_ = new ConcurrentHashMap<ContentKey,Optional<ContentDef>>();
+    compiledSchemas_ = new ConcurrentHashMap<SchemaKey,CompiledSchema>();
     
     try
       {
@@ -78,6 +107,83 @@ public class ResponseValidator
         // Don't care about this
         }
       }
+
+    prepare();
+    }
+
+  /**
+   * Creates a new ResponseValidator that shares the {@link ResponsesDef} and compiled schemas of the given validator.
+   */
+  private ResponseValidator( ResponseValidator shared)
+    {
+    responses_ = shared.responses_;
+    bodyContentDefs_ = shared.bodyContentDefs_;
+    compiledSchemas_ = shared.compiledSchemas_;
+    validationHandler_ = shared.validationHandler_;
+    writeOnlyInvalid_ = shared.writeOnlyInvalid_;
+    maxAlternatives_ = shared.maxAlternatives_;
+    }
+
+  /**
+   * Returns the {@link ResponsesDef} used by this validator.
+   */
+  ResponsesDef getResponsesDef()
+    {
+    return responses_;
+    }
+
+  /**
+   * Returns the name of the default {@link ResponsesDef} resource for the given test class.
+   */
+  private static String defaultResourceFor( Class<?> testClass)
+    {
+    return String.format( "%s-Responses.json", testClass.getSimpleName());
+    }
+
+  /**
+   * Prepares to validate all responses defined by the {@link ResponsesDef}, so that the cost of resolving
+   * content definitions and compiling schemas is not repeated for each response.
+   */
+  private void prepare()
+    {
+    for( String path : responses_.paths())
+      {
+      for( String op : responses_.ops( path))
+        {
+        // Resolve body content definitions for each specific status code...
+        toStream( responses_.opDef( op, path).fields())
+          .filter( response -> isInteger( response.getKey()))
+          .forEach( response -> {
+            int statusCode = Integer.parseInt( response.getKey());
+            Optional.ofNullable( expectObject( response.getValue().get( "content")))
+              .map( content -> toStream( content.fieldNames()))
+              .orElse( Stream.empty())
+              .forEach( contentType -> {
+                try
+                  {
+                  bodyContentDef( op, path, statusCode, contentType);
+                  }
+                catch( Exception ignored)
+                  {
+                  // Report this failure when validating a response with this content type.
+                  }
+                });
+            });
+
+        // ...and compile all content schemas.
+        for( ObjectNode schema : responses_.opSchemas( op, path))
+          {
+          try
+            {
+            compiledSchema( schema);
+            }
+          catch( Exception ignored)
+            {
+            // Report this failure when validating a response for this schema.
+            }
+          }
+        }
+      }
     }
 
   /**
@@ -109,6 +215,30 @@ public class ResponseValidator
     return writeOnlyInvalid_;
     }
 
+  /**
+   * Changes the maximum number of possible JSON representations of response content that are examined during
+   * validation. If all of these are invalid, other possible representations are not examined and
+   * {@link ResponseValidationHandler#handleUnvalidated an unvalidated response condition} is reported.
+   */
+  public ResponseValidator maxAlternatives( int max)
+    {
+    if( max <= 0)
+      {
+      throw new IllegalArgumentException( String.format( "Invalid maxAlternatives=%s", max));
+      }
+    maxAlternatives_ = max;
+    return this;
+    }
+
+  /**
+   * Returns the maximum number of possible JSON representations of response content that are examined during
+   * validation.
+   */
+  public int getMaxAlternatives()
+    {
+    return maxAlternatives_;
+    }
+
   /**
    * Given a response with the given status code to the given operation on the API resource at the given path, completes
    * successfully if the response body conforms to its OpenAPI definition. Otherwise,
@@ -149,12 +279,12 @@ public class ResponseValidator
       if( bodyExpected)
         {
         ContentDef bodyContentDef =
-          responses_.bodyContentDef( op, path, statusCode, bodyContentType)
+          bodyContentDef( op, path, statusCode, bodyContentType)
           .orElseThrow( () -> new ResponseValidationException( op, path, statusCode, "body", String.format( "unexpected response contentType=%s", bodyContentType)));
         
         // Compare actual body content...
-        List<JsonNode> bodyContentJson = bodyContentJson( op, path, statusCode, bodyContentDef, bodyContent);
-        if( bodyContentJson.isEmpty())
+        Iterator<JsonNode> bodyContentJson = bodyContentJson( op, path, statusCode, bodyContentDef, bodyContent);
+        if( !bodyContentJson.hasNext())
           {
           throw new ResponseUnvalidatedException( op, path, statusCode, "body", String.format( "contentType=%s can't be validated", bodyContentType));
           }
@@ -166,15 +296,21 @@ public class ResponseValidator
 
         // ...and report any non-conformance errors
         Optional<List<SchemaValidationError>> validationErrors;
+        boolean unexamined;
         try
           {
-          validationErrors = ResponseAnalyzer.validate( schema, bodyContentJson, isWriteOnlyInvalid());
+          validationErrors = ResponseAnalyzer.validate( compiledSchema( schema), bodyContentJson, getMaxAlternatives());
+          unexamined = validationErrors.isPresent() && bodyContentJson.hasNext();
           }
         catch( Exception e)
           {
           throw new ResponseValidationException( op, path, statusCode, "body", "can't validate content", e);
           }
 
+        if( unexamined)
+          {
+          throw new ResponseUnvalidatedException( op, path, statusCode, "body", alternativesUnexamined( bodyContentType));
+          }
         validationErrors.ifPresent( errors -> reportValidationErrors( op, path, statusCode, "body", "invalid response", errors));
         }
       }
@@ -222,23 +358,29 @@ public class ResponseValidator
 
               // ...with actual header content...
               String headerContent = headers.get( headerName).stream().collect( joining( ","));
-              List<JsonNode> headerContentJson = contentJson( op, path, statusCode, headerName, headerContentDef, headerContent);
-              if( headerContentJson.isEmpty())
+              Iterator<JsonNode> headerContentJson = contentJson( op, path, statusCode, headerName, headerContentDef, headerContent);
+              if( !headerContentJson.hasNext())
                 {
                 throw new ResponseUnvalidatedException( op, path, statusCode, headerName, String.format( "contentType=%s can't be validated", headerContentDef.getContentType()));
                 }
 
               // ...and report any non-conformance errors
               Optional<List<SchemaValidationError>> validationErrors;
+              boolean unexamined;
               try
                 {
-                validationErrors = ResponseAnalyzer.validate( schema, headerContentJson, isWriteOnlyInvalid());
+                validationErrors = ResponseAnalyzer.validate( compiledSchema( schema), headerContentJson, getMaxAlternatives());
+                unexamined = validationErrors.isPresent() && headerContentJson.hasNext();
                 }
               catch( Exception e)
                 {
                 throw new ResponseValidationException( op, path, statusCode, headerName, "can't validate value", e);
                 }
 
+              if( unexamined)
+                {
+                throw new ResponseUnvalidatedException( op, path, statusCode, headerName, alternativesUnexamined( headerContentDef.getContentType()));
+                }
               validationErrors.ifPresent( errors -> reportValidationErrors( op, path, statusCode, headerName, "invalid value", errors));
               }
             else if ( headerDef.isRequired())
@@ -259,17 +401,50 @@ public class ResponseValidator
     }
 
   /**
-   * Returns JSON representations of the given body content. Returns {@link Optional#empty} if no JSON representation is possible.
+   * Returns the specified response body content definition for the given status code for the given operation on the API resource at the given path.
    */
-  private List<JsonNode> bodyContentJson( String op, String path, int statusCode, ContentDef contentDef, String bodyContent)
+  private Optional<ContentDef> bodyContentDef( String op, String path, int statusCode, String contentType)
+    {
+    return
+      bodyContentDefs_.computeIfAbsent(
+        new ContentKey( op, path, statusCode, contentType),
+        key -> responses_.bodyContentDef( op, path, statusCode, contentType));
+    }
+
+  /**
+   * Returns the given content schema compiled for validation using the current {@link #isWriteOnlyInvalid writeOnlyInvalid} setting.
+   */
+  private CompiledSchema compiledSchema( JsonNode schema) throws Exception
+    {
+    SchemaKey key = new SchemaKey( schema, isWriteOnlyInvalid());
+    CompiledSchema compiled = compiledSchemas_.get( key);
+    if( compiled == null)
+      {
+      // Compiling may fail, so compute outside of the map.
+      compiled = ResponseAnalyzer.compile( schema, isWriteOnlyInvalid());
+      CompiledSchema prevCompiled = compiledSchemas_.putIfAbsent( key, compiled);
+      if( prevCompiled != null)
+        {
+        compiled = prevCompiled;
+        }
+      }
+
+    return compiled;
+    }
+
+  /**
+   * Returns JSON representations of the given body content. Returns an empty iterator if no JSON representation is possible.
+   */
+  private Iterator<JsonNode> bodyContentJson( String op, String path, int statusCode, ContentDef contentDef, String bodyContent)
     {
     return contentJson( op, path, statusCode, "body", contentDef, bodyContent);
     }
 
   /**
-   * Returns JSON representations of the given content. Returns {@link Collections#emptyList} if no JSON representation is possible.
+   * Returns JSON representations of the given content, generated lazily in order of likelihood. Returns an empty
+   * iterator if no JSON representation is possible.
    */
-  private List<JsonNode> contentJson( String op, String path, int statusCode, String location, ContentDef contentDef, String content)
+  private Iterator<JsonNode> contentJson( String op, String path, int statusCode, String location, ContentDef contentDef, String content)
     {
     String contentType = contentDef.getContentType();
 
@@ -277,11 +452,12 @@ public class ResponseValidator
       {
       MediaRange media = MediaRange.of( contentType);
 
-      return
+      Iterator<JsonNode> alternatives =
         Optional.ofNullable(
           ("application/json".equals( media.base()) || "json".equals( media.suffix()))?
           Optional.of( decodeJson( content))
-          .filter( json -> json.stream().noneMatch( JsonNode::isMissingNode))
+          .filter( json -> !json.isMissingNode())
+          .map( json -> Stream.of( json))
           .orElseThrow( () -> new IllegalArgumentException( "No JSON content found")):
 
           "text/plain".equals( media.base())?
@@ -292,7 +468,12 @@ public class ResponseValidator
           
           null)
 
-        .orElse( emptyList());
+        .orElse( Stream.empty())
+        .iterator();
+
+      // Report any failure to decode the first alternative now.
+      alternatives.hasNext();
+      return alternatives;
       }
     catch( Exception e)
       {
@@ -303,25 +484,37 @@ public class ResponseValidator
   /**
    * Returns the JSON representation of JSON-encoded content.
    */
-  private List<JsonNode> decodeJson( String content) throws Exception
+  private JsonNode decodeJson( String content) throws Exception
     {
-    return singletonList( readJson( content));
+    return readJson( content);
     }
 
   /**
    * Returns JSON representations of simple-encoded text content.
    */
-  private List<JsonNode> decodeSimple( String content, ContentDef contentDef) throws Exception
+  private Stream<JsonNode> decodeSimple( String content, ContentDef contentDef) throws Exception
     {
-    return new SimpleDecoder( contentDef.getValueEncoding()).decode( content);
+    return new SimpleDecoder( contentDef.getValueEncoding()).decode( content, contentDef.getSchema());
     }
 
   /**
    * Returns JSON representation of application/x-www-form-urlencoded content.
    */
-  private List<JsonNode> decodeFormUrl( String content, ContentDef contentDef) throws Exception
+  private Stream<JsonNode> decodeFormUrl( String content, ContentDef contentDef) throws Exception
     {
-    return new FormUrlDecoder( contentDef).decode( content);
+    return new FormUrlDecoder( contentDef).decode( content, contentDef.getSchema());
+    }
+
+  /**
+   * Returns the reason reported when some possible JSON representations of content with the given type were not examined.
+   */
+  private String alternativesUnexamined( String contentType)
+    {
+    return
+      String.format(
+        "contentType=%s can't be validated: no valid representation found among the first maxAlternatives=%s",
+        contentType,
+        getMaxAlternatives());
     }
 
   /**
@@ -482,10 +675,109 @@ public class ResponseValidator
       ToString.builder( getClass())
       .add( validationHandler_)
       .addIf( "writeOnlyInvalid", Optional.of( writeOnlyInvalid_).filter( woi -> !woi))
+      .addIf( "maxAlternatives", Optional.of( maxAlternatives_).filter( max -> max != MAX_ALTERNATIVES))
       .toString();
     }
 
+  /**
+   * Identifies the response body content definition for a specific response.
+   */
+  private static class ContentKey
+    {
+    public ContentKey( String op, String path, int statusCode, String contentType)
+      {
+      op_ = op.toLowerCase();
+      path_ = path;
+      statusCode_ = statusCode;
+      contentType_ = contentType;
+      }
+
+    @Override
+    public boolean equals( Object object)
+      {
+      ContentKey other =
+        object instanceof ContentKey
+        ? (ContentKey) object
+        : null;
+
+      return
+        other != null
+        && other.op_.equals( op_)
+        && other.path_.equals( path_)
+        && other.statusCode_ == statusCode_
+        && other.contentType_.equals( contentType_);
+      }
+
+    @Override
+    public int hashCode()
+      {
+      return
+        getClass().hashCode()
+        ^ op_.hashCode()
+        ^ path_.hashCode()
+        ^ statusCode_
+        ^ contentType_.hashCode();
+      }
+
+    private final String op_;
+    private final String path_;
+    private final int statusCode_;
+    private final String contentType_;
+    }
+
+  /**
+   * Identifies a specific schema instance compiled for a specific {@link #isWriteOnlyInvalid writeOnlyInvalid} setting.
+   */
+  private static class SchemaKey
+    {
+    public SchemaKey( JsonNode schema, boolean writeOnlyInvalid)
+      {
+      schema_ = schema;
+      writeOnlyInvalid_ = writeOnlyInvalid;
+      }
+
+    @Override
+    public boolean equals( Object object)
+      {
+      SchemaKey other =
+        object instanceof SchemaKey
+        ? (SchemaKey) object
+        : null;
+
+      return
+        other != null
+        && other.schema_ == schema_
+        && other.writeOnlyInvalid_ == writeOnlyInvalid_;
+      }
+
+    @Override
+    public int hashCode()
+      {
+      return
+        System.identityHashCode( schema_)
+        ^ Boolean.hashCode( writeOnlyInvalid_);
+      }
+
+    private final JsonNode schema_;
+    private final boolean writeOnlyInvalid_;
+    }
+
   private final ResponsesDef responses_;
+  private final Map<ContentKey,Optional<ContentDef>> bodyContentDefs_;
+  private final Map<SchemaKey,CompiledSchema> compiledSchemas_;
   private ResponseValidationHandler validationHandler_ = ResponseValidationHandler.EXPECT_CONFORM;
   private boolean writeOnlyInvalid_ = true;
+  private int maxAlternatives_ = MAX_ALTERNATIVES;
+
+  private static final int MAX_ALTERNATIVES = 1000;
+
+  private static final ClassValue<Map<String,ResponseValidator>> sharedValidators_ =
+    new ClassValue<Map<String,ResponseValidator>>()
+    {
+    @Override
+    protected Map<String,ResponseValidator> computeValue( Class<?> testClass)
+      {
+      return new ConcurrentHashMap<String,ResponseValidator>();
+      }
+    };
   }
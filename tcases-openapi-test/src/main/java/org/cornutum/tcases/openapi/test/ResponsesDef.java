@@ -201,6 +201,32 @@ public class ResponsesDef
       .orElse( emptyList());
     }
 
+  /**
+   * Returns all body and header schemas defined for responses to the given operation on the API resource at the given path.
+   */
+  List<ObjectNode> opSchemas( String op, String path)
+    {
+    return
+      toStream( opResponses( op, path).elements())
+      .map( JsonUtils::expectObject)
+      .filter( Objects::nonNull)
+      .flatMap( response -> {
+        Stream<ObjectNode> bodySchemas =
+          Optional.ofNullable( expectObject( response.get( "content")))
+          .map( content -> toStream( content.elements()))
+          .orElse( Stream.empty())
+          .map( content -> expectObject( content.get( "schema")));
+
+        Stream<ObjectNode> headerSchemas =
+          contentHeaders( response).stream()
+          .map( header -> header.getContentDef().getSchema());
+
+        return Stream.concat( bodySchemas, headerSchemas);
+        })
+      .filter( Objects::nonNull)
+      .collect( toList());
+    }
+
   /**
    * Returns the response definitions for the given operation on the API resource at the given path.
    */
@@ -11,14 +11,15 @@ import static org.cornutum.tcases.openapi.test.CollectionUtils.mapping;
 import static org.cornutum.tcases.openapi.test.JsonUtils.*;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
-import static java.util.Collections.emptyList;
-import static java.util.Collections.singletonList;
+import java.util.stream.Stream;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -44,10 +45,11 @@ public class SimpleDecoder extends AbstractDecoder
     }
 
   /**
-   * Returns the possible JSON object representations of the given content.
+   * Returns the possible JSON object representations of the given content, generated lazily. If the given
+   * schema is not null, property value alternatives are pruned using the property schemas.
    */
   @Override
-  public List<JsonNode> decodeObject( String content)
+  public Stream<JsonNode> decodeObject( String content, JsonNode schema)
     {
     return
       // Is this a (possibly empty) list of array elements?...
@@ -79,65 +81,63 @@ public class SimpleDecoder extends AbstractDecoder
           
         return
           Optional.ofNullable( properties)
-          .map( mappings -> decodeObject( mappings))
-          .orElse( emptyList());
+          .map( mappings -> decodeObject( mappings, schema))
+          .orElse( Stream.empty());
         })
 
       // No, not recognizable as an object
-      .orElse( emptyList());
+      .orElse( Stream.empty());
     }
 
   /**
    * Returns the possible JSON object representations of the given property mappings.
    */
-  private List<JsonNode> decodeObject( List<Map.Entry<String,String>> properties)
+  private Stream<JsonNode> decodeObject( List<Map.Entry<String,String>> properties, JsonNode schema)
     {
     return
-      properties.isEmpty()?
-      singletonList( createObjectNode()) :
-
-      decodeValue( properties.get(0).getValue()).stream()
-      .map( jsonNode -> newObject( properties.get(0).getKey(), jsonNode))
-      .flatMap( firstProperty -> {
-        return
-          decodeObject( properties.subList( 1, properties.size())).stream()
-          .map( JsonUtils::expectObject)
-          .map( otherProperties -> appendObject( firstProperty, otherProperties));
-        })
-      .collect( toList());
+      combinationsOf(
+        properties.stream()
+        .map( property -> (Supplier<Stream<JsonNode>>) () -> decodeValue( property.getValue(), propertySchema( schema, property.getKey())))
+        .collect( toList()))
+
+      .map( values -> {
+        ObjectNode object = createObjectNode();
+        for( int i = 0; i < values.size(); i++)
+          {
+          object.set( properties.get(i).getKey(), values.get(i));
+          }
+        return object;
+        });
     }
 
   /**
-   * Returns the possible JSON array representations of the given content.
+   * Returns the possible JSON array representations of the given content, generated lazily. If the given
+   * schema is not null, item alternatives are pruned using the items schema.
    */
   @Override
-  public List<JsonNode> decodeArray( String content)
+  public Stream<JsonNode> decodeArray( String content, JsonNode schema)
     {
     return
       Optional.ofNullable( content)
       .map( text -> text.isEmpty()? new String[0] : text.split( delimiter_, -1))
-      .map( members -> decodeArray( members))
-      .orElse( emptyList());
+      .map( members -> decodeArray( members, schema))
+      .orElse( Stream.empty());
     }
 
   /**
    * Returns the possible JSON array representations of the given sequence of strings.
    */
-  private List<JsonNode> decodeArray( String[] members)
+  private Stream<JsonNode> decodeArray( String[] members, JsonNode schema)
     {
+    JsonNode itemsSchema = itemsSchema( schema);
+
     return
-      members.length == 0?
-      singletonList( createArrayNode()) :
-
-      decodeValue( members[ 0]).stream()
-      .map( jsonNode -> newArray( jsonNode))
-      .flatMap( firstMember -> {
-          return
-            decodeArray( Arrays.copyOfRange( members, 1, members.length)).stream()
-            .map( JsonUtils::expectArray)
-            .map( otherMembers -> appendArray( firstMember, otherMembers));
-        })
-      .collect( toList());
+      combinationsOf(
+        Arrays.stream( members)
+        .map( member -> (Supplier<Stream<JsonNode>>) () -> decodeValue( member, itemsSchema))
+        .collect( toList()))
+
+      .map( items -> createArrayNode().addAll( items));
     }
 
   private final String delimiter_;
@@ -19,8 +19,10 @@ import org.junit.Test;
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -390,4 +392,33 @@ public class ResponseAnalyzerTest extends ResponseTest
       is( "[{\"X\":true,\"Z\":-539092744},{\"Z\":-190523888}]"));
     }
     }
+
+  @Test
+  public void validateAlternatives() throws Exception
+    {
+    // Given...
+    CompiledSchema schema = ResponseAnalyzer.compile( toJson( "{\"type\": \"integer\", \"minimum\": 0}"), true);
+
+    {
+    // When...
+    Iterator<JsonNode> alternatives = Stream.of( "\"A\"", "-1", "1", "\"B\"").map( this::toJson).iterator();
+    Optional<List<SchemaValidationError>> errors = ResponseAnalyzer.validate( schema, alternatives, 10);
+
+    // Then...
+    assertThat( "Errors", errors.isPresent(), is( false));
+    assertThat( "Unexamined", alternatives.next(), is( toJson( "\"B\"")));
+    }
+    {
+    // When...
+    Iterator<JsonNode> alternatives = Stream.of( "\"A\"", "-1", "1", "\"B\"").map( this::toJson).iterator();
+    Optional<List<SchemaValidationError>> errors = ResponseAnalyzer.validate( schema, alternatives, 2);
+
+    // Then...
+    assertThat(
+      "Errors",
+      errors.map( e -> e.stream().map( String::valueOf).collect( toList())).orElse( null),
+      listsMembers( "#minimum: Minimum is '0', found '-1'."));
+    assertThat( "Unexamined", alternatives.hasNext(), is( true));
+    }
+    }
   }
@@ -11,6 +11,12 @@ import static org.cornutum.tcases.openapi.test.ResponseValidationHandler.FAIL_AL
 
 import org.junit.Test;
 import static org.cornutum.hamcrest.ExpectedFailure.expectFailure;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Runs {@link ResponseValidator#assertBodyValid} tests.
@@ -82,6 +88,40 @@ public class ResponseBodyValidatorTest extends ResponseValidatorTest
         });
     }
   
+  @Test
+  public void whenValidatedConcurrently()
+    {
+    // Given...
+    ResponseValidator validator = validatorFor( "responsesDef-0", FAIL_ALL);
+    String op = "DELETE";
+    String path = "/responses";
+    int statusCode = 200;
+    String bodyContentType = "application/json";
+
+    // When...
+    List<Boolean> valid =
+      IntStream.range( 0, 200)
+      .parallel()
+      .mapToObj( i -> {
+        try
+          {
+          validator.assertBodyValid( op, path, statusCode, bodyContentType, String.valueOf( i % 20));
+          return true;
+          }
+        catch( ResponseValidationException e)
+          {
+          return false;
+          }
+        })
+      .collect( toList());
+
+    // Then...
+    assertThat(
+      "Valid",
+      valid,
+      is( IntStream.range( 0, 200).mapToObj( i -> i % 20 <= 10).collect( toList())));
+    }
+  
   @Test
   public void whenStatusCodeUndefined()
     {
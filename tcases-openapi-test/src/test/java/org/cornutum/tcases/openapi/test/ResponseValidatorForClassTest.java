@@ -0,0 +1,103 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2022, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.test;
+
+import static org.cornutum.tcases.openapi.test.ResponseValidationHandler.FAIL_ALL;
+
+import org.junit.Test;
+import static org.cornutum.hamcrest.ExpectedFailure.expectFailure;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Runs tests for validators shared using {@link ResponseValidator#forClass}.
+ */
+public class ResponseValidatorForClassTest extends ResponseValidatorTest
+  {
+  @Test
+  public void whenSameResource()
+    {
+    // Given...
+    String resource = "responsesDef-body.json";
+
+    // When...
+    ResponseValidator validator = ResponseValidator.forClass( getClass(), resource);
+    ResponseValidator other = ResponseValidator.forClass( getClass(), resource);
+
+    // Then...
+    assertThat( "Shared validator", other, is( not( sameInstance( validator))));
+    assertThat( "Shared responses", other.getResponsesDef(), is( sameInstance( validator.getResponsesDef())));
+    }
+
+  @Test
+  public void whenDifferentResource()
+    {
+    // When...
+    ResponseValidator validator = ResponseValidator.forClass( getClass(), "responsesDef-body.json");
+    ResponseValidator other = ResponseValidator.forClass( getClass(), "responsesDef-headers.json");
+
+    // Then...
+    assertThat( "Shared responses", other.getResponsesDef(), is( not( sameInstance( validator.getResponsesDef()))));
+    }
+
+  @Test
+  public void whenDifferentClass()
+    {
+    // Given...
+    String resource = "responsesDef-body.json";
+
+    // When...
+    ResponseValidator validator = ResponseValidator.forClass( getClass(), resource);
+    ResponseValidator other = ResponseValidator.forClass( ResponseBodyValidatorTest.class, resource);
+
+    // Then...
+    assertThat( "Shared responses", other.getResponsesDef(), is( not( sameInstance( validator.getResponsesDef()))));
+    }
+
+  @Test
+  public void whenSharedValidatorConfigured()
+    {
+    // Given...
+    String resource = "responsesDef-body.json";
+    ResponseValidator validator = ResponseValidator.forClass( getClass(), resource).notifying( FAIL_ALL);
+    String op = "delete";
+    String path = "/responses";
+    int statusCode = 200;
+
+    // When...
+    ResponseValidator other = ResponseValidator.forClass( getClass(), resource).writeOnlyInvalid( false).maxAlternatives( 10);
+
+    // Then...
+    assertThat( "Write-only invalid", validator.isWriteOnlyInvalid(), is( true));
+    assertThat( "Write-only invalid", other.isWriteOnlyInvalid(), is( false));
+    assertThat( "Max alternatives", validator.getMaxAlternatives(), is( 1000));
+    assertThat( "Max alternatives", other.getMaxAlternatives(), is( 10));
+    assertThat(
+      "Later validator",
+      ResponseValidator.forClass( getClass(), resource).isWriteOnlyInvalid(),
+      is( true));
+
+    validator.assertBodyValid( op, path, statusCode, null, null);
+    other.assertBodyValid( op, path, statusCode, null, null);
+
+    expectFailure( ResponseValidationException.class)
+      .when( () -> validator.assertBodyValid( op, path, statusCode, "application/json", "\"A string\""))
+      .then( failure -> {
+        assertValidationErrors(
+          failure,
+          "delete /responses (200), body: unexpected response Content-Type header received");
+        });
+    }
+
+  @Test
+  public void whenResourceUndefined()
+    {
+    expectFailure( IllegalArgumentException.class)
+      .when( () -> ResponseValidator.forClass( getClass(), "undefined.json"));
+    }
+  }
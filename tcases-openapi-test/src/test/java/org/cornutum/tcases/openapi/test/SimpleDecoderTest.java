@@ -15,6 +15,9 @@ import static org.hamcrest.Matchers.*;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Optional;
+import java.util.stream.IntStream;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Runs {@link SimpleDecoder} tests.u
@@ -559,4 +562,57 @@ public class SimpleDecoderTest extends AbstractDecoderTest
     jsonNode = decoder.decodeNumber( content);
     assertThat( "Number content", jsonNode.isPresent(), is( false));
     }
+
+  @Test
+  public void whenSchemaTyped() throws Exception
+    {
+    // Given...
+    EncodingDef encodingDef = EncodingDefBuilder.simple().build();
+    SimpleDecoder decoder = new SimpleDecoder( encodingDef);
+    String content;
+    JsonNode schema;
+
+    // When...
+    content = "A,1,B,-2.0,C,3";
+    schema = JsonUtils.readJson( "{\"type\":\"object\",\"properties\":{\"A\":{\"type\":\"integer\"},\"B\":{\"type\":\"string\"}}}");
+    
+    // Then...
+    assertJsonNodes(
+      "Decoded",
+      decoder.decode( content, schema).collect( toList()),
+      "{\"A\":1,\"B\":\"-2.0\",\"C\":3}",
+      "{\"A\":1,\"B\":\"-2.0\",\"C\":\"3\"}");
+
+    // When...
+    content = "X,Y,Z";
+    schema = JsonUtils.readJson( "{\"type\":\"array\",\"items\":{\"type\":\"integer\"}}");
+    
+    // Then...
+    assertJsonNodes(
+      "Decoded",
+      decoder.decode( content, schema).collect( toList()),
+      "[\"X\",\"Y\",\"Z\"]");
+
+    // When...
+    content = "X,Y,Z";
+    schema = JsonUtils.readJson( "{\"type\":\"integer\"}");
+    
+    // Then...
+    assertJsonNodes(
+      "Decoded",
+      decoder.decode( content, schema).collect( toList()),
+      "[\"X\",\"Y\",\"Z\"]",
+      "\"X,Y,Z\"");
+
+    // When...
+    content = IntStream.range( 0, 64).mapToObj( String::valueOf).collect( joining( ","));
+    schema = JsonUtils.readJson( "{\"type\":\"array\"}");
+    
+    // Then...
+    assertJsonNodes(
+      "Decoded",
+      decoder.decode( content, schema).limit( 2).map( json -> json.get( 63)).collect( toList()),
+      "63",
+      "\"63\"");
+    }
   }
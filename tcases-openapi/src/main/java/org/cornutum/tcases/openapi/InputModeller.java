@@ -13,6 +13,7 @@ import org.cornutum.tcases.resolve.FormattedString;
 import org.cornutum.tcases.util.Characters;
 import org.cornutum.tcases.util.ContextHandler;
 import org.cornutum.tcases.util.ListBuilder;
+import org.cornutum.tcases.util.Notifier;
 
 import static org.cornutum.tcases.DefUtils.toIdentifier;
 import static org.cornutum.tcases.conditions.Conditions.*;
@@ -58,6 +59,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -97,7 +101,15 @@ public abstract class InputModeller extends ContextHandler<OpenApiContext>
    */
   protected InputModeller( View view, ModelOptions options)
     {
-    super( new OpenApiContext());
+    this( view, options, new String[0]);
+    }
+  
+  /**
+   * Creates a new InputModeller instance, starting at the given location.
+   */
+  private InputModeller( View view, ModelOptions options, String[] startLocation)
+    {
+    super( new OpenApiContext( startLocation));
     view_ = expectedValueOf( view, "Model view");
 
     options_ = Optional.ofNullable( options).orElse( new ModelOptions());
@@ -144,7 +156,7 @@ public abstract class InputModeller extends ContextHandler<OpenApiContext>
           .has( "title", title)
           .has( "version", info.getVersion())
           .hasIf( "server", serverUriUsed( api.getServers()))
-          .functions( entriesOf( api.getPaths()).flatMap( path -> pathRequestDefs( api, path.getKey(), path.getValue())))
+          .functions( pathFunctions( api, InputModeller::pathRequestDefs))
           .build();
 
         return
@@ -180,7 +192,7 @@ public abstract class InputModeller extends ContextHandler<OpenApiContext>
           .has( "title", title)
           .has( "version", info.getVersion())
           .hasIf( "server", serverUriUsed( api.getServers()))
-          .functions( entriesOf( api.getPaths()).flatMap( path -> pathRequestExamples( api, path.getKey(), path.getValue())))
+          .functions( pathFunctions( api, InputModeller::pathRequestExamples))
           .build();
 
         return
@@ -190,6 +202,64 @@ public abstract class InputModeller extends ContextHandler<OpenApiContext>
         });
     }
 
+  /**
+   * Returns the {@link FunctionInputDef function input definitions} produced by the given modeller function for each
+   * of the API paths, in the order the paths are defined.
+   * <P/>
+   * If the {@link ModelOptions#getThreads threads} option is defined, paths are modelled concurrently. Because modelling
+   * updates the schemas of an API definition in place, each path is then modelled by a separate InputModeller, using its
+   * own {@link OpenApiCopier copy} of the API definition.
+   */
+  private Stream<FunctionInputDef> pathFunctions( OpenAPI api, PathModeller pathModeller)
+    {
+    Integer threads = getOptions().getThreads();
+    if( threads == null)
+      {
+      return entriesOf( api.getPaths()).flatMap( path -> pathModeller.apply( this, api, path.getKey(), path.getValue()));
+      }
+
+    List<String> paths = entriesOf( api.getPaths()).map( Map.Entry::getKey).collect( toList());
+    String[] location = getContext().getLocation();
+    Notifier notifier = Notifier.synchronizedNotifier( getNotifier());
+
+    ForkJoinPool pool = new ForkJoinPool( Math.max( 1, threads));
+    try
+      {
+      return
+        CompletableFuture.supplyAsync(
+          () ->
+          paths.parallelStream()
+          .map( path -> {
+            InputModeller modeller = new InputModeller( view_, getOptions(), location) {};
+            modeller.setNotifier( notifier);
+            OpenAPI pathApi = OpenApiCopier.copyOf( api);
+            return pathModeller.apply( modeller, pathApi, path, pathApi.getPaths().get( path)).collect( toList());
+            })
+          .collect( toList()),
+          pool)
+        .join()
+        .stream()
+        .flatMap( List::stream);
+      }
+    catch( CompletionException e)
+      {
+      Throwable cause = e.getCause();
+      if( cause instanceof RuntimeException)
+        {
+        throw (RuntimeException) cause;
+        }
+      if( cause instanceof Error)
+        {
+        throw (Error) cause;
+        }
+      throw e;
+      }
+    finally
+      {
+      pool.shutdownNow();
+      }
+    }
+
   /**
    * Returns a request {@link FunctionInputDef function input definition} for each of the API operations for the given path.
    */
@@ -379,7 +449,7 @@ public abstract class InputModeller extends ContextHandler<OpenApiContext>
           .has( "title", title)
           .has( "version", info.getVersion())
           .hasIf( "server", serverUriUsed( api.getServers()))
-          .functions( entriesOf( api.getPaths()).flatMap( path -> pathResponseDefs( api, path.getKey(), path.getValue())))
+          .functions( pathFunctions( api, InputModeller::pathResponseDefs))
           .build();
 
         return
@@ -4019,6 +4089,15 @@ public abstract class InputModeller extends ContextHandler<OpenApiContext>
     private boolean allRequired_;
     }
 
+  /**
+   * Returns the {@link FunctionInputDef function input definitions} for an API path.
+   */
+  @FunctionalInterface
+  private interface PathModeller
+    {
+    public Stream<FunctionInputDef> apply( InputModeller modeller, OpenAPI api, String path, PathItem pathItem);
+    }
+
   private final View view_;
   private final ModelOptions options_;
   private final SchemaAnalyzer analyzer_;
@@ -140,6 +140,24 @@ public class ModelOptions
     return serverSelector_;
     }
 
+  /**
+   * Changes the maximum number of threads used to model different API paths concurrently.
+   * If null, all paths are modelled sequentially.
+   */
+  public void setThreads( Integer threads)
+    {
+    threads_ = threads;
+    }
+
+  /**
+   * Returns the maximum number of threads used to model different API paths concurrently.
+   * If null, all paths are modelled sequentially.
+   */
+  public Integer getThreads()
+    {
+    return threads_;
+    }
+
   /**
    * Returns a new ModelOptions builder.
    */
@@ -166,6 +184,7 @@ public class ModelOptions
       .append( "readOnlyEnforced", isReadOnlyEnforced())
       .append( "writeOnlyEnforced", isWriteOnlyEnforced())
       .append( "server", Optional.ofNullable( String.valueOf( getServerUri())).orElse( String.valueOf( getServerSelector())))
+      .append( "threads", getThreads())
       .toString();
     }
   
@@ -189,7 +208,8 @@ public class ModelOptions
         .writeOnlyEnforced( defaults.isWriteOnlyEnforced())
         .source( defaults.getSource())
         .serverUri( defaults.getServerUri())
-        .serverSelector( defaults.getServerSelector());
+        .serverSelector( defaults.getServerSelector())
+        .threads( defaults.getThreads());
         }
       }
 
@@ -239,6 +259,12 @@ public class ModelOptions
       return this;
       }
 
+    public Builder threads( Integer threads)
+      {
+      modelOptions_.setThreads( threads);
+      return this;
+      }
+
     public ModelOptions build()
       {
       return modelOptions_;
@@ -253,4 +279,5 @@ public class ModelOptions
   private Source source_;
   private URI serverUri_;
   private ServerSelector serverSelector_;
+  private Integer threads_;
   }
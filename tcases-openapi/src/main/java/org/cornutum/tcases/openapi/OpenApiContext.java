@@ -14,6 +14,14 @@ import org.cornutum.tcases.util.ExecutionNotifier;
  */
 public class OpenApiContext extends ExecutionNotifier<OpenApiException>
   {
+  /**
+   * Creates a new OpenApiContext instance.
+   */
+  public OpenApiContext( String... startLocation)
+    {
+    super( startLocation);
+    }
+
   /**
    * Returns an exception to throw for the given failure.
    */
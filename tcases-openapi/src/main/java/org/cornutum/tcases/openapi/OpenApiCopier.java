@@ -0,0 +1,203 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi;
+
+import io.swagger.v3.oas.models.OpenAPI;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Creates a deep copy of an {@link OpenAPI} definition.
+ * <P/>
+ * Every OpenAPI model object is copied field by field into a new instance of the same class, so that the copy has
+ * exactly the same types and values as the original. Collections are copied in the same iteration order, and JSON
+ * values are copied using {@link JsonNode#deepCopy}. Any other value is assumed to be immutable and is shared. An
+ * object referenced several times in the original is copied only once, so shared and circular references are preserved.
+ */
+final class OpenApiCopier
+  {
+  /**
+   * Creates a new OpenApiCopier instance.
+   */
+  private OpenApiCopier()
+    {
+    copies_ = new IdentityHashMap<Object,Object>();
+    }
+
+  /**
+   * Returns a deep copy of the given OpenAPI definition.
+   */
+  public static OpenAPI copyOf( OpenAPI api)
+    {
+    return (OpenAPI) new OpenApiCopier().copied( api);
+    }
+
+  /**
+   * Returns a deep copy of the given object.
+   */
+  @SuppressWarnings("unchecked")
+  private Object copied( Object object)
+    {
+    Object copy = object == null? null : copies_.get( object);
+    if( copy == null && object != null)
+      {
+      if( isModel( object.getClass()))
+        {
+        copy = modelCopy( object);
+        }
+      else if( object instanceof JsonNode)
+        {
+        copy = ((JsonNode) object).deepCopy();
+        copies_.put( object, copy);
+        }
+      else if( object instanceof Map)
+        {
+        Map<Object,Object> map = (Map<Object,Object>) object;
+        copy = copyEntries( map, map instanceof SortedMap? new TreeMap<Object,Object>( ((SortedMap<Object,Object>) map).comparator()) : new LinkedHashMap<Object,Object>());
+        }
+      else if( object instanceof List)
+        {
+        List<Object> list = (List<Object>) object;
+        copy = copyMembers( list, new ArrayList<Object>( list.size()));
+        }
+      else if( object instanceof Set)
+        {
+        Set<Object> set = (Set<Object>) object;
+        copy = copyMembers( set, set instanceof SortedSet? new TreeSet<Object>( ((SortedSet<Object>) set).comparator()) : new LinkedHashSet<Object>());
+        }
+      else
+        {
+        copy = object;
+        }
+      }
+
+    return copy;
+    }
+
+  /**
+   * Returns a copy of the given OpenAPI model object.
+   */
+  @SuppressWarnings("unchecked")
+  private Object modelCopy( Object model)
+    {
+    Object copy;
+    try
+      {
+      copy = model.getClass().getDeclaredConstructor().newInstance();
+      }
+    catch( Exception e)
+      {
+      throw new IllegalStateException( String.format( "Can't copy %s", model.getClass().getName()), e);
+      }
+    copies_.put( model, copy);
+
+    // Some model classes, like Paths, are themselves collections.
+    if( model instanceof Map)
+      {
+      ((Map<Object,Object>) copy).clear();
+      copyEntries( (Map<Object,Object>) model, (Map<Object,Object>) copy);
+      }
+    else if( model instanceof Collection)
+      {
+      ((Collection<Object>) copy).clear();
+      copyMembers( (Collection<Object>) model, (Collection<Object>) copy);
+      }
+
+    for( Field field : modelFields_.get( model.getClass()))
+      {
+      try
+        {
+        field.set( copy, copied( field.get( model)));
+        }
+      catch( Exception e)
+        {
+        throw new IllegalStateException( String.format( "Can't copy %s.%s", model.getClass().getName(), field.getName()), e);
+        }
+      }
+
+    return copy;
+    }
+
+  /**
+   * Adds copies of all entries in the given map to the given copy.
+   */
+  private Map<Object,Object> copyEntries( Map<Object,Object> map, Map<Object,Object> copy)
+    {
+    copies_.put( map, copy);
+    map.forEach( (key, value) -> copy.put( copied( key), copied( value)));
+    return copy;
+    }
+
+  /**
+   * Adds copies of all members of the given collection to the given copy.
+   */
+  private Collection<Object> copyMembers( Collection<Object> collection, Collection<Object> copy)
+    {
+    copies_.put( collection, copy);
+    collection.forEach( member -> copy.add( copied( member)));
+    return copy;
+    }
+
+  /**
+   * Returns if the given class defines an OpenAPI model object.
+   */
+  private static boolean isModel( Class<?> type)
+    {
+    return type.getName().startsWith( MODELS_PACKAGE) && !Enum.class.isAssignableFrom( type);
+    }
+
+  /**
+   * Returns the instance fields defined by the given OpenAPI model class and its model superclasses.
+   */
+  private static List<Field> getModelFields( Class<?> modelClass)
+    {
+    List<Field> fields = new ArrayList<Field>();
+    for( Class<?> type = modelClass; type != null && isModel( type); type = type.getSuperclass())
+      {
+      for( Field field : type.getDeclaredFields())
+        {
+        if( !Modifier.isStatic( field.getModifiers()))
+          {
+          field.setAccessible( true);
+          fields.add( field);
+          }
+        }
+      }
+
+    return fields;
+    }
+
+  private final Map<Object,Object> copies_;
+
+  private static final String MODELS_PACKAGE = OpenAPI.class.getPackage().getName() + ".";
+
+  private static final ClassValue<List<Field>> modelFields_ =
+    new ClassValue<List<Field>>()
+    {
+    @Override
+    protected List<Field> computeValue( Class<?> modelClass)
+      {
+      return getModelFields( modelClass);
+      }
+    };
+  }
@@ -24,7 +24,9 @@ import org.cornutum.tcases.util.MapBuilder;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -592,7 +594,7 @@ public class SchemaAnalyzer extends ContextHandler<OpenApiContext>
         Dnf.undefined( dnf2)?
         dnf2 :
 
-        Dnf.of(
+        boundedDnf(
           dnf1.getAlternatives().stream()
           .flatMap( a1 -> {
             List<Schema<?>> c2 = dnf2.getCompatibleAlternatives( a1.getType());
@@ -604,11 +606,36 @@ public class SchemaAnalyzer extends ContextHandler<OpenApiContext>
       .orElse( Dnf.NONEXISTENT);
     }
 
+  /**
+   * Returns the disjunctive normal form with the given alternatives. If the number of alternatives exceeds
+   * {@link #MAX_ALTERNATIVES}, notifies a warning and ignores all remaining alternatives.
+   */
+  private Dnf boundedDnf( Stream<Schema<?>> alternatives)
+    {
+    List<Schema<?>> bounded = alternatives.limit( MAX_ALTERNATIVES + 1).collect( toList());
+    if( bounded.size() > MAX_ALTERNATIVES)
+      {
+      notifyWarning( String.format( "This combination of schemas defines more than %s alternatives -- ignoring all others", MAX_ALTERNATIVES));
+      bounded.remove( MAX_ALTERNATIVES);
+      }
+
+    return Dnf.of( bounded);
+    }
+
   /**
    * Returns the disjunctive normal form of the schema that validates any instance validated
    * by exactly one of the given schemas.
    */
   private Dnf oneOf( List<Dnf> dnfs)
+    {
+    return oneOf( dnfs, new IdentityHashMap<Schema<?>,Dnf>());
+    }
+
+  /**
+   * Returns the disjunctive normal form of the schema that validates any instance validated
+   * by exactly one of the given schemas, reusing the given invalidators of each alternative.
+   */
+  private Dnf oneOf( List<Dnf> dnfs, Map<Schema<?>,Dnf> invalidators)
     {
     List<Dnf> oneOfOnly =
       // For all specified schema choices...
@@ -622,7 +649,7 @@ public class SchemaAnalyzer extends ContextHandler<OpenApiContext>
 
             // ... define a schema that validates only this choice
             withWarningIf(
-              allOf( member, noneOf( restOf( dnfs, i))),
+              allOf( member, noneOf( restOf( dnfs, i), invalidators)),
               Dnf::undefined,
               String.format( "oneOf[%s] can't be satisfied exclusively -- ignoring this schema", i));
         })
@@ -645,11 +672,24 @@ public class SchemaAnalyzer extends ContextHandler<OpenApiContext>
    * by any of the given schemas.
    */
   private Dnf noneOf( List<Dnf> dnfs)
+    {
+    return noneOf( dnfs, new IdentityHashMap<Schema<?>,Dnf>());
+    }
+
+  /**
+   * Returns the disjunctive normal form of the schema that validates any instance <EM>not</EM> validated
+   * by any of the given schemas, reusing the given invalidators of each alternative.
+   * <P/>
+   * When the same alternatives are negated repeatedly while combining the members of a single "anyOf" or "oneOf",
+   * their invalidators are derived only once. Invalidators are not shared between different combinations, because
+   * invalidator schemas may become alternatives of the resulting DNF, which can be updated independently.
+   */
+  private Dnf noneOf( List<Dnf> dnfs, Map<Schema<?>,Dnf> invalidators)
     {
     return
       dnfs.stream()
       .filter( Dnf::exists)
-      .flatMap( dnf -> dnf.getAlternatives().stream().map( alternative -> Dnf.of( getInvalidators( alternative))))
+      .flatMap( dnf -> dnf.getAlternatives().stream().map( alternative -> invalidators.computeIfAbsent( alternative, a -> Dnf.of( getInvalidators( a)))))
       .reduce( this::allOf)
       .orElse( Dnf.NONEXISTENT);
     }
@@ -675,6 +715,7 @@ public class SchemaAnalyzer extends ContextHandler<OpenApiContext>
     {
     // Ignoring any non-existent inputs...
     List<Dnf> choices = dnfs.stream().filter( Dnf::exists).collect( toList());
+    Map<Schema<?>,Dnf> invalidators = new IdentityHashMap<Schema<?>,Dnf>();
 
     // ... find pairs of schemas that can be combined...
     List<Dnf> pairs = new ArrayList<Dnf>();
@@ -701,7 +742,7 @@ public class SchemaAnalyzer extends ContextHandler<OpenApiContext>
                   allOf(
                     choices.get(i),
                     choices.get(j),
-                    noneOf( restOf( restOf( choices, Math.max( i, j)), Math.min( i, j))));
+                    noneOf( restOf( restOf( choices, Math.max( i, j)), Math.min( i, j)), invalidators));
 
                 if( Dnf.defined( pair))
                   {
@@ -724,7 +765,7 @@ public class SchemaAnalyzer extends ContextHandler<OpenApiContext>
       pairs.isEmpty()?
 
       // No, "any of" is equivalent to "one of"
-      oneOf( choices) :
+      oneOf( choices, invalidators) :
 
       // Yes, include alternatives for...
       Dnf.of(
@@ -735,7 +776,7 @@ public class SchemaAnalyzer extends ContextHandler<OpenApiContext>
 
           // ... and "oneOf" alternatives for all unpaired schemas
           unpaired.stream()
-          .map( i -> allOf( choices.get(i), noneOf( restOf( choices, i))))
+          .map( i -> allOf( choices.get(i), noneOf( restOf( choices, i), invalidators)))
           .flatMap( dnf -> dnf.getAlternatives().stream())));
     }
 
@@ -1216,4 +1257,9 @@ public class SchemaAnalyzer extends ContextHandler<OpenApiContext>
       }
     return result;
     }
+  
+  /**
+   * The maximum number of alternatives for the disjunctive normal form of a combination of schemas.
+   */
+  private static final int MAX_ALTERNATIVES = 10000;
   }
@@ -7,6 +7,7 @@
 package org.cornutum.tcases.openapi;
 
 import org.cornutum.tcases.SystemInputDef;
+import org.cornutum.tcases.openapi.test.ResponsesDef;
 
 import io.swagger.v3.oas.models.OpenAPI;
 
@@ -80,4 +81,12 @@ public final class TcasesOpenApi
     {
     return getRequestInputModel( api, ModelOptions.builder( options).source( ModelOptions.Source.EXAMPLES).build());
     }
+  
+  /**
+   * Returns a {@link ResponsesDef request responses definition} for the given OpenAPI definition.
+   */
+  public static ResponsesDef getResponsesDef( OpenAPI api)
+    {
+    return OpenApiUtils.responsesDef( api);
+    }
   }
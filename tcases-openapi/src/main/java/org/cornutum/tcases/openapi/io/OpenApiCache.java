@@ -0,0 +1,202 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.io;
+
+import org.cornutum.tcases.openapi.reader.OpenApiReader;
+import org.cornutum.tcases.openapi.test.ResponsesDef;
+import org.cornutum.tcases.util.ToString;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Caches the {@link OpenAPI} definitions read from files, so that the different views of an API definition
+ * can be derived from a single parsed and resolved instance.
+ * <P/>
+ * Deriving an input model normalizes the {@link OpenAPI} instance in place, so a cached definition is supplied
+ * only while it remains unmodified. Deriving a {@link ResponsesDef} leaves the definition cached for later views, but
+ * deriving an input model removes it from the cache. A cached definition is discarded when its file is modified.
+ */
+class OpenApiCache
+  {
+  /**
+   * Identifies a view derived from an {@link OpenAPI} definition.
+   */
+  public enum View
+    {
+    REQUESTS( true), RESPONSES( true), RESPONSES_DEF( false);
+
+    View( boolean modifies)
+      {
+      modifies_ = modifies;
+      }
+
+    /**
+     * Returns if deriving this view modifies the {@link OpenAPI} definition.
+     */
+    public boolean modifies()
+      {
+      return modifies_;
+      }
+
+    private final boolean modifies_;
+    }
+
+  /**
+   * Creates a new OpenApiCache instance.
+   */
+  public OpenApiCache( int maxEntries)
+    {
+    entries_ =
+      new LinkedHashMap<Key,OpenAPI>( 16, 0.75f, true)
+      {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry( Map.Entry<Key,OpenAPI> eldest)
+        {
+        return size() > maxEntries;
+        }
+      };
+    }
+
+  /**
+   * Returns the given view derived from the OpenAPI definition in the given file.
+   */
+  public <T> T derive( File file, String defaultDocType, View view, Function<OpenAPI,T> derivation)
+    {
+    Key key = file == null ? null : new Key( file, defaultDocType);
+
+    OpenAPI api = key == null ? null : take( key, view);
+    if( api == null)
+      {
+      try( OpenApiReader reader = new OpenApiReader( file, defaultDocType))
+        {
+        api = reader.read();
+        }
+      if( key != null && !view.modifies())
+        {
+        put( key, api);
+        }
+      }
+
+    // Don't modify a definition while another view is still being derived from it.
+    synchronized( api)
+      {
+      return derivation.apply( api);
+      }
+    }
+
+  /**
+   * Discards all cached definitions.
+   */
+  public synchronized void clear()
+    {
+    entries_.clear();
+    }
+
+  /**
+   * Discards all cached definitions read from the given file.
+   */
+  public synchronized void clear( File file)
+    {
+    if( file != null)
+      {
+      File absoluteFile = file.getAbsoluteFile();
+      entries_.keySet().removeIf( key -> key.file_.equals( absoluteFile));
+      }
+    }
+
+  /**
+   * Returns the cached definition for the given key, removing it from the cache if the given view
+   * modifies it. Returns null if no definition is cached for this key.
+   */
+  private synchronized OpenAPI take( Key key, View view)
+    {
+    return
+      view.modifies()
+      ? entries_.remove( key)
+      : entries_.get( key);
+    }
+
+  /**
+   * Caches the definition for the given key.
+   */
+  private synchronized void put( Key key, OpenAPI api)
+    {
+    entries_.put( key, api);
+    }
+
+  /**
+   * Identifies the current contents of an OpenAPI definition file.
+   */
+  private static class Key
+    {
+    public Key( File file, String defaultDocType)
+      {
+      file_ = file.getAbsoluteFile();
+      lastModified_ = file_.lastModified();
+      length_ = file_.length();
+      defaultDocType_ =
+        Optional.ofNullable( StringUtils.trimToNull( defaultDocType))
+        .map( String::toLowerCase)
+        .orElse( null);
+      }
+
+    @Override
+    public boolean equals( Object object)
+      {
+      Key other =
+        object != null && object.getClass().equals( getClass())
+        ? (Key) object
+        : null;
+
+      return
+        other != null
+        && other.file_.equals( file_)
+        && other.lastModified_ == lastModified_
+        && other.length_ == length_
+        && Objects.equals( other.defaultDocType_, defaultDocType_);
+      }
+
+    @Override
+    public int hashCode()
+      {
+      return
+        getClass().hashCode()
+        ^ file_.hashCode()
+        ^ Long.hashCode( lastModified_)
+        ^ Objects.hashCode( defaultDocType_);
+      }
+
+    @Override
+    public String toString()
+      {
+      return
+        ToString.getBuilder( this)
+        .append( file_)
+        .append( "lastModified", lastModified_)
+        .append( "docType", defaultDocType_)
+        .toString();
+      }
+
+    private final File file_;
+    private final long lastModified_;
+    private final long length_;
+    private final String defaultDocType_;
+    }
+
+  private final Map<Key,OpenAPI> entries_;
+  }
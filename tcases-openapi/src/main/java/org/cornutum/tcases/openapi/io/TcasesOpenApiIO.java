@@ -11,7 +11,6 @@ import org.cornutum.tcases.SystemTestDef;
 import org.cornutum.tcases.Tcases;
 import org.cornutum.tcases.TcasesJson;
 import org.cornutum.tcases.openapi.ModelOptions;
-import org.cornutum.tcases.openapi.OpenApiUtils;
 import org.cornutum.tcases.openapi.TcasesOpenApi;
 import org.cornutum.tcases.openapi.reader.OpenApiReader;
 import org.cornutum.tcases.openapi.resolver.RequestCases;
@@ -23,6 +22,7 @@ import org.cornutum.tcases.resolve.ResolverContext;
 import java.io.File;
 import java.io.InputStream;
 import java.io.OutputStream;
+import static org.cornutum.tcases.openapi.io.OpenApiCache.View.*;
 
 /**
  * Defines methods for generating Tcases documents from OpenAPI definitions.
@@ -93,10 +93,7 @@ public final class TcasesOpenApiIO
    */
   public static SystemInputDef getRequestInputModel( File api, String defaultDocType, ModelOptions options)
     {
-    try( OpenApiReader reader = new OpenApiReader( api, defaultDocType))
-      {
-      return TcasesOpenApi.getRequestInputModel( reader.read(), options);
-      }
+    return apiCache_.derive( api, defaultDocType, REQUESTS, openApi -> TcasesOpenApi.getRequestInputModel( openApi, options));
     }
 
   /**
@@ -207,10 +204,7 @@ public final class TcasesOpenApiIO
    */
   public static SystemInputDef getResponseInputModel( File api, String defaultDocType, ModelOptions options)
     {
-    try( OpenApiReader reader = new OpenApiReader( api, defaultDocType))
-      {
-      return TcasesOpenApi.getResponseInputModel( reader.read(), options);
-      }
+    return apiCache_.derive( api, defaultDocType, RESPONSES, openApi -> TcasesOpenApi.getResponseInputModel( openApi, options));
     }
 
   /**
@@ -280,10 +274,7 @@ public final class TcasesOpenApiIO
    */
   public static ResponsesDef getResponsesDef( File api, String docType)
     {
-    try( OpenApiReader reader = new OpenApiReader( api, docType))
-      {
-      return OpenApiUtils.responsesDef( reader.read());
-      }
+    return apiCache_.derive( api, docType, RESPONSES_DEF, TcasesOpenApi::getResponsesDef);
     }
 
   /**
@@ -301,7 +292,7 @@ public final class TcasesOpenApiIO
     {
     try( OpenApiReader reader = new OpenApiReader( api, docType))
       {
-      return OpenApiUtils.responsesDef( reader.read());
+      return TcasesOpenApi.getResponsesDef( reader.read());
       }
     }
 
@@ -345,4 +336,26 @@ public final class TcasesOpenApiIO
       throw new RuntimeException( "Can't write request test cases", e);
       }
     }
+  
+  /**
+   * Discards all OpenAPI definitions retained for reuse by later views. Long-running processes should call
+   * this when they have finished deriving views.
+   */
+  public static void clearCache()
+    {
+    apiCache_.clear();
+    }
+
+  /**
+   * Discards any OpenAPI definition read from the given file that is retained for reuse by later views.
+   */
+  public static void clearCache( File api)
+    {
+    apiCache_.clear( api);
+    }
+
+  /**
+   * Retains unmodified OpenAPI definitions read from files, so that later views can reuse them.
+   */
+  private static final OpenApiCache apiCache_ = new OpenApiCache( 4);
   }
@@ -9,6 +9,7 @@ package org.cornutum.tcases.openapi.resolver;
 
 import org.cornutum.tcases.FunctionTestDef;
 import org.cornutum.tcases.SystemTestDef;
+import org.cornutum.tcases.TestCase;
 import org.cornutum.tcases.openapi.resolver.ParamDef.Location;
 import org.cornutum.tcases.openapi.test.MediaRange;
 import org.cornutum.tcases.resolve.DataValue;
@@ -23,6 +24,11 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -77,6 +83,40 @@ public final class RequestCases
         .collect( toList()));
     }
 
+  /**
+   * Returns the request cases resolved for the given system test definition.
+   * <P/>
+   * If <CODE>threads</CODE> is null, request cases are resolved sequentially, using the random number generator of the
+   * given context. Otherwise, request cases are resolved concurrently, using at most the given number of threads. In this
+   * case, each request case is resolved using its own random number generator, seeded by combining a base seed drawn from
+   * the given context with the path, operation, and id of the request case. The request cases returned are then the same
+   * for any number of threads.
+   */
+  public static RequestTestDef getRequestCases( SystemTestDef testDef, ResolverContext context, Integer threads)
+    {
+    if( threads == null)
+      {
+      return getRequestCases( testDef, context);
+      }
+
+    long baseSeed = context.getRandom().nextLong();
+    RequestCaseDefiner definer = new RequestCaseDefiner();
+
+    return
+      new RequestTestDef(
+        getConcurrently(
+          threads,
+          () ->
+          toStream( testDef.getFunctionTestDefs())
+          .flatMap( function -> toStream( function.getTestCases()).map( testCase -> (Supplier<RequestCaseDef>) () -> getRequestCaseDef( definer, function, testCase)))
+          .collect( toList())
+          .parallelStream()
+          .map( Supplier::get)
+          .map( requestCaseDef -> new RequestCaseResolver( contextFor( requestCaseDef, context, baseSeed)).resolve( requestCaseDef))
+          .filter( Objects::nonNull)
+          .collect( toList())));
+    }
+
   /**
    * Returns the request case definitions for the given system test definition.
    */
@@ -85,6 +125,50 @@ public final class RequestCases
     return getRequestCaseDefs( new RequestCaseDefiner(), testDef);
     }
 
+  /**
+   * Returns a copy of the given context that resolves the given request case using its own random number generator.
+   */
+  private static ResolverContext contextFor( RequestCaseDef requestCaseDef, ResolverContext context, long baseSeed)
+    {
+    long seed = baseSeed;
+    seed = 31 * seed + Objects.hashCode( requestCaseDef.getPath());
+    seed = 31 * seed + Objects.hashCode( requestCaseDef.getOperation());
+    seed = 31 * seed + requestCaseDef.getId();
+
+    ResolverContext caseContext = context.cloneOf();
+    caseContext.setRandom( new Random( seed));
+    return caseContext;
+    }
+
+  /**
+   * Returns the result of the given computation, using a fork-join pool with at most the given number of threads.
+   */
+  private static <T> T getConcurrently( int threads, Supplier<T> computation)
+    {
+    ForkJoinPool pool = new ForkJoinPool( Math.max( 1, threads));
+    try
+      {
+      return CompletableFuture.supplyAsync( computation, pool).join();
+      }
+    catch( CompletionException e)
+      {
+      Throwable cause = e.getCause();
+      if( cause instanceof RuntimeException)
+        {
+        throw (RuntimeException) cause;
+        }
+      if( cause instanceof Error)
+        {
+        throw (Error) cause;
+        }
+      throw e;
+      }
+    finally
+      {
+      pool.shutdownNow();
+      }
+    }
+
   /**
    * Returns the request case definitions for the given system test definition.
    */
@@ -103,19 +187,25 @@ public final class RequestCases
     {
     return
       toStream( testDef.getTestCases())
-      .map( testCase -> {
-        try
-          {
-          return definer.toRequestCaseDef( testCase);
-          }
-        catch( Exception e)
-          {
-          throw new RequestCaseException( String.format( "Can't get request case for function=%s, test case=%s", testDef.getName(), testCase.getId()), e);
-          }
-        })
+      .map( testCase -> getRequestCaseDef( definer, testDef, testCase))
       .collect( toList());
     }
 
+  /**
+   * Returns the request case definition for the given test case.
+   */
+  private static RequestCaseDef getRequestCaseDef( RequestCaseDefiner definer, FunctionTestDef testDef, TestCase testCase)
+    {
+    try
+      {
+      return definer.toRequestCaseDef( testCase);
+      }
+    catch( Exception e)
+      {
+      throw new RequestCaseException( String.format( "Can't get request case for function=%s, test case=%s", testDef.getName(), testCase.getId()), e);
+      }
+    }
+
   /**
    * Returns true if the given request case is feasible when input data is serialized into an HTTP message.
    */
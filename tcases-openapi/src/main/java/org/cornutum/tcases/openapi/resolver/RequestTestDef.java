@@ -14,9 +14,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.toList;
@@ -55,12 +60,18 @@ public class RequestTestDef
     {
     if( requestCase != null)
       {
-      int i = requestCases_.indexOf( requestCase);
-      if( i >= 0)
+      RequestCases opCases = getOpCases( requestCase.getPath(), requestCase.getOperation());
+      if( !requestCases_.add( requestCase))
         {
-        throw new IllegalArgumentException( String.format( "%s is already defined", requestCases_.get(i)));
+        throw
+          new IllegalArgumentException(
+            String.format(
+              "%s is already defined",
+              opCases.stream().filter( requestCase::equals).findFirst().orElse( requestCase)));
         }
-      requestCases_.add( requestCase);
+
+      opCases.add( requestCase);
+      requestCaseList_ = null;
       }
 
     return this;
@@ -71,9 +82,10 @@ public class RequestTestDef
    */
   public RequestTestDef remove( RequestCase requestCase)
     {
-    if( requestCase != null)
+    if( requestCase != null && requestCases_.remove( requestCase))
       {
-      requestCases_.remove( requestCase);
+      getOpCases( requestCase.getPath(), requestCase.getOperation()).remove( requestCase);
+      requestCaseList_ = null;
       }
 
     return this;
@@ -84,7 +96,11 @@ public class RequestTestDef
    */
   public List<RequestCase> getRequestCases()
     {
-    return unmodifiableList( requestCases_);
+    if( requestCaseList_ == null)
+      {
+      requestCaseList_ = unmodifiableList( new ArrayList<RequestCase>( requestCases_));
+      }
+    return requestCaseList_;
     }
 
   /**
@@ -114,15 +130,34 @@ public class RequestTestDef
    */
   public List<RequestCase> getRequestCases( Collection<String> paths, Collection<String> ops)
     {
-    return
-      requestCases_.stream()
-      .filter( rc -> {
+    Set<String> opKeys =
+      ops == null
+      ? null
+      : ops.stream().filter( Objects::nonNull).map( RequestTestDef::keyOf).collect( toSet());
+
+    List<RequestCases> selected =
+      (paths == null
+       ? pathCases_.values().stream()
+       : paths.stream().filter( Objects::nonNull).map( RequestTestDef::keyOf).distinct().map( pathCases_::get).filter( Objects::nonNull))
+      .flatMap( opCases -> {
         return
-          (paths == null || paths.stream().anyMatch( p -> p.equalsIgnoreCase( rc.getPath())))
-          && (ops == null || ops.stream().anyMatch( o -> o.equalsIgnoreCase( rc.getOperation())));
+          opKeys == null
+          ? opCases.values().stream()
+          : opKeys.stream().map( opCases::get).filter( Objects::nonNull);
         })
-      .sorted()
       .collect( toList());
+
+    List<RequestCase> requestCases;
+    if( selected.size() == 1)
+      {
+      requestCases = new ArrayList<RequestCase>( selected.get(0).getSorted());
+      }
+    else
+      {
+      requestCases = selected.stream().flatMap( RequestCases::stream).sorted().collect( toList());
+      }
+
+    return requestCases;
     }
 
   /**
@@ -159,6 +194,75 @@ public class RequestTestDef
       .orElse( null);
     }
 
+  /**
+   * Returns the request cases for the given operation on the given resource path.
+   */
+  private RequestCases getOpCases( String path, String op)
+    {
+    return
+      pathCases_
+      .computeIfAbsent( keyOf( path), p -> new HashMap<String,RequestCases>())
+      .computeIfAbsent( keyOf( op), o -> new RequestCases());
+    }
+
+  /**
+   * Returns the case-insensitive index key for the given path or operation.
+   */
+  private static String keyOf( String name)
+    {
+    return
+      name == null
+      ? null
+      : name.toLowerCase();
+    }
+
+  /**
+   * Maintains a sorted list of request cases.
+   */
+  private static class RequestCases
+    {
+    /**
+     * Adds a request case.
+     */
+    public void add( RequestCase requestCase)
+      {
+      requestCases_.add( requestCase);
+      sorted_ = requestCases_.size() == 1;
+      }
+
+    /**
+     * Removes a request case.
+     */
+    public void remove( RequestCase requestCase)
+      {
+      requestCases_.remove( requestCase);
+      }
+
+    /**
+     * Returns these request cases in sorted order.
+     */
+    public List<RequestCase> getSorted()
+      {
+      if( !sorted_)
+        {
+        Collections.sort( requestCases_);
+        sorted_ = true;
+        }
+      return requestCases_;
+      }
+
+    /**
+     * Returns a stream of these request cases in sorted order.
+     */
+    public Stream<RequestCase> stream()
+      {
+      return getSorted().stream();
+      }
+
+    private final List<RequestCase> requestCases_ = new ArrayList<RequestCase>();
+    private boolean sorted_ = true;
+    }
+
   @Override
   public String toString()
     {
@@ -168,5 +272,7 @@ public class RequestTestDef
       .toString();
     }
 
-  private List<RequestCase> requestCases_ = new ArrayList<RequestCase>();
+  private Set<RequestCase> requestCases_ = new LinkedHashSet<RequestCase>();
+  private List<RequestCase> requestCaseList_;
+  private Map<String,Map<String,RequestCases>> pathCases_ = new HashMap<String,Map<String,RequestCases>>();
   }
@@ -49,7 +49,7 @@ public final class TestCaseWriterUtils
   public static void writeResponseValidatorDef( String testName, IndentedWriter targetWriter)
     {
     targetWriter.println();
-    targetWriter.println( "private ResponseValidator responseValidator = new ResponseValidator( getClass());");
+    targetWriter.println( "private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());");
     }
 
   /**
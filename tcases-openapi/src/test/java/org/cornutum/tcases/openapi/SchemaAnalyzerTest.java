@@ -7,8 +7,20 @@
 
 package org.cornutum.tcases.openapi;
 
+import org.cornutum.tcases.util.ConditionRecorder;
+import static org.cornutum.tcases.openapi.SchemaExtensions.getDnf;
+
 import org.junit.Test;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.stream.IntStream;
+import static java.util.stream.Collectors.toList;
 
 /**
  * Runs tests for {@link SchemaAnalyzer}.
@@ -157,4 +169,45 @@ public class SchemaAnalyzerTest extends OpenApiTest
     {
     return withConditionRecorder();
     }
+  
+  @Test
+  public void whenTooManyAlternatives()
+    {
+    // Given...
+    ComposedSchema schema = new ComposedSchema();
+    schema.setAllOf(
+      IntStream.range( 0, 4)
+      .mapToObj( i -> {
+        ComposedSchema member = new ComposedSchema();
+        member.setAnyOf(
+          IntStream.range( 0, 4)
+          .mapToObj( k -> {
+            String property = String.format( "p%s%s", i, k);
+            return
+              (Schema<?>)
+              new ObjectSchema()
+              .addProperty( property, new IntegerSchema())
+              .addRequiredItem( property);
+            })
+          .collect( toList()));
+        return (Schema) member;
+        })
+      .collect( toList()));
+
+    ConditionRecorder conditionRecorder = new ConditionRecorder();
+    OpenApiContext context = new OpenApiContext();
+    context.setNotifier( conditionRecorder);
+
+    // When...
+    Schema<?> analyzed = new SchemaAnalyzer( context).analyze( new OpenAPI(), schema);
+
+    // Then...
+    // Each anyOf defines 12 alternatives, so their allOf defines 12^4 = 20736 alternatives.
+    schema.getAllOf().forEach( member -> assertThat( "anyOf alternatives", getDnf( member).getAlternatives().size(), is( 12)));
+    assertThat( "Alternatives", getDnf( analyzed).getAlternatives().size(), is( 10000));
+    assertThat(
+      "Warnings",
+      conditionRecorder.getWarnings(),
+      contains( "allOf: This combination of schemas defines more than 10000 alternatives -- ignoring all others."));
+    }
   }
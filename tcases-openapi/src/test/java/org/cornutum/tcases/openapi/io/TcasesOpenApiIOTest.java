@@ -7,18 +7,26 @@
 
 package org.cornutum.tcases.openapi.io;
 
+import org.cornutum.tcases.SystemInputDef;
+import org.cornutum.tcases.SystemInputDefMatcher;
 import org.cornutum.tcases.SystemTestDef;
 import org.cornutum.tcases.SystemTestDefMatcher;
 import org.cornutum.tcases.io.SystemTestDocReader;
 import org.cornutum.tcases.io.SystemTestJsonReader;
+import org.cornutum.tcases.openapi.ModelOptions;
+import org.cornutum.tcases.openapi.test.ResponsesDef;
 
 import org.junit.Test;
 import static org.cornutum.hamcrest.Composites.*;
 import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.InputStream;
+import java.util.concurrent.Callable;
 
 /**
  * Runs tests for {@link TcasesOpenApiIO}
@@ -37,6 +45,98 @@ public class TcasesOpenApiIOTest
     verifyRequestTests( "../object-6");
     }
   
+  @Test
+  public void whenApiFileReadForEachView()
+    {
+    // Given...
+    String apiResource = "../operations-1.json";
+    File apiFile = new File( getClass().getResource( apiResource).getFile());
+
+    // When...
+    ResponsesDef responsesDef = TcasesOpenApiIO.getResponsesDef( apiFile);
+    SystemInputDef requestModel = TcasesOpenApiIO.getRequestInputModel( apiFile);
+    ResponsesDef responsesDefAgain = TcasesOpenApiIO.getResponsesDef( apiFile);
+    SystemInputDef requestModelAgain = TcasesOpenApiIO.getRequestInputModel( apiFile);
+
+    // Then...
+    SystemInputDef expectedRequestModel = TcasesOpenApiIO.getRequestInputModel( getClass().getResourceAsStream( apiResource));
+    assertThat( "Request model", requestModel, matches( new SystemInputDefMatcher( expectedRequestModel)));
+    assertThat( "Request model again", requestModelAgain, matches( new SystemInputDefMatcher( expectedRequestModel)));
+
+    ResponsesDef expectedResponsesDef = TcasesOpenApiIO.getResponsesDef( getClass().getResourceAsStream( apiResource));
+    assertThat( "Responses paths", responsesDef.paths(), containsInAnyOrder( expectedResponsesDef.paths().toArray()));
+    for( String path : expectedResponsesDef.paths())
+      {
+      assertThat( "Responses for path=" + path, responsesDef.pathDef( path), is( expectedResponsesDef.pathDef( path)));
+      assertThat( "Responses again for path=" + path, responsesDefAgain.pathDef( path), is( expectedResponsesDef.pathDef( path)));
+      }
+    }
+
+  @Test
+  public void whenPathsModelledConcurrently() throws Exception
+    {
+    // Given...
+    File[] apiFiles =
+      new File( getClass().getResource( "..").toURI())
+      .listFiles( file -> file.getName().endsWith( ".json") && !file.getName().contains( "-Expected-"));
+    ModelOptions concurrent = ModelOptions.builder().threads( 4).build();
+
+    assertThat( "API definitions", apiFiles.length, is( greaterThan( 0)));
+    for( File apiFile : apiFiles)
+      {
+      // When...
+      Object requestModel = modelFor( () -> TcasesOpenApiIO.getRequestInputModel( new FileInputStream( apiFile), concurrent));
+      Object responseModel = modelFor( () -> TcasesOpenApiIO.getResponseInputModel( new FileInputStream( apiFile), concurrent));
+
+      // Then...
+      assertModel(
+        "Request model for " + apiFile.getName(),
+        requestModel,
+        modelFor( () -> TcasesOpenApiIO.getRequestInputModel( new FileInputStream( apiFile))));
+
+      assertModel(
+        "Response model for " + apiFile.getName(),
+        responseModel,
+        modelFor( () -> TcasesOpenApiIO.getResponseInputModel( new FileInputStream( apiFile))));
+      }
+    }
+
+  /**
+   * Returns the input model returned by the given supplier or, if the supplier fails, the failure messages reported.
+   */
+  private Object modelFor( Callable<SystemInputDef> modelSupplier)
+    {
+    try
+      {
+      return modelSupplier.call();
+      }
+    catch( Exception e)
+      {
+      StringBuilder messages = new StringBuilder();
+      for( Throwable cause = e; cause != null; cause = cause.getCause())
+        {
+        messages.append( cause.getMessage()).append( '\n');
+        }
+      return messages.toString();
+      }
+    }
+
+  /**
+   * Reports a failure if the given input model results are not the same.
+   */
+  private void assertModel( String label, Object model, Object expected)
+    {
+    if( expected instanceof SystemInputDef)
+      {
+      assertThat( label, model, instanceOf( SystemInputDef.class));
+      assertThat( label, (SystemInputDef) model, matches( new SystemInputDefMatcher( (SystemInputDef) expected)));
+      }
+    else
+      {
+      assertThat( label, model, is( expected));
+      }
+    }
+  
   private void verifyRequestTests( String apiResource)
     {
     // Given...
@@ -25,6 +25,7 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.util.Optional;
+import java.util.Random;
 
 /**
  * Runs tests for {@link RequestCaseResolver}.
@@ -70,15 +71,58 @@ public class RequestCaseResolverTest extends RequestCaseTest
     verifyRequestCases( testDefFile, requestTestDef);
     }
 
+  @Test
+  public void verifyRequestCasesConcurrently()
+    {
+    // Given...
+    File testDefFile = getTestDefFile( testDefBase_);
+
+    // When...
+    RequestTestDef singleThreaded;
+    RequestTestDef multiThreaded;
+    try
+      {
+      singleThreaded =
+        RequestCases.getRequestCases(
+          SystemTestResource.of( testDefFile).getSystemTestDef(),
+          getResolverContext( new Random( getSeed())),
+          1);
+
+      multiThreaded =
+        RequestCases.getRequestCases(
+          SystemTestResource.of( testDefFile).getSystemTestDef(),
+          getResolverContext( new Random( getSeed())),
+          4);
+      }
+    catch( Exception e)
+      {
+      throw new RequestCaseException( String.format( "Can't get request case from file=%s", testDefFile.getName()), e);
+      }
+
+    // Then...
+    assertThat(
+      getTestDefBaseName( testDefFile),
+      multiThreaded.getRequestCases(),
+      listsMembers( RequestCaseMatcher::new, singleThreaded.getRequestCases()));
+    }
+
   /**
    * Returns the {@link ResolverContext} for this test.
    */
   @Override
   protected ResolverContext getResolverContext()
+    {
+    return getResolverContext( getRandom());
+    }
+
+  /**
+   * Returns a {@link ResolverContext} for this test that uses the given random number generator.
+   */
+  private ResolverContext getResolverContext( Random random)
     {
     return
       ResolverContext.builder()
-      .random( getRandom())
+      .random( random)
       .notifier(
         "fail".equals( System.getProperty( "testNotifier"))
         ? RequestCaseConditionNotifier.fail()
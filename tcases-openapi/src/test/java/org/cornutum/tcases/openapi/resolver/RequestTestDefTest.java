@@ -0,0 +1,83 @@
+//////////////////////////////////////////////////////////////////////////////
+// 
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.resolver;
+
+import org.junit.Test;
+import static org.cornutum.hamcrest.ExpectedFailure.expectFailure;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Arrays;
+import java.util.List;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Runs tests for {@link RequestTestDef}.
+ */
+public class RequestTestDefTest
+  {
+  @Test
+  public void whenPathAndOperation()
+    {
+    // Given...
+    RequestTestDef testDef =
+      new RequestTestDef(
+        Arrays.asList(
+          requestCase( 3, "/users", "GET"),
+          requestCase( 0, "/users", "post"),
+          requestCase( 2, "/Users", "get"),
+          requestCase( 1, "/posts", "get")));
+
+    // Then...
+    assertThat( "Paths", testDef.getPaths(), contains( "/users", "/Users", "/posts"));
+    assertThat( "Users get", ids( testDef.getRequestCases( "/USERS", "get")), contains( 2, 3));
+    assertThat( "Users", ids( testDef.getRequestCases( "/users")), contains( 2, 3, 0));
+    assertThat( "All get", ids( testDef.getRequestCases( null, "Get")), contains( 2, 1, 3));
+    assertThat( "All", ids( testDef.getRequestCases( null, (List<String>) null)), contains( 2, 1, 3, 0));
+    assertThat( "Undefined", testDef.getRequestCases( "/undefined"), is( empty()));
+    assertThat( "Insertion order", ids( testDef.getRequestCases()), contains( 3, 0, 2, 1));
+
+    // When...
+    testDef.remove( requestCase( 3, "/users", "GET"));
+
+    // Then...
+    assertThat( "Users get", ids( testDef.getRequestCases( "/users", "GET")), contains( 2));
+    assertThat( "Insertion order", ids( testDef.getRequestCases()), contains( 0, 2, 1));
+
+    // When...
+    testDef.add( requestCase( 4, "/users", "get"));
+
+    // Then...
+    assertThat( "Users get", ids( testDef.getRequestCases( "/users", "GET")), contains( 2, 4));
+    }
+
+  @Test
+  public void whenDuplicate()
+    {
+    // Given...
+    RequestTestDef testDef = new RequestTestDef().add( requestCase( 0, "/users", "get"));
+
+    expectFailure( IllegalArgumentException.class)
+      .when( () -> testDef.add( requestCase( 0, "/users", "get")))
+      .then( failure -> assertThat( "Failure", failure.getMessage(), containsString( "is already defined")));
+    }
+
+  private RequestCase requestCase( int id, String path, String op)
+    {
+    RequestCase requestCase = new RequestCase( id);
+    requestCase.setApi( "API");
+    requestCase.setPath( path);
+    requestCase.setOperation( op);
+    return requestCase;
+    }
+
+  private List<Integer> ids( List<RequestCase> requestCases)
+    {
+    return requestCases.stream().map( RequestCase::getId).collect( toList());
+    }
+  }
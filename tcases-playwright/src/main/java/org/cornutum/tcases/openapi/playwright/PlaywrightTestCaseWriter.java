@@ -16,6 +16,7 @@ import org.cornutum.tcases.resolve.ObjectValue;
 import static org.cornutum.tcases.openapi.testwriter.TestWriterUtils.*;
 import static org.cornutum.tcases.openapi.testwriter.java.TestCaseWriterUtils.*;
 
+import java.io.File;
 import java.net.URI;
 import java.util.*;
 import java.util.function.Function;
@@ -141,12 +142,24 @@ public class PlaywrightTestCaseWriter extends BaseTestCaseWriter
         targetWriter.println("try");
         targetWriter.println("{");
         targetWriter.indent();
-        targetWriter.println("const result = await execShellCommand(");
-        targetWriter.indent();
-        targetWriter.println("`tcases-response-validator headers -r ${requestType} -p ${path} -s ${response.status()} -h - ${responsesPath}`,");
-        targetWriter.println("JSON.stringify(response.headersArray().map(header => ({[header.name]: header.value})))");
-        targetWriter.unindent();
-        targetWriter.println(");");
+        if( isValidatorServer())
+        {
+            targetWriter.println("const result = await validateResponse(");
+            targetWriter.indent();
+            targetWriter.println("'headers', response, requestType, path, {},");
+            targetWriter.println("JSON.stringify(response.headersArray().map(header => ({[header.name]: header.value})))");
+            targetWriter.unindent();
+            targetWriter.println(");");
+        }
+        else
+        {
+            targetWriter.println("const result = await execShellCommand(");
+            targetWriter.indent();
+            targetWriter.println("`tcases-response-validator headers -r ${requestType} -p ${path} -s ${response.status()} -h - ${responsesPath}`,");
+            targetWriter.println("JSON.stringify(response.headersArray().map(header => ({[header.name]: header.value})))");
+            targetWriter.unindent();
+            targetWriter.println(");");
+        }
         targetWriter.println("pass = !result;");
         targetWriter.println("message = () => this.utils.matcherHint(assertionName, undefined, undefined, " +
                 "{ isNot: this.isNot }) +");
@@ -183,13 +196,25 @@ public class PlaywrightTestCaseWriter extends BaseTestCaseWriter
         targetWriter.println("const assertionName = 'toBeValidHeaders';");
         targetWriter.println("try {");
         targetWriter.indent();
-        targetWriter.println("const result = await execShellCommand(");
-        targetWriter.indent();
-        targetWriter.println("`tcases-response-validator body -r ${requestType} -p ${path} -s ${response.status()} " +
-                "-f \"${response.headers()['content-type']}\" -c - ${responsesPath}`,");
-        targetWriter.println("(await response.body()).toString(\"utf-8\")");
-        targetWriter.unindent();
-        targetWriter.println(");");
+        if( isValidatorServer())
+        {
+            targetWriter.println("const result = await validateResponse(");
+            targetWriter.indent();
+            targetWriter.println("'body', response, requestType, path, {contentType: response.headers()['content-type'] ?? ''},");
+            targetWriter.println("(await response.body()).toString(\"utf-8\")");
+            targetWriter.unindent();
+            targetWriter.println(");");
+        }
+        else
+        {
+            targetWriter.println("const result = await execShellCommand(");
+            targetWriter.indent();
+            targetWriter.println("`tcases-response-validator body -r ${requestType} -p ${path} -s ${response.status()} " +
+                    "-f \"${response.headers()['content-type']}\" -c - ${responsesPath}`,");
+            targetWriter.println("(await response.body()).toString(\"utf-8\")");
+            targetWriter.unindent();
+            targetWriter.println(");");
+        }
         targetWriter.println("pass = !result;");
         targetWriter.println("message = () => this.utils.matcherHint(assertionName, undefined, undefined, " +
                 "{ isNot: this.isNot }) +");
@@ -244,6 +269,90 @@ public class PlaywrightTestCaseWriter extends BaseTestCaseWriter
         targetWriter.println("};");
     }
 
+    /**
+     * Writes the definition of a function that sends response data to the validator server.
+     */
+    public void writeValidateResponseDef(String testName, IndentedWriter targetWriter)
+    {
+        targetWriter.println("const tcasesValidatorServer = () => process.env.tcasesValidatorServer ?? '';");
+        targetWriter.println("const tcasesValidatorToken = () => process.env.tcasesValidatorToken ?? '';");
+        targetWriter.println();
+        targetWriter.println("const validateResponse = async (validation: string, response: APIResponse, requestType: string, path: string, " +
+                "params: Record<string, string>, content: string) => {");
+        targetWriter.indent();
+        targetWriter.println("const url = new URL(validation, tcasesValidatorServer());");
+        targetWriter.println("url.searchParams.set('responses', responsesPath);");
+        targetWriter.println("url.searchParams.set('op', requestType);");
+        targetWriter.println("url.searchParams.set('path', path);");
+        targetWriter.println("url.searchParams.set('status', String(response.status()));");
+        targetWriter.println("Object.entries(params).forEach(([name, value]) => url.searchParams.set(name, value));");
+        targetWriter.println();
+        targetWriter.println("const result = await fetch(url, { method: 'POST', headers: { 'X-Tcases-Validator-Token': tcasesValidatorToken() }, body: content });");
+        targetWriter.println("return result.ok ? undefined : new Error(await result.text());");
+        targetWriter.unindent();
+        targetWriter.println("};");
+    }
+
+    /**
+     * Writes a Playwright global setup module that starts the validator server used by the generated tests and
+     * returns the global teardown function that stops it. The validator server accepts only the API responses
+     * definitions in the given directory. If the <CODE>tcasesValidatorServer</CODE> environment variable is
+     * already defined, the validator server given by its URL is used instead, and the <CODE>tcasesValidatorToken</CODE>
+     * environment variable must give the token it requires.
+     */
+    public void writeValidatorServerSetup(IndentedWriter targetWriter, File responsesDir)
+    {
+        targetWriter.println("import { spawn } from 'child_process';");
+        targetWriter.println();
+        targetWriter.println("export default async function globalSetup() {");
+        targetWriter.indent();
+        targetWriter.println("if (process.env.tcasesValidatorServer) {");
+        targetWriter.indent();
+        targetWriter.println("if (!process.env.tcasesValidatorToken) {");
+        targetWriter.indent();
+        targetWriter.println("throw new Error('tcasesValidatorToken must be defined for tcasesValidatorServer');");
+        targetWriter.unindent();
+        targetWriter.println("}");
+        targetWriter.println("return;");
+        targetWriter.unindent();
+        targetWriter.println("}");
+        targetWriter.println();
+        targetWriter.println(String.format("const validator = spawn('tcases-response-validator', ['server', '-P', '0', '-d', %s], " +
+                "{ shell: process.platform === 'win32', stdio: ['ignore', 'pipe', 'inherit'] });", stringLiteral(responsesDir.getPath())));
+        targetWriter.println("const [server, token] = await new Promise<[string, string]>((resolve, reject) => {");
+        targetWriter.indent();
+        targetWriter.println("let output = '';");
+        targetWriter.println("validator.stdout?.on('data', data => {");
+        targetWriter.indent();
+        targetWriter.println("output += data;");
+        targetWriter.println("const listening = output.match(/Listening on (\\S+) token=(\\S+)/);");
+        targetWriter.println("if (listening) {");
+        targetWriter.indent();
+        targetWriter.println("resolve([listening[1], listening[2]]);");
+        targetWriter.unindent();
+        targetWriter.println("}");
+        targetWriter.unindent();
+        targetWriter.println("});");
+        targetWriter.println("validator.on('error', reject);");
+        targetWriter.println("validator.on('exit', code => reject(new Error(`tcases-response-validator exited with code=${code}`)));");
+        targetWriter.unindent();
+        targetWriter.println("});");
+        targetWriter.println();
+        targetWriter.println("process.env.tcasesValidatorServer = server;");
+        targetWriter.println("process.env.tcasesValidatorToken = token;");
+        targetWriter.println();
+        targetWriter.println("return async () => {");
+        targetWriter.indent();
+        targetWriter.println("await fetch(new URL('shutdown', server), { method: 'POST', headers: { 'X-Tcases-Validator-Token': token } })");
+        targetWriter.indent();
+        targetWriter.println(".catch(() => validator.kill());");
+        targetWriter.unindent();
+        targetWriter.unindent();
+        targetWriter.println("};");
+        targetWriter.unindent();
+        targetWriter.println("}");
+    }
+
     /**
      * Creates a new PlaywrightTestCaseWriter instance.
      */
@@ -252,11 +361,32 @@ public class PlaywrightTestCaseWriter extends BaseTestCaseWriter
 
     }
 
+    /**
+     * Changes if response validation uses a long-running validator server instead of running the
+     * <CODE>tcases-response-validator</CODE> command for each response.
+     */
+    public void setValidatorServer(boolean validatorServer)
+    {
+        validatorServer_ = validatorServer;
+    }
+
+    /**
+     * Returns if response validation uses a long-running validator server instead of running the
+     * <CODE>tcases-response-validator</CODE> command for each response.
+     */
+    public boolean isValidatorServer()
+    {
+        return validatorServer_;
+    }
+
     @Override
     public void writeDependencies(String testName, IndentedWriter targetWriter)
     {
         targetWriter.println("import { expect as baseExpect, type APIRequestContext, type APIResponse } from '@playwright/test'");
-        targetWriter.println("import { type ExecException, exec } from \"child_process\";");
+        if( !isValidatorServer())
+        {
+            targetWriter.println("import { type ExecException, exec } from \"child_process\";");
+        }
         targetWriter.println();
     }
 
@@ -266,7 +396,14 @@ public class PlaywrightTestCaseWriter extends BaseTestCaseWriter
         writeRequestOptionsType(targetWriter);
         if (getDepends().validateResponses())
         {
-            writeExecShellCommandDef(testName, targetWriter);
+            if( isValidatorServer())
+            {
+                writeValidateResponseDef(testName, targetWriter);
+            }
+            else
+            {
+                writeExecShellCommandDef(testName, targetWriter);
+            }
         }
         writeExpectDef(testName, targetWriter, getDepends());
         writeAuthCredentialsDef(testName, targetWriter, getDepends());
@@ -838,5 +975,6 @@ public class PlaywrightTestCaseWriter extends BaseTestCaseWriter
             targetWriter.println();
         }
     }
-}
 
+    private boolean validatorServer_;
+}
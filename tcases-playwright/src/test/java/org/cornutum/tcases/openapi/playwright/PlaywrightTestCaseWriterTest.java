@@ -0,0 +1,120 @@
+//////////////////////////////////////////////////////////////////////////////
+//
+//                    Copyright 2025, Cornutum Project
+//                             www.cornutum.org
+//
+//////////////////////////////////////////////////////////////////////////////
+
+package org.cornutum.tcases.openapi.playwright;
+
+import org.cornutum.tcases.io.IndentedWriter;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Runs tests for the <CODE>validatorServer</CODE> option of the {@link PlaywrightTestCaseWriter}.
+ */
+public class PlaywrightTestCaseWriterTest
+  {
+  @Test
+  public void whenValidatorServerValidation()
+    {
+    // Given...
+    PlaywrightTestCaseWriter testCaseWriter = new PlaywrightTestCaseWriter();
+    testCaseWriter.setValidatorServer( true);
+
+    // When...
+    String results =
+      writeResults( targetWriter -> {
+        testCaseWriter.writeValidateResponseDef( "MyTest", targetWriter);
+        targetWriter.println();
+        testCaseWriter.writeExpectValidHeadersDef( "MyTest", targetWriter);
+        testCaseWriter.writeExpectValidBodyDef( "MyTest", targetWriter);
+        });
+
+    // Then...
+    assertThat( "Validation", results, is( expectedResults( "validatorServer-Expected-Validation.ts")));
+    }
+
+  @Test
+  public void whenValidatorServerSetup()
+    {
+    // Given...
+    PlaywrightTestCaseWriter testCaseWriter = new PlaywrightTestCaseWriter();
+    testCaseWriter.setValidatorServer( true);
+
+    // When...
+    String results = writeResults( targetWriter -> testCaseWriter.writeValidatorServerSetup( targetWriter, new File( "resources")));
+
+    // Then...
+    assertThat( "Setup", results, is( expectedResults( "validatorServer-Expected-Setup.ts")));
+    }
+
+  @Test
+  public void whenValidatorServerDependencies()
+    {
+    // Given...
+    PlaywrightTestCaseWriter testCaseWriter = new PlaywrightTestCaseWriter();
+
+    // When...
+    testCaseWriter.setValidatorServer( true);
+    String results = writeResults( targetWriter -> testCaseWriter.writeDependencies( "MyTest", targetWriter));
+
+    // Then...
+    assertThat( "Validator server", results, not( containsString( "child_process")));
+
+    // When...
+    testCaseWriter.setValidatorServer( false);
+    results = writeResults( targetWriter -> testCaseWriter.writeDependencies( "MyTest", targetWriter));
+
+    // Then...
+    assertThat( "Validator command", results, containsString( "child_process"));
+    }
+
+  /**
+   * Returns the results written by the given writer action, with normalized line endings.
+   */
+  private String writeResults( Consumer<IndentedWriter> writerAction)
+    {
+    StringWriter results = new StringWriter();
+    try( IndentedWriter targetWriter = new IndentedWriter( results))
+      {
+      writerAction.accept( targetWriter);
+      }
+
+    return normalized( results.toString());
+    }
+
+  /**
+   * Returns the contents of the given expected results resource, with normalized line endings.
+   */
+  private String expectedResults( String resource)
+    {
+    try( InputStream expected = getClass().getResourceAsStream( resource))
+      {
+      assertThat( "Expected results for resource=" + resource, expected, is( notNullValue()));
+      return normalized( IOUtils.toString( expected, StandardCharsets.UTF_8));
+      }
+    catch( Exception e)
+      {
+      throw new IllegalStateException( String.format( "Can't read expected results=%s", resource), e);
+      }
+    }
+
+  /**
+   * Returns the given text with normalized line endings.
+   */
+  private String normalized( String text)
+    {
+    return text.replace( "\r\n", "\n");
+    }
+  }
@@ -0,0 +1,32 @@
+import { spawn } from 'child_process';
+
+export default async function globalSetup() {
+  if (process.env.tcasesValidatorServer) {
+    if (!process.env.tcasesValidatorToken) {
+      throw new Error('tcasesValidatorToken must be defined for tcasesValidatorServer');
+    }
+    return;
+  }
+
+  const validator = spawn('tcases-response-validator', ['server', '-P', '0', '-d', "resources"], { shell: process.platform === 'win32', stdio: ['ignore', 'pipe', 'inherit'] });
+  const [server, token] = await new Promise<[string, string]>((resolve, reject) => {
+    let output = '';
+    validator.stdout?.on('data', data => {
+      output += data;
+      const listening = output.match(/Listening on (\S+) token=(\S+)/);
+      if (listening) {
+        resolve([listening[1], listening[2]]);
+      }
+    });
+    validator.on('error', reject);
+    validator.on('exit', code => reject(new Error(`tcases-response-validator exited with code=${code}`)));
+  });
+
+  process.env.tcasesValidatorServer = server;
+  process.env.tcasesValidatorToken = token;
+
+  return async () => {
+    await fetch(new URL('shutdown', server), { method: 'POST', headers: { 'X-Tcases-Validator-Token': token } })
+      .catch(() => validator.kill());
+  };
+}
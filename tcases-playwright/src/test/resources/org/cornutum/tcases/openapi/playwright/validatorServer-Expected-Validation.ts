@@ -0,0 +1,66 @@
+const tcasesValidatorServer = () => process.env.tcasesValidatorServer ?? '';
+const tcasesValidatorToken = () => process.env.tcasesValidatorToken ?? '';
+
+const validateResponse = async (validation: string, response: APIResponse, requestType: string, path: string, params: Record<string, string>, content: string) => {
+  const url = new URL(validation, tcasesValidatorServer());
+  url.searchParams.set('responses', responsesPath);
+  url.searchParams.set('op', requestType);
+  url.searchParams.set('path', path);
+  url.searchParams.set('status', String(response.status()));
+  Object.entries(params).forEach(([name, value]) => url.searchParams.set(name, value));
+
+  const result = await fetch(url, { method: 'POST', headers: { 'X-Tcases-Validator-Token': tcasesValidatorToken() }, body: content });
+  return result.ok ? undefined : new Error(await result.text());
+};
+
+async toBeValidHeaders(response: APIResponse, requestType: string, path: string)
+{
+  let pass = true;
+  let message = () => '';
+  const assertionName = 'toBeValidHeaders';
+  try
+  {
+    const result = await validateResponse(
+      'headers', response, requestType, path, {},
+      JSON.stringify(response.headersArray().map(header => ({[header.name]: header.value})))
+    );
+    pass = !result;
+    message = () => this.utils.matcherHint(assertionName, undefined, undefined, { isNot: this.isNot }) +
+      '\n\n' +
+      result?.message;
+  } catch (e) {
+    pass = false;
+    message = () => (e instanceof Error ? e.message : '');
+  }
+
+  return {
+    message,
+    pass,
+    name: assertionName
+  };
+},
+async toBeValidBody(response: APIResponse, requestType: string, path: string)
+{
+  let pass = true;
+  let message = () => '';
+  const assertionName = 'toBeValidHeaders';
+  try {
+    const result = await validateResponse(
+      'body', response, requestType, path, {contentType: response.headers()['content-type'] ?? ''},
+      (await response.body()).toString("utf-8")
+    );
+    pass = !result;
+    message = () => this.utils.matcherHint(assertionName, undefined, undefined, { isNot: this.isNot }) +
+      '\n\n' +
+      result?.message;
+  } catch (e) {
+    pass = false;
+    if (e instanceof Error)
+      message = () => e.message;
+  }
+  return {
+    message,
+    pass,
+    name: assertionName
+  };
+},
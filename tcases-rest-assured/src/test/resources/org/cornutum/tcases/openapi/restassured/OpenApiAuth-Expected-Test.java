@@ -18,7 +18,7 @@ import static org.hamcrest.Matchers.*;
 
 public class OpenApiAuthTest {
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void deleteResource_IdDefined_Is_Yes() {
@@ -20,7 +20,7 @@ import static org.hamcrest.Matchers.*;
 
 public class OpenApiEncodingsTest {
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void postMultipart_contentTypes_BodyDefined_Is_Yes() {
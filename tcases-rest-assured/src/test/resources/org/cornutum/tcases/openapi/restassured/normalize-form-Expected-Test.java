@@ -18,7 +18,7 @@ import static org.hamcrest.Matchers.*;
 
 public class NormalizeFormTest {
 
-    private ResponseValidator responseValidator = new ResponseValidator( getClass());
+    private ResponseValidator responseValidator = ResponseValidator.forClass( getClass());
 
     @Test
     public void getCookieArray_EmptyDefined_Is_Yes() {